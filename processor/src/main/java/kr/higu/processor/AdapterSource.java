@@ -0,0 +1,304 @@
+package kr.higu.processor;
+
+import kr.higu.processor.TypeAdapterProcessor.ComponentModel;
+import kr.higu.processor.TypeAdapterProcessor.RecordModel;
+import kr.higu.processor.TypeAdapterProcessor.ValueKind;
+
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Types;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Renders the source of a streaming {@code TypeAdapter} for one record.
+ * <p>
+ * Scalar components are read and written inline with the same coercions as Gson's built-in adapters
+ * (e.g. a JSON number read into a String); other components use the adapter Gson resolves for their type,
+ * so nested records go through their own generated adapter.
+ * </p>
+ *
+ * @author higukang
+ */
+final class AdapterSource {
+    private final RecordModel model;
+    private final Types types;
+    private final Set<ValueKind> helpers = EnumSet.noneOf(ValueKind.class);
+    private boolean needsNonNull;
+    private boolean needsTypeToken;
+
+    AdapterSource(RecordModel model, Types types) {
+        this.model = model;
+        this.types = types;
+    }
+
+    String render() {
+        String record = model.qualifiedName();
+        StringBuilder body = new StringBuilder();
+
+        for (ComponentModel component : model.components()) {
+            if (component.kind() == ValueKind.DELEGATE) {
+                body.append("    private final TypeAdapter<").append(boxed(component.type())).append("> ")
+                        .append(component.adapterField()).append(";\n");
+            }
+        }
+        body.append('\n');
+
+        body.append("    public ").append(model.adapterName()).append("(Gson gson) {\n");
+        for (ComponentModel component : model.components()) {
+            if (component.kind() == ValueKind.DELEGATE) {
+                body.append("        this.").append(component.adapterField()).append(" = gson.getAdapter(")
+                        .append(typeLiteral(component.type())).append(");\n");
+            }
+        }
+        body.append("    }\n\n");
+
+        renderWrite(body, record);
+        renderRead(body, record);
+        renderHelpers(body);
+
+        StringBuilder source = new StringBuilder();
+        if (!model.packageName().isEmpty()) {
+            source.append("package ").append(model.packageName()).append(";\n\n");
+        }
+        // The body is rendered first, so only the imports it uses are emitted.
+        source.append("import com.google.gson.Gson;\n");
+        if (needsNonNull) {
+            source.append("import com.google.gson.JsonParseException;\n");
+        }
+        if (helpers.contains(ValueKind.BOXED_INTEGER) || helpers.contains(ValueKind.BOXED_LONG)) {
+            source.append("import com.google.gson.JsonSyntaxException;\n");
+        }
+        source.append("import com.google.gson.TypeAdapter;\n");
+        if (needsTypeToken) {
+            source.append("import com.google.gson.reflect.TypeToken;\n");
+        }
+        source.append("import com.google.gson.stream.JsonReader;\n")
+                .append("import com.google.gson.stream.JsonToken;\n")
+                .append("import com.google.gson.stream.JsonWriter;\n\n")
+                .append("import javax.annotation.processing.Generated;\n")
+                .append("import java.io.IOException;\n\n")
+                .append("/**\n")
+                .append(" * Reflection-free Gson adapter for {@link ").append(record).append("}.\n")
+                .append(" */\n")
+                .append("@Generated(\"").append(TypeAdapterProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(model.adapterName())
+                .append(" extends TypeAdapter<").append(record).append("> {\n")
+                .append(body)
+                .append("}\n");
+        return source.toString();
+    }
+
+    private void renderWrite(StringBuilder body, String record) {
+        body.append("    @Override\n")
+                .append("    public void write(JsonWriter out, ").append(record).append(" value) throws IOException {\n")
+                .append("        if (value == null) {\n")
+                .append("            out.nullValue();\n")
+                .append("            return;\n")
+                .append("        }\n")
+                .append("        out.beginObject();\n");
+        for (ComponentModel component : model.components()) {
+            String accessor = "value." + component.name() + "()";
+            body.append("        out.name(").append(literal(component.jsonNames().get(0))).append(");\n");
+            if (component.kind() == ValueKind.DELEGATE) {
+                body.append("        ").append(component.adapterField()).append(".write(out, ").append(accessor).append(");\n");
+            } else {
+                body.append("        out.value(").append(accessor).append(");\n");
+            }
+        }
+        body.append("        out.endObject();\n")
+                .append("    }\n\n");
+    }
+
+    private void renderRead(StringBuilder body, String record) {
+        body.append("    @Override\n")
+                .append("    public ").append(record).append(" read(JsonReader in) throws IOException {\n")
+                .append("        if (in.peek() == JsonToken.NULL) {\n")
+                .append("            in.nextNull();\n")
+                .append("            return null;\n")
+                .append("        }\n\n");
+        for (ComponentModel component : model.components()) {
+            body.append("        ").append(component.type()).append(' ').append(component.local())
+                    .append(" = ").append(defaultValue(component.type())).append(";\n");
+        }
+        body.append('\n')
+                .append("        in.beginObject();\n")
+                .append("        while (in.hasNext()) {\n")
+                .append("            switch (in.nextName()) {\n");
+        for (ComponentModel component : model.components()) {
+            body.append("                case ");
+            for (int i = 0; i < component.jsonNames().size(); i++) {
+                if (i > 0) {
+                    body.append(", ");
+                }
+                body.append(literal(component.jsonNames().get(i)));
+            }
+            body.append(" -> ").append(component.local()).append(" = ").append(readExpression(component)).append(";\n");
+        }
+        body.append("                default -> in.skipValue();\n")
+                .append("            }\n")
+                .append("        }\n")
+                .append("        in.endObject();\n\n")
+                .append("        return new ").append(record).append('(');
+        for (int i = 0; i < model.components().size(); i++) {
+            if (i > 0) {
+                body.append(", ");
+            }
+            body.append(model.components().get(i).local());
+        }
+        body.append(");\n")
+                .append("    }\n");
+    }
+
+    private String readExpression(ComponentModel component) {
+        String name = literal(component.name());
+        return switch (component.kind()) {
+            case STRING -> helper(ValueKind.STRING, "readString(in)");
+            case BOXED_BOOLEAN -> helper(ValueKind.BOXED_BOOLEAN, "readBoolean(in)");
+            case BOXED_INTEGER -> helper(ValueKind.BOXED_INTEGER, "readInteger(in)");
+            case BOXED_LONG -> helper(ValueKind.BOXED_LONG, "readLong(in)");
+            case BOXED_DOUBLE -> helper(ValueKind.BOXED_DOUBLE, "readDouble(in)");
+            case BOOLEAN -> nonNull(helper(ValueKind.BOXED_BOOLEAN, "readBoolean(in)"), name);
+            case INT -> nonNull(helper(ValueKind.BOXED_INTEGER, "readInteger(in)"), name);
+            case LONG -> nonNull(helper(ValueKind.BOXED_LONG, "readLong(in)"), name);
+            case DOUBLE -> nonNull(helper(ValueKind.BOXED_DOUBLE, "readDouble(in)"), name);
+            case DELEGATE -> component.type().getKind().isPrimitive()
+                    ? nonNull(component.adapterField() + ".read(in)", name)
+                    : component.adapterField() + ".read(in)";
+        };
+    }
+
+    private String helper(ValueKind kind, String call) {
+        helpers.add(kind);
+        return call;
+    }
+
+    private String nonNull(String read, String componentLiteral) {
+        needsNonNull = true;
+        return "nonNull(" + read + ", " + componentLiteral + ", in)";
+    }
+
+    private void renderHelpers(StringBuilder body) {
+        if (helpers.contains(ValueKind.STRING)) {
+            body.append('\n')
+                    .append("    private static String readString(JsonReader in) throws IOException {\n")
+                    .append("        JsonToken token = in.peek();\n")
+                    .append("        if (token == JsonToken.NULL) {\n")
+                    .append("            in.nextNull();\n")
+                    .append("            return null;\n")
+                    .append("        }\n")
+                    .append("        if (token == JsonToken.BOOLEAN) {\n")
+                    .append("            return Boolean.toString(in.nextBoolean());\n")
+                    .append("        }\n")
+                    .append("        return in.nextString();\n")
+                    .append("    }\n");
+        }
+        if (helpers.contains(ValueKind.BOXED_BOOLEAN)) {
+            body.append('\n')
+                    .append("    private static Boolean readBoolean(JsonReader in) throws IOException {\n")
+                    .append("        JsonToken token = in.peek();\n")
+                    .append("        if (token == JsonToken.NULL) {\n")
+                    .append("            in.nextNull();\n")
+                    .append("            return null;\n")
+                    .append("        }\n")
+                    .append("        if (token == JsonToken.STRING) {\n")
+                    .append("            return Boolean.parseBoolean(in.nextString());\n")
+                    .append("        }\n")
+                    .append("        return in.nextBoolean();\n")
+                    .append("    }\n");
+        }
+        renderNumberHelper(body, ValueKind.BOXED_INTEGER, "Integer", "readInteger", "nextInt");
+        renderNumberHelper(body, ValueKind.BOXED_LONG, "Long", "readLong", "nextLong");
+        if (helpers.contains(ValueKind.BOXED_DOUBLE)) {
+            body.append('\n')
+                    .append("    private static Double readDouble(JsonReader in) throws IOException {\n")
+                    .append("        if (in.peek() == JsonToken.NULL) {\n")
+                    .append("            in.nextNull();\n")
+                    .append("            return null;\n")
+                    .append("        }\n")
+                    .append("        return in.nextDouble();\n")
+                    .append("    }\n");
+        }
+        if (needsNonNull) {
+            body.append('\n')
+                    .append("    private static <V> V nonNull(V value, String component, JsonReader in) {\n")
+                    .append("        if (value == null) {\n")
+                    .append("            throw new JsonParseException(\"null is not allowed as value for primitive record component '\"\n")
+                    .append("                    + component + \"' at path \" + in.getPath());\n")
+                    .append("        }\n")
+                    .append("        return value;\n")
+                    .append("    }\n");
+        }
+    }
+
+    private void renderNumberHelper(StringBuilder body, ValueKind kind, String type, String method, String next) {
+        if (!helpers.contains(kind)) {
+            return;
+        }
+        body.append('\n')
+                .append("    private static ").append(type).append(' ').append(method)
+                .append("(JsonReader in) throws IOException {\n")
+                .append("        if (in.peek() == JsonToken.NULL) {\n")
+                .append("            in.nextNull();\n")
+                .append("            return null;\n")
+                .append("        }\n")
+                .append("        try {\n")
+                .append("            return in.").append(next).append("();\n")
+                .append("        } catch (NumberFormatException e) {\n")
+                .append("            throw new JsonSyntaxException(e);\n")
+                .append("        }\n")
+                .append("    }\n");
+    }
+
+    private String boxed(TypeMirror type) {
+        if (type.getKind().isPrimitive()) {
+            return types.boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        }
+        return type.toString();
+    }
+
+    private String typeLiteral(TypeMirror type) {
+        if (ValueKind.isRaw(type)) {
+            return types.erasure(type) + ".class";
+        }
+        needsTypeToken = true;
+        return "new TypeToken<" + type + ">() {}";
+    }
+
+    private static String defaultValue(TypeMirror type) {
+        return switch (type.getKind()) {
+            case BOOLEAN -> "false";
+            case CHAR -> "'\\0'";
+            case BYTE, SHORT, INT -> "0";
+            case LONG -> "0L";
+            case FLOAT -> "0F";
+            case DOUBLE -> "0D";
+            default -> "null";
+        };
+    }
+
+    /**
+     * Quotes a JSON member name as a Java string literal.
+     */
+    static String literal(String value) {
+        StringBuilder literal = new StringBuilder(value.length() + 2).append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> literal.append("\\\"");
+                case '\\' -> literal.append("\\\\");
+                case '\n' -> literal.append("\\n");
+                case '\r' -> literal.append("\\r");
+                case '\t' -> literal.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7E) {
+                        literal.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        literal.append(c);
+                    }
+                }
+            }
+        }
+        return literal.append('"').toString();
+    }
+}
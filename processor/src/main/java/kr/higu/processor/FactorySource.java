@@ -0,0 +1,55 @@
+package kr.higu.processor;
+
+import kr.higu.processor.TypeAdapterProcessor.RecordModel;
+
+import java.util.List;
+
+/**
+ * Renders the source of the {@code TypeAdapterFactory} that hands out the generated adapters.
+ * Records are matched by exact class, since records are implicitly final.
+ *
+ * @author higukang
+ */
+final class FactorySource {
+    private final String packageName;
+    private final String simpleName;
+    private final List<RecordModel> records;
+
+    FactorySource(String qualifiedName, List<RecordModel> records) {
+        int lastDot = qualifiedName.lastIndexOf('.');
+        this.packageName = lastDot < 0 ? "" : qualifiedName.substring(0, lastDot);
+        this.simpleName = qualifiedName.substring(lastDot + 1);
+        this.records = records;
+    }
+
+    String render() {
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("import com.google.gson.Gson;\n")
+                .append("import com.google.gson.TypeAdapter;\n")
+                .append("import com.google.gson.TypeAdapterFactory;\n")
+                .append("import com.google.gson.reflect.TypeToken;\n\n")
+                .append("import javax.annotation.processing.Generated;\n\n")
+                .append("/**\n")
+                .append(" * Provides the reflection-free adapters generated for the response records.\n")
+                .append(" */\n")
+                .append("@Generated(\"").append(TypeAdapterProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(simpleName).append(" implements TypeAdapterFactory {\n\n")
+                .append("    @Override\n")
+                .append("    @SuppressWarnings(\"unchecked\")\n")
+                .append("    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {\n")
+                .append("        Class<? super T> rawType = type.getRawType();\n");
+        for (RecordModel record : records) {
+            source.append("        if (rawType == ").append(record.qualifiedName()).append(".class) {\n")
+                    .append("            return (TypeAdapter<T>) new ").append(record.adapterQualifiedName())
+                    .append("(gson);\n")
+                    .append("        }\n");
+        }
+        source.append("        return null;\n")
+                .append("    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+}
@@ -0,0 +1,323 @@
+package kr.higu.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.RecordComponentElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Annotation processor that generates reflection-free Gson {@code TypeAdapter}s for records.
+ * <p>
+ * Every record with at least one {@code @SerializedName} component gets a streaming adapter
+ * in its own package, named after the record (e.g. {@code KakaoUserResponse_KakaoAccountTypeAdapter}).
+ * A single {@code TypeAdapterFactory} registering all generated adapters is written as well.
+ * Its name is taken from the {@value #FACTORY_OPTION} option and defaults to
+ * {@code GeneratedTypeAdapterFactory} in the common package of the processed records.
+ * </p>
+ * <p>
+ * The generated adapters follow Gson's own semantics: JSON names and alternates come from
+ * {@code @SerializedName}, unknown members are skipped, missing components are left null (or zero for primitives),
+ * and null components are omitted on write unless the writer serializes nulls.
+ * </p>
+ *
+ * @author higukang
+ */
+public class TypeAdapterProcessor extends AbstractProcessor {
+    static final String SERIALIZED_NAME = "com.google.gson.annotations.SerializedName";
+    static final String FACTORY_OPTION = "kr.higu.processor.factory";
+    private static final String DEFAULT_FACTORY_NAME = "GeneratedTypeAdapterFactory";
+
+    private final Map<String, RecordModel> records = new LinkedHashMap<>();
+    private boolean factoryWritten;
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(SERIALIZED_NAME);
+    }
+
+    @Override
+    public Set<String> getSupportedOptions() {
+        return Set.of(FACTORY_OPTION);
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver() || factoryWritten) {
+            return false;
+        }
+
+        List<RecordModel> found = new ArrayList<>();
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                Element owner = element.getEnclosingElement();
+                if (owner.getKind() != ElementKind.RECORD) {
+                    continue;
+                }
+                TypeElement record = (TypeElement) owner;
+                String name = record.getQualifiedName().toString();
+                if (records.containsKey(name)) {
+                    continue;
+                }
+                RecordModel model = toModel(record);
+                if (model != null) {
+                    records.put(name, model);
+                    found.add(model);
+                }
+            }
+        }
+        if (found.isEmpty()) {
+            return false;
+        }
+
+        found.sort(Comparator.comparing(RecordModel::qualifiedName));
+        for (RecordModel model : found) {
+            String source = new AdapterSource(model, processingEnv.getTypeUtils()).render();
+            write(model.adapterQualifiedName(), model.element(), source);
+        }
+        writeFactory();
+        return false;
+    }
+
+    /**
+     * Reads the JSON shape of a record, or returns null if no adapter can be generated for it.
+     */
+    private RecordModel toModel(TypeElement record) {
+        Messager messager = processingEnv.getMessager();
+        if (!isAccessible(record)) {
+            messager.printMessage(Diagnostic.Kind.NOTE,
+                    "[K-OAuth] Skipping non-public record; Gson will use reflection for it.", record);
+            return null;
+        }
+        if (!record.getTypeParameters().isEmpty()) {
+            messager.printMessage(Diagnostic.Kind.NOTE,
+                    "[K-OAuth] Skipping generic record; Gson will use reflection for it.", record);
+            return null;
+        }
+
+        Map<String, VariableElement> fields = new LinkedHashMap<>();
+        for (VariableElement field : ElementFilter.fieldsIn(record.getEnclosedElements())) {
+            if (!field.getModifiers().contains(Modifier.STATIC)) {
+                fields.put(field.getSimpleName().toString(), field);
+            }
+        }
+
+        List<ComponentModel> components = new ArrayList<>();
+        Set<String> jsonNames = new HashSet<>();
+        for (RecordComponentElement component : record.getRecordComponents()) {
+            String name = component.getSimpleName().toString();
+            List<String> names = jsonNames(fields.get(name), name);
+            for (String jsonName : names) {
+                if (!jsonNames.add(jsonName)) {
+                    messager.printMessage(Diagnostic.Kind.ERROR,
+                            "[K-OAuth] Record declares multiple JSON members named '" + jsonName + "'.", component);
+                    return null;
+                }
+            }
+            components.add(new ComponentModel(name, names, component.asType(), ValueKind.of(component.asType())));
+        }
+
+        String packageName = packageOf(record).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(record).toString();
+        String flatName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                .replace('$', '_');
+        return new RecordModel(record, packageName, record.getQualifiedName().toString(),
+                flatName + "TypeAdapter", components);
+    }
+
+    /**
+     * Returns the JSON member name followed by the alternates, as {@code @SerializedName} declares them.
+     */
+    private List<String> jsonNames(VariableElement field, String componentName) {
+        List<String> names = new ArrayList<>();
+        AnnotationMirror serializedName = field == null ? null : findSerializedName(field);
+        if (serializedName == null) {
+            names.add(componentName);
+            return names;
+        }
+
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : processingEnv.getElementUtils().getElementValuesWithDefaults(serializedName).entrySet()) {
+            String key = entry.getKey().getSimpleName().toString();
+            if (key.equals("value")) {
+                names.add(0, (String) entry.getValue().getValue());
+            } else if (key.equals("alternate")) {
+                @SuppressWarnings("unchecked")
+                List<? extends AnnotationValue> alternates = (List<? extends AnnotationValue>) entry.getValue().getValue();
+                for (AnnotationValue alternate : alternates) {
+                    names.add((String) alternate.getValue());
+                }
+            }
+        }
+        return names;
+    }
+
+    private static AnnotationMirror findSerializedName(Element element) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement type = (TypeElement) mirror.getAnnotationType().asElement();
+            if (type.getQualifiedName().contentEquals(SERIALIZED_NAME)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isAccessible(TypeElement record) {
+        for (Element element = record; element instanceof TypeElement; element = element.getEnclosingElement()) {
+            if (!element.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static PackageElement packageOf(Element element) {
+        while (!(element instanceof PackageElement)) {
+            element = element.getEnclosingElement();
+        }
+        return (PackageElement) element;
+    }
+
+    private void writeFactory() {
+        String factoryName = processingEnv.getOptions().get(FACTORY_OPTION);
+        if (factoryName == null || factoryName.isBlank()) {
+            String commonPackage = commonPackage();
+            factoryName = commonPackage.isEmpty() ? DEFAULT_FACTORY_NAME : commonPackage + "." + DEFAULT_FACTORY_NAME;
+        }
+
+        List<RecordModel> models = new ArrayList<>(records.values());
+        models.sort(Comparator.comparing(RecordModel::qualifiedName));
+        Element[] originating = models.stream().map(RecordModel::element).toArray(Element[]::new);
+        write(factoryName, originating, new FactorySource(factoryName, models).render());
+        factoryWritten = true;
+    }
+
+    private String commonPackage() {
+        String common = null;
+        for (RecordModel model : records.values()) {
+            String packageName = model.packageName();
+            if (common == null) {
+                common = packageName;
+                continue;
+            }
+            while (!common.isEmpty() && !(packageName.equals(common) || packageName.startsWith(common + "."))) {
+                int lastDot = common.lastIndexOf('.');
+                common = lastDot < 0 ? "" : common.substring(0, lastDot);
+            }
+        }
+        return common == null ? "" : common;
+    }
+
+    private void write(String qualifiedName, Element originating, String source) {
+        write(qualifiedName, new Element[]{originating}, source);
+    }
+
+    private void write(String qualifiedName, Element[] originating, String source) {
+        Filer filer = processingEnv.getFiler();
+        try {
+            JavaFileObject file = filer.createSourceFile(qualifiedName, originating);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "[K-OAuth] Failed to write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * A record and the components it is constructed from, in canonical constructor order.
+     */
+    record RecordModel(TypeElement element, String packageName, String qualifiedName,
+                       String adapterName, List<ComponentModel> components) {
+        String adapterQualifiedName() {
+            return packageName.isEmpty() ? adapterName : packageName + "." + adapterName;
+        }
+    }
+
+    /**
+     * A single record component: the accessor name, its JSON names (primary name first) and its value kind.
+     */
+    record ComponentModel(String name, List<String> jsonNames, TypeMirror type, ValueKind kind) {
+        String local() {
+            return name + "Value";
+        }
+
+        String adapterField() {
+            return name + "Adapter";
+        }
+    }
+
+    /**
+     * How a component value is read and written.
+     * Common scalar types are handled inline; everything else is delegated to the adapter Gson provides.
+     */
+    enum ValueKind {
+        STRING, BOXED_BOOLEAN, BOXED_INTEGER, BOXED_LONG, BOXED_DOUBLE,
+        BOOLEAN, INT, LONG, DOUBLE,
+        DELEGATE;
+
+        static ValueKind of(TypeMirror type) {
+            return switch (type.getKind()) {
+                case BOOLEAN -> BOOLEAN;
+                case INT -> INT;
+                case LONG -> LONG;
+                case DOUBLE -> DOUBLE;
+                case DECLARED -> switch (((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString()) {
+                    case "java.lang.String" -> STRING;
+                    case "java.lang.Boolean" -> BOXED_BOOLEAN;
+                    case "java.lang.Integer" -> BOXED_INTEGER;
+                    case "java.lang.Long" -> BOXED_LONG;
+                    case "java.lang.Double" -> BOXED_DOUBLE;
+                    default -> DELEGATE;
+                };
+                default -> DELEGATE;
+            };
+        }
+
+        /**
+         * Returns whether the type can be written as a class literal, i.e. it has no type arguments anywhere.
+         */
+        static boolean isRaw(TypeMirror type) {
+            if (type.getKind() == TypeKind.ARRAY) {
+                return isRaw(((ArrayType) type).getComponentType());
+            }
+            if (type.getKind() != TypeKind.DECLARED) {
+                return true;
+            }
+            DeclaredType declared = (DeclaredType) type;
+            return declared.getTypeArguments().isEmpty() && isRaw(declared.getEnclosingType());
+        }
+    }
+}
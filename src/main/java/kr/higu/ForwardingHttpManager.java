@@ -0,0 +1,94 @@
+package kr.higu;
+
+import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.OAuthValidationException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Base class for HTTP managers that wrap another {@link IHttpManager} and add behavior around its calls,
+ * such as retries or rate limiting.
+ * <p>
+ * Every method forwards to the delegate by default. The streaming and byte-body methods use the delegate's
+ * own implementation when it has one, and otherwise fall back to its String-based methods,
+ * so a decorator can wrap any manager without losing {@link IStreamingHttpManager} support.
+ * </p>
+ *
+ * @author higukang
+ */
+public abstract class ForwardingHttpManager implements IByteBodyHttpManager {
+    protected final IHttpManager delegate;
+
+    /**
+     * @param delegate The manager the calls are forwarded to.
+     * @throws OAuthValidationException If the delegate is null.
+     */
+    protected ForwardingHttpManager(IHttpManager delegate) {
+        if (delegate == null) {
+            throw new OAuthValidationException("[K-OAuth] Delegate IHttpManager must not be null.");
+        }
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String get(URI uri, Map<String, String> headers) throws OAuthException {
+        return delegate.get(uri, headers);
+    }
+
+    @Override
+    public String post(URI uri, Map<String, String> headers, String body) throws OAuthException {
+        return delegate.post(uri, headers, body);
+    }
+
+    @Override
+    public CompletableFuture<String> getAsync(URI uri, Map<String, String> headers) {
+        return delegate.getAsync(uri, headers);
+    }
+
+    @Override
+    public CompletableFuture<String> postAsync(URI uri, Map<String, String> headers, String body) {
+        return delegate.postAsync(uri, headers, body);
+    }
+
+    @Override
+    public <R> R get(URI uri, Map<String, String> headers, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        if (delegate instanceof IStreamingHttpManager streamingManager) {
+            return streamingManager.get(uri, headers, decoder);
+        }
+        return decode(delegate.get(uri, headers), decoder);
+    }
+
+    @Override
+    public <R> R post(URI uri, Map<String, String> headers, String body, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        if (delegate instanceof IStreamingHttpManager streamingManager) {
+            return streamingManager.post(uri, headers, body, decoder);
+        }
+        return decode(delegate.post(uri, headers, body), decoder);
+    }
+
+    @Override
+    public <R> R post(URI uri, Map<String, String> headers, byte[] body, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        if (delegate instanceof IByteBodyHttpManager byteBodyManager) {
+            return byteBodyManager.post(uri, headers, body, decoder);
+        }
+        return post(uri, headers, new String(body, StandardCharsets.UTF_8), decoder);
+    }
+
+    /**
+     * Decodes a body returned by a delegate that only supports Strings.
+     * Decoding failures surface as unchecked exceptions, like they do on the streaming path.
+     */
+    private static <R> R decode(String body, ResponseBodyDecoder<R> decoder) {
+        byte[] bytes = body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+        try {
+            return decoder.decode(bytes, 0, bytes.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package kr.higu;
+
+import kr.higu.exceptions.OAuthException;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * An {@link IStreamingHttpManager} that can also send a request body that is already encoded as bytes.
+ * <p>
+ * {@link kr.higu.request.AbstractRequest} encodes form parameters straight into bytes and uses this method
+ * when the configured manager implements this interface, so no String is created for the request body.
+ * Other managers keep receiving the body as a String.
+ * </p>
+ *
+ * @author higukang
+ */
+public interface IByteBodyHttpManager extends IStreamingHttpManager {
+    /**
+     * Executes an HTTP POST request with a pre-encoded body and decodes a 2xx response body
+     * without materializing it as a String.
+     *
+     * @param uri     The target URI for the request.
+     * @param headers A map containing HTTP headers to include in the request. Can be null.
+     * @param body    The encoded request body (usually x-www-form-urlencoded). The manager must not modify it.
+     * @param decoder The decoder applied to the response body.
+     * @param <R>     The type of the decoded result.
+     * @return The decoded result.
+     * @throws OAuthException If the server returns an error response or a protocol-level error occurs.
+     */
+    <R> R post(URI uri, Map<String, String> headers, byte[] body, ResponseBodyDecoder<R> decoder) throws OAuthException;
+}
@@ -4,6 +4,8 @@ import kr.higu.exceptions.OAuthException;
 
 import java.net.URI;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Interface for managing HTTP communications within the K-OAuth library.
@@ -32,4 +34,60 @@ public interface IHttpManager {
      * @throws OAuthException If the server returns an error response or a protocol-level error occurs.
      */
     String post(URI uri, Map<String, String> headers, String body) throws OAuthException;
+
+    /**
+     * Executes an HTTP GET request without blocking the calling thread.
+     * <p>
+     * The returned future completes with the response body, or exceptionally with a
+     * {@link CompletionException} wrapping the {@link OAuthException} that {@link #get(URI, Map)}
+     * would have thrown.
+     * </p>
+     * <p>
+     * The default implementation runs the blocking {@link #get(URI, Map)} on {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+     * Each pending call occupies one of its threads, of which there are only about as many as CPUs,
+     * shared with parallel streams and other asynchronous tasks of the JVM, so a slow provider can starve them.
+     * Implementations backed by a non-blocking client, such as {@link OAuthHttpManager}, should override it;
+     * otherwise, run the blocking method on an executor of your own.
+     * </p>
+     *
+     * @param uri     The target URI for the request.
+     * @param headers A map containing HTTP headers to include in the request. Can be null.
+     * @return A future completed with the response body as a String.
+     */
+    default CompletableFuture<String> getAsync(URI uri, Map<String, String> headers) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return get(uri, headers);
+            } catch (OAuthException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Executes an HTTP POST request without blocking the calling thread.
+     * <p>
+     * The returned future completes with the response body, or exceptionally with a
+     * {@link CompletionException} wrapping the {@link OAuthException} that
+     * {@link #post(URI, Map, String)} would have thrown.
+     * </p>
+     * <p>
+     * The default implementation runs the blocking {@link #post(URI, Map, String)} on
+     * {@link java.util.concurrent.ForkJoinPool#commonPool()}, with the same caveats as {@link #getAsync(URI, Map)}.
+     * </p>
+     *
+     * @param uri     The target URI for the request.
+     * @param headers A map containing HTTP headers to include in the request. Can be null.
+     * @param body    The request body to be sent (usually in x-www-form-urlencoded format).
+     * @return A future completed with the response body as a String.
+     */
+    default CompletableFuture<String> postAsync(URI uri, Map<String, String> headers, String body) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return post(uri, headers, body);
+            } catch (OAuthException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
 }
@@ -0,0 +1,45 @@
+package kr.higu;
+
+import kr.higu.exceptions.OAuthException;
+
+import java.net.URI;
+import java.util.Map;
+
+/**
+ * An {@link IHttpManager} that can hand successful response bodies to a {@link ResponseBodyDecoder}
+ * as a stream or a byte array instead of returning them as a String.
+ * <p>
+ * {@link kr.higu.request.AbstractRequest} uses these methods when the configured manager implements this interface,
+ * and falls back to the String-based methods otherwise.
+ * Error responses are still read completely, so that {@link kr.higu.exceptions.detailed.OAuthResponseException#getRawBody()}
+ * keeps returning the raw body.
+ * </p>
+ *
+ * @author higukang
+ */
+public interface IStreamingHttpManager extends IHttpManager {
+    /**
+     * Executes an HTTP GET request and decodes a 2xx response body without materializing it as a String.
+     *
+     * @param uri     The target URI for the request.
+     * @param headers A map containing HTTP headers to include in the request. Can be null.
+     * @param decoder The decoder applied to the response body.
+     * @param <R>     The type of the decoded result.
+     * @return The decoded result.
+     * @throws OAuthException If the server returns an error response or a protocol-level error occurs.
+     */
+    <R> R get(URI uri, Map<String, String> headers, ResponseBodyDecoder<R> decoder) throws OAuthException;
+
+    /**
+     * Executes an HTTP POST request and decodes a 2xx response body without materializing it as a String.
+     *
+     * @param uri     The target URI for the request.
+     * @param headers A map containing HTTP headers to include in the request. Can be null.
+     * @param body    The request body to be sent (usually in x-www-form-urlencoded format).
+     * @param decoder The decoder applied to the response body.
+     * @param <R>     The type of the decoded result.
+     * @return The decoded result.
+     * @throws OAuthException If the server returns an error response or a protocol-level error occurs.
+     */
+    <R> R post(URI uri, Map<String, String> headers, String body, ResponseBodyDecoder<R> decoder) throws OAuthException;
+}
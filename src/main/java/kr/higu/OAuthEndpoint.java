@@ -0,0 +1,51 @@
+package kr.higu;
+
+/**
+ * Enumeration of the OAuth provider hosts this library talks to.
+ * <p>
+ * Used to apply per-endpoint settings, such as request timeouts, to the requests sent to each host.
+ * </p>
+ *
+ * @author higukang
+ */
+public enum OAuthEndpoint {
+    /** Kakao authorization server (token issuance). */
+    KAKAO_AUTH("kauth.kakao.com"),
+    /** Kakao API server (user information). */
+    KAKAO_API("kapi.kakao.com"),
+    /** Naver authorization server (token issuance). */
+    NAVER_AUTH("nid.naver.com"),
+    /** Naver Open API server (user profile). */
+    NAVER_API("openapi.naver.com");
+
+    private static final OAuthEndpoint[] VALUES = values();
+
+    private final String host;
+
+    OAuthEndpoint(String host) {
+        this.host = host;
+    }
+
+    /** @return The host name of the endpoint. */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * Finds the endpoint served by the given host.
+     *
+     * @param host The host name, as returned by {@link java.net.URI#getHost()}.
+     * @return The matching endpoint, or null if the host is not a known provider host.
+     */
+    public static OAuthEndpoint fromHost(String host) {
+        if (host == null) {
+            return null;
+        }
+        for (OAuthEndpoint endpoint : VALUES) {
+            if (endpoint.host.equalsIgnoreCase(host)) {
+                return endpoint;
+            }
+        }
+        return null;
+    }
+}
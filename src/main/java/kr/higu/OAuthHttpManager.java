@@ -1,6 +1,7 @@
 package kr.higu;
 
 import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.OAuthValidationException;
 import kr.higu.exceptions.detailed.OAuthInterruptedException;
 import kr.higu.exceptions.detailed.OAuthNetworkException;
 import kr.higu.exceptions.detailed.OAuthResponseException;
@@ -10,65 +11,364 @@ import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 /**
  * Default implementation of {@link IHttpManager} using Java's built-in {@link HttpClient}.
  * <p>
- * This class is implemented as a thread-safe Singleton.
+ * {@link #getInstance()} returns a thread-safe Singleton with the default settings.
+ * Use {@link #builder()} to create an instance tuned for a specific deployment.
  * <p>
  * It handles the execution of HTTP requests, manages timeouts,
  * and translates lower-level network exceptions into library-specific {@link OAuthException}s.
  * </p>
  *
+ * <pre>{@code
+ * OAuthHttpManager httpManager = OAuthHttpManager.builder()
+ *         .httpVersion(HttpClient.Version.HTTP_2)
+ *         .connectTimeout(Duration.ofSeconds(3))
+ *         .requestTimeout(Duration.ofSeconds(5))
+ *         .requestTimeout(OAuthEndpoint.KAKAO_API, Duration.ofSeconds(2))
+ *         .build();
+ * KakaoClient kakaoClient = KakaoClient.create(httpManager);
+ * }</pre>
+ *
  * @author higukang
  */
-public class OAuthHttpManager implements IHttpManager {
-    private static final OAuthHttpManager INSTANCE = new OAuthHttpManager();
+public class OAuthHttpManager implements IByteBodyHttpManager {
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration DEFAULT_REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
     private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final Map<OAuthEndpoint, Duration> endpointTimeouts;
+
+    /**
+     * Lazily holds the singleton, so that settings applied by a {@link Builder} before the first
+     * {@link #getInstance()} call (such as the JVM-wide connection pool properties) take effect.
+     */
+    private static final class InstanceHolder {
+        private static final OAuthHttpManager INSTANCE = new Builder().build();
+    }
 
     /**
-     * Private constructor to enforce the Singleton pattern.
-     * Configures the internal {@link HttpClient} with a 10-second connect timeout
-     * and normal redirect following policy.
+     * Private constructor to enforce the use of {@link #getInstance()} or {@link #builder()}.
+     * Configures the internal {@link HttpClient} from the builder settings.
+     *
+     * @param builder The builder holding the configuration.
      */
-    private OAuthHttpManager() {
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(10))
-                .followRedirects(HttpClient.Redirect.NORMAL)
-                .build();
+    private OAuthHttpManager(Builder builder) {
+        HttpClient.Builder clientBuilder = HttpClient.newBuilder()
+                .connectTimeout(builder.connectTimeout)
+                .followRedirects(builder.redirect);
+        if (builder.httpVersion != null) clientBuilder.version(builder.httpVersion);
+        if (builder.executor != null) clientBuilder.executor(builder.executor);
+
+        this.httpClient = clientBuilder.build();
+        this.requestTimeout = builder.requestTimeout;
+        this.endpointTimeouts = builder.endpointTimeouts.isEmpty()
+                ? Map.of()
+                : new EnumMap<>(builder.endpointTimeouts);
     }
 
     /**
      * Returns the singleton instance of {@code OAuthHttpManager}.
+     * It uses a 10-second connect timeout, a 10-second request timeout,
+     * the default HTTP version and normal redirect following policy.
      *
      * @return The singleton instance.
      */
     public static OAuthHttpManager getInstance() {
-        return INSTANCE;
+        return InstanceHolder.INSTANCE;
+    }
+
+    /**
+     * Creates a builder for a custom-configured {@code OAuthHttpManager}.
+     *
+     * @return A new builder initialized with the default settings.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Creates a manager whose {@link HttpClient} runs on a virtual-thread-per-task executor.
+     * Shorthand for {@code builder().virtualThreads().build()}.
+     *
+     * @return A new manager backed by virtual threads.
+     * @throws UnsupportedOperationException If the runtime does not support virtual threads (Java 21+ is required).
+     * @see Builder#virtualThreads()
+     */
+    public static OAuthHttpManager withVirtualThreads() {
+        return builder().virtualThreads().build();
+    }
+
+    /**
+     * Builder for creating {@link OAuthHttpManager} instances with custom settings.
+     * Every setting defaults to the value used by {@link #getInstance()}.
+     */
+    public static class Builder {
+        private HttpClient.Version httpVersion;
+        private Duration connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+        private Duration requestTimeout = DEFAULT_REQUEST_TIMEOUT;
+        private final Map<OAuthEndpoint, Duration> endpointTimeouts = new EnumMap<>(OAuthEndpoint.class);
+        private Executor executor;
+        private HttpClient.Redirect redirect = HttpClient.Redirect.NORMAL;
+        private Duration keepAliveTimeout;
+        private Integer connectionPoolSize;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the preferred HTTP protocol version.
+         * With {@link HttpClient.Version#HTTP_2}, the client falls back to HTTP/1.1 if the server does not support HTTP/2.
+         *
+         * @param httpVersion The preferred version.
+         * @return This builder instance.
+         */
+        public Builder httpVersion(HttpClient.Version httpVersion) {
+            this.httpVersion = requireNonNull(httpVersion, "httpVersion");
+            return this;
+        }
+
+        /**
+         * Sets the timeout for establishing a connection.
+         *
+         * @param connectTimeout A positive duration.
+         * @return This builder instance.
+         */
+        public Builder connectTimeout(Duration connectTimeout) {
+            this.connectTimeout = requirePositive(connectTimeout, "connectTimeout");
+            return this;
+        }
+
+        /**
+         * Sets the default timeout for receiving a response, used for endpoints without a specific timeout.
+         *
+         * @param requestTimeout A positive duration.
+         * @return This builder instance.
+         */
+        public Builder requestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requirePositive(requestTimeout, "requestTimeout");
+            return this;
+        }
+
+        /**
+         * Sets the timeout for receiving a response from a specific provider endpoint.
+         *
+         * @param endpoint       The endpoint the timeout applies to.
+         * @param requestTimeout A positive duration.
+         * @return This builder instance.
+         */
+        public Builder requestTimeout(OAuthEndpoint endpoint, Duration requestTimeout) {
+            endpointTimeouts.put(requireNonNull(endpoint, "endpoint"), requirePositive(requestTimeout, "requestTimeout"));
+            return this;
+        }
+
+        /**
+         * Sets the executor used by the {@link HttpClient} for asynchronous work.
+         *
+         * @param executor The executor to use.
+         * @return This builder instance.
+         */
+        public Builder executor(Executor executor) {
+            this.executor = requireNonNull(executor, "executor");
+            return this;
+        }
+
+        /**
+         * Runs the {@link HttpClient} on a virtual-thread-per-task executor.
+         * <p>
+         * Use it together with callers that are themselves virtual threads
+         * (for example {@link VirtualThreads#executeAll}), so that blocking {@code execute()} calls
+         * park a virtual thread instead of pinning a platform thread for the whole provider round-trip.
+         * </p>
+         *
+         * @return This builder instance.
+         * @throws UnsupportedOperationException If the runtime does not support virtual threads (Java 21+ is required).
+         */
+        public Builder virtualThreads() {
+            return executor(VirtualThreads.newVirtualThreadPerTaskExecutor());
+        }
+
+        /**
+         * Sets the redirect policy. The default is {@link HttpClient.Redirect#NORMAL}.
+         *
+         * @param redirect The redirect policy.
+         * @return This builder instance.
+         */
+        public Builder followRedirects(HttpClient.Redirect redirect) {
+            this.redirect = requireNonNull(redirect, "redirect");
+            return this;
+        }
+
+        /**
+         * Sets how long idle connections are kept alive in the connection pool.
+         * <p>
+         * {@link HttpClient} only exposes this through the JVM-wide {@code jdk.httpclient.keepalive.timeout}
+         * system property, which is read once when the first client in the JVM is created.
+         * It is therefore applied on {@link #build()} only if the property is not already set,
+         * and only takes effect if no {@link HttpClient} has been created yet.
+         * </p>
+         *
+         * @param keepAliveTimeout A positive duration, rounded down to whole seconds.
+         * @return This builder instance.
+         */
+        public Builder keepAliveTimeout(Duration keepAliveTimeout) {
+            this.keepAliveTimeout = requirePositive(keepAliveTimeout, "keepAliveTimeout");
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of idle connections kept in the connection pool.
+         * <p>
+         * {@link HttpClient} only exposes this through the JVM-wide {@code jdk.httpclient.connectionPoolSize}
+         * system property, with the same restrictions as {@link #keepAliveTimeout(Duration)}.
+         * </p>
+         *
+         * @param connectionPoolSize A positive pool size.
+         * @return This builder instance.
+         */
+        public Builder connectionPoolSize(int connectionPoolSize) {
+            if (connectionPoolSize <= 0) {
+                throw new OAuthValidationException("[K-OAuth] connectionPoolSize must be positive.");
+            }
+            this.connectionPoolSize = connectionPoolSize;
+            return this;
+        }
+
+        /**
+         * Builds a new {@link OAuthHttpManager} with its own {@link HttpClient}.
+         * Create it once and share it, since each instance holds its own connection pool.
+         *
+         * @return A new manager instance.
+         */
+        public OAuthHttpManager build() {
+            if (keepAliveTimeout != null) {
+                setPropertyIfAbsent("jdk.httpclient.keepalive.timeout", String.valueOf(keepAliveTimeout.toSeconds()));
+            }
+            if (connectionPoolSize != null) {
+                setPropertyIfAbsent("jdk.httpclient.connectionPoolSize", String.valueOf(connectionPoolSize));
+            }
+            return new OAuthHttpManager(this);
+        }
+
+        private static void setPropertyIfAbsent(String key, String value) {
+            if (System.getProperty(key) == null) {
+                System.setProperty(key, value);
+            }
+        }
+
+        private static <V> V requireNonNull(V value, String name) {
+            if (value == null) {
+                throw new OAuthValidationException(String.format("[K-OAuth] %s must not be null.", name));
+            }
+            return value;
+        }
+
+        private static Duration requirePositive(Duration value, String name) {
+            requireNonNull(value, name);
+            if (value.isZero() || value.isNegative()) {
+                throw new OAuthValidationException(String.format("[K-OAuth] %s must be positive.", name));
+            }
+            return value;
+        }
     }
 
     @Override
     public String get(URI uri, Map<String, String> headers) throws OAuthException {
+        return execute(buildGetRequest(uri, headers));
+    }
+
+    @Override
+    public String post(URI uri, Map<String, String> headers, String body) throws OAuthException {
+        return execute(buildPostRequest(uri, headers, body));
+    }
+
+    /**
+     * Decodes a 2xx response body from a pooled byte buffer, without creating a String.
+     */
+    @Override
+    public <R> R get(URI uri, Map<String, String> headers, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        return executeStreaming(buildGetRequest(uri, headers), decoder);
+    }
+
+    /**
+     * Decodes a 2xx response body from a pooled byte buffer, without creating a String.
+     */
+    @Override
+    public <R> R post(URI uri, Map<String, String> headers, String body, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        return executeStreaming(buildPostRequest(uri, headers, body), decoder);
+    }
+
+    /**
+     * Sends the pre-encoded body as is and decodes a 2xx response body from a pooled byte buffer.
+     */
+    @Override
+    public <R> R post(URI uri, Map<String, String> headers, byte[] body, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        return executeStreaming(buildPostRequest(uri, headers, HttpRequest.BodyPublishers.ofByteArray(body)), decoder);
+    }
+
+    /**
+     * Sends the GET request through {@link HttpClient#sendAsync}, so no thread is held
+     * while waiting for the OAuth server.
+     */
+    @Override
+    public CompletableFuture<String> getAsync(URI uri, Map<String, String> headers) {
+        return executeAsync(buildGetRequest(uri, headers));
+    }
+
+    /**
+     * Sends the POST request through {@link HttpClient#sendAsync}, so no thread is held
+     * while waiting for the OAuth server.
+     */
+    @Override
+    public CompletableFuture<String> postAsync(URI uri, Map<String, String> headers, String body) {
+        return executeAsync(buildPostRequest(uri, headers, body));
+    }
+
+    private HttpRequest buildGetRequest(URI uri, Map<String, String> headers) {
         HttpRequest.Builder builder = HttpRequest.newBuilder()
                 .uri(uri)
-                .timeout(Duration.ofSeconds(10))
+                .timeout(timeoutFor(uri))
                 .GET();
         if (headers != null) headers.forEach(builder::header);
 
-        return execute(builder.build());
+        return builder.build();
     }
 
-    @Override
-    public String post(URI uri, Map<String, String> headers, String body) throws OAuthException {
+    private HttpRequest buildPostRequest(URI uri, Map<String, String> headers, String body) {
+        return buildPostRequest(uri, headers, HttpRequest.BodyPublishers.ofString(body != null ? body : ""));
+    }
+
+    private HttpRequest buildPostRequest(URI uri, Map<String, String> headers, HttpRequest.BodyPublisher body) {
         HttpRequest.Builder builder = HttpRequest.newBuilder()
                 .uri(uri)
-                .timeout(Duration.ofSeconds(10))
-                .POST(HttpRequest.BodyPublishers.ofString(body != null ? body : ""));
+                .timeout(timeoutFor(uri))
+                .POST(body);
         if (headers != null) headers.forEach(builder::header);
 
-        return execute(builder.build());
+        return builder.build();
+    }
+
+    /**
+     * Returns the endpoint-specific request timeout for the URI's host, or the default one.
+     */
+    private Duration timeoutFor(URI uri) {
+        if (endpointTimeouts.isEmpty()) {
+            return requestTimeout;
+        }
+        OAuthEndpoint endpoint = OAuthEndpoint.fromHost(uri.getHost());
+        Duration timeout = endpoint != null ? endpointTimeouts.get(endpoint) : null;
+        return timeout != null ? timeout : requestTimeout;
     }
 
     /**
@@ -80,19 +380,39 @@ public class OAuthHttpManager implements IHttpManager {
      */
     private String execute(HttpRequest request) throws OAuthException {
         try {
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            String body = response.body();
+            return handleResponse(httpClient.send(request, HttpResponse.BodyHandlers.ofString()));
+        } catch (IOException e) {
+            throw new OAuthNetworkException("Failed to connect to the OAuth server." + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OAuthInterruptedException("Request to the OAuth server was interrupted." + e.getMessage(), e);
+        }
+    }
 
-            // 2xx Success range
-            if (response.statusCode() >= 200 && response.statusCode() <= 299) {
-                return body;
-            } else {
+    /**
+     * Byte-based counterpart of {@link #execute(HttpRequest)}.
+     * The body is collected by a {@link ResponseBuffer#subscriber()} and copied into a
+     * pooled buffer. A 2xx body is passed to the decoder as UTF-8 bytes;
+     * only error bodies are materialized as a String, to be reported as the raw body of an {@link OAuthResponseException}.
+     */
+    private <R> R executeStreaming(HttpRequest request, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        try {
+            HttpResponse<List<ByteBuffer>> response = httpClient.send(request, responseInfo -> ResponseBuffer.subscriber());
+            ResponseBuffer buffer = ResponseBuffer.acquire().load(response.body());
+            try {
+                // 2xx Success range
+                if (response.statusCode() >= 200 && response.statusCode() <= 299) {
+                    return decoder.decode(buffer.bytes(), 0, buffer.length());
+                }
                 throw new OAuthResponseException(
                         response.statusCode(),
                         null,
-                        body,
-                        "OAuth server returned an error."
+                        buffer.asString(),
+                        "OAuth server returned an error.",
+                        response.headers().map()
                 );
+            } finally {
+                buffer.release();
             }
         } catch (IOException e) {
             throw new OAuthNetworkException("Failed to connect to the OAuth server." + e.getMessage(), e);
@@ -101,4 +421,61 @@ public class OAuthHttpManager implements IHttpManager {
             throw new OAuthInterruptedException("Request to the OAuth server was interrupted." + e.getMessage(), e);
         }
     }
+
+    /**
+     * Asynchronous counterpart of {@link #execute(HttpRequest)}.
+     * The returned future fails with a {@link CompletionException} wrapping the same
+     * {@link OAuthException} types the blocking path throws: I/O failures, including timeouts,
+     * become {@link OAuthNetworkException}s, and any other failure is passed through unchanged.
+     */
+    private CompletableFuture<String> executeAsync(HttpRequest request) {
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .handle((response, error) -> {
+                    if (error != null) {
+                        throw asyncFailure(error);
+                    }
+                    try {
+                        return handleResponse(response);
+                    } catch (OAuthResponseException e) {
+                        throw new CompletionException(e);
+                    }
+                });
+    }
+
+    /**
+     * Maps a failure of {@link HttpClient#sendAsync} the way the blocking path does: an {@link IOException},
+     * including an {@link java.net.http.HttpTimeoutException}, becomes an {@link OAuthNetworkException},
+     * and anything else is passed through unchanged.
+     */
+    static CompletionException asyncFailure(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof IOException) {
+            return new CompletionException(
+                    new OAuthNetworkException("Failed to connect to the OAuth server." + cause.getMessage(), cause)
+            );
+        }
+        return error instanceof CompletionException completionException
+                ? completionException
+                : new CompletionException(cause);
+    }
+
+    /**
+     * Returns the body of a 2xx response, or converts any other status into an {@link OAuthResponseException}.
+     */
+    private String handleResponse(HttpResponse<String> response) throws OAuthResponseException {
+        String body = response.body();
+
+        // 2xx Success range
+        if (response.statusCode() >= 200 && response.statusCode() <= 299) {
+            return body;
+        } else {
+            throw new OAuthResponseException(
+                    response.statusCode(),
+                    null,
+                    body,
+                    "OAuth server returned an error.",
+                    response.headers().map()
+            );
+        }
+    }
 }
@@ -0,0 +1,48 @@
+package kr.higu;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Decodes a successful (2xx) response body directly from the network stream.
+ * <p>
+ * Used by {@link IStreamingHttpManager} so that response objects can be built
+ * without first buffering the whole body into a String.
+ * </p>
+ * Managers that read the body into a byte array call {@link #decode(byte[], int, int)},
+ * which decoders able to parse UTF-8 bytes directly can override.
+ *
+ * @param <R> The type of the decoded result.
+ * @author higukang
+ */
+@FunctionalInterface
+public interface ResponseBodyDecoder<R> {
+    /**
+     * Decodes the response body.
+     * The stream is owned and closed by the caller; implementations must not close it.
+     *
+     * @param body The response body stream.
+     * @return The decoded result.
+     * @throws IOException If reading the body fails.
+     */
+    R decode(InputStream body) throws IOException;
+
+    /**
+     * Decodes a response body that has already been read into a byte array.
+     * <p>
+     * The array may be a pooled buffer that is reused after this method returns,
+     * so implementations must not keep a reference to it.
+     * The default implementation wraps the bytes in a stream and calls {@link #decode(InputStream)}.
+     * </p>
+     *
+     * @param bytes  The array holding the UTF-8 encoded body.
+     * @param offset The start of the body in the array.
+     * @param length The length of the body in bytes.
+     * @return The decoded result.
+     * @throws IOException If decoding the body fails.
+     */
+    default R decode(byte[] bytes, int offset, int length) throws IOException {
+        return decode(new ByteArrayInputStream(bytes, offset, length));
+    }
+}
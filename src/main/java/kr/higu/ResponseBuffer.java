@@ -0,0 +1,155 @@
+package kr.higu;
+
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * Reusable byte buffer that holds one response body at a time, taken from a bounded shared pool.
+ * <p>
+ * The HTTP client hands the body over as a list of {@link ByteBuffer}s (see {@link #subscriber()}),
+ * and the calling thread copies it into a pooled array, so no per-response {@code byte[]}
+ * or String is created for successful responses.
+ * The pool is shared by all threads rather than kept per thread, so virtual threads, which live for a single
+ * task, reuse arrays as well. A buffer is only held from {@link #load} to {@link #release()}, with no blocking
+ * in between, so about one buffer per CPU is in use at a time; if the pool is empty a new buffer is created,
+ * and a released buffer is dropped if the pool is already full.
+ * Buffers that grew beyond {@link #MAX_RETAINED_CAPACITY} are shrunk on release,
+ * so an unusually large response does not stay pinned in the pool.
+ * </p>
+ *
+ * @author higukang
+ */
+final class ResponseBuffer {
+    private static final int INITIAL_CAPACITY = 4 * 1024;
+    private static final int MAX_RETAINED_CAPACITY = 64 * 1024;
+    private static final BlockingQueue<ResponseBuffer> POOL =
+            new ArrayBlockingQueue<>(Math.max(8, Runtime.getRuntime().availableProcessors() * 2));
+
+    private final BlockingQueue<ResponseBuffer> pool;
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int length;
+
+    private ResponseBuffer(BlockingQueue<ResponseBuffer> pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Takes a buffer from the shared pool, or creates one if the pool is empty.
+     * The caller must {@link #release()} it when done with the content.
+     *
+     * @return A buffer owned by the caller until it is released.
+     */
+    static ResponseBuffer acquire() {
+        return acquire(POOL);
+    }
+
+    static ResponseBuffer acquire(BlockingQueue<ResponseBuffer> pool) {
+        ResponseBuffer buffer = pool.poll();
+        return buffer != null ? buffer : new ResponseBuffer(pool);
+    }
+
+    /**
+     * Creates a body subscriber that keeps the buffers received from the client without copying them.
+     *
+     * @return A new body subscriber.
+     */
+    static HttpResponse.BodySubscriber<List<ByteBuffer>> subscriber() {
+        return new CollectingSubscriber();
+    }
+
+    /**
+     * Copies the received buffers into this buffer, replacing the previous content.
+     *
+     * @param chunks The buffers received from the client.
+     * @return This buffer.
+     */
+    ResponseBuffer load(List<ByteBuffer> chunks) {
+        int total = 0;
+        for (ByteBuffer chunk : chunks) {
+            total += chunk.remaining();
+        }
+        if (total > bytes.length) {
+            bytes = new byte[Math.max(total, bytes.length * 2)];
+        }
+        int position = 0;
+        for (ByteBuffer chunk : chunks) {
+            int remaining = chunk.remaining();
+            chunk.get(bytes, position, remaining);
+            position += remaining;
+        }
+        length = total;
+        return this;
+    }
+
+    /** @return The backing array. Only the first {@link #length()} bytes are valid. */
+    byte[] bytes() {
+        return bytes;
+    }
+
+    /** @return The number of valid bytes. */
+    int length() {
+        return length;
+    }
+
+    /**
+     * Materializes the content as a UTF-8 String. Only needed for error bodies.
+     *
+     * @return The decoded content.
+     */
+    String asString() {
+        return new String(bytes, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Clears the content, drops an oversized array and returns the buffer to its pool.
+     * The buffer must not be used afterwards.
+     */
+    void release() {
+        length = 0;
+        if (bytes.length > MAX_RETAINED_CAPACITY) {
+            bytes = new byte[INITIAL_CAPACITY];
+        }
+        pool.offer(this);
+    }
+
+    /**
+     * Collects the body buffers as they arrive. The client does not reuse a buffer after handing it over.
+     */
+    private static final class CollectingSubscriber implements HttpResponse.BodySubscriber<List<ByteBuffer>> {
+        private final CompletableFuture<List<ByteBuffer>> result = new CompletableFuture<>();
+        private final List<ByteBuffer> chunks = new ArrayList<>();
+
+        @Override
+        public CompletionStage<List<ByteBuffer>> getBody() {
+            return result;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> items) {
+            chunks.addAll(items);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            result.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            result.complete(chunks);
+        }
+    }
+}
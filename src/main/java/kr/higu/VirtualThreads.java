@@ -0,0 +1,129 @@
+package kr.higu;
+
+import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.detailed.OAuthInterruptedException;
+import kr.higu.request.AbstractRequest;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Utilities for running blocking OAuth calls on virtual threads.
+ * <p>
+ * The library is compiled for Java 17, so virtual threads are looked up at runtime.
+ * On Java 21 or later, every method here works as documented. On older runtimes,
+ * {@link #isSupported()} returns {@code false} and the other methods throw
+ * {@link UnsupportedOperationException}.
+ * </p>
+ *
+ * <pre>{@code
+ * List<KakaoUserResponse> users = VirtualThreads.executeAll(requests);
+ * }</pre>
+ *
+ * @author higukang
+ */
+public final class VirtualThreads {
+    private static final MethodHandle NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findFactory();
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * @return {@code true} if the current runtime can create virtual threads.
+     */
+    public static boolean isSupported() {
+        return NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR != null;
+    }
+
+    /**
+     * Creates an executor that starts a new virtual thread for each task.
+     *
+     * @return A new virtual-thread-per-task executor.
+     * @throws UnsupportedOperationException If the runtime does not support virtual threads.
+     */
+    public static ExecutorService newVirtualThreadPerTaskExecutor() {
+        if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR == null) {
+            throw new UnsupportedOperationException("[K-OAuth] Virtual threads require Java 21 or later.");
+        }
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("[K-OAuth] Failed to create a virtual thread executor.", t);
+        }
+    }
+
+    /**
+     * Runs {@link AbstractRequest#execute()} for every request, each on its own virtual thread,
+     * and waits for all of them to finish.
+     * <p>
+     * Results are returned in the iteration order of {@code requests}.
+     * If any request fails, the first failure in that order is thrown after all requests have completed,
+     * and later failures are attached to it as suppressed exceptions.
+     * </p>
+     *
+     * @param requests The requests to execute.
+     * @param <T>      The common response type.
+     * @return The parsed responses, in request order.
+     * @throws OAuthException If any request fails, or if the calling thread is interrupted while waiting.
+     * @throws UnsupportedOperationException If the runtime does not support virtual threads.
+     */
+    public static <T> List<T> executeAll(Collection<? extends AbstractRequest<? extends T>> requests) throws OAuthException {
+        ExecutorService executor = newVirtualThreadPerTaskExecutor();
+        try {
+            List<Future<? extends T>> futures = new ArrayList<>(requests.size());
+            for (AbstractRequest<? extends T> request : requests) {
+                futures.add(executor.submit(request::execute));
+            }
+
+            List<T> results = new ArrayList<>(futures.size());
+            OAuthException failure = null;
+            for (Future<? extends T> future : futures) {
+                try {
+                    results.add(future.get());
+                } catch (ExecutionException e) {
+                    OAuthException cause = e.getCause() instanceof OAuthException oauthException
+                            ? oauthException
+                            : new OAuthException("[K-OAuth] Request failed unexpectedly: " + e.getCause(), e.getCause());
+                    if (failure == null) {
+                        failure = cause;
+                    } else {
+                        failure.addSuppressed(cause);
+                    }
+                    results.add(null);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            return results;
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new OAuthInterruptedException("Batch execution was interrupted." + e.getMessage(), e);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static MethodHandle findFactory() {
+        try {
+            return MethodHandles.publicLookup().findStatic(
+                    Executors.class,
+                    "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class)
+            );
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
@@ -2,6 +2,13 @@ package kr.higu.client;
 
 import kr.higu.IHttpManager;
 import kr.higu.OAuthHttpManager;
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.json.JsonCodec;
+import kr.higu.oidc.IdTokenVerifier;
+import kr.higu.oidc.KakaoLogin;
+import kr.higu.request.kakao.KakaoJwksRequest;
+import kr.higu.request.kakao.KakaoRefreshTokenRequest;
+import kr.higu.request.kakao.KakaoTokenInfoRequest;
 import kr.higu.request.kakao.KakaoTokenRequest;
 import kr.higu.request.kakao.KakaoUserRequest;
 
@@ -28,15 +35,18 @@ import kr.higu.request.kakao.KakaoUserRequest;
  */
 public class KakaoClient {
     private final IHttpManager httpManager;
+    private final JsonCodec codec;
 
     /**
      * Internal constructor for KakaoClient.
-     * Use {@link #create()} or {@link #create(IHttpManager)} to instantiate.
+     * Use {@link #create()}, {@link #create(IHttpManager)} or {@link #create(IHttpManager, JsonCodec)} to instantiate.
      *
      * @param httpManager The HTTP manager to be used for all requests initiated by this client.
+     * @param codec       The JSON codec to be used for all requests initiated by this client.
      */
-    private KakaoClient(IHttpManager httpManager) {
+    private KakaoClient(IHttpManager httpManager, JsonCodec codec) {
         this.httpManager = httpManager;
+        this.codec = codec;
     }
 
     /**
@@ -45,18 +55,35 @@ public class KakaoClient {
      * @return A new KakaoClient instance.
      */
     public static KakaoClient create() {
-        return new KakaoClient(OAuthHttpManager.getInstance());
+        return new KakaoClient(OAuthHttpManager.getInstance(), JsonCodec.getDefault());
     }
 
     /**
      * Creates a new KakaoClient instance with a custom {@link IHttpManager}.
-     * Useful for testing with mock managers or using custom HTTP configurations.
+     * Useful for testing with mock managers or using custom HTTP configurations,
+     * such as an {@link OAuthHttpManager} tuned through {@link OAuthHttpManager#builder()}.
      *
      * @param httpManager A custom implementation of IHttpManager.
      * @return A new KakaoClient instance.
      */
     public static KakaoClient create(IHttpManager httpManager) {
-        return new KakaoClient(httpManager);
+        return new KakaoClient(httpManager, JsonCodec.getDefault());
+    }
+
+    /**
+     * Creates a new KakaoClient instance with a custom {@link IHttpManager} and {@link JsonCodec}.
+     * Use this to replace the default Gson codec, e.g. with {@link kr.higu.json.BuiltInJsonCodec}.
+     *
+     * @param httpManager A custom implementation of IHttpManager.
+     * @param codec       The JSON codec for decoding responses and encoding JSON parameters.
+     * @return A new KakaoClient instance.
+     * @throws OAuthValidationException If the codec is null.
+     */
+    public static KakaoClient create(IHttpManager httpManager, JsonCodec codec) {
+        if (codec == null) {
+            throw new OAuthValidationException("[K-OAuth] JsonCodec must not be null.");
+        }
+        return new KakaoClient(httpManager, codec);
     }
 
     /**
@@ -66,7 +93,17 @@ public class KakaoClient {
      * @return A builder for KakaoTokenRequest.
      */
     public KakaoTokenRequest.Builder getToken() {
-        return new KakaoTokenRequest.Builder(httpManager);
+        return new KakaoTokenRequest.Builder(httpManager, codec);
+    }
+
+    /**
+     * Provides a builder for creating a {@link KakaoRefreshTokenRequest}.
+     * This is used to renew an expired access token without sending the user through the login again.
+     *
+     * @return A builder for KakaoRefreshTokenRequest.
+     */
+    public KakaoRefreshTokenRequest.Builder refreshToken() {
+        return new KakaoRefreshTokenRequest.Builder(httpManager, codec);
     }
 
     /**
@@ -76,6 +113,38 @@ public class KakaoClient {
      * @return A builder for KakaoUserRequest.
      */
     public KakaoUserRequest.Builder getUserInfo() {
-        return new KakaoUserRequest.Builder(httpManager);
+        return new KakaoUserRequest.Builder(httpManager, codec);
+    }
+
+    /**
+     * Provides a builder for creating a {@link KakaoTokenInfoRequest}.
+     * This is used to check that an access token is still valid and to read the user ID it belongs to.
+     *
+     * @return A builder for KakaoTokenInfoRequest.
+     */
+    public KakaoTokenInfoRequest.Builder getTokenInfo() {
+        return new KakaoTokenInfoRequest.Builder(httpManager, codec);
+    }
+
+    /**
+     * Provides a builder for creating a {@link KakaoJwksRequest}.
+     * This is used to fetch the public keys that sign ID tokens, e.g. as the source of a {@link kr.higu.oidc.JwksKeyCache}.
+     *
+     * @return A builder for KakaoJwksRequest.
+     */
+    public KakaoJwksRequest.Builder getJwks() {
+        return new KakaoJwksRequest.Builder(httpManager, codec);
+    }
+
+    /**
+     * Provides a builder for creating a {@link KakaoLogin}.
+     * This exchanges the authorization code and reads the profile from the verified ID token,
+     * calling the user info API only for required fields the token lacks.
+     *
+     * @param verifier Verifies the ID token of the token response.
+     * @return A builder for KakaoLogin.
+     */
+    public KakaoLogin.Builder login(IdTokenVerifier verifier) {
+        return new KakaoLogin.Builder(httpManager, codec, verifier);
     }
 }
@@ -2,6 +2,9 @@ package kr.higu.client;
 
 import kr.higu.IHttpManager;
 import kr.higu.OAuthHttpManager;
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.json.JsonCodec;
+import kr.higu.request.naver.NaverRefreshTokenRequest;
 import kr.higu.request.naver.NaverTokenRequest;
 import kr.higu.request.naver.NaverUserRequest;
 
@@ -28,15 +31,18 @@ import kr.higu.request.naver.NaverUserRequest;
  */
 public class NaverClient {
     private final IHttpManager httpManager;
+    private final JsonCodec codec;
 
     /**
      * Internal constructor for NaverClient.
-     * Use {@link #create()} or {@link #create(IHttpManager)} to instantiate.
+     * Use {@link #create()}, {@link #create(IHttpManager)} or {@link #create(IHttpManager, JsonCodec)} to instantiate.
      *
      * @param httpManager The HTTP manager to be used for all requests initiated by this client.
+     * @param codec       The JSON codec to be used for all requests initiated by this client.
      */
-    private NaverClient(IHttpManager httpManager) {
+    private NaverClient(IHttpManager httpManager, JsonCodec codec) {
         this.httpManager = httpManager;
+        this.codec = codec;
     }
 
     /**
@@ -45,18 +51,35 @@ public class NaverClient {
      * @return A new NaverClient instance.
      */
     public static NaverClient create() {
-        return new NaverClient(OAuthHttpManager.getInstance());
+        return new NaverClient(OAuthHttpManager.getInstance(), JsonCodec.getDefault());
     }
 
     /**
      * Creates a new NaverClient instance with a custom {@link IHttpManager}.
-     * This is useful for testing purposes or for providing a specific HTTP configuration.
+     * This is useful for testing purposes or for providing a specific HTTP configuration,
+     * such as an {@link OAuthHttpManager} tuned through {@link OAuthHttpManager#builder()}.
      *
      * @param httpManager A custom implementation of IHttpManager.
      * @return A new NaverClient instance.
      */
     public static NaverClient create(IHttpManager httpManager) {
-        return new NaverClient(httpManager);
+        return new NaverClient(httpManager, JsonCodec.getDefault());
+    }
+
+    /**
+     * Creates a new NaverClient instance with a custom {@link IHttpManager} and {@link JsonCodec}.
+     * Use this to replace the default Gson codec, e.g. with {@link kr.higu.json.BuiltInJsonCodec}.
+     *
+     * @param httpManager A custom implementation of IHttpManager.
+     * @param codec       The JSON codec for decoding responses and encoding JSON parameters.
+     * @return A new NaverClient instance.
+     * @throws OAuthValidationException If the codec is null.
+     */
+    public static NaverClient create(IHttpManager httpManager, JsonCodec codec) {
+        if (codec == null) {
+            throw new OAuthValidationException("[K-OAuth] JsonCodec must not be null.");
+        }
+        return new NaverClient(httpManager, codec);
     }
 
     /**
@@ -66,7 +89,17 @@ public class NaverClient {
      * @return A builder for NaverTokenRequest.
      */
     public NaverTokenRequest.Builder getToken() {
-        return new NaverTokenRequest.Builder(httpManager);
+        return new NaverTokenRequest.Builder(httpManager, codec);
+    }
+
+    /**
+     * Provides a builder for creating a {@link NaverRefreshTokenRequest}.
+     * This is used to renew an expired access token without sending the user through the login again.
+     *
+     * @return A builder for NaverRefreshTokenRequest.
+     */
+    public NaverRefreshTokenRequest.Builder refreshToken() {
+        return new NaverRefreshTokenRequest.Builder(httpManager, codec);
     }
 
     /**
@@ -76,6 +109,6 @@ public class NaverClient {
      * @return A builder for NaverUserRequest.
      */
     public NaverUserRequest.Builder getUserInfo() {
-        return new NaverUserRequest.Builder(httpManager);
+        return new NaverUserRequest.Builder(httpManager, codec);
     }
 }
@@ -0,0 +1,35 @@
+package kr.higu.dto.kakao;
+
+import com.google.gson.annotations.SerializedName;
+
+import java.util.List;
+
+/**
+ * Response DTO for Kakao OpenID Connect public keys (JWKS).
+ * Used to verify the signature of ID tokens locally.
+ *
+ * @see <a href="https://developers.kakao.com/docs/latest/ko/kakaologin/rest-api#oidc-get-jwks">Kakao JWKS API Documentation</a>
+ * @author higukang
+ */
+public record KakaoJwksResponse(
+        /** The public keys currently used to sign ID tokens. */
+        @SerializedName("keys") List<Key> keys
+) {
+    /**
+     * A public key in JSON Web Key format.
+     */
+    public record Key(
+            /** Key ID, matched against the {@code kid} header of an ID token. */
+            @SerializedName("kid") String kid,
+            /** Key type. Always {@code RSA} for Kakao. */
+            @SerializedName("kty") String kty,
+            /** Signature algorithm. Always {@code RS256} for Kakao. */
+            @SerializedName("alg") String alg,
+            /** Public key use. Always {@code sig} for Kakao. */
+            @SerializedName("use") String use,
+            /** RSA modulus, Base64url-encoded. */
+            @SerializedName("n") String n,
+            /** RSA public exponent, Base64url-encoded. */
+            @SerializedName("e") String e
+    ) {}
+}
@@ -0,0 +1,19 @@
+package kr.higu.dto.kakao;
+
+import com.google.gson.annotations.SerializedName;
+
+/**
+ * Response DTO for Kakao Access Token Information API.
+ * Confirms that an access token is valid and tells whose it is, without fetching the user profile.
+ *
+ * @see <a href="https://developers.kakao.com/docs/latest/ko/kakaologin/rest-api#get-token-info">Kakao Token Info API Documentation</a>
+ * @author higukang
+ */
+public record KakaoTokenInfoResponse(
+        /** Unique identifier for the Kakao user the token was issued to. */
+        @SerializedName("id") String id,
+        /** Remaining lifetime of the access token in seconds. */
+        @SerializedName("expires_in") Integer expiresIn,
+        /** ID of the Kakao application the token was issued for. */
+        @SerializedName("app_id") Integer appId
+) {}
@@ -0,0 +1,42 @@
+package kr.higu.exceptions.detailed;
+
+import kr.higu.exceptions.OAuthException;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown without sending the request when the circuit breaker for the target host is open,
+ * i.e. the provider has recently been failing or responding too slowly.
+ *
+ * @author higukang
+ */
+public class OAuthCircuitOpenException extends OAuthException {
+    private final String host;
+    private final Duration retryAfter;
+
+    /**
+     * Constructs a new OAuthCircuitOpenException.
+     *
+     * @param host       The host whose circuit is open (e.g., "kapi.kakao.com").
+     * @param retryAfter The remaining time before the circuit lets trial requests through.
+     */
+    public OAuthCircuitOpenException(String host, Duration retryAfter) {
+        super(String.format("[K-OAuth] Circuit for %s is open. Retry after %d ms.", host, retryAfter.toMillis()));
+        this.host = host;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return The host whose circuit is open.
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * @return The remaining time before the circuit lets trial requests through. Zero if it already does.
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,34 @@
+package kr.higu.exceptions.detailed;
+
+import kr.higu.exceptions.OAuthException;
+
+/**
+ * Exception thrown when an OpenID Connect ID token fails local verification:
+ * it is malformed, its signature does not match a published key, or its issuer, audience, expiry or nonce is wrong.
+ * <p>
+ * The token must not be trusted. Failing to fetch the provider's keys is reported with the exception of the request instead.
+ * </p>
+ *
+ * @author higukang
+ */
+public class OAuthIdTokenException extends OAuthException {
+
+    /**
+     * Constructs a new OAuthIdTokenException with a detail message.
+     *
+     * @param message The reason the token was rejected.
+     */
+    public OAuthIdTokenException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new OAuthIdTokenException with a detail message and the underlying cause.
+     *
+     * @param message The reason the token was rejected.
+     * @param cause   The original cause (e.g., an invalid Base64 or JSON segment).
+     */
+    public OAuthIdTokenException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,42 @@
+package kr.higu.exceptions.detailed;
+
+import kr.higu.exceptions.OAuthException;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown without sending the request when the client-side rate limit of the target endpoint is exhausted,
+ * or the endpoint is paused after the provider answered with a {@code Retry-After} header.
+ *
+ * @author higukang
+ */
+public class OAuthRateLimitedException extends OAuthException {
+    private final String host;
+    private final Duration retryAfter;
+
+    /**
+     * Constructs a new OAuthRateLimitedException.
+     *
+     * @param host       The host the request was addressed to (e.g., "kapi.kakao.com").
+     * @param retryAfter The time after which the request would be allowed.
+     */
+    public OAuthRateLimitedException(String host, Duration retryAfter) {
+        super(String.format("[K-OAuth] Rate limit for %s exceeded. Retry after %d ms.", host, retryAfter.toMillis()));
+        this.host = host;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * @return The host the request was addressed to.
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * @return The time after which the request would be allowed.
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,40 @@
+package kr.higu.exceptions.detailed;
+
+import kr.higu.exceptions.OAuthException;
+
+/**
+ * Exception thrown without sending the request when too many requests to the target host are already in flight
+ * and no slot became free within the allowed wait.
+ *
+ * @author higukang
+ */
+public class OAuthRejectedException extends OAuthException {
+    private final String host;
+    private final int limit;
+
+    /**
+     * Constructs a new OAuthRejectedException.
+     *
+     * @param host  The host the request was addressed to (e.g., "kapi.kakao.com").
+     * @param limit The concurrency limit of the host when the request was rejected.
+     */
+    public OAuthRejectedException(String host, int limit) {
+        super(String.format("[K-OAuth] Concurrency limit (%d) for %s reached.", limit, host));
+        this.host = host;
+        this.limit = limit;
+    }
+
+    /**
+     * @return The host the request was addressed to.
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * @return The concurrency limit of the host when the request was rejected.
+     */
+    public int getLimit() {
+        return limit;
+    }
+}
@@ -2,6 +2,9 @@ package kr.higu.exceptions.detailed;
 
 import kr.higu.exceptions.OAuthException;
 
+import java.util.List;
+import java.util.Map;
+
 /**
  * Exception thrown when the OAuth server returns a non-2xx HTTP status code.
  * It contains detailed information about the error response from the provider.
@@ -12,6 +15,7 @@ public class OAuthResponseException extends OAuthException {
     private final int statusCode;
     private final String errorCode;
     private final String rawBody;
+    private final Map<String, List<String>> headers;
 
     /**
      * Constructs a new OauthResponseException with detailed error information.
@@ -22,10 +26,25 @@ public class OAuthResponseException extends OAuthException {
      * @param message    The human-readable error message, often parsed from the response.
      */
     public OAuthResponseException(int statusCode, String errorCode, String rawBody, String message) {
+        this(statusCode, errorCode, rawBody, message, Map.of());
+    }
+
+    /**
+     * Constructs a new OauthResponseException with detailed error information and the response headers.
+     *
+     * @param statusCode The HTTP status code returned by the server.
+     * @param errorCode  The specific error code returned by the OAuth provider (e.g., "KOE101").
+     * @param rawBody    The raw response body from the server.
+     * @param message    The human-readable error message, often parsed from the response.
+     * @param headers    The response headers. Null is treated as no headers.
+     */
+    public OAuthResponseException(int statusCode, String errorCode, String rawBody, String message,
+                                  Map<String, List<String>> headers) {
         super(String.format("[OAuth Error] HTTP %d (%s): %s", statusCode, errorCode, message));
         this.statusCode = statusCode;
         this.errorCode = errorCode;
         this.rawBody = rawBody;
+        this.headers = headers == null ? Map.of() : headers;
     }
 
     /**
@@ -48,4 +67,24 @@ public class OAuthResponseException extends OAuthException {
     public String getRawBody() {
         return rawBody;
     }
+
+    /**
+     * @return The response headers. Empty if the response had none or they were not captured.
+     */
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * @param name The header name, case-insensitive (e.g., "Retry-After").
+     * @return The first value of the header, or null if it is absent.
+     */
+    public String getHeader(String name) {
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (header.getKey() != null && header.getKey().equalsIgnoreCase(name) && !header.getValue().isEmpty()) {
+                return header.getValue().get(0);
+            }
+        }
+        return null;
+    }
 }
@@ -0,0 +1,123 @@
+package kr.higu.json;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Minimal {@link JsonCodec} that parses UTF-8 bytes directly, without Gson's data binding.
+ * <p>
+ * It is tuned for the small provider payloads: response bytes are parsed in place,
+ * member names are matched without creating Strings, members outside a {@link JsonProjection} are skipped
+ * without being decoded, and each record type is bound once
+ * to its canonical constructor. Only records are supported as decode targets; their components may be
+ * Strings, booleans, ints, longs, doubles (boxed or primitive), nested records, or Gson
+ * {@code JsonObject}/{@code JsonElement} trees such as {@code KakaoUserResponse#properties()},
+ * and Lists of these.
+ * </p>
+ * <p>
+ * Like {@link GsonJsonCodec}, it rejects trailing content after the JSON value.
+ * Unlike it, it does not HTML-escape characters such as {@code <} when encoding.
+ * </p>
+ * <p>
+ * It does not use Gson to parse or bind, but it still needs Gson on the class path: field names come from
+ * Gson's {@code @SerializedName}, and {@code JsonObject}/{@code JsonElement} components are built as Gson trees.
+ * </p>
+ *
+ * <pre>{@code
+ * KakaoClient client = KakaoClient.create(OAuthHttpManager.getInstance(), BuiltInJsonCodec.getInstance());
+ * }</pre>
+ *
+ * @author higukang
+ */
+public final class BuiltInJsonCodec implements JsonCodec {
+
+    private BuiltInJsonCodec() {
+    }
+
+    private static class InstanceHolder {
+        private static final BuiltInJsonCodec INSTANCE = new BuiltInJsonCodec();
+    }
+
+    /**
+     * Returns the shared built-in codec.
+     *
+     * @return The singleton BuiltInJsonCodec instance.
+     */
+    public static BuiltInJsonCodec getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, int offset, int length, Class<T> type) {
+        return decode(bytes, offset, length, type, JsonProjection.ALL);
+    }
+
+    /**
+     * Decodes the selected members, skipping the others in place without copying the document.
+     */
+    @Override
+    public <T> T decode(byte[] bytes, int offset, int length, Class<T> type, JsonProjection projection) {
+        JsonByteReader reader = new JsonByteReader(bytes, offset, length);
+        if (reader.isEmptyDocument()) {
+            return null;
+        }
+        T value = RecordBinding.of(type).read(reader, projection == null ? JsonProjection.ALL : projection);
+        reader.endDocument();
+        return value;
+    }
+
+    @Override
+    public <T> T decode(String json, Class<T> type) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        return decode(bytes, 0, bytes.length, type);
+    }
+
+    @Override
+    public String encode(Object value) {
+        StringBuilder out = new StringBuilder(256);
+        RecordBinding.writeValue(value, out);
+        return out.toString();
+    }
+
+    @Override
+    public String encodeStringArray(String... values) {
+        StringBuilder out = new StringBuilder(16 * values.length + 2).append('[');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            RecordBinding.writeValue(values[i], out);
+        }
+        return out.append(']').toString();
+    }
+
+    @Override
+    public String[] readScalars(String json, String... names) {
+        byte[][] rawNames = new byte[names.length][];
+        for (int i = 0; i < names.length; i++) {
+            rawNames[i] = names[i].getBytes(StandardCharsets.UTF_8);
+        }
+
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        JsonByteReader reader = new JsonByteReader(bytes, 0, bytes.length);
+        String[] values = new String[names.length];
+        reader.beginObject();
+        while (reader.hasNext()) {
+            int index = reader.nextName(rawNames, names);
+            if (index < 0) {
+                reader.skipValue();
+                continue;
+            }
+            values[index] = switch (reader.peek()) {
+                case JsonByteReader.STRING -> reader.nextString();
+                case JsonByteReader.NUMBER -> reader.nextNumber();
+                case JsonByteReader.TRUE, JsonByteReader.FALSE -> String.valueOf(reader.nextBoolean());
+                default -> {
+                    reader.skipValue();
+                    yield null;
+                }
+            };
+        }
+        reader.endObject();
+        return values;
+    }
+}
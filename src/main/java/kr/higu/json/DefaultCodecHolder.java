@@ -0,0 +1,15 @@
+package kr.higu.json;
+
+import java.util.ServiceLoader;
+
+/**
+ * Lazily resolves {@link JsonCodec#getDefault()} on first use.
+ */
+final class DefaultCodecHolder {
+    static final JsonCodec INSTANCE = ServiceLoader.load(JsonCodec.class, JsonCodec.class.getClassLoader())
+            .findFirst()
+            .orElseGet(GsonJsonCodec::getInstance);
+
+    private DefaultCodecHolder() {
+    }
+}
@@ -0,0 +1,152 @@
+package kr.higu.json;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.MalformedJsonException;
+import kr.higu.dto.GeneratedTypeAdapterFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link JsonCodec} backed by Gson. This is the default codec.
+ * <p>
+ * Response records are (de)serialized with the streaming adapters generated at compile time
+ * by the {@code processor} module, so the hot path does not construct records through reflection.
+ * Bodies held in a byte array are read through {@link Utf8Reader}, without an intermediate String.
+ * </p>
+ *
+ * @author higukang
+ */
+public final class GsonJsonCodec implements JsonCodec {
+    private final Gson gson;
+
+    private GsonJsonCodec() {
+        this.gson = new GsonBuilder()
+                .registerTypeAdapterFactory(new GeneratedTypeAdapterFactory())
+                .create();
+    }
+
+    private static class InstanceHolder {
+        private static final GsonJsonCodec INSTANCE = new GsonJsonCodec();
+    }
+
+    /**
+     * Returns the shared Gson codec.
+     *
+     * @return The singleton GsonJsonCodec instance.
+     */
+    public static GsonJsonCodec getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    @Override
+    public <T> T decode(byte[] bytes, int offset, int length, Class<T> type) throws IOException {
+        return read(new Utf8Reader(bytes, offset, length), type);
+    }
+
+    @Override
+    public <T> T decode(InputStream body, Class<T> type) throws IOException {
+        return read(new InputStreamReader(body, StandardCharsets.UTF_8), type);
+    }
+
+    @Override
+    public <T> T decode(String json, Class<T> type) {
+        try {
+            return gson.fromJson(json, type);
+        } catch (JsonParseException e) {
+            throw new JsonCodecException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads the type from a reader with the same rules as {@link Gson#fromJson(String, Class)}:
+     * the reader is configured by the Gson instance, and content after the value is rejected.
+     * Malformed JSON surfaces as a {@link JsonCodecException},
+     * while I/O failures of the underlying stream are rethrown as they are.
+     */
+    private <T> T read(Reader body, Class<T> type) throws IOException {
+        JsonReader reader = gson.newJsonReader(body);
+        T value;
+        try {
+            value = gson.fromJson(reader, type);
+        } catch (JsonParseException e) {
+            if (e.getCause() instanceof IOException ioException && !(ioException instanceof MalformedJsonException)) {
+                throw ioException;
+            }
+            throw new JsonCodecException(e.getMessage(), e);
+        }
+        try {
+            if (value != null && reader.peek() != JsonToken.END_DOCUMENT) {
+                throw new JsonCodecException("[K-OAuth] JSON document was not fully consumed.");
+            }
+        } catch (MalformedJsonException e) {
+            throw new JsonCodecException(e.getMessage(), e);
+        }
+        return value;
+    }
+
+    @Override
+    public String encode(Object value) {
+        return gson.toJson(value);
+    }
+
+    @Override
+    public String encodeStringArray(String... values) {
+        return gson.toJson(values);
+    }
+
+    @Override
+    public String[] readScalars(String json, String... names) {
+        String[] values = new String[names.length];
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                int index = indexOf(names, reader.nextName());
+                if (index < 0) {
+                    reader.skipValue();
+                    continue;
+                }
+                values[index] = readScalar(reader);
+            }
+            reader.endObject();
+        } catch (IOException | IllegalStateException e) {
+            throw new JsonCodecException(e.getMessage(), e);
+        }
+        return values;
+    }
+
+    /**
+     * Reads a scalar value as a String, the way {@code JsonElement#getAsString()} renders it.
+     * Nulls, objects and arrays are treated as absent.
+     */
+    private static String readScalar(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        switch (token) {
+            case STRING:
+            case NUMBER:
+                return reader.nextString();
+            case BOOLEAN:
+                return String.valueOf(reader.nextBoolean());
+            default:
+                reader.skipValue();
+                return null;
+        }
+    }
+
+    static int indexOf(String[] names, String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,515 @@
+package kr.higu.json;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Pull parser over a UTF-8 JSON document held in a byte array.
+ * <p>
+ * Tuned for the small provider payloads: member names are matched against the expected names
+ * directly in the buffer without creating Strings, and strings without escapes are decoded in one call.
+ * Skipped values are only checked for balanced brackets and properly terminated strings.
+ * </p>
+ * Not thread-safe.
+ *
+ * @author higukang
+ */
+final class JsonByteReader {
+    static final byte OBJECT = '{';
+    static final byte ARRAY = '[';
+    static final byte STRING = '"';
+    static final byte NUMBER = '0';
+    static final byte TRUE = 't';
+    static final byte FALSE = 'f';
+    static final byte NULL = 'n';
+
+    private static final byte[] TRUE_LITERAL = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE_LITERAL = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] NULL_LITERAL = {'n', 'u', 'l', 'l'};
+
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+    /** Whether the object or array at each nesting level already had an element. */
+    private boolean[] nonEmpty = new boolean[8];
+    private int depth;
+
+    JsonByteReader(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    /**
+     * Returns whether the document holds nothing but whitespace.
+     */
+    boolean isEmptyDocument() {
+        skipWhitespace();
+        return position == limit;
+    }
+
+    /**
+     * Requires that nothing but whitespace follows the value just read.
+     */
+    void endDocument() {
+        skipWhitespace();
+        if (position != limit) {
+            throw syntaxError("Unexpected content after the JSON value");
+        }
+    }
+
+    /**
+     * Returns the kind of the next value: one of {@link #OBJECT}, {@link #ARRAY}, {@link #STRING},
+     * {@link #NUMBER}, {@link #TRUE}, {@link #FALSE} or {@link #NULL}.
+     */
+    byte peek() {
+        skipWhitespace();
+        if (position == limit) {
+            throw syntaxError("Unexpected end of input");
+        }
+        byte b = buffer[position];
+        switch (b) {
+            case '{', '[', '"', 't', 'f', 'n' -> {
+                return b;
+            }
+            default -> {
+                if (b == '-' || (b >= '0' && b <= '9')) {
+                    return NUMBER;
+                }
+                throw syntaxError("Unexpected character '" + (char) (b & 0xFF) + "'");
+            }
+        }
+    }
+
+    void beginObject() {
+        expect('{');
+        push();
+    }
+
+    void endObject() {
+        expect('}');
+        depth--;
+    }
+
+    void beginArray() {
+        expect('[');
+        push();
+    }
+
+    void endArray() {
+        expect(']');
+        depth--;
+    }
+
+    /**
+     * Returns whether the current object or array has another element, consuming the separating comma.
+     */
+    boolean hasNext() {
+        skipWhitespace();
+        if (position == limit) {
+            throw syntaxError("Unterminated object or array");
+        }
+        byte b = buffer[position];
+        if (b == '}' || b == ']') {
+            return false;
+        }
+        if (nonEmpty[depth]) {
+            if (b != ',') {
+                throw syntaxError("Expected ',' between elements");
+            }
+            position++;
+            skipWhitespace();
+            if (position < limit && (buffer[position] == '}' || buffer[position] == ']')) {
+                throw syntaxError("Trailing comma");
+            }
+        } else {
+            nonEmpty[depth] = true;
+        }
+        return true;
+    }
+
+    /**
+     * Reads a member name and the following colon, and returns the index of the matching expected name.
+     *
+     * @param rawNames The expected names as UTF-8 bytes.
+     * @param names    The same names as Strings, used when the member name contains escapes.
+     * @return The index of the matching name, or -1 if the member is not expected.
+     */
+    int nextName(byte[][] rawNames, String[] names) {
+        skipWhitespace();
+        expect('"');
+        int start = position;
+        int end = scanString();
+        int index = -1;
+        if (end >= 0) {
+            int length = end - start;
+            for (int i = 0; i < rawNames.length; i++) {
+                byte[] name = rawNames[i];
+                if (name.length == length && Arrays.equals(buffer, start, end, name, 0, length)) {
+                    index = i;
+                    break;
+                }
+            }
+            position = end + 1;
+        } else {
+            position = start;
+            String name = readEscapedString();
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(name)) {
+                    index = i;
+                    break;
+                }
+            }
+        }
+        skipWhitespace();
+        expect(':');
+        return index;
+    }
+
+    /**
+     * Reads a member name and the following colon.
+     */
+    String nextName() {
+        String name = nextString();
+        nameSeparator();
+        return name;
+    }
+
+    /**
+     * Consumes the colon between a member name read with {@link #nextString()} and its value.
+     */
+    void nameSeparator() {
+        expect(':');
+    }
+
+    /**
+     * Skips whitespace and returns the offset of the next token, for copying raw tokens out of the buffer.
+     */
+    int tokenStart() {
+        skipWhitespace();
+        return position;
+    }
+
+    /**
+     * Returns the offset right after the last token read.
+     */
+    int position() {
+        return position;
+    }
+
+    String nextString() {
+        skipWhitespace();
+        expect('"');
+        int start = position;
+        int end = scanString();
+        if (end < 0) {
+            return readEscapedString();
+        }
+        position = end + 1;
+        return new String(buffer, start, end - start, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a number and returns its literal text.
+     */
+    String nextNumber() {
+        skipWhitespace();
+        int start = position;
+        scanNumber();
+        return new String(buffer, start, position - start, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Reads an integral number, or a string holding one, as a long.
+     * Fractions and exponents are accepted as long as the value is integral, like Gson's {@code nextLong()}.
+     */
+    long nextLong() {
+        byte kind = peek();
+        if (kind == STRING) {
+            return parseLong(nextString());
+        }
+        int start = position;
+        boolean negative = buffer[position] == '-';
+        boolean simple = scanNumber() && position - start <= (negative ? 19 : 18);
+        if (!simple) {
+            return parseLong(new String(buffer, start, position - start, StandardCharsets.ISO_8859_1));
+        }
+        long value = 0;
+        for (int i = negative ? start + 1 : start; i < position; i++) {
+            value = value * 10 + (buffer[i] - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    /**
+     * Reads a number, or a string holding one, as a double.
+     */
+    double nextDouble() {
+        String text = peek() == STRING ? nextString() : nextNumber();
+        try {
+            return Double.parseDouble(text);
+        } catch (NumberFormatException e) {
+            throw new JsonCodecException("Expected a double but was \"" + text + "\" at offset " + position, e);
+        }
+    }
+
+    boolean nextBoolean() {
+        byte kind = peek();
+        if (kind == TRUE) {
+            literal(TRUE_LITERAL);
+            return true;
+        }
+        if (kind == FALSE) {
+            literal(FALSE_LITERAL);
+            return false;
+        }
+        throw syntaxError("Expected a boolean");
+    }
+
+    void nextNull() {
+        if (peek() != NULL) {
+            throw syntaxError("Expected null");
+        }
+        literal(NULL_LITERAL);
+    }
+
+    /**
+     * Skips the next value, including nested objects and arrays.
+     */
+    void skipValue() {
+        byte kind = peek();
+        switch (kind) {
+            case STRING -> {
+                position++;
+                skipString();
+            }
+            case NUMBER -> scanNumber();
+            case TRUE -> literal(TRUE_LITERAL);
+            case FALSE -> literal(FALSE_LITERAL);
+            case NULL -> literal(NULL_LITERAL);
+            default -> skipNested();
+        }
+    }
+
+    private void skipNested() {
+        int nesting = 0;
+        while (position < limit) {
+            byte b = buffer[position++];
+            switch (b) {
+                case '{', '[' -> nesting++;
+                case '}', ']' -> {
+                    if (--nesting == 0) {
+                        return;
+                    }
+                }
+                case '"' -> skipString();
+                default -> {
+                }
+            }
+        }
+        throw syntaxError("Unterminated object or array");
+    }
+
+    /**
+     * Finds the closing quote of the string starting at the current position.
+     *
+     * @return The index of the closing quote, or -1 if an escape comes first.
+     */
+    private int scanString() {
+        for (int i = position; i < limit; i++) {
+            byte b = buffer[i];
+            if (b == '"') {
+                return i;
+            }
+            if (b == '\\') {
+                return -1;
+            }
+        }
+        throw syntaxError("Unterminated string");
+    }
+
+    private void skipString() {
+        while (position < limit) {
+            byte b = buffer[position++];
+            if (b == '"') {
+                return;
+            }
+            if (b == '\\') {
+                position++;
+            }
+        }
+        throw syntaxError("Unterminated string");
+    }
+
+    /**
+     * Decodes a string with escape sequences, starting right after the opening quote.
+     */
+    private String readEscapedString() {
+        StringBuilder builder = new StringBuilder();
+        int segmentStart = position;
+        while (position < limit) {
+            byte b = buffer[position];
+            if (b == '"') {
+                builder.append(new String(buffer, segmentStart, position - segmentStart, StandardCharsets.UTF_8));
+                position++;
+                return builder.toString();
+            }
+            if (b != '\\') {
+                position++;
+                continue;
+            }
+
+            builder.append(new String(buffer, segmentStart, position - segmentStart, StandardCharsets.UTF_8));
+            if (position + 1 >= limit) {
+                break;
+            }
+            byte escaped = buffer[position + 1];
+            position += 2;
+            switch (escaped) {
+                case '"', '\\', '/' -> builder.append((char) escaped);
+                case 'b' -> builder.append('\b');
+                case 'f' -> builder.append('\f');
+                case 'n' -> builder.append('\n');
+                case 'r' -> builder.append('\r');
+                case 't' -> builder.append('\t');
+                case 'u' -> builder.append(unicodeEscape());
+                default -> throw syntaxError("Invalid escape sequence");
+            }
+            segmentStart = position;
+        }
+        throw syntaxError("Unterminated string");
+    }
+
+    private char unicodeEscape() {
+        if (position + 4 > limit) {
+            throw syntaxError("Unterminated escape sequence");
+        }
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(buffer[position++], 16);
+            if (digit < 0) {
+                throw syntaxError("Invalid unicode escape");
+            }
+            value = (value << 4) | digit;
+        }
+        return (char) value;
+    }
+
+    /**
+     * Consumes a number following the JSON grammar.
+     *
+     * @return Whether the number is a plain integer, without fraction or exponent.
+     */
+    private boolean scanNumber() {
+        int start = position;
+        if (position < limit && buffer[position] == '-') {
+            position++;
+        }
+        int integerStart = position;
+        skipDigits();
+        if (position == integerStart || (buffer[integerStart] == '0' && position - integerStart > 1)) {
+            position = start;
+            throw syntaxError("Invalid number");
+        }
+        boolean plain = true;
+        if (position < limit && buffer[position] == '.') {
+            position++;
+            plain = false;
+            requireDigits();
+        }
+        if (position < limit && (buffer[position] == 'e' || buffer[position] == 'E')) {
+            position++;
+            plain = false;
+            if (position < limit && (buffer[position] == '+' || buffer[position] == '-')) {
+                position++;
+            }
+            requireDigits();
+        }
+        requireDelimiter();
+        return plain;
+    }
+
+    private void skipDigits() {
+        while (position < limit && buffer[position] >= '0' && buffer[position] <= '9') {
+            position++;
+        }
+    }
+
+    private void requireDigits() {
+        int start = position;
+        skipDigits();
+        if (position == start) {
+            throw syntaxError("Invalid number");
+        }
+    }
+
+    private void literal(byte[] literal) {
+        if (position + literal.length > limit
+                || !Arrays.equals(buffer, position, position + literal.length, literal, 0, literal.length)) {
+            throw syntaxError("Invalid literal");
+        }
+        position += literal.length;
+        requireDelimiter();
+    }
+
+    /**
+     * Requires that a scalar is followed by whitespace, a structural character or the end of input.
+     */
+    private void requireDelimiter() {
+        if (position == limit) {
+            return;
+        }
+        switch (buffer[position]) {
+            case ' ', '\t', '\n', '\r', ',', ':', '}', ']' -> {
+            }
+            default -> throw syntaxError("Unexpected character after value");
+        }
+    }
+
+    private static long parseLong(String text) {
+        try {
+            return Long.parseLong(text);
+        } catch (NumberFormatException e) {
+            try {
+                double value = Double.parseDouble(text);
+                long integral = (long) value;
+                if (integral == value) {
+                    return integral;
+                }
+            } catch (NumberFormatException ignored) {
+                // reported below
+            }
+            throw new JsonCodecException("Expected an integer but was \"" + text + "\"", e);
+        }
+    }
+
+    private void push() {
+        depth++;
+        if (depth == nonEmpty.length) {
+            nonEmpty = Arrays.copyOf(nonEmpty, depth * 2);
+        }
+        nonEmpty[depth] = false;
+    }
+
+    private void expect(char c) {
+        skipWhitespace();
+        if (position == limit || buffer[position] != c) {
+            throw syntaxError("Expected '" + c + "'");
+        }
+        position++;
+    }
+
+    private void skipWhitespace() {
+        while (position < limit) {
+            byte b = buffer[position];
+            if (b != ' ' && b != '\t' && b != '\n' && b != '\r') {
+                return;
+            }
+            position++;
+        }
+    }
+
+    JsonCodecException syntaxError(String message) {
+        return new JsonCodecException(message + " at offset " + position);
+    }
+}
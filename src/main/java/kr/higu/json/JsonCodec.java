@@ -0,0 +1,156 @@
+package kr.higu.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ServiceLoader;
+
+/**
+ * Service provider interface for the JSON handling done by the request classes.
+ * <p>
+ * A codec decodes response bodies into the response records, extracts error fields from error bodies
+ * and encodes the small JSON values sent in requests (e.g. Kakao {@code property_keys}).
+ * Two implementations are provided: {@link GsonJsonCodec} (the default) and {@link BuiltInJsonCodec}.
+ * </p>
+ * <p>
+ * A codec is chosen per client with {@code KakaoClient.create(IHttpManager, JsonCodec)}, or globally
+ * by registering an implementation in {@code META-INF/services/kr.higu.json.JsonCodec}.
+ * Implementations must be thread-safe.
+ * Malformed JSON is reported with a {@link JsonCodecException}.
+ * </p>
+ *
+ * @author higukang
+ */
+public interface JsonCodec {
+
+    /**
+     * Decodes a UTF-8 JSON body held in a byte array region.
+     *
+     * @param bytes  The buffer holding the body.
+     * @param offset The start of the body in the buffer.
+     * @param length The length of the body in bytes.
+     * @param type   The type to decode into.
+     * @param <T>    The decoded type.
+     * @return The decoded value, or null if the body is empty or {@code null}.
+     * @throws IOException        If reading the body fails.
+     * @throws JsonCodecException If the body is not valid JSON for the type.
+     */
+    <T> T decode(byte[] bytes, int offset, int length, Class<T> type) throws IOException;
+
+    /**
+     * Decodes a JSON body held in a String.
+     *
+     * @param json The JSON body.
+     * @param type The type to decode into.
+     * @param <T>  The decoded type.
+     * @return The decoded value, or null if the body is empty or {@code null}.
+     * @throws JsonCodecException If the body is not valid JSON for the type.
+     */
+    <T> T decode(String json, Class<T> type);
+
+    /**
+     * Decodes a UTF-8 JSON body from a stream.
+     * The default implementation reads the whole stream and delegates to {@link #decode(byte[], int, int, Class)}.
+     *
+     * @param body The body stream.
+     * @param type The type to decode into.
+     * @param <T>  The decoded type.
+     * @return The decoded value, or null if the body is empty or {@code null}.
+     * @throws IOException        If reading the stream fails.
+     * @throws JsonCodecException If the body is not valid JSON for the type.
+     */
+    default <T> T decode(InputStream body, Class<T> type) throws IOException {
+        byte[] bytes = body.readAllBytes();
+        return decode(bytes, 0, bytes.length, type);
+    }
+
+    /**
+     * Decodes only the members selected by a projection from a UTF-8 JSON body held in a byte array region.
+     * <p>
+     * Members outside the projection are left null (or zero) in the result.
+     * The default implementation copies the selected members into a smaller document
+     * and decodes that with {@link #decode(byte[], int, int, Class)}; codecs that can skip members
+     * while decoding should override it.
+     * </p>
+     *
+     * @param bytes      The buffer holding the body.
+     * @param offset     The start of the body in the buffer.
+     * @param length     The length of the body in bytes.
+     * @param type       The type to decode into.
+     * @param projection The members to decode, or null to decode everything.
+     * @param <T>        The decoded type.
+     * @return The decoded value, or null if the body is empty or {@code null}.
+     * @throws IOException        If reading the body fails.
+     * @throws JsonCodecException If the body is not valid JSON for the type.
+     */
+    default <T> T decode(byte[] bytes, int offset, int length, Class<T> type, JsonProjection projection) throws IOException {
+        if (projection == null || projection.includesAll()) {
+            return decode(bytes, offset, length, type);
+        }
+        JsonProjection.Filtered filtered = projection.filter(bytes, offset, length);
+        return decode(filtered.bytes(), 0, filtered.length(), type);
+    }
+
+    /**
+     * Decodes only the members selected by a projection from a JSON body held in a String.
+     *
+     * @param json       The JSON body.
+     * @param type       The type to decode into.
+     * @param projection The members to decode, or null to decode everything.
+     * @param <T>        The decoded type.
+     * @return The decoded value, or null if the body is empty or {@code null}.
+     * @throws JsonCodecException If the body is not valid JSON for the type.
+     * @see #decode(byte[], int, int, Class, JsonProjection)
+     */
+    default <T> T decode(String json, Class<T> type, JsonProjection projection) {
+        if (projection == null || projection.includesAll()) {
+            return decode(json, type);
+        }
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        try {
+            return decode(bytes, 0, bytes.length, type, projection);
+        } catch (IOException e) {
+            throw new JsonCodecException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Encodes a value as JSON. Null members are omitted.
+     *
+     * @param value The value to encode.
+     * @return The JSON text.
+     */
+    String encode(Object value);
+
+    /**
+     * Encodes strings as a JSON array, e.g. {@code ["kakao_account.email","properties.nickname"]}.
+     *
+     * @param values The array elements.
+     * @return The JSON array text.
+     */
+    String encodeStringArray(String... values);
+
+    /**
+     * Reads top-level scalar members of a JSON object in one pass.
+     * <p>
+     * Strings and numbers are returned as their text, booleans as {@code "true"}/{@code "false"}.
+     * Members that are missing, {@code null}, objects or arrays are returned as null.
+     * </p>
+     *
+     * @param json  The JSON object text.
+     * @param names The member names to read.
+     * @return The values, index-aligned with {@code names}.
+     * @throws JsonCodecException If the text is not a valid JSON object.
+     */
+    String[] readScalars(String json, String... names);
+
+    /**
+     * Returns the default codec.
+     * This is the first implementation registered through {@link ServiceLoader}, or {@link GsonJsonCodec} if there is none.
+     *
+     * @return The default codec.
+     */
+    static JsonCodec getDefault() {
+        return DefaultCodecHolder.INSTANCE;
+    }
+}
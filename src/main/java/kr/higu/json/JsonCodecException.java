@@ -0,0 +1,31 @@
+package kr.higu.json;
+
+/**
+ * Exception thrown by a {@link JsonCodec} when a body is not valid JSON or does not match the target type.
+ * <p>
+ * The request classes report it to callers as an {@link kr.higu.exceptions.detailed.OAuthParsingException}.
+ * </p>
+ *
+ * @author higukang
+ */
+public class JsonCodecException extends RuntimeException {
+
+    /**
+     * Constructs a new JsonCodecException with the specified detail message.
+     *
+     * @param message The detail message describing the malformed input.
+     */
+    public JsonCodecException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new JsonCodecException with the specified detail message and cause.
+     *
+     * @param message The detail message describing the malformed input.
+     * @param cause   The underlying parser exception.
+     */
+    public JsonCodecException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,207 @@
+package kr.higu.json;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Selects the members of a JSON document that should be decoded, by dot-separated paths
+ * such as {@code "kakao_account.email"}.
+ * <p>
+ * A path includes the member it names with everything below it, and the objects on the way to it
+ * with only the selected members. Members that are not selected are skipped without being decoded
+ * and are left null (or zero) in the decoded record. A projection applied to an array applies to each element.
+ * </p>
+ * <p>
+ * {@link BuiltInJsonCodec} skips unselected members while decoding. Other codecs use the default
+ * {@link JsonCodec#decode(byte[], int, int, Class, JsonProjection)}, which first copies the selected members
+ * into a smaller document.
+ * </p>
+ * Instances are immutable and can be shared.
+ *
+ * @author higukang
+ */
+public final class JsonProjection {
+    /** Selects a whole value. */
+    static final JsonProjection ALL = new JsonProjection(null);
+
+    /** Selected members and their projections, or null if everything is selected. */
+    private final Map<String, JsonProjection> members;
+
+    private JsonProjection(Map<String, JsonProjection> members) {
+        this.members = members;
+    }
+
+    /**
+     * Creates a projection selecting the given paths.
+     *
+     * @param paths Dot-separated member paths, e.g. {@code "id"} or {@code "kakao_account.profile"}.
+     * @return The projection.
+     */
+    public static JsonProjection of(String... paths) {
+        return of(Arrays.asList(paths));
+    }
+
+    /**
+     * Creates a projection selecting the given paths.
+     *
+     * @param paths Dot-separated member paths, e.g. {@code "id"} or {@code "kakao_account.profile"}.
+     * @return The projection.
+     */
+    public static JsonProjection of(Collection<String> paths) {
+        Map<String, Object> root = new HashMap<>();
+        for (String path : paths) {
+            Map<String, Object> node = root;
+            List<String> names = List.of(path.split("\\."));
+            for (int i = 0; i < names.size(); i++) {
+                String name = names.get(i);
+                Object existing = node.get(name);
+                if (existing == ALL) {
+                    break;
+                }
+                if (i == names.size() - 1) {
+                    node.put(name, ALL);
+                    break;
+                }
+                if (existing == null) {
+                    existing = new HashMap<String, Object>();
+                    node.put(name, existing);
+                }
+                @SuppressWarnings("unchecked")
+                Map<String, Object> child = (Map<String, Object>) existing;
+                node = child;
+            }
+        }
+        return freeze(root);
+    }
+
+    private static JsonProjection freeze(Map<String, Object> node) {
+        Map<String, JsonProjection> members = new HashMap<>();
+        for (Map.Entry<String, Object> entry : node.entrySet()) {
+            Object value = entry.getValue();
+            @SuppressWarnings("unchecked")
+            JsonProjection member = value == ALL ? ALL : freeze((Map<String, Object>) value);
+            members.put(entry.getKey(), member);
+        }
+        return new JsonProjection(Map.copyOf(members));
+    }
+
+    /**
+     * Returns whether the whole value is selected.
+     */
+    boolean includesAll() {
+        return members == null;
+    }
+
+    /**
+     * Returns the projection for a member, or null if the member is not selected.
+     */
+    JsonProjection member(String name) {
+        return members == null ? ALL : members.get(name);
+    }
+
+    /**
+     * Copies the selected members of a UTF-8 JSON document into a new, smaller document.
+     * Selected values are copied byte for byte.
+     *
+     * @return The filtered document; its length may be shorter than the returned array.
+     */
+    Filtered filter(byte[] bytes, int offset, int length) {
+        Filtered out = new Filtered(Math.min(length, 1024));
+        JsonByteReader reader = new JsonByteReader(bytes, offset, length);
+        if (!reader.isEmptyDocument()) {
+            filterValue(reader, bytes, this, out);
+            reader.endDocument();
+        }
+        return out;
+    }
+
+    private static void filterValue(JsonByteReader reader, byte[] bytes, JsonProjection projection, Filtered out) {
+        byte kind = reader.peek();
+        if (projection.includesAll() || (kind != JsonByteReader.OBJECT && kind != JsonByteReader.ARRAY)) {
+            int start = reader.tokenStart();
+            reader.skipValue();
+            out.write(bytes, start, reader.position() - start);
+            return;
+        }
+
+        boolean first = true;
+        if (kind == JsonByteReader.ARRAY) {
+            reader.beginArray();
+            out.write('[');
+            while (reader.hasNext()) {
+                if (!first) {
+                    out.write(',');
+                }
+                first = false;
+                filterValue(reader, bytes, projection, out);
+            }
+            reader.endArray();
+            out.write(']');
+            return;
+        }
+
+        reader.beginObject();
+        out.write('{');
+        while (reader.hasNext()) {
+            int nameStart = reader.tokenStart();
+            String name = reader.nextString();
+            int nameEnd = reader.position();
+            reader.nameSeparator();
+
+            JsonProjection member = projection.member(name);
+            if (member == null) {
+                reader.skipValue();
+                continue;
+            }
+            if (!first) {
+                out.write(',');
+            }
+            first = false;
+            out.write(bytes, nameStart, nameEnd - nameStart);
+            out.write(':');
+            filterValue(reader, bytes, member, out);
+        }
+        reader.endObject();
+        out.write('}');
+    }
+
+    /**
+     * Growable byte buffer holding a filtered document.
+     */
+    static final class Filtered {
+        private byte[] bytes;
+        private int length;
+
+        Filtered(int capacity) {
+            this.bytes = new byte[Math.max(capacity, 16)];
+        }
+
+        byte[] bytes() {
+            return bytes;
+        }
+
+        int length() {
+            return length;
+        }
+
+        private void write(int b) {
+            ensureCapacity(1);
+            bytes[length++] = (byte) b;
+        }
+
+        private void write(byte[] source, int offset, int count) {
+            ensureCapacity(count);
+            System.arraycopy(source, offset, bytes, length, count);
+            length += count;
+        }
+
+        private void ensureCapacity(int additional) {
+            if (length + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + additional));
+            }
+        }
+    }
+}
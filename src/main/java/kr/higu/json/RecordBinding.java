@@ -0,0 +1,478 @@
+package kr.higu.json;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.annotations.SerializedName;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads and writes one record type for {@link BuiltInJsonCodec}.
+ * <p>
+ * The record shape is resolved once per type: JSON names and alternates come from {@code @SerializedName},
+ * the canonical constructor and accessors are bound as method handles.
+ * Component values follow Gson's coercions (a JSON number read into a String, {@code "true"} into a Boolean).
+ * Components typed {@link JsonObject} or {@link JsonElement} are materialized as Gson trees,
+ * since that is the type the response records expose. {@link List} components hold any of these as elements.
+ * </p>
+ *
+ * @param <T> The record type.
+ * @author higukang
+ */
+final class RecordBinding<T> {
+    private static final ClassValue<RecordBinding<?>> BINDINGS = new ClassValue<>() {
+        @Override
+        protected RecordBinding<?> computeValue(Class<?> type) {
+            return new RecordBinding<>(type);
+        }
+    };
+
+    private enum Kind {STRING, BOOLEAN, INTEGER, LONG, DOUBLE, RECORD, JSON_OBJECT, JSON_ELEMENT, LIST}
+
+    /**
+     * A record component, or the element of a {@link List} component ({@code element} of its owner, without accessor).
+     */
+    private record Component(String jsonName, Class<?> type, Kind kind, boolean primitive, MethodHandle accessor,
+                             Component element) {}
+
+    private final Class<T> type;
+    private final Component[] components;
+    private final byte[][] rawNames;
+    private final String[] names;
+    /** Index of the component each entry of {@link #names} belongs to. */
+    private final int[] componentIndex;
+    private final Object[] defaults;
+    private final MethodHandle constructor;
+
+    /**
+     * Returns the binding for a record type, resolving it on first use.
+     *
+     * @throws JsonCodecException If the type is not a record or has a component type the codec does not support.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> RecordBinding<T> of(Class<T> type) {
+        try {
+            return (RecordBinding<T>) BINDINGS.get(type);
+        } catch (IllegalArgumentException e) {
+            throw new JsonCodecException(e.getMessage(), e);
+        }
+    }
+
+    private RecordBinding(Class<T> type) {
+        if (!type.isRecord()) {
+            throw new IllegalArgumentException("[K-OAuth] BuiltInJsonCodec only supports records: " + type.getName());
+        }
+        this.type = type;
+
+        RecordComponent[] recordComponents = type.getRecordComponents();
+        this.components = new Component[recordComponents.length];
+        this.defaults = new Object[recordComponents.length];
+        List<String> jsonNames = new ArrayList<>();
+        List<Integer> owners = new ArrayList<>();
+        Class<?>[] parameterTypes = new Class<?>[recordComponents.length];
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        try {
+            for (int i = 0; i < recordComponents.length; i++) {
+                RecordComponent recordComponent = recordComponents[i];
+                Class<?> componentType = recordComponent.getType();
+                parameterTypes[i] = componentType;
+
+                SerializedName serializedName = serializedName(type, recordComponent);
+                String jsonName = serializedName == null ? recordComponent.getName() : serializedName.value();
+                jsonNames.add(jsonName);
+                owners.add(i);
+                if (serializedName != null) {
+                    for (String alternate : serializedName.alternate()) {
+                        jsonNames.add(alternate);
+                        owners.add(i);
+                    }
+                }
+
+                recordComponent.getAccessor().setAccessible(true);
+                components[i] = new Component(jsonName, componentType, kindOf(type, componentType),
+                        componentType.isPrimitive(), lookup.unreflect(recordComponent.getAccessor()),
+                        elementOf(type, recordComponent, jsonName));
+                defaults[i] = defaultValue(componentType);
+            }
+
+            Constructor<T> canonical = type.getDeclaredConstructor(parameterTypes);
+            canonical.setAccessible(true);
+            this.constructor = lookup.unreflectConstructor(canonical)
+                    .asSpreader(Object[].class, parameterTypes.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            throw new IllegalArgumentException("[K-OAuth] Cannot bind record " + type.getName() + ": " + e.getMessage(), e);
+        }
+
+        this.names = jsonNames.toArray(String[]::new);
+        this.rawNames = new byte[names.length][];
+        this.componentIndex = new int[names.length];
+        for (int i = 0; i < names.length; i++) {
+            rawNames[i] = names[i].getBytes(StandardCharsets.UTF_8);
+            componentIndex[i] = owners.get(i);
+        }
+    }
+
+    private static SerializedName serializedName(Class<?> type, RecordComponent component) {
+        try {
+            Field field = type.getDeclaredField(component.getName());
+            SerializedName annotation = field.getAnnotation(SerializedName.class);
+            return annotation != null ? annotation : component.getAccessor().getAnnotation(SerializedName.class);
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Resolves the element of a {@code List<E>} component, where {@code E} is a class of a supported kind.
+     *
+     * @return The element, or null if the component is not a list.
+     */
+    private static Component elementOf(Class<?> owner, RecordComponent component, String jsonName) {
+        if (component.getType() != List.class) {
+            return null;
+        }
+        if (component.getGenericType() instanceof ParameterizedType parameterized
+                && parameterized.getActualTypeArguments()[0] instanceof Class<?> elementType
+                && elementType != List.class) {
+            return new Component(jsonName, elementType, kindOf(owner, elementType), false, null, null);
+        }
+        throw new IllegalArgumentException("[K-OAuth] BuiltInJsonCodec does not support component type "
+                + component.getGenericType().getTypeName() + " in " + owner.getName());
+    }
+
+    private static Kind kindOf(Class<?> owner, Class<?> componentType) {
+        if (componentType == String.class) return Kind.STRING;
+        if (componentType == Boolean.class || componentType == boolean.class) return Kind.BOOLEAN;
+        if (componentType == Integer.class || componentType == int.class) return Kind.INTEGER;
+        if (componentType == Long.class || componentType == long.class) return Kind.LONG;
+        if (componentType == Double.class || componentType == double.class) return Kind.DOUBLE;
+        if (componentType == JsonObject.class) return Kind.JSON_OBJECT;
+        if (componentType == JsonElement.class) return Kind.JSON_ELEMENT;
+        if (componentType.isRecord()) return Kind.RECORD;
+        if (componentType == List.class) return Kind.LIST;
+        throw new IllegalArgumentException("[K-OAuth] BuiltInJsonCodec does not support component type "
+                + componentType.getName() + " in " + owner.getName());
+    }
+
+    private static Object defaultValue(Class<?> componentType) {
+        if (componentType == boolean.class) return false;
+        if (componentType == int.class) return 0;
+        if (componentType == long.class) return 0L;
+        if (componentType == double.class) return 0D;
+        return null;
+    }
+
+    /**
+     * Reads the record, or null for a JSON {@code null}.
+     * Members outside the projection are skipped and their components keep the default value.
+     */
+    T read(JsonByteReader reader, JsonProjection projection) {
+        if (reader.peek() == JsonByteReader.NULL) {
+            reader.nextNull();
+            return null;
+        }
+
+        Object[] values = defaults.clone();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            int nameIndex = reader.nextName(rawNames, names);
+            if (nameIndex < 0) {
+                reader.skipValue();
+                continue;
+            }
+            int index = componentIndex[nameIndex];
+            Component component = components[index];
+            JsonProjection member = projection.member(component.jsonName());
+            if (member == null) {
+                reader.skipValue();
+                continue;
+            }
+            Object value = readValue(reader, component, member);
+            if (value == null && component.primitive()) {
+                throw new JsonCodecException("null is not allowed as value for primitive record component '"
+                        + component.jsonName() + "' of " + type.getName());
+            }
+            values[index] = value;
+        }
+        reader.endObject();
+        return construct(values);
+    }
+
+    private static Object readValue(JsonByteReader reader, Component component, JsonProjection projection) {
+        byte kind = reader.peek();
+        if (kind == JsonByteReader.NULL && component.kind() != Kind.JSON_ELEMENT) {
+            reader.nextNull();
+            return null;
+        }
+        switch (component.kind()) {
+            case STRING:
+                if (kind == JsonByteReader.STRING) return reader.nextString();
+                if (kind == JsonByteReader.NUMBER) return reader.nextNumber();
+                if (kind == JsonByteReader.TRUE || kind == JsonByteReader.FALSE) return String.valueOf(reader.nextBoolean());
+                throw reader.syntaxError("Expected a string");
+            case BOOLEAN:
+                return kind == JsonByteReader.STRING ? Boolean.parseBoolean(reader.nextString()) : reader.nextBoolean();
+            case INTEGER:
+                long value = reader.nextLong();
+                if (value != (int) value) {
+                    throw reader.syntaxError("Integer out of range: " + value);
+                }
+                return (int) value;
+            case LONG:
+                return reader.nextLong();
+            case DOUBLE:
+                return reader.nextDouble();
+            case RECORD:
+                return of(component.type()).read(reader, projection);
+            case JSON_OBJECT:
+                if (kind != JsonByteReader.OBJECT) {
+                    throw reader.syntaxError("Expected an object");
+                }
+                return readTree(reader, projection);
+            case LIST:
+                if (kind != JsonByteReader.ARRAY) {
+                    throw reader.syntaxError("Expected an array");
+                }
+                List<Object> list = new ArrayList<>();
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    list.add(readValue(reader, component.element(), projection));
+                }
+                reader.endArray();
+                return list;
+            default:
+                return readTree(reader, projection);
+        }
+    }
+
+    /**
+     * Materializes the next value as a Gson tree, with numbers kept as their literal text like Gson does.
+     * Object members outside the projection are skipped.
+     */
+    static JsonElement readTree(JsonByteReader reader, JsonProjection projection) {
+        switch (reader.peek()) {
+            case JsonByteReader.OBJECT: {
+                JsonObject object = new JsonObject();
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String name = reader.nextName();
+                    JsonProjection member = projection.member(name);
+                    if (member == null) {
+                        reader.skipValue();
+                        continue;
+                    }
+                    object.add(name, readTree(reader, member));
+                }
+                reader.endObject();
+                return object;
+            }
+            case JsonByteReader.ARRAY: {
+                JsonArray array = new JsonArray();
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    array.add(readTree(reader, projection));
+                }
+                reader.endArray();
+                return array;
+            }
+            case JsonByteReader.STRING:
+                return new JsonPrimitive(reader.nextString());
+            case JsonByteReader.NUMBER:
+                return new JsonPrimitive(new LiteralNumber(reader.nextNumber()));
+            case JsonByteReader.NULL:
+                reader.nextNull();
+                return JsonNull.INSTANCE;
+            default:
+                return new JsonPrimitive(reader.nextBoolean());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T construct(Object[] values) {
+        try {
+            return (T) (Object) constructor.invokeExact(values);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new JsonCodecException("[K-OAuth] Failed to construct " + type.getName() + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Writes the record as a JSON object, omitting null components.
+     */
+    void write(T value, StringBuilder out) {
+        out.append('{');
+        boolean first = true;
+        for (Component component : components) {
+            Object componentValue = get(component, value);
+            if (componentValue == null) {
+                continue;
+            }
+            if (!first) {
+                out.append(',');
+            }
+            first = false;
+            writeString(component.jsonName(), out);
+            out.append(':');
+            writeValue(componentValue, out);
+        }
+        out.append('}');
+    }
+
+    private Object get(Component component, T value) {
+        try {
+            return component.accessor().invoke(value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new JsonCodecException("[K-OAuth] Failed to read " + type.getName() + "." + component.jsonName(), e);
+        }
+    }
+
+    /**
+     * Writes any value the codec can encode: records, Gson trees, strings, numbers, booleans, arrays and collections.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static void writeValue(Object value, StringBuilder out) {
+        if (value == null || value instanceof JsonNull) {
+            out.append("null");
+        } else if (value instanceof String string) {
+            writeString(string, out);
+        } else if (value instanceof Number || value instanceof Boolean) {
+            out.append(value);
+        } else if (value instanceof JsonPrimitive primitive) {
+            if (primitive.isString()) {
+                writeString(primitive.getAsString(), out);
+            } else {
+                out.append(primitive.getAsString());
+            }
+        } else if (value instanceof JsonObject object) {
+            out.append('{');
+            boolean first = true;
+            for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                writeString(entry.getKey(), out);
+                out.append(':');
+                writeValue(entry.getValue(), out);
+            }
+            out.append('}');
+        } else if (value instanceof Iterable<?> iterable) {
+            out.append('[');
+            boolean first = true;
+            for (Object element : iterable) {
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                writeValue(element, out);
+            }
+            out.append(']');
+        } else if (value instanceof Object[] array) {
+            writeValue(List.of(array), out);
+        } else if (value.getClass().isRecord()) {
+            ((RecordBinding) of(value.getClass())).write(value, out);
+        } else {
+            throw new JsonCodecException("[K-OAuth] BuiltInJsonCodec cannot encode " + value.getClass().getName());
+        }
+    }
+
+    static void writeString(String value, StringBuilder out) {
+        out.append('"');
+        int segmentStart = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\' && c != '\u2028' && c != '\u2029') {
+                continue;
+            }
+            out.append(value, segmentStart, i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                case '\b' -> out.append("\\b");
+                case '\f' -> out.append("\\f");
+                default -> out.append(String.format("\\u%04x", (int) c));
+            }
+            segmentStart = i + 1;
+        }
+        out.append(value, segmentStart, value.length()).append('"');
+    }
+
+    /**
+     * A JSON number kept as its literal text and converted when read, so a tree holds the number exactly as sent.
+     */
+    private static final class LiteralNumber extends Number {
+        private static final long serialVersionUID = 1L;
+
+        private final String text;
+
+        LiteralNumber(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public int intValue() {
+            try {
+                return Integer.parseInt(text);
+            } catch (NumberFormatException e) {
+                return (int) longValue();
+            }
+        }
+
+        @Override
+        public long longValue() {
+            try {
+                return Long.parseLong(text);
+            } catch (NumberFormatException e) {
+                return new BigDecimal(text).longValue();
+            }
+        }
+
+        @Override
+        public float floatValue() {
+            return Float.parseFloat(text);
+        }
+
+        @Override
+        public double doubleValue() {
+            return Double.parseDouble(text);
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof LiteralNumber number && text.equals(number.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return text.hashCode();
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package kr.higu.json;
+
+import java.io.Reader;
+
+/**
+ * {@link Reader} that decodes UTF-8 directly from a byte array region.
+ * <p>
+ * Unlike {@link java.io.InputStreamReader}, it needs no intermediate byte buffer or {@link java.nio.charset.CharsetDecoder},
+ * which keeps per-response allocation down when a JSON reader parses a pooled response buffer.
+ * Malformed sequences are replaced with U+FFFD, like the default {@code InputStreamReader} behavior.
+ * </p>
+ * Not thread-safe.
+ *
+ * @author higukang
+ */
+final class Utf8Reader extends Reader {
+    private static final char REPLACEMENT = '\uFFFD';
+
+    private final byte[] bytes;
+    private final int limit;
+    private int position;
+    /** Low surrogate of a supplementary character that did not fit into the previous read. */
+    private char pendingLowSurrogate;
+
+    Utf8Reader(byte[] bytes, int offset, int length) {
+        this.bytes = bytes;
+        this.position = offset;
+        this.limit = offset + length;
+    }
+
+    @Override
+    public int read(char[] buffer, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+        int count = 0;
+        if (pendingLowSurrogate != 0) {
+            buffer[offset + count++] = pendingLowSurrogate;
+            pendingLowSurrogate = 0;
+        }
+        while (count < length && position < limit) {
+            int lead = bytes[position];
+            // ASCII fast path
+            if (lead >= 0) {
+                buffer[offset + count++] = (char) lead;
+                position++;
+                continue;
+            }
+
+            // Valid range of the second byte per lead byte (RFC 3629), which rules out
+            // overlong forms, surrogates and code points above U+10FFFF.
+            int continuationCount;
+            int codePoint;
+            int secondMin = 0x80;
+            int secondMax = 0xBF;
+            int unsignedLead = lead & 0xFF;
+            if (unsignedLead >= 0xC2 && unsignedLead <= 0xDF) {
+                continuationCount = 1;
+                codePoint = lead & 0x1F;
+            } else if (unsignedLead >= 0xE0 && unsignedLead <= 0xEF) {
+                continuationCount = 2;
+                codePoint = lead & 0x0F;
+                if (unsignedLead == 0xE0) secondMin = 0xA0;
+                if (unsignedLead == 0xED) secondMax = 0x9F;
+            } else if (unsignedLead >= 0xF0 && unsignedLead <= 0xF4) {
+                continuationCount = 3;
+                codePoint = lead & 0x07;
+                if (unsignedLead == 0xF0) secondMin = 0x90;
+                if (unsignedLead == 0xF4) secondMax = 0x8F;
+            } else {
+                buffer[offset + count++] = REPLACEMENT;
+                position++;
+                continue;
+            }
+
+            int end = position + 1 + continuationCount;
+            int next = position + 1;
+            int min = secondMin;
+            int max = secondMax;
+            while (next < end && next < limit) {
+                int continuation = bytes[next] & 0xFF;
+                if (continuation < min || continuation > max) {
+                    break;
+                }
+                codePoint = (codePoint << 6) | (continuation & 0x3F);
+                next++;
+                min = 0x80;
+                max = 0xBF;
+            }
+            if (next < end) {
+                // Replace the maximal valid prefix of the broken sequence with a single U+FFFD.
+                buffer[offset + count++] = REPLACEMENT;
+                position = next;
+                continue;
+            }
+
+            position = end;
+            if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT) {
+                buffer[offset + count++] = (char) codePoint;
+            } else {
+                buffer[offset + count++] = Character.highSurrogate(codePoint);
+                if (count < length) {
+                    buffer[offset + count++] = Character.lowSurrogate(codePoint);
+                } else {
+                    pendingLowSurrogate = Character.lowSurrogate(codePoint);
+                }
+            }
+        }
+        return count == 0 ? -1 : count;
+    }
+
+    @Override
+    public void close() {
+    }
+}
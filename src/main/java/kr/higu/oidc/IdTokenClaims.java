@@ -0,0 +1,33 @@
+package kr.higu.oidc;
+
+import java.time.Instant;
+
+/**
+ * Claims of an ID token that passed {@link IdTokenVerifier#verify}.
+ * The profile claims are only present if the user consented to them.
+ *
+ * @see <a href="https://developers.kakao.com/docs/latest/ko/kakaologin/common#oidc-id-token">Kakao ID Token Documentation</a>
+ * @author higukang
+ */
+public record IdTokenClaims(
+        /** The issuer ({@code iss}). */
+        String issuer,
+        /** The app key the token was issued for ({@code aud}). */
+        String audience,
+        /** Unique identifier of the user ({@code sub}). */
+        String subject,
+        /** Issue time ({@code iat}), or null if absent. */
+        Instant issuedAt,
+        /** Expiry time ({@code exp}). */
+        Instant expiresAt,
+        /** Time the user authenticated ({@code auth_time}), or null if absent. */
+        Instant authTime,
+        /** The nonce sent with the authorization request, or null if none was sent. */
+        String nonce,
+        /** Nickname of the user, or null. */
+        String nickname,
+        /** Profile image URL of the user, or null. */
+        String picture,
+        /** Email of the user, or null. */
+        String email
+) {}
@@ -0,0 +1,262 @@
+package kr.higu.oidc;
+
+import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.exceptions.detailed.OAuthIdTokenException;
+import kr.higu.json.JsonCodec;
+import kr.higu.json.JsonCodecException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.LongSupplier;
+
+/**
+ * Verifies OpenID Connect ID tokens locally, without a call to the provider.
+ * <p>
+ * A token is accepted if it is an RS256-signed JWT whose signature matches a key of the {@link JwksKeyCache},
+ * its issuer and audience are the expected ones, it has not expired (allowing for {@code clockSkew}),
+ * and it carries the nonce of the authorization request when one is given.
+ * Keys come from the cache and each thread reuses its own {@link Signature}, so verifying a token
+ * takes one RSA verification and no network round trip.
+ * </p>
+ *
+ * <pre>{@code
+ * IdTokenVerifier verifier = IdTokenVerifier.builder(keys, "YOUR_REST_API_KEY").build();
+ *
+ * IdTokenClaims claims = verifier.verify(tokenResponse.idToken(), nonce);
+ * }</pre>
+ *
+ * @see <a href="https://developers.kakao.com/docs/latest/ko/kakaologin/rest-api#oidc-id-token-verify">Kakao ID Token Verification Documentation</a>
+ * @author higukang
+ */
+public final class IdTokenVerifier {
+    private static final String KAKAO_ISSUER = "https://kauth.kakao.com";
+    private static final String[] HEADER = {"alg", "kid"};
+    private static final String[] CLAIMS = {
+            "iss", "aud", "sub", "iat", "exp", "auth_time", "nonce", "nickname", "picture", "email"
+    };
+    private static final ThreadLocal<Signature> SIGNATURES = ThreadLocal.withInitial(() -> {
+        try {
+            return Signature.getInstance("SHA256withRSA");
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA256withRSA.
+            throw new IllegalStateException("[K-OAuth] SHA256withRSA is not available.", e);
+        }
+    });
+
+    private final JwksKeyCache keys;
+    private final String audience;
+    private final String issuer;
+    private final long clockSkewSeconds;
+    private final JsonCodec codec;
+    private final LongSupplier clock;
+
+    private IdTokenVerifier(Builder builder, LongSupplier clock) {
+        this.keys = builder.keys;
+        this.audience = builder.audience;
+        this.issuer = builder.issuer;
+        this.clockSkewSeconds = builder.clockSkew.toSeconds();
+        this.codec = builder.codec;
+        this.clock = clock;
+    }
+
+    /**
+     * @param keys     The provider's signing keys.
+     * @param audience The expected audience: the REST API key of the app.
+     * @return A builder initialized with the default settings.
+     * @throws OAuthValidationException If the key cache is null or the audience is blank.
+     */
+    public static Builder builder(JwksKeyCache keys, String audience) {
+        if (keys == null) {
+            throw new OAuthValidationException("[K-OAuth] JWKS key cache must not be null.");
+        }
+        if (audience == null || audience.isBlank()) {
+            throw new OAuthValidationException("[K-OAuth] ID token audience must not be blank.");
+        }
+        return new Builder(keys, audience);
+    }
+
+    /**
+     * Verifies a token issued without a nonce.
+     *
+     * @param idToken The {@code id_token} of the token response.
+     * @return The claims of the token.
+     * @throws OAuthIdTokenException If the token is malformed, its signature is invalid or a claim does not match.
+     * @throws OAuthException If the key is unknown and fetching the key set fails.
+     */
+    public IdTokenClaims verify(String idToken) throws OAuthException {
+        return verify(idToken, null);
+    }
+
+    /**
+     * @param idToken The {@code id_token} of the token response.
+     * @param nonce   The nonce sent with the authorization request, or null to skip the nonce check.
+     * @return The claims of the token.
+     * @throws OAuthIdTokenException If the token is malformed, its signature is invalid or a claim does not match.
+     * @throws OAuthException If the key is unknown and fetching the key set fails.
+     */
+    public IdTokenClaims verify(String idToken, String nonce) throws OAuthException {
+        if (idToken == null || idToken.isBlank()) {
+            throw new OAuthIdTokenException("[K-OAuth] ID token must not be blank.");
+        }
+        int first = idToken.indexOf('.');
+        int second = first < 0 ? -1 : idToken.indexOf('.', first + 1);
+        if (first <= 0 || second <= first + 1 || second == idToken.length() - 1 || idToken.indexOf('.', second + 1) >= 0) {
+            throw new OAuthIdTokenException("[K-OAuth] ID token is not a signed JWT.");
+        }
+
+        String[] header = decode(idToken.substring(0, first), HEADER);
+        if (!"RS256".equals(header[0])) {
+            throw new OAuthIdTokenException("[K-OAuth] Unsupported ID token algorithm: " + header[0]);
+        }
+        if (header[1] == null) {
+            throw new OAuthIdTokenException("[K-OAuth] ID token header has no key ID.");
+        }
+        PublicKey key = keys.key(header[1]);
+        if (key == null) {
+            throw new OAuthIdTokenException("[K-OAuth] ID token is signed with an unknown key: " + header[1]);
+        }
+        if (!signatureMatches(idToken, second, key)) {
+            throw new OAuthIdTokenException("[K-OAuth] ID token signature is invalid.");
+        }
+
+        String[] claims = decode(idToken.substring(first + 1, second), CLAIMS);
+        if (!issuer.equals(claims[0])) {
+            throw new OAuthIdTokenException("[K-OAuth] Unexpected ID token issuer: " + claims[0]);
+        }
+        if (!audience.equals(claims[1])) {
+            throw new OAuthIdTokenException("[K-OAuth] Unexpected ID token audience: " + claims[1]);
+        }
+        Long expiresAt = seconds(claims[4], "exp");
+        if (expiresAt == null) {
+            throw new OAuthIdTokenException("[K-OAuth] ID token has no expiry.");
+        }
+        long now = Math.floorDiv(clock.getAsLong(), 1000L);
+        if (now >= expiresAt + clockSkewSeconds) {
+            throw new OAuthIdTokenException("[K-OAuth] ID token has expired.");
+        }
+        if (nonce != null && !nonce.equals(claims[6])) {
+            throw new OAuthIdTokenException("[K-OAuth] ID token nonce does not match.");
+        }
+        return new IdTokenClaims(claims[0], claims[1], claims[2], instant(seconds(claims[3], "iat")),
+                Instant.ofEpochSecond(expiresAt), instant(seconds(claims[5], "auth_time")),
+                claims[6], claims[7], claims[8], claims[9]);
+    }
+
+    /**
+     * Verifies the signature over the ASCII bytes of {@code header.payload} with this thread's {@link Signature}.
+     */
+    private static boolean signatureMatches(String idToken, int second, PublicKey key) throws OAuthIdTokenException {
+        byte[] signed = idToken.substring(0, second).getBytes(StandardCharsets.US_ASCII);
+        byte[] signature;
+        try {
+            signature = Base64.getUrlDecoder().decode(idToken.substring(second + 1));
+        } catch (IllegalArgumentException e) {
+            throw new OAuthIdTokenException("[K-OAuth] ID token signature is not Base64url.", e);
+        }
+        Signature verifier = SIGNATURES.get();
+        try {
+            verifier.initVerify(key);
+            verifier.update(signed);
+            return verifier.verify(signature);
+        } catch (GeneralSecurityException e) {
+            throw new OAuthIdTokenException("[K-OAuth] Failed to verify ID token signature.", e);
+        }
+    }
+
+    private String[] decode(String segment, String[] names) throws OAuthIdTokenException {
+        try {
+            String json = new String(Base64.getUrlDecoder().decode(segment), StandardCharsets.UTF_8);
+            return codec.readScalars(json, names);
+        } catch (IllegalArgumentException | JsonCodecException e) {
+            throw new OAuthIdTokenException("[K-OAuth] ID token segment is not Base64url-encoded JSON.", e);
+        }
+    }
+
+    private static Long seconds(String value, String claim) throws OAuthIdTokenException {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new OAuthIdTokenException("[K-OAuth] ID token claim " + claim + " is not a number: " + value, e);
+        }
+    }
+
+    private static Instant instant(Long seconds) {
+        return seconds == null ? null : Instant.ofEpochSecond(seconds);
+    }
+
+    /**
+     * Builder for {@link IdTokenVerifier}.
+     * <p>
+     * Defaults: Kakao's issuer {@code https://kauth.kakao.com}, 60 seconds of clock skew and the default {@link JsonCodec}.
+     * </p>
+     */
+    public static final class Builder {
+        private final JwksKeyCache keys;
+        private final String audience;
+        private String issuer = KAKAO_ISSUER;
+        private Duration clockSkew = Duration.ofSeconds(60);
+        private JsonCodec codec = JsonCodec.getDefault();
+
+        private Builder(JwksKeyCache keys, String audience) {
+            this.keys = keys;
+            this.audience = audience;
+        }
+
+        /**
+         * @param issuer The expected issuer.
+         * @return This builder instance.
+         */
+        public Builder issuer(String issuer) {
+            if (issuer == null || issuer.isBlank()) {
+                throw new OAuthValidationException("[K-OAuth] ID token issuer must not be blank.");
+            }
+            this.issuer = issuer;
+            return this;
+        }
+
+        /**
+         * @param clockSkew How long after its expiry a token is still accepted, to allow for clock differences.
+         * @return This builder instance.
+         */
+        public Builder clockSkew(Duration clockSkew) {
+            if (clockSkew == null || clockSkew.isNegative()) {
+                throw new OAuthValidationException("[K-OAuth] ID token clock skew must not be negative.");
+            }
+            this.clockSkew = clockSkew;
+            return this;
+        }
+
+        /**
+         * @param codec The codec reading the token header and claims.
+         * @return This builder instance.
+         */
+        public Builder codec(JsonCodec codec) {
+            if (codec == null) {
+                throw new OAuthValidationException("[K-OAuth] JSON codec must not be null.");
+            }
+            this.codec = codec;
+            return this;
+        }
+
+        /**
+         * @return A new {@link IdTokenVerifier}.
+         */
+        public IdTokenVerifier build() {
+            return new IdTokenVerifier(this, System::currentTimeMillis);
+        }
+
+        IdTokenVerifier build(LongSupplier clockMillis) {
+            return new IdTokenVerifier(this, clockMillis);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package kr.higu.oidc;
+
+import kr.higu.dto.kakao.KakaoJwksResponse;
+import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.OAuthValidationException;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps the provider's ID token signing keys in memory, indexed by {@code kid}, as parsed {@link PublicKey}s.
+ * <p>
+ * The key set is fetched in the background when the cache is built and again every {@code refreshInterval},
+ * so looking up a key is a map read. A {@code kid} that is not in the cache, e.g. right after the provider
+ * rotated its keys, triggers one fetch on the calling thread; concurrent lookups wait for that fetch instead
+ * of starting their own, and fetches for unknown keys happen at most once per {@code minRefetchInterval},
+ * so tokens with made-up key IDs cannot make the cache hammer the provider. A failed background fetch keeps
+ * the current keys. While the cache holds no keys at all, e.g. because the fetch at startup failed,
+ * every lookup fetches again instead of waiting out that interval.
+ * </p>
+ *
+ * <pre>{@code
+ * JwksKeyCache keys = JwksKeyCache.builder(kakaoClient.getJwks().build()::execute).build();
+ * }</pre>
+ *
+ * @author higukang
+ */
+public final class JwksKeyCache implements AutoCloseable {
+    private final JwksSource source;
+    private final long minRefetchNanos;
+    private final LongSupplier clock;
+    private final ReentrantLock fetchLock = new ReentrantLock();
+    private final ScheduledExecutorService scheduler;
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+    private long lastFetch;
+
+    private JwksKeyCache(Builder builder, LongSupplier clock) {
+        this.source = builder.source;
+        this.minRefetchNanos = builder.minRefetchInterval.toNanos();
+        this.clock = clock;
+        this.lastFetch = clock.getAsLong() - minRefetchNanos;
+        if (builder.refreshInterval.isZero()) {
+            this.scheduler = null;
+        } else {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "k-oauth-jwks-refresh");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long interval = builder.refreshInterval.toNanos();
+            scheduler.scheduleWithFixedDelay(this::refreshQuietly, 0, interval, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * @param source Fetches the key set, e.g. {@code kakaoClient.getJwks().build()::execute}.
+     * @return A builder initialized with the default settings.
+     * @throws OAuthValidationException If the source is null.
+     */
+    public static Builder builder(JwksSource source) {
+        if (source == null) {
+            throw new OAuthValidationException("[K-OAuth] JWKS source must not be null.");
+        }
+        return new Builder(source);
+    }
+
+    /**
+     * Returns the key with the given ID, fetching the key set if the ID is unknown and either no fetch
+     * happened within {@code minRefetchInterval} or no keys are cached yet.
+     *
+     * @param kid The key ID from the ID token header.
+     * @return The key, or null if the provider does not publish it.
+     * @throws OAuthException If the key is unknown and fetching the key set fails.
+     */
+    public PublicKey key(String kid) throws OAuthException {
+        PublicKey key = keys.get(kid);
+        if (key != null) {
+            return key;
+        }
+        fetchLock.lock();
+        try {
+            // Another thread may have fetched the key set while this one waited.
+            Map<String, PublicKey> current = keys;
+            key = current.get(kid);
+            if (key != null || !current.isEmpty() && clock.getAsLong() - lastFetch < minRefetchNanos) {
+                return key;
+            }
+            load();
+            return keys.get(kid);
+        } finally {
+            fetchLock.unlock();
+        }
+    }
+
+    /**
+     * Fetches the key set now, e.g. at startup so the first login does not wait for it.
+     *
+     * @throws OAuthException If fetching the key set fails. The current keys are kept.
+     */
+    public void refresh() throws OAuthException {
+        fetchLock.lock();
+        try {
+            load();
+        } finally {
+            fetchLock.unlock();
+        }
+    }
+
+    /**
+     * @return The number of cached keys.
+     */
+    public int size() {
+        return keys.size();
+    }
+
+    /**
+     * Stops the background refresh.
+     */
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (OAuthException | RuntimeException ignored) {
+            // Keep the current keys; the next run or an unknown kid tries again.
+        }
+    }
+
+    /**
+     * Fetches and parses the key set and replaces the cached keys. Must be called with the fetch lock held.
+     */
+    private void load() throws OAuthException {
+        lastFetch = clock.getAsLong();
+        KakaoJwksResponse response = source.fetch();
+        if (response == null || response.keys() == null) {
+            return;
+        }
+        Map<String, PublicKey> parsed = new HashMap<>();
+        for (KakaoJwksResponse.Key key : response.keys()) {
+            PublicKey publicKey = toPublicKey(key);
+            if (publicKey != null) {
+                parsed.put(key.kid(), publicKey);
+            }
+        }
+        keys = Map.copyOf(parsed);
+    }
+
+    /**
+     * @return The RSA signing key, or null if the entry is not one or cannot be parsed.
+     */
+    private static PublicKey toPublicKey(KakaoJwksResponse.Key key) {
+        if (key == null || key.kid() == null || !"RSA".equals(key.kty()) || key.n() == null || key.e() == null
+                || (key.use() != null && !"sig".equals(key.use()))) {
+            return null;
+        }
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            BigInteger modulus = new BigInteger(1, decoder.decode(key.n()));
+            BigInteger exponent = new BigInteger(1, decoder.decode(key.e()));
+            return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent));
+        } catch (IllegalArgumentException | GeneralSecurityException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Builder for {@link JwksKeyCache}.
+     * <p>
+     * Defaults: refresh every hour, and fetch for an unknown key ID at most once every 30 seconds.
+     * </p>
+     */
+    public static final class Builder {
+        private final JwksSource source;
+        private Duration refreshInterval = Duration.ofHours(1);
+        private Duration minRefetchInterval = Duration.ofSeconds(30);
+
+        private Builder(JwksSource source) {
+            this.source = source;
+        }
+
+        /**
+         * @param refreshInterval How often the key set is fetched in the background. Zero disables the background
+         *                        refresh; keys are then only fetched for unknown key IDs and by {@link #refresh()}.
+         * @return This builder instance.
+         */
+        public Builder refreshInterval(Duration refreshInterval) {
+            if (refreshInterval == null || refreshInterval.isNegative()) {
+                throw new OAuthValidationException("[K-OAuth] JWKS refresh interval must not be negative.");
+            }
+            this.refreshInterval = refreshInterval;
+            return this;
+        }
+
+        /**
+         * @param minRefetchInterval The minimum time between two fetches caused by unknown key IDs.
+         * @return This builder instance.
+         */
+        public Builder minRefetchInterval(Duration minRefetchInterval) {
+            if (minRefetchInterval == null || minRefetchInterval.isNegative()) {
+                throw new OAuthValidationException("[K-OAuth] JWKS refetch interval must not be negative.");
+            }
+            this.minRefetchInterval = minRefetchInterval;
+            return this;
+        }
+
+        /**
+         * @return A new {@link JwksKeyCache}, with its first fetch started in the background.
+         */
+        public JwksKeyCache build() {
+            return new JwksKeyCache(this, System::nanoTime);
+        }
+
+        JwksKeyCache build(LongSupplier clock) {
+            return new JwksKeyCache(this, clock);
+        }
+    }
+}
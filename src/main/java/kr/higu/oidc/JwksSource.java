@@ -0,0 +1,23 @@
+package kr.higu.oidc;
+
+import kr.higu.dto.kakao.KakaoJwksResponse;
+import kr.higu.exceptions.OAuthException;
+
+/**
+ * Fetches the key set of the provider. Used by {@link JwksKeyCache}.
+ *
+ * <pre>{@code
+ * JwksSource source = kakaoClient.getJwks().build()::execute;
+ * }</pre>
+ *
+ * @author higukang
+ */
+@FunctionalInterface
+public interface JwksSource {
+
+    /**
+     * @return The provider's current public keys.
+     * @throws OAuthException If the keys cannot be fetched.
+     */
+    KakaoJwksResponse fetch() throws OAuthException;
+}
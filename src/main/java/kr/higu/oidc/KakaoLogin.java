@@ -0,0 +1,235 @@
+package kr.higu.oidc;
+
+import kr.higu.IHttpManager;
+import kr.higu.dto.kakao.KakaoTokenResponse;
+import kr.higu.dto.kakao.KakaoUserResponse;
+import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.exceptions.detailed.OAuthIdTokenException;
+import kr.higu.json.JsonCodec;
+import kr.higu.request.kakao.KakaoPropertyKey;
+import kr.higu.request.kakao.KakaoTokenRequest;
+import kr.higu.request.kakao.KakaoUserRequest;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Logs a user in with one call: exchanges the authorization code, verifies the ID token locally
+ * and returns the user's profile.
+ * <p>
+ * When the {@code openid} scope is granted, the ID token already carries the user ID, nickname, profile image
+ * and email, so the login takes a single round trip instead of the token request followed by the user info request.
+ * The user info API is only called when there is no ID token, or when a {@link Field} passed to
+ * {@link Builder#require(Field...)} is missing from its claims; that call asks for the missing fields only.
+ * An ID token that fails verification fails the login with {@link OAuthIdTokenException}.
+ * </p>
+ *
+ * <pre>{@code
+ * KakaoLoginResult login = kakaoClient.login(verifier)
+ *         .clientId("REST_API_KEY")
+ *         .redirectUri("REDIRECT_URI")
+ *         .code("AUTHORIZATION_CODE")
+ *         .nonce(nonce)
+ *         .require(KakaoLogin.Field.EMAIL)
+ *         .build()
+ *         .execute();
+ * }</pre>
+ *
+ * @author higukang
+ */
+public final class KakaoLogin {
+    private final KakaoTokenRequest tokenRequest;
+    private final IdTokenVerifier verifier;
+    private final IHttpManager httpManager;
+    private final JsonCodec codec;
+    private final String nonce;
+    private final Set<Field> required;
+
+    private KakaoLogin(Builder builder, KakaoTokenRequest tokenRequest) {
+        this.tokenRequest = tokenRequest;
+        this.verifier = builder.verifier;
+        this.httpManager = builder.httpManager;
+        this.codec = builder.codec;
+        this.nonce = builder.nonce;
+        this.required = EnumSet.copyOf(builder.required);
+    }
+
+    /**
+     * Profile fields the ID token can carry.
+     */
+    public enum Field {
+        /** The nickname ({@code nickname} claim). */
+        NICKNAME(KakaoPropertyKey.PROFILE),
+        /** The profile image URL ({@code picture} claim). */
+        PROFILE_IMAGE(KakaoPropertyKey.PROFILE),
+        /** The email ({@code email} claim). */
+        EMAIL(KakaoPropertyKey.EMAIL);
+
+        private final KakaoPropertyKey propertyKey;
+
+        Field(KakaoPropertyKey propertyKey) {
+            this.propertyKey = propertyKey;
+        }
+    }
+
+    /**
+     * Exchanges the code and resolves the profile.
+     *
+     * @return The tokens and the profile.
+     * @throws OAuthIdTokenException If the ID token fails verification.
+     * @throws OAuthException If the token or user info request fails.
+     */
+    public KakaoLoginResult execute() throws OAuthException {
+        KakaoTokenResponse token = tokenRequest.execute();
+
+        String id = null;
+        String nickname = null;
+        String profileImageUrl = null;
+        String email = null;
+        if (token.idToken() != null) {
+            IdTokenClaims claims = verifier.verify(token.idToken(), nonce);
+            id = claims.subject();
+            nickname = claims.nickname();
+            profileImageUrl = claims.picture();
+            email = claims.email();
+        }
+
+        Set<KakaoPropertyKey> missing = EnumSet.noneOf(KakaoPropertyKey.class);
+        for (Field field : required) {
+            String value = switch (field) {
+                case NICKNAME -> nickname;
+                case PROFILE_IMAGE -> profileImageUrl;
+                case EMAIL -> email;
+            };
+            if (value == null) {
+                missing.add(field.propertyKey);
+            }
+        }
+        if (id != null && missing.isEmpty()) {
+            return new KakaoLoginResult(token, id, nickname, profileImageUrl, email, false);
+        }
+
+        KakaoUserResponse user = new KakaoUserRequest.Builder(httpManager, codec)
+                .accessToken(token.accessToken())
+                .propertyKeys(missing.toArray(KakaoPropertyKey[]::new))
+                .projectedDecoding(true)
+                .build()
+                .execute();
+        KakaoUserResponse.KakaoAccount account = user.kakaoAccount();
+        KakaoUserResponse.KakaoAccount.Profile profile = account == null ? null : account.profile();
+        if (id == null) {
+            id = user.id();
+        }
+        if (nickname == null && profile != null) {
+            nickname = profile.nickname();
+        }
+        if (profileImageUrl == null && profile != null) {
+            profileImageUrl = profile.profileImageUrl();
+        }
+        if (email == null && account != null) {
+            email = account.email();
+        }
+        return new KakaoLoginResult(token, id, nickname, profileImageUrl, email, true);
+    }
+
+    /**
+     * Builder for creating {@link KakaoLogin} instances.
+     */
+    public static final class Builder {
+        private final IHttpManager httpManager;
+        private final JsonCodec codec;
+        private final IdTokenVerifier verifier;
+        private final KakaoTokenRequest.Builder token;
+        private final Set<Field> required = EnumSet.noneOf(Field.class);
+        private String nonce;
+
+        /**
+         * Initializes the builder.
+         *
+         * @param httpManager The HTTP manager to use for the requests.
+         * @param codec       The JSON codec to use for the requests.
+         * @param verifier    Verifies the ID token of the token response.
+         * @throws OAuthValidationException If the verifier is null.
+         */
+        public Builder(IHttpManager httpManager, JsonCodec codec, IdTokenVerifier verifier) {
+            if (verifier == null) {
+                throw new OAuthValidationException("[K-OAuth] ID token verifier must not be null.");
+            }
+            this.httpManager = httpManager;
+            this.codec = codec;
+            this.verifier = verifier;
+            this.token = new KakaoTokenRequest.Builder(httpManager, codec);
+        }
+
+        /**
+         * @param clientId The app's REST API key.
+         * @return This builder instance.
+         */
+        public Builder clientId(String clientId) {
+            token.clientId(clientId);
+            return this;
+        }
+
+        /**
+         * @param redirectUri The redirect URI used to obtain the authorization code.
+         * @return This builder instance.
+         */
+        public Builder redirectUri(String redirectUri) {
+            token.redirectUri(redirectUri);
+            return this;
+        }
+
+        /**
+         * @param code The authorization code received from the redirect.
+         * @return This builder instance.
+         */
+        public Builder code(String code) {
+            token.code(code);
+            return this;
+        }
+
+        /**
+         * @param clientSecret The client secret, if enabled for the app.
+         * @return This builder instance.
+         */
+        public Builder clientSecret(String clientSecret) {
+            token.clientSecret(clientSecret);
+            return this;
+        }
+
+        /**
+         * @param nonce The nonce sent with the authorization request. The ID token must carry it.
+         * @return This builder instance.
+         */
+        public Builder nonce(String nonce) {
+            this.nonce = nonce;
+            return this;
+        }
+
+        /**
+         * Sets the profile fields the caller needs. If the ID token lacks any of them,
+         * they are fetched from the user info API. The user ID is always resolved.
+         *
+         * @param fields The required fields.
+         * @return This builder instance.
+         */
+        public Builder require(Field... fields) {
+            if (fields != null) {
+                required.addAll(Arrays.asList(fields));
+            }
+            return this;
+        }
+
+        /**
+         * Validates the token request parameters and builds the login.
+         *
+         * @return A new {@link KakaoLogin} instance.
+         * @throws OAuthValidationException If any required token request parameter is missing.
+         */
+        public KakaoLogin build() throws OAuthException {
+            return new KakaoLogin(this, token.build());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package kr.higu.oidc;
+
+import kr.higu.dto.kakao.KakaoTokenResponse;
+
+/**
+ * Result of a {@link KakaoLogin}: the issued tokens and the user's profile,
+ * taken from the verified ID token and, for fields it lacks, from the user info API.
+ * <p>
+ * A profile field is null if the user did not consent to it.
+ * </p>
+ *
+ * @author higukang
+ */
+public record KakaoLoginResult(
+        /** The token response of the authorization code exchange. */
+        KakaoTokenResponse token,
+        /** Unique identifier of the Kakao user. */
+        String id,
+        /** Nickname of the user, or null. */
+        String nickname,
+        /** Profile image URL of the user, or null. */
+        String profileImageUrl,
+        /** Email of the user, or null. */
+        String email,
+        /** Whether the user info API was called because the ID token was missing or lacked a required field. */
+        boolean userInfoFetched
+) {}
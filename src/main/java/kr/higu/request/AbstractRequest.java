@@ -1,18 +1,26 @@
 package kr.higu.request;
 
-import com.google.gson.Gson;
+import kr.higu.IByteBodyHttpManager;
 import kr.higu.IHttpManager;
+import kr.higu.IStreamingHttpManager;
+import kr.higu.ResponseBodyDecoder;
 import kr.higu.exceptions.OAuthException;
 import kr.higu.exceptions.OAuthValidationException;
 import kr.higu.exceptions.detailed.OAuthParsingException;
 import kr.higu.exceptions.detailed.OAuthResponseException;
+import kr.higu.json.JsonCodec;
+import kr.higu.json.JsonCodecException;
+import kr.higu.json.JsonProjection;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
-import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 
 /**
  * Abstract base class for all OAuth-related API requests.
@@ -21,16 +29,37 @@ import java.util.StringJoiner;
  * <p>This class uses the Template Method pattern to define the skeleton of an OAuth request
  * while delegating specific details (URI, method, error parsing) to subclasses.</p>
  *
+ * <p>JSON is handled by the {@link JsonCodec} the request was built with,
+ * {@link JsonCodec#getDefault()} unless the client was created with another codec.</p>
+ *
  * @param <T> The type of the response object this request expects.
  * @author higukang
  */
 public abstract class AbstractRequest<T> {
-    private static final Gson GSON = new Gson();
+    /**
+     * Whether a request class overrides the deprecated {@link #validateSuccessResponse(String)},
+     * so requests that do not are never made to build the raw body String.
+     */
+    private static final ClassValue<Boolean> OVERRIDES_LEGACY_HOOK = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> c = type; c != AbstractRequest.class && c != null; c = c.getSuperclass()) {
+                try {
+                    c.getDeclaredMethod("validateSuccessResponse", String.class);
+                    return true;
+                } catch (NoSuchMethodException ignored) {
+                    // Keep looking in the superclass.
+                }
+            }
+            return false;
+        }
+    };
 
     protected final IHttpManager httpManager;
     protected final Map<String, String> headers;
     protected final Map<String, String> params;
     protected final Class<T> responseType;
+    protected final JsonCodec codec;
 
     /**
      * Constructs an AbstractRequest using the provided builder.
@@ -42,6 +71,7 @@ public abstract class AbstractRequest<T> {
         this.headers = new HashMap<>(builder.headers);
         this.params = new HashMap<>(builder.params);
         this.responseType = builder.responseType;
+        this.codec = builder.codec;
     }
 
     /**
@@ -54,12 +84,27 @@ public abstract class AbstractRequest<T> {
     public static abstract class Builder<T, BT extends Builder<T, BT>> {
         protected final IHttpManager httpManager;
         protected final Class<T> responseType;
+        protected final JsonCodec codec;
         protected final Map<String, String> headers = new HashMap<>();
         protected final Map<String, String> params = new HashMap<>();
 
         protected Builder(IHttpManager httpManager, Class<T> responseType) {
+            this(httpManager, responseType, JsonCodec.getDefault());
+        }
+
+        /**
+         * @param httpManager  The HTTP manager to send the request with.
+         * @param responseType The response type.
+         * @param codec        The JSON codec for decoding responses and encoding JSON parameters.
+         * @throws OAuthValidationException If the codec is null.
+         */
+        protected Builder(IHttpManager httpManager, Class<T> responseType, JsonCodec codec) {
+            if (codec == null) {
+                throw new OAuthValidationException("[K-OAuth] JsonCodec must not be null.");
+            }
             this.httpManager = httpManager;
             this.responseType = responseType;
+            this.codec = codec;
         }
 
         protected BT setHeader(String name, String value) {
@@ -105,6 +150,31 @@ public abstract class AbstractRequest<T> {
             }
         }
 
+        /**
+         * Compiles a request holding the static parts into a {@link PreparedRequest}
+         * that binds the given form parameters on each call.
+         *
+         * @param template    A request built from this builder without the bound parameters.
+         * @param boundParams The names of the parameters supplied per call, in order.
+         * @return The prepared request.
+         */
+        protected PreparedRequest<T> prepare(AbstractRequest<T> template, String... boundParams) {
+            return PreparedRequest.bindingParams(template, boundParams);
+        }
+
+        /**
+         * Compiles a request holding the static parts into a {@link PreparedRequest}
+         * that binds a single header on each call.
+         *
+         * @param template    A request built from this builder without the bound header.
+         * @param headerName  The name of the header supplied per call.
+         * @param valuePrefix The text put in front of the supplied value, e.g. {@code "Bearer "}.
+         * @return The prepared request.
+         */
+        protected PreparedRequest<T> prepareWithHeader(AbstractRequest<T> template, String headerName, String valuePrefix) {
+            return PreparedRequest.bindingHeader(template, headerName, valuePrefix);
+        }
+
         /**
          * Builds and returns the concrete request instance.
          *
@@ -130,65 +200,247 @@ public abstract class AbstractRequest<T> {
 
     /**
      * Executes the request and returns the parsed response.
+     * <p>
+     * If the HTTP manager implements {@link IStreamingHttpManager}, the response body is handed to the
+     * request as bytes, e.g. a pooled buffer for {@link kr.higu.OAuthHttpManager}, and decoded
+     * from them instead of being converted into a String first.
+     * </p>
      *
      * @return The parsed response of type T.
      * @throws OAuthException If any error occurs during the request or parsing.
      */
     public T execute() throws OAuthException {
+        if (getMethod().equals("GET")) {
+            return execute(buildFinalUri(), headers, null);
+        }
+        return execute(getUri(), headers, FormEncoder.forCurrentThread().params(params).toByteArray());
+    }
+
+    /**
+     * Sends the request with the given target, headers and encoded form body, and returns the parsed response.
+     * Shared by {@link #execute()} and {@link PreparedRequest}, which bind the per-call values themselves.
+     *
+     * @param uri     The final URI, including the query string for GET requests.
+     * @param headers The request headers.
+     * @param body    The x-www-form-urlencoded body for POST requests; ignored for GET requests.
+     */
+    final T execute(URI uri, Map<String, String> headers, byte[] body) throws OAuthException {
+        if (httpManager instanceof IStreamingHttpManager streamingManager) {
+            return executeStreaming(streamingManager, uri, headers, body);
+        }
+
+        String response;
+        try {
+            if (getMethod().equals("GET")) {
+                response = httpManager.get(uri, headers);
+            } else {
+                response = httpManager.post(uri, headers, new String(body, StandardCharsets.US_ASCII));
+            }
+        } catch (OAuthResponseException e) {
+            throw translateError(e);
+        }
+        return handleResponse(response);
+    }
+
+    /**
+     * Sends the request through the streaming methods and decodes the response straight from the body bytes.
+     * A POST body is handed over as bytes if the manager implements {@link IByteBodyHttpManager}.
+     * The response is validated while the decoder still holds the body, so a validation error reports
+     * the bytes the provider sent as its raw body.
+     */
+    private T executeStreaming(IStreamingHttpManager streamingManager, URI uri, Map<String, String> headers,
+                               byte[] body) throws OAuthException {
+        StreamingCall call = new StreamingCall();
+        T response;
         try {
-            String paramsString = buildQueryParams();
-            String response;
             if (getMethod().equals("GET")) {
-                URI finalUri = buildFinalUri(paramsString);
-                response = httpManager.get(finalUri, headers);
+                response = streamingManager.get(uri, headers, call);
+            } else if (streamingManager instanceof IByteBodyHttpManager byteBodyManager) {
+                response = byteBodyManager.post(uri, headers, body, call);
             } else {
-                response = httpManager.post(getUri(), headers, paramsString);
+                response = streamingManager.post(uri, headers, new String(body, StandardCharsets.US_ASCII), call);
             }
-            validateSuccessResponse(response);
+        } catch (OAuthResponseException e) {
+            throw translateError(e);
+        } catch (JsonCodecException e) {
+            throw parsingException(e);
+        }
+        if (call.rejection != null) {
+            throw call.rejection;
+        }
+        return response;
+    }
+
+    /**
+     * Decodes one response with the request's codec and validates it while the body bytes are at hand.
+     * The manager may pass a pooled buffer that is reused once {@code decode} returns,
+     * so the raw body for {@link #validateSuccessResponse} is only materialized from it when a validation fails.
+     * Malformed JSON surfaces as a {@link JsonCodecException}, while I/O failures are rethrown as they are.
+     */
+    private final class StreamingCall implements ResponseBodyDecoder<T> {
+        private OAuthException rejection;
+
+        @Override
+        public T decode(InputStream body) throws IOException {
+            byte[] bytes = body.readAllBytes();
+            return decode(bytes, 0, bytes.length);
+        }
+
+        @Override
+        public T decode(byte[] bytes, int offset, int length) throws IOException {
+            T response;
             try {
-                return GSON.fromJson(response, responseType);
-            } catch (Exception e) {
-                throw new OAuthParsingException(
-                        String.format("[K-OAuth] Failed to parse %s response: %s",
-                                responseType.getSimpleName(), e.getMessage()), e
-                );
+                response = codec.decode(bytes, offset, length, responseType, responseProjection());
+            } catch (JsonCodecException e) {
+                throw e;
+            } catch (RuntimeException e) {
+                throw new JsonCodecException(e.getMessage(), e);
             }
+            rejection = null;
+            try {
+                validateSuccessResponse(response, () -> new String(bytes, offset, length, StandardCharsets.UTF_8));
+            } catch (OAuthException e) {
+                rejection = e;
+            }
+            return response;
+        }
+    }
 
-        } catch (OAuthResponseException e) {
-            ErrorDetail detail = parseError(e.getRawBody());
-            throw new OAuthResponseException(
-                    e.getStatusCode(),
-                    detail.errorCode(),
-                    e.getRawBody(),
-                    detail.message()
-            );
+    /**
+     * Executes the request without blocking the calling thread and returns a future of the parsed response.
+     * <p>
+     * The response goes through the same validation, error parsing and deserialization as {@link #execute()}.
+     * If the request fails, the future completes exceptionally with a {@link CompletionException}
+     * whose cause is the {@link OAuthException} that {@link #execute()} would have thrown.
+     * </p>
+     *
+     * @return A future completed with the parsed response of type T.
+     */
+    public CompletableFuture<T> executeAsync() {
+        if (getMethod().equals("GET")) {
+            return executeAsync(buildFinalUri(), headers, null);
         }
+        return executeAsync(getUri(), headers, FormEncoder.forCurrentThread().params(params).toByteArray());
+    }
+
+    /**
+     * Asynchronous counterpart of {@link #execute(URI, Map, byte[])}.
+     */
+    final CompletableFuture<T> executeAsync(URI uri, Map<String, String> headers, byte[] requestBody) {
+        CompletableFuture<String> response;
+        if (getMethod().equals("GET")) {
+            response = httpManager.getAsync(uri, headers);
+        } else {
+            response = httpManager.postAsync(uri, headers, new String(requestBody, StandardCharsets.US_ASCII));
+        }
+
+        return response.handle((body, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause()
+                        : error;
+                if (cause instanceof OAuthResponseException responseException) {
+                    throw new CompletionException(translateError(responseException));
+                }
+                throw new CompletionException(cause);
+            }
+            try {
+                return handleResponse(body);
+            } catch (OAuthException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Deserializes a successful response body into the response type and validates the result.
+     * The body is parsed exactly once; the validation hook works on the decoded response.
+     */
+    private T handleResponse(String response) throws OAuthException {
+        T parsed;
+        try {
+            parsed = codec.decode(response, responseType, responseProjection());
+        } catch (Exception e) {
+            throw parsingException(e);
+        }
+        validateSuccessResponse(parsed, () -> response);
+        return parsed;
+    }
+
+    private OAuthParsingException parsingException(Exception e) {
+        return new OAuthParsingException(
+                String.format("[K-OAuth] Failed to parse %s response: %s",
+                        responseType.getSimpleName(), e.getMessage()), e
+        );
+    }
+
+    /**
+     * Rebuilds an {@link OAuthResponseException} from the HTTP manager with the provider-specific error code and message.
+     * Only applied to errors reported by the manager, so each error body is parsed once.
+     */
+    private OAuthResponseException translateError(OAuthResponseException e) {
+        ErrorDetail detail = parseError(e.getRawBody());
+        return new OAuthResponseException(
+                e.getStatusCode(),
+                detail.errorCode(),
+                e.getRawBody(),
+                detail.message(),
+                e.getHeaders()
+        );
     }
 
     /**
      * Safely combines the base URI and query parameters.
+     * The URI is written into the thread's {@link FormEncoder} together with the encoded parameters,
+     * so the final String is created once.
      */
-    private URI buildFinalUri(String paramsString) {
-        if (paramsString.isEmpty()) {
-            return getUri();
+    private URI buildFinalUri() {
+        URI uri = getUri();
+        if (params.isEmpty()) {
+            return uri;
         }
 
-        String baseUri = getUri().toString();
-        String connector = baseUri.contains("?") ? "&" : "?";
+        String baseUri = uri.toString();
+        char connector = baseUri.indexOf('?') >= 0 ? '&' : '?';
 
-        return URI.create(baseUri + connector + paramsString);
+        return URI.create(FormEncoder.forCurrentThread().raw(baseUri).raw(connector).params(params).asString());
+    }
+
+    /**
+     * Optional hook to decode only part of the response.
+     * <p>
+     * Members outside the returned projection are skipped while decoding and left null in the response.
+     * The default decodes the whole response.
+     * </p>
+     *
+     * @return The members of the response to decode, or null to decode all of them.
+     */
+    protected JsonProjection responseProjection() {
+        return null;
     }
 
     /**
-     * Encodes parameters into an x-www-form-urlencoded string.
+     * Optional hook to validate responses that return 2xx but are logically errors (e.g., Naver).
+     * <p>
+     * The hook receives the already decoded response, so the body is not parsed a second time.
+     * An {@link OAuthResponseException} thrown here is passed to the caller as is,
+     * so it should already carry the provider error code and message.
+     * The raw body is supplied lazily: on the streaming path it is decoded from the body bytes the provider sent,
+     * which creates a String, so only call it when an error is actually reported.
+     * </p>
+     * <p>
+     * The default calls {@link #validateSuccessResponse(String)} with the raw body if a subclass still overrides it,
+     * and does nothing otherwise.
+     * </p>
+     *
+     * @param response The decoded response. Might be null if the body was empty.
+     * @param rawBody  Supplies the raw response body, for use in {@link OAuthResponseException}.
+     * @throws OAuthException If the response is determined to be an error.
      */
-    private String buildQueryParams() {
-        StringJoiner joiner = new StringJoiner("&");
-        for (Map.Entry<String, String> entry : params.entrySet()) {
-            joiner.add(URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8) + "=" +
-                    URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8));
+    protected void validateSuccessResponse(T response, Supplier<String> rawBody) throws OAuthException {
+        if (OVERRIDES_LEGACY_HOOK.get(getClass())) {
+            validateSuccessResponse(rawBody.get());
         }
-        return joiner.toString();
     }
 
     /**
@@ -196,6 +448,9 @@ public abstract class AbstractRequest<T> {
      *
      * @param responseBody The raw response body.
      * @throws OAuthException If the response is determined to be an error.
+     * @deprecated Override {@link #validateSuccessResponse(Object, Supplier)} instead, which receives the decoded
+     * response and only materializes the raw body when needed. This hook is still called for subclasses that override it.
      */
+    @Deprecated
     protected void validateSuccessResponse(String responseBody) throws OAuthException {}
 }
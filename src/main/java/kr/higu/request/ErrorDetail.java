@@ -1,5 +1,10 @@
 package kr.higu.request;
 
+import kr.higu.json.JsonCodec;
+
+import java.io.IOException;
+import java.util.Arrays;
+
 /**
  * INTERNAL USE ONLY.
  * <p>
@@ -16,4 +21,69 @@ package kr.higu.request;
  */
 public record ErrorDetail(
         String errorCode,
-        String message) {}
\ No newline at end of file
+        String message) {
+
+    /**
+     * Extracts the error code and message from a JSON error body with the default {@link JsonCodec}.
+     *
+     * @see #fromJson(JsonCodec, String, String[], String, String[], String)
+     */
+    public static ErrorDetail fromJson(String body,
+                                       String[] codeFields, String defaultCode,
+                                       String[] messageFields, String defaultMessage) throws IOException {
+        return fromJson(JsonCodec.getDefault(), body, codeFields, defaultCode, messageFields, defaultMessage);
+    }
+
+    /**
+     * Extracts the error code and message from a JSON error body in a single streaming pass.
+     * <p>
+     * Only top-level scalar fields are read; nested objects and arrays are skipped without building a tree.
+     * For each of the code and the message, the first field in the given order that holds a non-null value wins.
+     * </p>
+     *
+     * @param codec          The codec used to read the body.
+     * @param body           The raw JSON error body.
+     * @param codeFields     Candidate field names for the error code, in order of preference.
+     * @param defaultCode    The error code to use if none of the code fields is present.
+     * @param messageFields  Candidate field names for the message, in order of preference.
+     * @param defaultMessage The message to use if none of the message fields is present.
+     * @return The extracted error detail.
+     * @throws IOException                     If the body cannot be read.
+     * @throws kr.higu.json.JsonCodecException If the body is not a valid JSON object.
+     */
+    public static ErrorDetail fromJson(JsonCodec codec, String body,
+                                       String[] codeFields, String defaultCode,
+                                       String[] messageFields, String defaultMessage) throws IOException {
+        String[] names = Arrays.copyOf(codeFields, codeFields.length + messageFields.length);
+        System.arraycopy(messageFields, 0, names, codeFields.length, messageFields.length);
+        String[] values = codec.readScalars(body, names);
+
+        return new ErrorDetail(
+                firstNonNull(names, values, 0, codeFields.length, defaultCode),
+                firstNonNull(names, values, codeFields.length, names.length, defaultMessage)
+        );
+    }
+
+    /**
+     * Returns the first non-null value among {@code names[from..to)}.
+     * A name listed twice is only filled in at its first position, so values are looked up by name.
+     */
+    private static String firstNonNull(String[] names, String[] values, int from, int to, String defaultValue) {
+        for (int i = from; i < to; i++) {
+            String value = values[firstIndexOf(names, names[i])];
+            if (value != null) {
+                return value;
+            }
+        }
+        return defaultValue;
+    }
+
+    private static int firstIndexOf(String[] names, String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,229 @@
+package kr.higu.request;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Thread-confined, reusable buffer that writes {@code application/x-www-form-urlencoded} content
+ * as percent-encoded UTF-8 bytes.
+ * <p>
+ * The encoding is the same as {@link java.net.URLEncoder#encode(String, java.nio.charset.Charset)} with UTF-8:
+ * {@code a-z}, {@code A-Z}, {@code 0-9}, {@code .}, {@code -}, {@code *} and {@code _} are kept,
+ * a space becomes {@code +}, every other character is written as its UTF-8 bytes in {@code %XX} form,
+ * and an unpaired surrogate is encoded as {@code ?}.
+ * Unlike {@code URLEncoder}, no intermediate String is created per key or value; the result is copied out once.
+ * Buffers that grew beyond {@link #MAX_RETAINED_CAPACITY} are released after use.
+ * </p>
+ *
+ * @author higukang
+ */
+final class FormEncoder {
+    private static final int INITIAL_CAPACITY = 512;
+    private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+    private static final ThreadLocal<FormEncoder> POOL = ThreadLocal.withInitial(FormEncoder::new);
+    private static final byte[] HEX = "0123456789ABCDEF".getBytes(StandardCharsets.US_ASCII);
+    private static final boolean[] UNRESERVED = new boolean[128];
+
+    static {
+        for (int c = 'a'; c <= 'z'; c++) {
+            UNRESERVED[c] = true;
+        }
+        for (int c = 'A'; c <= 'Z'; c++) {
+            UNRESERVED[c] = true;
+        }
+        for (int c = '0'; c <= '9'; c++) {
+            UNRESERVED[c] = true;
+        }
+        UNRESERVED['.'] = true;
+        UNRESERVED['-'] = true;
+        UNRESERVED['*'] = true;
+        UNRESERVED['_'] = true;
+    }
+
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    private int length;
+
+    private FormEncoder() {
+    }
+
+    /**
+     * @return The cleared encoder owned by the current thread.
+     */
+    static FormEncoder forCurrentThread() {
+        FormEncoder encoder = POOL.get();
+        encoder.length = 0;
+        return encoder;
+    }
+
+    /**
+     * Encodes the parameters as {@code key=value} pairs joined by {@code &}, in the map's iteration order.
+     *
+     * @param params The parameters to encode.
+     * @return This encoder.
+     */
+    FormEncoder params(Map<String, String> params) {
+        boolean first = true;
+        for (Map.Entry<String, String> entry : params.entrySet()) {
+            if (!first) {
+                writeByte('&');
+            }
+            first = false;
+            param(entry.getKey(), entry.getValue());
+        }
+        return this;
+    }
+
+    /**
+     * Encodes a single {@code name=value} pair, without a separator.
+     *
+     * @param name  The parameter name.
+     * @param value The parameter value.
+     * @return This encoder.
+     */
+    FormEncoder param(String name, String value) {
+        encode(name);
+        writeByte('=');
+        encode(value);
+        return this;
+    }
+
+    /**
+     * Appends bytes that are already encoded, e.g. a precomputed part of a form body.
+     *
+     * @param encoded The bytes to append.
+     * @return This encoder.
+     */
+    FormEncoder raw(byte[] encoded) {
+        ensureCapacity(encoded.length);
+        System.arraycopy(encoded, 0, bytes, length, encoded.length);
+        length += encoded.length;
+        return this;
+    }
+
+    /**
+     * Appends the text as UTF-8 without percent-encoding it, e.g. an already valid URI.
+     *
+     * @param text The text to append.
+     * @return This encoder.
+     */
+    FormEncoder raw(String text) {
+        int count = text.length();
+        ensureCapacity(count);
+        for (int i = 0; i < count; i++) {
+            char c = text.charAt(i);
+            if (c >= 0x80) {
+                // Rare: non-ASCII characters in a URI. Fall back to the JDK encoder for the rest.
+                byte[] rest = text.substring(i).getBytes(StandardCharsets.UTF_8);
+                ensureCapacity(rest.length);
+                System.arraycopy(rest, 0, bytes, length, rest.length);
+                length += rest.length;
+                return this;
+            }
+            bytes[length++] = (byte) c;
+        }
+        return this;
+    }
+
+    /**
+     * Appends a single ASCII character.
+     *
+     * @param c The character to append.
+     * @return This encoder.
+     */
+    FormEncoder raw(char c) {
+        writeByte(c);
+        return this;
+    }
+
+    /** @return The number of bytes written so far. */
+    int length() {
+        return length;
+    }
+
+    /**
+     * Copies the content into an array of exactly {@link #length()} bytes and clears the encoder.
+     *
+     * @return The encoded bytes.
+     */
+    byte[] toByteArray() {
+        byte[] result = Arrays.copyOf(bytes, length);
+        release();
+        return result;
+    }
+
+    /**
+     * Materializes the content as a String and clears the encoder.
+     *
+     * @return The encoded content.
+     */
+    String asString() {
+        String result = new String(bytes, 0, length, StandardCharsets.UTF_8);
+        release();
+        return result;
+    }
+
+    private void encode(String value) {
+        int count = value.length();
+        // Every char takes at most 9 bytes (%XX%XX%XX for BMP, 12 bytes for a surrogate pair).
+        ensureCapacity(count * 9);
+        byte[] out = bytes;
+        int position = length;
+        for (int i = 0; i < count; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (UNRESERVED[c]) {
+                    out[position++] = (byte) c;
+                } else if (c == ' ') {
+                    out[position++] = '+';
+                } else {
+                    position = percent(out, position, c);
+                }
+            } else if (c < 0x800) {
+                position = percent(out, position, 0xC0 | (c >> 6));
+                position = percent(out, position, 0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < count && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                position = percent(out, position, 0xF0 | (codePoint >> 18));
+                position = percent(out, position, 0x80 | ((codePoint >> 12) & 0x3F));
+                position = percent(out, position, 0x80 | ((codePoint >> 6) & 0x3F));
+                position = percent(out, position, 0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                position = percent(out, position, '?');
+            } else {
+                position = percent(out, position, 0xE0 | (c >> 12));
+                position = percent(out, position, 0x80 | ((c >> 6) & 0x3F));
+                position = percent(out, position, 0x80 | (c & 0x3F));
+            }
+        }
+        length = position;
+    }
+
+    private static int percent(byte[] out, int position, int b) {
+        out[position] = '%';
+        out[position + 1] = HEX[(b >> 4) & 0x0F];
+        out[position + 2] = HEX[b & 0x0F];
+        return position + 3;
+    }
+
+    private void writeByte(int b) {
+        ensureCapacity(1);
+        bytes[length++] = (byte) b;
+    }
+
+    private void ensureCapacity(int additional) {
+        if (length + additional > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(length + additional, bytes.length * 2));
+        }
+    }
+
+    /**
+     * Clears the content and drops an oversized array.
+     */
+    private void release() {
+        length = 0;
+        if (bytes.length > MAX_RETAINED_CAPACITY) {
+            bytes = new byte[INITIAL_CAPACITY];
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package kr.higu.request;
+
+import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.OAuthValidationException;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+
+/**
+ * A reusable, precompiled request whose static parts are prepared once and that only binds
+ * the per-call values (e.g. an authorization code or an access token) when it is executed.
+ * <p>
+ * The URI, the static headers and the static form parameters are encoded when the template is created,
+ * so executing it does not create a builder, copy any maps or re-encode the static parameters.
+ * Instances are immutable and safe to share across threads; keep one per client configuration.
+ * </p>
+ *
+ * <pre>{@code
+ * PreparedRequest<KakaoTokenResponse> tokenRequest = kakaoClient.getToken()
+ *         .clientId("REST_API_KEY")
+ *         .redirectUri("REDIRECT_URI")
+ *         .prepare();
+ *
+ * KakaoTokenResponse token = tokenRequest.execute("AUTHORIZATION_CODE");
+ * }</pre>
+ *
+ * @param <T> The type of the response object this request expects.
+ * @author higukang
+ */
+public final class PreparedRequest<T> {
+    private final AbstractRequest<T> template;
+    private final boolean get;
+    private final String[] boundParams;
+    private final String boundHeader;
+    private final String boundHeaderPrefix;
+    private final Map<String, String> headers;
+    private final URI uri;
+    private final String uriPrefix;
+    private final byte[] staticParams;
+
+    private PreparedRequest(AbstractRequest<T> template, String[] boundParams, String boundHeader, String boundHeaderPrefix) {
+        this.template = template;
+        this.get = template.getMethod().equals("GET");
+        this.boundParams = boundParams;
+        this.boundHeader = boundHeader;
+        this.boundHeaderPrefix = boundHeaderPrefix;
+
+        Map<String, String> staticHeaders = new HashMap<>(template.headers);
+        if (boundHeader != null) {
+            staticHeaders.remove(boundHeader);
+        }
+        this.headers = Map.copyOf(staticHeaders);
+
+        Map<String, String> staticParamMap = new LinkedHashMap<>(template.params);
+        for (String name : boundParams) {
+            staticParamMap.remove(name);
+        }
+        this.staticParams = FormEncoder.forCurrentThread().params(staticParamMap).toByteArray();
+
+        URI baseUri = template.getUri();
+        if (!get || (staticParams.length == 0 && boundParams.length == 0)) {
+            this.uri = baseUri;
+            this.uriPrefix = null;
+        } else {
+            String base = baseUri.toString();
+            String prefix = base + (base.indexOf('?') >= 0 ? '&' : '?')
+                    + new String(staticParams, StandardCharsets.US_ASCII);
+            this.uri = boundParams.length == 0 ? URI.create(prefix) : null;
+            this.uriPrefix = prefix;
+        }
+    }
+
+    /**
+     * Creates a template that binds the given form parameters on each call.
+     *
+     * @param template    A request holding the static parts.
+     * @param boundParams The names of the parameters supplied to {@link #execute(String...)}, in order.
+     * @param <T>         The response type.
+     * @return The prepared request.
+     */
+    static <T> PreparedRequest<T> bindingParams(AbstractRequest<T> template, String... boundParams) {
+        return new PreparedRequest<>(template, boundParams.clone(), null, null);
+    }
+
+    /**
+     * Creates a template that binds a single header on each call, e.g. {@code Authorization: Bearer <token>}.
+     *
+     * @param template    A request holding the static parts.
+     * @param headerName  The name of the header supplied to {@link #execute(String...)}.
+     * @param valuePrefix The text put in front of the supplied value, e.g. {@code "Bearer "}.
+     * @param <T>         The response type.
+     * @return The prepared request.
+     */
+    static <T> PreparedRequest<T> bindingHeader(AbstractRequest<T> template, String headerName, String valuePrefix) {
+        return new PreparedRequest<>(template, new String[0], headerName, valuePrefix);
+    }
+
+    /**
+     * Executes the request with the given per-call values and returns the parsed response.
+     *
+     * @param values The values to bind, in the order the template declares them
+     *               (e.g. the authorization code, or the code and the state for Naver).
+     * @return The parsed response of type T.
+     * @throws OAuthValidationException If the number of values does not match or a value is missing.
+     * @throws OAuthException           If any error occurs during the request or parsing.
+     * @see AbstractRequest#execute()
+     */
+    public T execute(String... values) throws OAuthException {
+        validate(values);
+        return template.execute(uri(values), headers(values), body(values));
+    }
+
+    /**
+     * Executes the request with the given per-call values without blocking the calling thread.
+     *
+     * @param values The values to bind, in the order the template declares them.
+     * @return A future completed with the parsed response of type T.
+     * @throws OAuthValidationException If the number of values does not match or a value is missing.
+     * @see AbstractRequest#executeAsync()
+     */
+    public CompletableFuture<T> executeAsync(String... values) {
+        validate(values);
+        return template.executeAsync(uri(values), headers(values), body(values));
+    }
+
+    private void validate(String[] values) {
+        int expected = boundHeader != null ? 1 : boundParams.length;
+        if (values == null || values.length != expected) {
+            throw new OAuthValidationException(String.format(
+                    "[K-OAuth]: Prepared request expects %d value(s) but got %d.",
+                    expected, values == null ? 0 : values.length));
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null || values[i].isBlank()) {
+                throw new OAuthValidationException(String.format(
+                        "[K-OAuth]: Required parameter [%s] is missing.",
+                        boundHeader != null ? boundHeader : boundParams[i]));
+            }
+        }
+    }
+
+    private URI uri(String[] values) {
+        if (uri != null) {
+            return uri;
+        }
+        FormEncoder encoder = FormEncoder.forCurrentThread().raw(uriPrefix);
+        appendBoundParams(encoder, staticParams.length > 0, values);
+        return URI.create(encoder.asString());
+    }
+
+    private byte[] body(String[] values) {
+        if (get) {
+            return null;
+        }
+        if (boundParams.length == 0) {
+            return staticParams;
+        }
+        FormEncoder encoder = FormEncoder.forCurrentThread().raw(staticParams);
+        appendBoundParams(encoder, staticParams.length > 0, values);
+        return encoder.toByteArray();
+    }
+
+    private void appendBoundParams(FormEncoder encoder, boolean separate, String[] values) {
+        for (int i = 0; i < boundParams.length; i++) {
+            if (separate || i > 0) {
+                encoder.raw('&');
+            }
+            encoder.param(boundParams[i], values[i]);
+        }
+    }
+
+    private Map<String, String> headers(String[] values) {
+        if (boundHeader == null) {
+            return headers;
+        }
+        return new BoundHeaders(headers, boundHeader, boundHeaderPrefix + values[0]);
+    }
+
+    /**
+     * The static headers plus the header bound for one call, without copying the static ones.
+     */
+    private static final class BoundHeaders extends AbstractMap<String, String> {
+        private final Map<String, String> headers;
+        private final String name;
+        private final String value;
+
+        private BoundHeaders(Map<String, String> headers, String name, String value) {
+            this.headers = headers;
+            this.name = name;
+            this.value = value;
+        }
+
+        @Override
+        public String get(Object key) {
+            return name.equals(key) ? value : headers.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return name.equals(key) || headers.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return headers.size() + 1;
+        }
+
+        @Override
+        public void forEach(BiConsumer<? super String, ? super String> action) {
+            headers.forEach(action);
+            action.accept(name, value);
+        }
+
+        @Override
+        public Set<Entry<String, String>> entrySet() {
+            Map<String, String> all = new LinkedHashMap<>(headers);
+            all.put(name, value);
+            return Collections.unmodifiableMap(all).entrySet();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package kr.higu.request.kakao;
+
+import kr.higu.IHttpManager;
+import kr.higu.dto.kakao.KakaoJwksResponse;
+import kr.higu.json.JsonCodec;
+import kr.higu.request.AbstractRequest;
+import kr.higu.request.ErrorDetail;
+
+import java.net.URI;
+
+/**
+ * Request class for retrieving the public keys Kakao signs OpenID Connect ID tokens with.
+ * <p>
+ * Kakao asks apps to cache these keys rather than fetching them per login;
+ * {@link kr.higu.oidc.JwksKeyCache} does that.
+ * </p>
+ *
+ * @see <a href="https://developers.kakao.com/docs/latest/ko/kakaologin/rest-api#oidc-get-jwks">Kakao JWKS API Documentation</a>
+ * @author higukang
+ */
+public class KakaoJwksRequest extends AbstractRequest<KakaoJwksResponse> {
+    private static final URI JWKS_URI = URI.create("https://kauth.kakao.com/.well-known/jwks.json");
+    private static final String[] ERROR_CODE_FIELDS = {"error_code", "error"};
+    private static final String[] ERROR_MESSAGE_FIELDS = {"error_description"};
+
+    private KakaoJwksRequest(Builder builder) {
+        super(builder);
+    }
+
+    /**
+     * Builder for creating {@link KakaoJwksRequest} instances.
+     */
+    public static class Builder extends AbstractRequest.Builder<KakaoJwksResponse, Builder> {
+
+        /**
+         * Initializes the builder.
+         *
+         * @param httpManager The HTTP manager to use for the request.
+         */
+        public Builder(IHttpManager httpManager) {
+            this(httpManager, JsonCodec.getDefault());
+        }
+
+        /**
+         * Initializes the builder.
+         *
+         * @param httpManager The HTTP manager to use for the request.
+         * @param codec       The JSON codec to use for the request.
+         */
+        public Builder(IHttpManager httpManager, JsonCodec codec) {
+            super(httpManager, KakaoJwksResponse.class, codec);
+        }
+
+        @Override
+        protected Builder self() {
+            return this;
+        }
+
+        /**
+         * Builds the request. It takes no parameters and can be executed repeatedly.
+         *
+         * @return A new {@link KakaoJwksRequest} instance.
+         */
+        @Override
+        public KakaoJwksRequest build() {
+            return new KakaoJwksRequest(this);
+        }
+    }
+
+    @Override
+    protected String getMethod() {
+        return "GET";
+    }
+
+    @Override
+    protected URI getUri() {
+        return JWKS_URI;
+    }
+
+    /**
+     * Parses the error response from Kakao Auth Server (kauth).
+     *
+     * @param errorBody The raw error JSON response.
+     * @return An {@link ErrorDetail} containing the parsed error info.
+     */
+    @Override
+    protected ErrorDetail parseError(String errorBody) {
+        try {
+            return ErrorDetail.fromJson(codec, errorBody,
+                    ERROR_CODE_FIELDS, "UNKNOWN_KAUTH_ERROR",
+                    ERROR_MESSAGE_FIELDS, "No error description provided.");
+        } catch (Exception e) {
+            return new ErrorDetail("PARSING_ERROR", "Failed to parse kauth error: " + errorBody);
+        }
+    }
+}
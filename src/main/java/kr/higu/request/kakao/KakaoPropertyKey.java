@@ -1,5 +1,7 @@
 package kr.higu.request.kakao;
 
+import java.util.List;
+
 /**
  * Enumeration of property keys for selective user information retrieval from Kakao.
  * These keys correspond to the dot-notation paths in the Kakao user response.
@@ -9,26 +11,36 @@ package kr.higu.request.kakao;
  */
 public enum KakaoPropertyKey {
     /** The user's profile information (nickname, profile image). */
-    PROFILE("kakao_account.profile"),
+    PROFILE("kakao_account.profile",
+            "profile", "profile_needs_agreement", "profile_nickname_needs_agreement", "profile_image_needs_agreement"),
     /** The user's real name. */
-    NAME("kakao_account.name"),
+    NAME("kakao_account.name", "name", "name_needs_agreement"),
     /** The user's email address. */
-    EMAIL("kakao_account.email"),
+    EMAIL("kakao_account.email", "email", "email_needs_agreement", "is_email_valid", "is_email_verified"),
     /** The user's age range. */
-    AGE_RANGE("kakao_account.age_range"),
+    AGE_RANGE("kakao_account.age_range", "age_range", "age_range_needs_agreement"),
     /** The user's birthday. */
-    BIRTHDAY("kakao_account.birthday"),
+    BIRTHDAY("kakao_account.birthday", "birthday", "birthday_needs_agreement", "birthday_type", "is_leap_month"),
     /** The user's gender. */
-    GENDER("kakao_account.gender");
+    GENDER("kakao_account.gender", "gender", "gender_needs_agreement");
 
     private final String key;
+    private final List<String> accountMembers;
 
-    KakaoPropertyKey(String key) {
+    KakaoPropertyKey(String key, String... accountMembers) {
         this.key = key;
+        this.accountMembers = List.of(accountMembers);
     }
 
     /** @return The string key required by Kakao API. */
     public String getKey() {
         return key;
     }
+
+    /**
+     * Returns the {@code kakao_account} members Kakao returns for this key, including the agreement flags.
+     */
+    List<String> getAccountMembers() {
+        return accountMembers;
+    }
 }
@@ -0,0 +1,141 @@
+package kr.higu.request.kakao;
+
+import kr.higu.IHttpManager;
+import kr.higu.dto.kakao.KakaoTokenResponse;
+import kr.higu.json.JsonCodec;
+import kr.higu.request.AbstractRequest;
+import kr.higu.request.ErrorDetail;
+import kr.higu.request.PreparedRequest;
+
+import java.net.URI;
+
+/**
+ * Request class for renewing a Kakao access token with a refresh token.
+ * <p>
+ * The response carries a new access token. A new refresh token is only included when the current one
+ * is close to expiry; otherwise {@link KakaoTokenResponse#refreshToken()} is null and the current one stays valid.
+ * </p>
+ *
+ * @see <a href="https://developers.kakao.com/docs/latest/ko/kakaologin/rest-api#refresh-token">Kakao Refresh Token API Documentation</a>
+ * @author higukang
+ */
+public class KakaoRefreshTokenRequest extends AbstractRequest<KakaoTokenResponse> {
+    private static final URI TOKEN_URI = URI.create("https://kauth.kakao.com/oauth/token");
+    private static final String[] ERROR_CODE_FIELDS = {"error_code", "error"};
+    private static final String[] ERROR_MESSAGE_FIELDS = {"error_description"};
+
+    private KakaoRefreshTokenRequest(Builder builder) {
+        super(builder);
+    }
+
+    /**
+     * Builder for creating {@link KakaoRefreshTokenRequest} instances.
+     */
+    public static class Builder extends AbstractRequest.Builder<KakaoTokenResponse, Builder> {
+
+        /**
+         * Initializes the builder with default headers and the refresh_token grant type.
+         *
+         * @param httpManager The HTTP manager to use for the request.
+         */
+        public Builder(IHttpManager httpManager) {
+            this(httpManager, JsonCodec.getDefault());
+        }
+
+        /**
+         * Initializes the builder with default headers and the refresh_token grant type.
+         *
+         * @param httpManager The HTTP manager to use for the request.
+         * @param codec       The JSON codec to use for the request.
+         */
+        public Builder(IHttpManager httpManager, JsonCodec codec) {
+            super(httpManager, KakaoTokenResponse.class, codec);
+            this.setHeader("Content-Type", "application/x-www-form-urlencoded;charset=utf-8");
+            this.addParam("grant_type", "refresh_token");
+        }
+
+        /**
+         * Sets the REST API Key of your Kakao application.
+         *
+         * @param clientId The REST API Key.
+         * @return This builder instance.
+         */
+        public Builder clientId(String clientId) {
+            return addParam("client_id", clientId);
+        }
+
+        /**
+         * Sets the refresh token issued with the access token.
+         *
+         * @param refreshToken The refresh token.
+         * @return This builder instance.
+         */
+        public Builder refreshToken(String refreshToken) {
+            return addParam("refresh_token", refreshToken);
+        }
+
+        /**
+         * Sets the Client Secret if you have enabled the "Client Secret" feature in the Kakao Console.
+         * This is optional unless the feature is enabled.
+         * A {@code null} value is ignored.
+         *
+         * @param clientSecret The Client Secret string.
+         * @return This builder instance.
+         */
+        public Builder clientSecret(String clientSecret) {
+            return addParam("client_secret", clientSecret);
+        }
+
+        /**
+         * Validates the static parameters and compiles them into a reusable, thread-safe {@link PreparedRequest}.
+         * The refresh token is supplied on each call with {@link PreparedRequest#execute(String...)}.
+         *
+         * @return A prepared refresh request binding the refresh token.
+         * @throws kr.higu.exceptions.OAuthValidationException If any required static parameter is missing.
+         */
+        public PreparedRequest<KakaoTokenResponse> prepare() {
+            validate("grant_type", "client_id");
+            return prepare(new KakaoRefreshTokenRequest(this), "refresh_token");
+        }
+
+        @Override
+        protected Builder self() { return this; }
+
+        /**
+         * Validates the presence of required parameters and builds the request.
+         *
+         * @return A new {@link KakaoRefreshTokenRequest} instance.
+         * @throws kr.higu.exceptions.OAuthValidationException If any required parameter is missing.
+         */
+        @Override
+        public KakaoRefreshTokenRequest build() {
+            validate("grant_type", "client_id", "refresh_token");
+            return new KakaoRefreshTokenRequest(this);
+        }
+    }
+
+    @Override
+    protected String getMethod() { return "POST"; }
+
+    @Override
+    protected URI getUri() {
+        return TOKEN_URI;
+    }
+
+    /**
+     * Parses the error response from Kakao Auth Server (kauth), e.g. {@code invalid_grant} for an expired refresh token.
+     *
+     * @param errorBody The raw error JSON response.
+     * @return An {@link ErrorDetail} containing the parsed error info.
+     */
+    @Override
+    protected ErrorDetail parseError(String errorBody) {
+        try {
+            return ErrorDetail.fromJson(codec, errorBody,
+                    ERROR_CODE_FIELDS, "UNKNOWN_KAUTH_ERROR",
+                    ERROR_MESSAGE_FIELDS, "No error description provided.");
+        } catch (Exception e) {
+            return new ErrorDetail("PARSING_ERROR", "Failed to parse kauth error: " + errorBody);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package kr.higu.request.kakao;
+
+import kr.higu.IHttpManager;
+import kr.higu.dto.kakao.KakaoTokenInfoResponse;
+import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.json.JsonCodec;
+import kr.higu.request.AbstractRequest;
+import kr.higu.request.ErrorDetail;
+import kr.higu.request.PreparedRequest;
+
+import java.net.URI;
+
+/**
+ * Request class for checking a Kakao access token and reading the user ID and remaining lifetime it carries.
+ * <p>
+ * Much cheaper than {@link KakaoUserRequest} when only the validity of a token and the user ID are needed.
+ * An invalid or expired token fails with an {@link kr.higu.exceptions.detailed.OAuthResponseException}
+ * (HTTP 401, code {@code -401}).
+ * </p>
+ *
+ * @see <a href="https://developers.kakao.com/docs/latest/ko/kakaologin/rest-api#get-token-info">Kakao Token Info API Documentation</a>
+ * @author higukang
+ */
+public class KakaoTokenInfoRequest extends AbstractRequest<KakaoTokenInfoResponse> {
+    private static final URI TOKEN_INFO_URI = URI.create("https://kapi.kakao.com/v1/user/access_token_info");
+    private static final String[] ERROR_CODE_FIELDS = {"code"};
+    private static final String[] ERROR_MESSAGE_FIELDS = {"msg"};
+
+    private KakaoTokenInfoRequest(Builder builder) {
+        super(builder);
+    }
+
+    /**
+     * Builder for creating {@link KakaoTokenInfoRequest} instances.
+     */
+    public static class Builder extends AbstractRequest.Builder<KakaoTokenInfoResponse, Builder> {
+
+        /**
+         * Initializes the builder for Kakao API access.
+         *
+         * @param httpManager The HTTP manager to use for the request.
+         */
+        public Builder(IHttpManager httpManager) {
+            this(httpManager, JsonCodec.getDefault());
+        }
+
+        /**
+         * Initializes the builder for Kakao API access.
+         *
+         * @param httpManager The HTTP manager to use for the request.
+         * @param codec       The JSON codec to use for the request.
+         */
+        public Builder(IHttpManager httpManager, JsonCodec codec) {
+            super(httpManager, KakaoTokenInfoResponse.class, codec);
+        }
+
+        /**
+         * Sets the access token to check.
+         * Automatically formats it as a Bearer token in the Authorization header.
+         *
+         * @param accessToken The Kakao access token.
+         * @return This builder instance.
+         */
+        public Builder accessToken(String accessToken) {
+            return setHeader("Authorization", "Bearer " + accessToken);
+        }
+
+        /**
+         * Compiles the request into a reusable, thread-safe {@link PreparedRequest}.
+         * The access token is supplied on each call with {@link PreparedRequest#execute(String...)}.
+         *
+         * @return A prepared token info request binding the access token.
+         */
+        public PreparedRequest<KakaoTokenInfoResponse> prepare() {
+            return prepareWithHeader(new KakaoTokenInfoRequest(this), "Authorization", "Bearer ");
+        }
+
+        @Override
+        protected Builder self() {
+            return this;
+        }
+
+        /**
+         * Validates the presence of the Authorization header and builds the request.
+         *
+         * @return A new {@link KakaoTokenInfoRequest} instance.
+         * @throws OAuthException If the Authorization header is missing or malformed.
+         */
+        @Override
+        public KakaoTokenInfoRequest build() throws OAuthException {
+            String authHeader = this.headers.get("Authorization");
+            if (authHeader == null || authHeader.isBlank() || !authHeader.startsWith("Bearer ")) {
+                throw new OAuthValidationException("[K-OAuth] A valid access token is required to retrieve Kakao token information.");
+            }
+            return new KakaoTokenInfoRequest(this);
+        }
+    }
+
+    @Override
+    protected String getMethod() {
+        return "GET";
+    }
+
+    @Override
+    protected URI getUri() {
+        return TOKEN_INFO_URI;
+    }
+
+    /**
+     * Parses the error response from Kakao API Server (kapi), which uses 'code' and 'msg' fields.
+     *
+     * @param errorBody The raw error JSON response.
+     * @return An {@link ErrorDetail} containing the parsed error info.
+     */
+    @Override
+    protected ErrorDetail parseError(String errorBody) {
+        try {
+            return ErrorDetail.fromJson(codec, errorBody,
+                    ERROR_CODE_FIELDS, "UNKNOWN_KAPI_ERROR",
+                    ERROR_MESSAGE_FIELDS, "No error message provided.");
+        } catch (Exception e) {
+            return new ErrorDetail("PARSING_ERROR", "Failed to parse kapi error: " + errorBody);
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package kr.higu.request.kakao;
 
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import kr.higu.IHttpManager;
 import kr.higu.dto.kakao.KakaoTokenResponse;
+import kr.higu.json.JsonCodec;
 import kr.higu.request.AbstractRequest;
 import kr.higu.request.ErrorDetail;
+import kr.higu.request.PreparedRequest;
 
 import java.net.URI;
 
@@ -17,6 +17,9 @@ import java.net.URI;
  * @author higukang
  */
 public class KakaoTokenRequest extends AbstractRequest<KakaoTokenResponse> {
+    private static final URI TOKEN_URI = URI.create("https://kauth.kakao.com/oauth/token");
+    private static final String[] ERROR_CODE_FIELDS = {"error_code", "error"};
+    private static final String[] ERROR_MESSAGE_FIELDS = {"error_description"};
 
     private KakaoTokenRequest(Builder builder) {
         super(builder);
@@ -33,7 +36,17 @@ public class KakaoTokenRequest extends AbstractRequest<KakaoTokenResponse> {
          * @param httpManager The HTTP manager to use for the request.
          */
         public Builder(IHttpManager httpManager) {
-            super(httpManager, KakaoTokenResponse.class);
+            this(httpManager, JsonCodec.getDefault());
+        }
+
+        /**
+         * Initializes the builder with default headers and the mandatory grant_type.
+         *
+         * @param httpManager The HTTP manager to use for the request.
+         * @param codec       The JSON codec to use for the request.
+         */
+        public Builder(IHttpManager httpManager, JsonCodec codec) {
+            super(httpManager, KakaoTokenResponse.class, codec);
             this.setHeader("Content-Type", "application/x-www-form-urlencoded;charset=utf-8");
             this.addParam("grant_type", "authorization_code");
         }
@@ -80,6 +93,18 @@ public class KakaoTokenRequest extends AbstractRequest<KakaoTokenResponse> {
             return addParam("client_secret", clientSecret);
         }
 
+        /**
+         * Validates the static parameters and compiles them into a reusable, thread-safe {@link PreparedRequest}.
+         * The authorization code is supplied on each call with {@link PreparedRequest#execute(String...)}.
+         *
+         * @return A prepared token request binding the authorization code.
+         * @throws kr.higu.exceptions.OAuthValidationException If any required static parameter is missing.
+         */
+        public PreparedRequest<KakaoTokenResponse> prepare() {
+            validate("grant_type", "client_id", "redirect_uri");
+            return prepare(new KakaoTokenRequest(this), "code");
+        }
+
         @Override
         protected Builder self() { return this; }
 
@@ -101,12 +126,12 @@ public class KakaoTokenRequest extends AbstractRequest<KakaoTokenResponse> {
 
     @Override
     protected URI getUri() {
-        return URI.create("https://kauth.kakao.com/oauth/token");
+        return TOKEN_URI;
     }
 
     /**
      * Parses the error response from Kakao Auth Server (kauth).
-     * Extracts 'error_code' and 'error_description' from the JSON body.
+     * Extracts 'error_code' and 'error_description' from the JSON body in a single pass.
      *
      * @param errorBody The raw error JSON response.
      * @return An {@link ErrorDetail} containing the parsed error info.
@@ -114,18 +139,10 @@ public class KakaoTokenRequest extends AbstractRequest<KakaoTokenResponse> {
     @Override
     protected ErrorDetail parseError(String errorBody) {
         try {
-            JsonObject json = JsonParser.parseString(errorBody).getAsJsonObject();
-
             // Kakao returns 'error' as a string and sometimes 'error_code' as a specialized code.
-            String errorCode = json.has("error_code")
-                    ? json.get("error_code").getAsString()
-                    : (json.has("error") ? json.get("error").getAsString() : "UNKNOWN_KAUTH_ERROR");
-
-            String message = json.has("error_description")
-                    ? json.get("error_description").getAsString()
-                    : "No error description provided.";
-
-            return new ErrorDetail(errorCode, message);
+            return ErrorDetail.fromJson(codec, errorBody,
+                    ERROR_CODE_FIELDS, "UNKNOWN_KAUTH_ERROR",
+                    ERROR_MESSAGE_FIELDS, "No error description provided.");
         } catch (Exception e) {
             return new ErrorDetail("PARSING_ERROR", "Failed to parse kauth error: " + errorBody);
         }
@@ -1,16 +1,20 @@
 package kr.higu.request.kakao;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import kr.higu.IHttpManager;
 import kr.higu.dto.kakao.KakaoUserResponse;
 import kr.higu.exceptions.OAuthException;
 import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.json.JsonCodec;
+import kr.higu.json.JsonProjection;
 import kr.higu.request.AbstractRequest;
 import kr.higu.request.ErrorDetail;
+import kr.higu.request.PreparedRequest;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Request class for retrieving the profile and account information of the authenticated Kakao user.
@@ -20,21 +24,42 @@ import java.net.URI;
  * @author higukang
  */
 public class KakaoUserRequest extends AbstractRequest<KakaoUserResponse> {
+    private static final URI USER_URI = URI.create("https://kapi.kakao.com/v2/user/me");
+    private static final String[] ERROR_CODE_FIELDS = {"code"};
+    private static final String[] ERROR_MESSAGE_FIELDS = {"msg"};
+    private static final List<String> TOP_LEVEL_MEMBERS = List.of("id", "has_signed_up", "connected_at", "synched_at");
+
+    private final JsonProjection projection;
 
     private KakaoUserRequest(Builder builder) {
         super(builder);
+        this.projection = builder.projection();
     }
 
     /**
      * Builder for creating {@link KakaoUserRequest} instances.
      */
     public static class Builder extends AbstractRequest.Builder<KakaoUserResponse, Builder> {
+        private final Set<KakaoPropertyKey> propertyKeys = EnumSet.noneOf(KakaoPropertyKey.class);
+        private boolean projectedDecoding;
+
         /**
          * Initializes the builder with default headers for Kakao API access.
-         * * @param httpManager The HTTP manager to use for the request.
+         *
+         * @param httpManager The HTTP manager to use for the request.
          */
         public Builder(IHttpManager httpManager) {
-            super(httpManager, KakaoUserResponse.class);
+            this(httpManager, JsonCodec.getDefault());
+        }
+
+        /**
+         * Initializes the builder with default headers for Kakao API access.
+         *
+         * @param httpManager The HTTP manager to use for the request.
+         * @param codec       The JSON codec to use for the request.
+         */
+        public Builder(IHttpManager httpManager, JsonCodec codec) {
+            super(httpManager, KakaoUserResponse.class, codec);
             this.setHeader("Content-Type", "application/x-www-form-urlencoded;charset=utf-8");
         }
 
@@ -76,14 +101,56 @@ public class KakaoUserRequest extends AbstractRequest<KakaoUserResponse> {
             if (keys == null || keys.length == 0) {
                 return self();
             }
+            propertyKeys.clear();
+            propertyKeys.addAll(java.util.Arrays.asList(keys));
             String[] keyStrings = java.util.Arrays.stream(keys)
                     .map(KakaoPropertyKey::getKey)
                     .toArray(String[]::new);
 
-            String jsonArray = new Gson().toJson(keyStrings);
+            String jsonArray = codec.encodeStringArray(keyStrings);
             return addParam("property_keys", jsonArray);
         }
 
+        /**
+         * Sets whether to decode only the fields selected by {@link #propertyKeys(KakaoPropertyKey...)}.
+         * <p>
+         * When enabled, the top-level user fields and the {@code kakao_account} members of the requested keys
+         * (with their agreement flags) are decoded, and every other subtree, including {@code properties}
+         * and {@code partner}, is skipped without being parsed and left null.
+         * It has no effect unless property keys are set. Default is false.
+         * </p>
+         *
+         * @param projectedDecoding Set to true to decode only the requested fields.
+         * @return This builder instance.
+         */
+        public Builder projectedDecoding(boolean projectedDecoding) {
+            this.projectedDecoding = projectedDecoding;
+            return self();
+        }
+
+        private JsonProjection projection() {
+            if (!projectedDecoding || propertyKeys.isEmpty()) {
+                return null;
+            }
+            List<String> paths = new ArrayList<>(TOP_LEVEL_MEMBERS);
+            for (KakaoPropertyKey key : propertyKeys) {
+                for (String member : key.getAccountMembers()) {
+                    paths.add("kakao_account." + member);
+                }
+            }
+            return JsonProjection.of(paths);
+        }
+
+        /**
+         * Compiles the static options (e.g. property keys) into a reusable, thread-safe {@link PreparedRequest}.
+         * The access token is supplied on each call with {@link PreparedRequest#execute(String...)}.
+         *
+         * @return A prepared user request binding the access token.
+         */
+        public PreparedRequest<KakaoUserResponse> prepare() {
+            return prepareWithHeader(new KakaoUserRequest(this), "Authorization", "Bearer ");
+        }
+
         @Override
         protected Builder self() {
             return this;
@@ -105,6 +172,11 @@ public class KakaoUserRequest extends AbstractRequest<KakaoUserResponse> {
         }
     }
 
+    @Override
+    protected JsonProjection responseProjection() {
+        return projection;
+    }
+
     @Override
     protected String getMethod() {
         return "GET";
@@ -112,7 +184,7 @@ public class KakaoUserRequest extends AbstractRequest<KakaoUserResponse> {
 
     @Override
     protected URI getUri() {
-        return URI.create("https://kapi.kakao.com/v2/user/me");
+        return USER_URI;
     }
 
     /**
@@ -125,17 +197,9 @@ public class KakaoUserRequest extends AbstractRequest<KakaoUserResponse> {
     @Override
     protected ErrorDetail parseError(String errorBody) {
         try {
-            JsonObject json = JsonParser.parseString(errorBody).getAsJsonObject();
-
-            String errorCode = json.has("code")
-                    ? json.get("code").getAsString()
-                    : "UNKNOWN_KAPI_ERROR";
-
-            String message = json.has("msg")
-                    ? json.get("msg").getAsString()
-                    : "No error message provided.";
-
-            return new ErrorDetail(errorCode, message);
+            return ErrorDetail.fromJson(codec, errorBody,
+                    ERROR_CODE_FIELDS, "UNKNOWN_KAPI_ERROR",
+                    ERROR_MESSAGE_FIELDS, "No error message provided.");
         } catch (Exception e) {
             return new ErrorDetail("PARSING_ERROR", "Failed to parse kapi error: " + errorBody);
         }
@@ -0,0 +1,154 @@
+package kr.higu.request.naver;
+
+import kr.higu.IHttpManager;
+import kr.higu.dto.naver.NaverTokenResponse;
+import kr.higu.exceptions.OAuthException;
+import kr.higu.json.JsonCodec;
+import kr.higu.request.AbstractRequest;
+import kr.higu.request.ErrorDetail;
+import kr.higu.request.PreparedRequest;
+
+import java.net.URI;
+import java.util.function.Supplier;
+
+/**
+ * Request class for renewing a Naver access token with a refresh token.
+ * The refresh token itself is not renewed, so {@link NaverTokenResponse#refreshToken()} is null in the response.
+ * Like the token request, errors may be returned with a 200 OK status.
+ *
+ * @see <a href="https://developers.naver.com/docs/login/api/api.md">Naver Token API Documentation</a>
+ * @author higukang
+ */
+public class NaverRefreshTokenRequest extends AbstractRequest<NaverTokenResponse> {
+    private static final URI TOKEN_URI = URI.create("https://nid.naver.com/oauth2.0/token");
+    private static final String[] ERROR_CODE_FIELDS = {"error"};
+    private static final String[] ERROR_MESSAGE_FIELDS = {"error_description"};
+
+    private NaverRefreshTokenRequest(Builder builder) {
+        super(builder);
+    }
+
+    /**
+     * Builder for creating {@link NaverRefreshTokenRequest} instances.
+     * Requires clientId, clientSecret and refreshToken to be set.
+     */
+    public static class Builder extends AbstractRequest.Builder<NaverTokenResponse, Builder> {
+
+        /**
+         * Initializes the builder with Naver-specific default headers and the refresh_token grant type.
+         *
+         * @param httpManager The HTTP manager to use for the request.
+         */
+        public Builder(IHttpManager httpManager) {
+            this(httpManager, JsonCodec.getDefault());
+        }
+
+        /**
+         * Initializes the builder with Naver-specific default headers and the refresh_token grant type.
+         *
+         * @param httpManager The HTTP manager to use for the request.
+         * @param codec       The JSON codec to use for the request.
+         */
+        public Builder(IHttpManager httpManager, JsonCodec codec) {
+            super(httpManager, NaverTokenResponse.class, codec);
+            this.setHeader("Content-Type", "application/x-www-form-urlencoded;charset=utf-8");
+            this.addParam("grant_type", "refresh_token");
+        }
+
+        /**
+         * Sets the Client ID issued when registering the application on Naver Developers.
+         *
+         * @param clientId The Naver Client ID.
+         * @return This builder instance.
+         */
+        public Builder clientId(String clientId) {
+            return addParam("client_id", clientId);
+        }
+
+        /**
+         * Sets the Client Secret issued when registering the application on Naver Developers.
+         *
+         * @param clientSecret The Naver Client Secret.
+         * @return This builder instance.
+         */
+        public Builder clientSecret(String clientSecret) {
+            return addParam("client_secret", clientSecret);
+        }
+
+        /**
+         * Sets the refresh token issued with the access token.
+         *
+         * @param refreshToken The refresh token.
+         * @return This builder instance.
+         */
+        public Builder refreshToken(String refreshToken) {
+            return addParam("refresh_token", refreshToken);
+        }
+
+        /**
+         * Validates the static parameters and compiles them into a reusable, thread-safe {@link PreparedRequest}.
+         * The refresh token is supplied on each call with {@link PreparedRequest#execute(String...)}.
+         *
+         * @return A prepared refresh request binding the refresh token.
+         * @throws kr.higu.exceptions.OAuthValidationException If any required static parameter is missing.
+         */
+        public PreparedRequest<NaverTokenResponse> prepare() {
+            validate("grant_type", "client_id", "client_secret");
+            return prepare(new NaverRefreshTokenRequest(this), "refresh_token");
+        }
+
+        @Override
+        protected Builder self() {
+            return this;
+        }
+
+        /**
+         * Validates mandatory parameters and builds the {@link NaverRefreshTokenRequest}.
+         *
+         * @return A new request instance.
+         * @throws kr.higu.exceptions.OAuthValidationException If any required parameter is missing.
+         */
+        @Override
+        public NaverRefreshTokenRequest build() {
+            validate("grant_type", "client_id", "client_secret", "refresh_token");
+            return new NaverRefreshTokenRequest(this);
+        }
+    }
+
+    @Override
+    protected String getMethod() { return "POST"; }
+
+    @Override
+    protected URI getUri() {
+        return TOKEN_URI;
+    }
+
+    /**
+     * Parses error responses from the Naver Auth Server.
+     *
+     * @param errorBody The raw JSON error response.
+     * @return A parsed {@link ErrorDetail}.
+     */
+    @Override
+    protected ErrorDetail parseError(String errorBody) {
+        try {
+            return ErrorDetail.fromJson(codec, errorBody,
+                    ERROR_CODE_FIELDS, "NAVER_AUTH_ERROR",
+                    ERROR_MESSAGE_FIELDS, "No description provided");
+        } catch (Exception e) {
+            return new ErrorDetail("PARSING_ERROR", "Failed to parse Naver auth error: " + errorBody);
+        }
+    }
+
+    /**
+     * Rejects 200 OK responses carrying an 'error' field, e.g. {@code invalid_request} for an unknown refresh token.
+     *
+     * @param response The decoded response from Naver.
+     * @param rawBody  Supplies the raw response body.
+     * @throws OAuthException If the body contains an 'error' field or the response is empty.
+     */
+    @Override
+    protected void validateSuccessResponse(NaverTokenResponse response, Supplier<String> rawBody) throws OAuthException {
+        NaverTokenRequest.validateTokenResponse(response, rawBody);
+    }
+}
@@ -1,16 +1,17 @@
 package kr.higu.request.naver;
 
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import kr.higu.IHttpManager;
 import kr.higu.dto.naver.NaverTokenResponse;
 import kr.higu.exceptions.OAuthException;
 import kr.higu.exceptions.detailed.OAuthParsingException;
 import kr.higu.exceptions.detailed.OAuthResponseException;
+import kr.higu.json.JsonCodec;
 import kr.higu.request.AbstractRequest;
 import kr.higu.request.ErrorDetail;
+import kr.higu.request.PreparedRequest;
 
 import java.net.URI;
+import java.util.function.Supplier;
 
 /**
  * Request class for exchanging an authorization code for a Naver access token.
@@ -21,6 +22,11 @@ import java.net.URI;
  * @author higukang
  */
 public class NaverTokenRequest extends AbstractRequest<NaverTokenResponse> {
+    private static final URI TOKEN_URI = URI.create("https://nid.naver.com/oauth2.0/token");
+    private static final String[] ERROR_CODE_FIELDS = {"error"};
+    private static final String[] ERROR_MESSAGE_FIELDS = {"error_description"};
+    private static final String DEFAULT_ERROR_CODE = "NAVER_AUTH_ERROR";
+    private static final String DEFAULT_ERROR_MESSAGE = "No description provided";
 
     private NaverTokenRequest(Builder builder) {
         super(builder);
@@ -38,7 +44,17 @@ public class NaverTokenRequest extends AbstractRequest<NaverTokenResponse> {
          * @param httpManager The HTTP manager to use for the request.
          */
         public Builder(IHttpManager httpManager) {
-            super(httpManager, NaverTokenResponse.class);
+            this(httpManager, JsonCodec.getDefault());
+        }
+
+        /**
+         * Initializes the builder with Naver-specific default headers and grant_type.
+         *
+         * @param httpManager The HTTP manager to use for the request.
+         * @param codec       The JSON codec to use for the request.
+         */
+        public Builder(IHttpManager httpManager, JsonCodec codec) {
+            super(httpManager, NaverTokenResponse.class, codec);
             this.setHeader("Content-Type", "application/x-www-form-urlencoded;charset=utf-8");
             this.addParam("grant_type", "authorization_code");
         }
@@ -84,6 +100,19 @@ public class NaverTokenRequest extends AbstractRequest<NaverTokenResponse> {
             return addParam("state", state);
         }
 
+        /**
+         * Validates the static parameters and compiles them into a reusable, thread-safe {@link PreparedRequest}.
+         * The authorization code and the state are supplied on each call with
+         * {@link PreparedRequest#execute(String...)}, in that order.
+         *
+         * @return A prepared token request binding the code and the state.
+         * @throws kr.higu.exceptions.OAuthValidationException If any required static parameter is missing.
+         */
+        public PreparedRequest<NaverTokenResponse> prepare() {
+            validate("grant_type", "client_id", "client_secret");
+            return prepare(new NaverTokenRequest(this), "code", "state");
+        }
+
         @Override
         protected Builder self() {
             return this;
@@ -107,7 +136,7 @@ public class NaverTokenRequest extends AbstractRequest<NaverTokenResponse> {
 
     @Override
     protected URI getUri() {
-        return URI.create("https://nid.naver.com/oauth2.0/token");
+        return TOKEN_URI;
     }
 
     /**
@@ -120,11 +149,10 @@ public class NaverTokenRequest extends AbstractRequest<NaverTokenResponse> {
     @Override
     protected ErrorDetail parseError(String errorBody) {
         try {
-            JsonObject json = JsonParser.parseString(errorBody).getAsJsonObject();
             // Naver Auth uses 'error' and 'error_description'
-            String errorCode = json.has("error") ? json.get("error").getAsString() : "NAVER_AUTH_ERROR";
-            String message = json.has("error_description") ? json.get("error_description").getAsString() : "No description provided";
-            return new ErrorDetail(errorCode, message);
+            return ErrorDetail.fromJson(codec, errorBody,
+                    ERROR_CODE_FIELDS, DEFAULT_ERROR_CODE,
+                    ERROR_MESSAGE_FIELDS, DEFAULT_ERROR_MESSAGE);
         } catch (Exception e) {
             return new ErrorDetail("PARSING_ERROR", "Failed to parse Naver auth error: " + errorBody);
         }
@@ -133,26 +161,32 @@ public class NaverTokenRequest extends AbstractRequest<NaverTokenResponse> {
     /**
      * Handles a specific case for Naver where the server returns a 200 OK status
      * but the response body contains an 'error' field.
+     * The error details are taken from the already decoded response, so the body is not parsed again.
      *
-     * @param responseBody The raw response body from Naver.
-     * @throws OAuthException If the body contains an 'error' field or the response cannot be parsed.
+     * @param response The decoded response from Naver.
+     * @param rawBody  Supplies the raw response body.
+     * @throws OAuthException If the body contains an 'error' field or the response is empty.
      */
     @Override
-    protected void validateSuccessResponse(String responseBody) throws OAuthException {
-        final JsonObject json;
-        try {
-            json = JsonParser.parseString(responseBody).getAsJsonObject();
-        } catch (Exception e) {
+    protected void validateSuccessResponse(NaverTokenResponse response, Supplier<String> rawBody) throws OAuthException {
+        validateTokenResponse(response, rawBody);
+    }
+
+    /**
+     * Shared by the token and refresh requests, which both get the 200 OK errors from the same endpoint.
+     */
+    static void validateTokenResponse(NaverTokenResponse response, Supplier<String> rawBody) throws OAuthException {
+        if (response == null) {
             throw new OAuthParsingException(
-                    "[K-OAuth] Failed to parse NaverTokenResponse response: " + e.getMessage(),
-                    e
+                    "[K-OAuth] Failed to parse NaverTokenResponse response: empty body",
+                    null
             );
         }
 
         // Check if 'error' field exists even if HTTP status is 200
-        if (json.has("error")) {
-            ErrorDetail detail = parseError(responseBody);
-            throw new OAuthResponseException(200, detail.errorCode(), responseBody, detail.message());
+        if (response.error() != null) {
+            String message = response.errorDescription() != null ? response.errorDescription() : DEFAULT_ERROR_MESSAGE;
+            throw new OAuthResponseException(200, response.error(), rawBody.get(), message);
         }
     }
 }
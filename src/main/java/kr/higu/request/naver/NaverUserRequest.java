@@ -1,13 +1,13 @@
 package kr.higu.request.naver;
 
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import kr.higu.IHttpManager;
 import kr.higu.dto.naver.NaverUserResponse;
 import kr.higu.exceptions.OAuthException;
 import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.json.JsonCodec;
 import kr.higu.request.AbstractRequest;
 import kr.higu.request.ErrorDetail;
+import kr.higu.request.PreparedRequest;
 
 import java.net.URI;
 
@@ -19,6 +19,9 @@ import java.net.URI;
  * @author higukang
  */
 public class NaverUserRequest extends AbstractRequest<NaverUserResponse> {
+    private static final URI USER_URI = URI.create("https://openapi.naver.com/v1/nid/me");
+    private static final String[] ERROR_CODE_FIELDS = {"resultcode", "errorCode"};
+    private static final String[] ERROR_MESSAGE_FIELDS = {"message", "errorMessage"};
 
     private NaverUserRequest(Builder builder) {
         super(builder);
@@ -34,7 +37,17 @@ public class NaverUserRequest extends AbstractRequest<NaverUserResponse> {
          * @param httpManager The HTTP manager to use for the request.
          */
         public Builder(IHttpManager httpManager) {
-            super(httpManager, NaverUserResponse.class);
+            this(httpManager, JsonCodec.getDefault());
+        }
+
+        /**
+         * Initializes the builder for Naver Profile API.
+         *
+         * @param httpManager The HTTP manager to use for the request.
+         * @param codec       The JSON codec to use for the request.
+         */
+        public Builder(IHttpManager httpManager, JsonCodec codec) {
+            super(httpManager, NaverUserResponse.class, codec);
             this.setHeader("Content-Type", "application/x-www-form-urlencoded;charset=utf-8");
         }
 
@@ -49,6 +62,16 @@ public class NaverUserRequest extends AbstractRequest<NaverUserResponse> {
             return setHeader("Authorization", "Bearer " + accessToken);
         }
 
+        /**
+         * Compiles the request into a reusable, thread-safe {@link PreparedRequest}.
+         * The access token is supplied on each call with {@link PreparedRequest#execute(String...)}.
+         *
+         * @return A prepared user request binding the access token.
+         */
+        public PreparedRequest<NaverUserResponse> prepare() {
+            return prepareWithHeader(new NaverUserRequest(this), "Authorization", "Bearer ");
+        }
+
         @Override
         protected Builder self() { return this; }
 
@@ -73,7 +96,7 @@ public class NaverUserRequest extends AbstractRequest<NaverUserResponse> {
 
     @Override
     protected URI getUri() {
-        return URI.create("https://openapi.naver.com/v1/nid/me");
+        return USER_URI;
     }
 
     /**
@@ -87,25 +110,10 @@ public class NaverUserRequest extends AbstractRequest<NaverUserResponse> {
     @Override
     protected ErrorDetail parseError(String errorBody) {
         try {
-            JsonObject json = JsonParser.parseString(errorBody).getAsJsonObject();
-
-            // 1. errorCode 또는 resultcode 중 있는 것을 선택
-            String errorCode = "NAVER_API_ERROR";
-            if (json.has("resultcode")) {
-                errorCode = json.get("resultcode").getAsString();
-            } else if (json.has("errorCode")) {
-                errorCode = json.get("errorCode").getAsString();
-            }
-
-            // 2. message 또는 errorMessage 중 있는 것을 선택
-            String message = "No error message provided";
-            if (json.has("message")) {
-                message = json.get("message").getAsString();
-            } else if (json.has("errorMessage")) {
-                message = json.get("errorMessage").getAsString();
-            }
-
-            return new ErrorDetail(errorCode, message);
+            // errorCode 또는 resultcode, message 또는 errorMessage 중 있는 것을 선택
+            return ErrorDetail.fromJson(codec, errorBody,
+                    ERROR_CODE_FIELDS, "NAVER_API_ERROR",
+                    ERROR_MESSAGE_FIELDS, "No error message provided");
         } catch (Exception e) {
             return new ErrorDetail("PARSING_ERROR", "Failed to parse Naver API error: " + errorBody);
         }
@@ -0,0 +1,153 @@
+package kr.higu.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Adaptive concurrency limit for a single host, adjusted with AIMD (additive increase, multiplicative decrease).
+ * <p>
+ * Each call that completes within the latency threshold while the host is busy (at least half of the limit in flight)
+ * raises the limit by one. A call that is slow or fails with an overload signal multiplies the limit by the backoff ratio,
+ * at most once per round trip: calls that were already in flight at the last decrease saw the same congestion,
+ * so their slow outcomes do not shrink the limit again.
+ * The limit therefore grows while the provider keeps up and shrinks quickly once its round-trip time degrades.
+ * </p>
+ * <p>
+ * Acquiring and releasing a slot are lock-free. A lock is only taken when callers are waiting for a slot.
+ * </p>
+ *
+ * @author higukang
+ */
+public final class AdaptiveConcurrencyLimiter {
+    private final ConcurrencyLimitConfig config;
+    private final LongSupplier clock;
+    private final AtomicInteger limit;
+    private final AtomicLong lastDecrease;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    AdaptiveConcurrencyLimiter(ConcurrencyLimitConfig config) {
+        this(config, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(ConcurrencyLimitConfig config, LongSupplier clock) {
+        this.config = config;
+        this.clock = clock;
+        this.limit = new AtomicInteger(config.initialLimit());
+        this.lastDecrease = new AtomicLong(clock.getAsLong());
+    }
+
+    /**
+     * @return The current concurrency limit.
+     */
+    public int limit() {
+        return limit.get();
+    }
+
+    /**
+     * @return The number of calls currently in flight.
+     */
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return The number of callers currently waiting for a slot.
+     */
+    public int queueDepth() {
+        return waiting.get();
+    }
+
+    /**
+     * Takes a slot if one is free.
+     *
+     * @return Whether a slot was taken.
+     */
+    boolean tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit.get()) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Takes a slot, waiting up to the configured maximum wait if the queue is not full.
+     *
+     * @return Whether a slot was taken.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    boolean acquire() throws InterruptedException {
+        if (tryAcquire()) {
+            return true;
+        }
+        long remaining = config.maxWaitNanos();
+        if (remaining <= 0 || waiting.incrementAndGet() > config.maxQueueSize()) {
+            if (remaining > 0) {
+                waiting.decrementAndGet();
+            }
+            return false;
+        }
+        lock.lock();
+        try {
+            while (!tryAcquire()) {
+                if (remaining <= 0) {
+                    return false;
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+            return true;
+        } finally {
+            waiting.decrementAndGet();
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Frees a slot and adjusts the limit with the outcome of the call.
+     *
+     * @param rttNanos The round-trip time of the call.
+     * @param overload Whether the call failed in a way that shows the provider is overloaded.
+     */
+    void release(long rttNanos, boolean overload) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (overload || rttNanos >= config.latencyThresholdNanos()) {
+            long now = clock.getAsLong();
+            long last = lastDecrease.get();
+            // Only a call sent after the last decrease may decrease again; of concurrent ones, one wins.
+            if (now - rttNanos - last >= 0 && lastDecrease.compareAndSet(last, now)) {
+                limit.updateAndGet(current -> Math.max(config.minLimit(), (int) (current * config.backoffRatio())));
+            }
+        } else if (inFlightBefore * 2 >= limit.get()) {
+            limit.updateAndGet(current -> Math.min(config.maxLimit(), current + 1));
+        }
+        signalWaiters();
+    }
+
+    /**
+     * Frees a slot without adjusting the limit, for calls whose outcome says nothing about the provider's load.
+     */
+    void releaseIgnored() {
+        inFlight.decrementAndGet();
+        signalWaiters();
+    }
+
+    private void signalWaiters() {
+        if (waiting.get() > 0) {
+            lock.lock();
+            try {
+                released.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
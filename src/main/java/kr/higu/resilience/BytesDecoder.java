@@ -0,0 +1,43 @@
+package kr.higu.resilience;
+
+import kr.higu.ResponseBodyDecoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * Captures the raw response body, so decorators can share or keep it and let each caller decode it.
+ * The byte array variant copies, because the manager may pass a pooled buffer.
+ *
+ * @author higukang
+ */
+final class BytesDecoder implements ResponseBodyDecoder<byte[]> {
+    static final BytesDecoder INSTANCE = new BytesDecoder();
+
+    private BytesDecoder() {
+    }
+
+    @Override
+    public byte[] decode(InputStream body) throws IOException {
+        return body.readAllBytes();
+    }
+
+    @Override
+    public byte[] decode(byte[] bytes, int offset, int length) {
+        return Arrays.copyOfRange(bytes, offset, offset + length);
+    }
+
+    /**
+     * Decodes a captured body with the caller's decoder.
+     * Decoding failures surface as unchecked exceptions, like they do on the streaming path.
+     */
+    static <R> R decode(byte[] body, ResponseBodyDecoder<R> decoder) {
+        try {
+            return decoder.decode(body, 0, body.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
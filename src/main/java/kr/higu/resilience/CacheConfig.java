@@ -0,0 +1,118 @@
+package kr.higu.resilience;
+
+import kr.higu.exceptions.OAuthValidationException;
+
+import java.time.Duration;
+
+/**
+ * Settings of a {@link CachingHttpManager}. Instances are immutable and thread-safe.
+ *
+ * <pre>{@code
+ * CacheConfig config = CacheConfig.builder()
+ *         .maximumSize(50_000)
+ *         .ttl(Duration.ofMinutes(10))
+ *         .staleIfError(Duration.ofHours(1))
+ *         .build();
+ * }</pre>
+ *
+ * @author higukang
+ */
+public final class CacheConfig {
+    private final long maximumSize;
+    private final long ttlNanos;
+    private final long staleIfErrorNanos;
+
+    private CacheConfig(Builder builder) {
+        this.maximumSize = builder.maximumSize;
+        this.ttlNanos = builder.ttl.toNanos();
+        this.staleIfErrorNanos = builder.staleIfError.toNanos();
+    }
+
+    /**
+     * @return A builder initialized with the default settings.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return A configuration with the default settings.
+     */
+    public static CacheConfig ofDefaults() {
+        return new Builder().build();
+    }
+
+    /**
+     * Builder for {@link CacheConfig}.
+     * <p>
+     * Defaults: up to 10,000 responses, each fresh for 5 minutes, and no stale responses served on errors.
+     * </p>
+     */
+    public static final class Builder {
+        private long maximumSize = 10_000;
+        private Duration ttl = Duration.ofMinutes(5);
+        private Duration staleIfError = Duration.ZERO;
+
+        private Builder() {
+        }
+
+        /**
+         * @param maximumSize The maximum number of cached responses.
+         * @return This builder instance.
+         */
+        public Builder maximumSize(long maximumSize) {
+            if (maximumSize < 1) {
+                throw new OAuthValidationException("[K-OAuth] Cache maximum size must be at least 1.");
+            }
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * @param ttl How long a response is served from the cache after it was fetched.
+         * @return This builder instance.
+         */
+        public Builder ttl(Duration ttl) {
+            if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+                throw new OAuthValidationException("[K-OAuth] Cache TTL must be positive.");
+            }
+            this.ttl = ttl;
+            return this;
+        }
+
+        /**
+         * Serves an expired response when the provider is failing, instead of the error.
+         * Only network errors, HTTP 429 and 5xx responses, and requests refused by an open circuit
+         * or a client-side limit qualify; an invalid token is never answered from the cache.
+         *
+         * @param maxStale How long after expiry a response may still be served on errors. Zero disables it.
+         * @return This builder instance.
+         */
+        public Builder staleIfError(Duration maxStale) {
+            if (maxStale == null || maxStale.isNegative()) {
+                throw new OAuthValidationException("[K-OAuth] Stale-if-error duration must not be negative.");
+            }
+            this.staleIfError = maxStale;
+            return this;
+        }
+
+        /**
+         * @return A new {@link CacheConfig}.
+         */
+        public CacheConfig build() {
+            return new CacheConfig(this);
+        }
+    }
+
+    long maximumSize() {
+        return maximumSize;
+    }
+
+    long ttlNanos() {
+        return ttlNanos;
+    }
+
+    long staleIfErrorNanos() {
+        return staleIfErrorNanos;
+    }
+}
@@ -0,0 +1,22 @@
+package kr.higu.resilience;
+
+/**
+ * A snapshot of the counters of a {@link CachingHttpManager}.
+ *
+ * @param hits       Requests answered with a fresh cached response.
+ * @param misses     Requests sent to the provider because no fresh response was cached.
+ * @param staleHits  Misses that failed and were answered with an expired cached response instead.
+ * @param evictions  Responses removed to make room for new ones, or because they expired.
+ * @param rejections Responses not cached because they were less popular than the entry they would have replaced.
+ * @author higukang
+ */
+public record CacheStats(long hits, long misses, long staleHits, long evictions, long rejections) {
+
+    /**
+     * @return The share of requests answered with a fresh cached response, between 0 and 1.
+     */
+    public double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+}
@@ -0,0 +1,321 @@
+package kr.higu.resilience;
+
+import kr.higu.ForwardingHttpManager;
+import kr.higu.IHttpManager;
+import kr.higu.OAuthEndpoint;
+import kr.higu.ResponseBodyDecoder;
+import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.exceptions.detailed.OAuthCircuitOpenException;
+import kr.higu.exceptions.detailed.OAuthNetworkException;
+import kr.higu.exceptions.detailed.OAuthRateLimitedException;
+import kr.higu.exceptions.detailed.OAuthRejectedException;
+import kr.higu.exceptions.detailed.OAuthResponseException;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * An {@link IHttpManager} decorator that caches user information responses
+ * ({@code GET https://kapi.kakao.com/v2/user/me} and {@code GET https://openapi.naver.com/v1/nid/me}),
+ * which rarely change but are requested on every session refresh. Other requests are forwarded as they are.
+ * <p>
+ * Responses are keyed by a SHA-256 hash of the URI and headers, so the access token is never kept as a key,
+ * and are served for the configured TTL. Reads do not block. When the cache is full, a new response is only
+ * admitted if its key has been requested more often recently than the key of the least recently used entry
+ * (TinyLFU), so a burst of one-off tokens cannot flush the profiles of active users.
+ * </p>
+ * <p>
+ * With {@link CacheConfig.Builder#staleIfError(java.time.Duration)}, an expired response is served instead of
+ * the error when the provider is failing or the request was refused by an open circuit or a client-side limit.
+ * Place this manager outside the circuit breaker and limiters so it sees those refusals.
+ * </p>
+ *
+ * <pre>{@code
+ * IHttpManager httpManager = new CachingHttpManager(
+ *         new CircuitBreakingHttpManager(OAuthHttpManager.getInstance(), CircuitBreakerConfig.ofDefaults()),
+ *         CacheConfig.builder().staleIfError(Duration.ofHours(1)).build());
+ * }</pre>
+ *
+ * @author higukang
+ */
+public class CachingHttpManager extends ForwardingHttpManager {
+    private final CacheConfig config;
+    private final LongSupplier clock;
+    private final FrequencySketch sketch;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    /**
+     * Keys in the order their entries were last written, so sorted by {@code fetchedAt}:
+     * expired entries are always at the head. Guarded by {@link #evictionLock}.
+     */
+    private final LinkedHashSet<String> order = new LinkedHashSet<>();
+    /**
+     * Keys in the order their entries were last read or written; the head is the admission victim.
+     * Guarded by {@link #evictionLock}.
+     */
+    private final LinkedHashSet<String> recency = new LinkedHashSet<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    /**
+     * @param delegate The manager sending the requests.
+     * @param config   The cache settings.
+     * @throws OAuthValidationException If an argument is null.
+     */
+    public CachingHttpManager(IHttpManager delegate, CacheConfig config) {
+        this(delegate, config, System::nanoTime);
+    }
+
+    CachingHttpManager(IHttpManager delegate, CacheConfig config, LongSupplier clock) {
+        super(delegate);
+        if (config == null) {
+            throw new OAuthValidationException("[K-OAuth] CacheConfig must not be null.");
+        }
+        this.config = config;
+        this.clock = clock;
+        this.sketch = new FrequencySketch(config.maximumSize());
+    }
+
+    /**
+     * @return The counters since this manager was created.
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), staleHits.sum(), evictions.sum(), rejections.sum());
+    }
+
+    /**
+     * @return The number of cached responses, including expired ones kept for stale-if-error.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes every cached response, e.g. after users changed their profiles.
+     */
+    public void invalidateAll() {
+        evictionLock.lock();
+        try {
+            entries.clear();
+            order.clear();
+            recency.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public String get(URI uri, Map<String, String> headers) throws OAuthException {
+        if (!isUserInfo(uri)) {
+            return super.get(uri, headers);
+        }
+        byte[] body = cached(RequestDigest.of("GET", uri, headers, null),
+                () -> super.get(uri, headers).getBytes(StandardCharsets.UTF_8));
+        return new String(body, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public <R> R get(URI uri, Map<String, String> headers, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        if (!isUserInfo(uri)) {
+            return super.get(uri, headers, decoder);
+        }
+        byte[] body = cached(RequestDigest.of("GET", uri, headers, null),
+                () -> super.get(uri, headers, BytesDecoder.INSTANCE));
+        return BytesDecoder.decode(body, decoder);
+    }
+
+    @Override
+    public CompletableFuture<String> getAsync(URI uri, Map<String, String> headers) {
+        if (!isUserInfo(uri)) {
+            return super.getAsync(uri, headers);
+        }
+        String key = RequestDigest.of("GET", uri, headers, null);
+        Entry entry = lookup(key);
+        if (entry != null && isFresh(entry, clock.getAsLong())) {
+            hits.increment();
+            touch(key);
+            return CompletableFuture.completedFuture(new String(entry.body, StandardCharsets.UTF_8));
+        }
+        misses.increment();
+        return super.getAsync(uri, headers).handle((response, error) -> {
+            if (error == null) {
+                store(key, response.getBytes(StandardCharsets.UTF_8));
+                return response;
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            byte[] stale = stale(entry, cause);
+            if (stale == null) {
+                throw error instanceof CompletionException completionException
+                        ? completionException
+                        : new CompletionException(cause);
+            }
+            return new String(stale, StandardCharsets.UTF_8);
+        });
+    }
+
+    /**
+     * A single blocking call returning the raw response body.
+     */
+    @FunctionalInterface
+    private interface Call {
+        byte[] run() throws OAuthException;
+    }
+
+    /**
+     * A cached response body and when it was fetched.
+     */
+    private record Entry(byte[] body, long fetchedAt) {
+    }
+
+    private byte[] cached(String key, Call call) throws OAuthException {
+        Entry entry = lookup(key);
+        if (entry != null && isFresh(entry, clock.getAsLong())) {
+            hits.increment();
+            touch(key);
+            return entry.body;
+        }
+        misses.increment();
+        try {
+            byte[] body = call.run();
+            store(key, body);
+            return body;
+        } catch (OAuthException | RuntimeException e) {
+            byte[] stale = stale(entry, e);
+            if (stale == null) {
+                throw e;
+            }
+            return stale;
+        }
+    }
+
+    /**
+     * Returns the entry of a key, fresh or not, and records the access for admission.
+     */
+    private Entry lookup(String key) {
+        sketch.increment(key.hashCode());
+        return entries.get(key);
+    }
+
+    /**
+     * Moves a key that was just read to the most recently used end. Skipped if another thread holds the lock,
+     * so readers never wait; a lost update only makes the entry look a little older.
+     */
+    private void touch(String key) {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            if (recency.remove(key)) {
+                recency.add(key);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private boolean isFresh(Entry entry, long now) {
+        return now - entry.fetchedAt < config.ttlNanos();
+    }
+
+    private boolean isRetained(Entry entry, long now) {
+        return now - entry.fetchedAt < config.ttlNanos() + config.staleIfErrorNanos();
+    }
+
+    /**
+     * @return The expired body to serve instead of the error, or null if the error must be propagated.
+     */
+    private byte[] stale(Entry entry, Throwable error) {
+        if (entry == null || config.staleIfErrorNanos() == 0 || !isProviderFailure(error)
+                || !isRetained(entry, clock.getAsLong())) {
+            return null;
+        }
+        staleHits.increment();
+        return entry.body;
+    }
+
+    private void store(String key, byte[] body) {
+        long now = clock.getAsLong();
+        Entry entry = new Entry(body, now);
+        evictionLock.lock();
+        try {
+            if (entries.replace(key, entry) != null) {
+                // The renewed entry is now the youngest; keep the order sorted by fetch time.
+                order.remove(key);
+                order.add(key);
+                recency.remove(key);
+                recency.add(key);
+                return;
+            }
+            evictExpired(now);
+            if (entries.size() >= config.maximumSize()) {
+                String victim = recency.iterator().next();
+                if (sketch.frequency(key.hashCode()) <= sketch.frequency(victim.hashCode())) {
+                    // The least recently used entry is at least as popular: keep it.
+                    rejections.increment();
+                    return;
+                }
+                recency.remove(victim);
+                order.remove(victim);
+                entries.remove(victim);
+                evictions.increment();
+            }
+            entries.put(key, entry);
+            order.add(key);
+            recency.add(key);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the oldest entries while they are past the stale-if-error window. Called with the lock held.
+     * Since {@link #order} is sorted by fetch time, the first retained entry ends the scan.
+     */
+    private void evictExpired(long now) {
+        for (Iterator<String> iterator = order.iterator(); iterator.hasNext(); ) {
+            String key = iterator.next();
+            Entry oldest = entries.get(key);
+            if (oldest != null && isRetained(oldest, now)) {
+                return;
+            }
+            iterator.remove();
+            recency.remove(key);
+            entries.remove(key);
+            evictions.increment();
+        }
+    }
+
+    /**
+     * Failures showing the provider is unavailable, as opposed to a problem with the request or the token.
+     */
+    private static boolean isProviderFailure(Throwable error) {
+        if (error instanceof OAuthResponseException responseException) {
+            int status = responseException.getStatusCode();
+            return status == 429 || status >= 500;
+        }
+        return error instanceof OAuthNetworkException
+                || error instanceof OAuthCircuitOpenException
+                || error instanceof OAuthRejectedException
+                || error instanceof OAuthRateLimitedException;
+    }
+
+    private static boolean isUserInfo(URI uri) {
+        OAuthEndpoint endpoint = OAuthEndpoint.fromHost(uri.getHost());
+        return endpoint == OAuthEndpoint.KAKAO_API && "/v2/user/me".equals(uri.getPath())
+                || endpoint == OAuthEndpoint.NAVER_API && "/v1/nid/me".equals(uri.getPath());
+    }
+}
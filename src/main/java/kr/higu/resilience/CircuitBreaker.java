@@ -0,0 +1,206 @@
+package kr.higu.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker for a single host.
+ * <p>
+ * While {@link State#CLOSED closed}, the outcome of every call is recorded in a count-based sliding window.
+ * When the failure rate or the slow call rate of the window reaches its threshold, the circuit {@link State#OPEN opens}
+ * and calls are rejected for the configured wait duration. It then turns {@link State#HALF_OPEN half-open}
+ * and lets a few trial calls through: the circuit closes again if they succeed, and reopens otherwise.
+ * If the trials have not all reported within another wait duration (e.g. a call that never completed),
+ * a new round of trial calls is let through, so the circuit cannot stay half-open forever.
+ * </p>
+ * <p>
+ * The breaker is lock-free. Each state is an immutable phase object holding its own window or trial counters,
+ * swapped with compare-and-set on transitions, so admitting a call in the closed state is a single volatile read.
+ * Outcomes of calls admitted in an earlier phase are ignored.
+ * </p>
+ *
+ * @author higukang
+ */
+public final class CircuitBreaker {
+
+    /**
+     * The states of a circuit breaker.
+     */
+    public enum State {
+        /** Calls pass through and their outcomes are recorded. */
+        CLOSED,
+        /** Calls are rejected. */
+        OPEN,
+        /** A limited number of trial calls pass through. */
+        HALF_OPEN
+    }
+
+    private final CircuitBreakerConfig config;
+    private final LongSupplier clock;
+    private final AtomicReference<Phase> phase;
+
+    CircuitBreaker(CircuitBreakerConfig config, LongSupplier clock) {
+        this.config = config;
+        this.clock = clock;
+        this.phase = new AtomicReference<>(Phase.closed(config.slidingWindowSize()));
+    }
+
+    /**
+     * @return The current state.
+     */
+    public State state() {
+        return phase.get().state;
+    }
+
+    /**
+     * Asks to send a call.
+     *
+     * @return The phase the call is admitted in, to be passed to {@link #onResult}, or null if the call is rejected.
+     */
+    Phase tryAcquirePermission() {
+        while (true) {
+            Phase current = phase.get();
+            switch (current.state) {
+                case CLOSED:
+                    return current;
+                case HALF_OPEN:
+                    if (current.trialPermits.getAndDecrement() > 0) {
+                        return current;
+                    }
+                    if (clock.getAsLong() - current.untilNanos < 0) {
+                        return null;
+                    }
+                    // Some trials never reported; outcomes of the abandoned round are ignored.
+                    phase.compareAndSet(current, halfOpen());
+                    break;
+                default:
+                    if (clock.getAsLong() - current.untilNanos < 0) {
+                        return null;
+                    }
+                    phase.compareAndSet(current, halfOpen());
+            }
+        }
+    }
+
+    /**
+     * @return The remaining time in nanoseconds before the open circuit lets trial calls through, or 0.
+     */
+    long remainingOpenNanos() {
+        Phase current = phase.get();
+        return current.state == State.OPEN ? Math.max(0, current.untilNanos - clock.getAsLong()) : 0;
+    }
+
+    private Phase halfOpen() {
+        return Phase.halfOpen(config.permittedCallsInHalfOpenState(), clock.getAsLong() + config.waitDurationInOpenStateNanos());
+    }
+
+    /**
+     * Records the outcome of a call admitted by {@link #tryAcquirePermission()}.
+     *
+     * @param admittedIn    The phase returned when the call was admitted.
+     * @param durationNanos How long the call took.
+     * @param failed        Whether the call failed because of the provider.
+     */
+    void onResult(Phase admittedIn, long durationNanos, boolean failed) {
+        if (phase.get() != admittedIn) {
+            return;
+        }
+        int outcome = (failed ? Phase.FAILED : 0) | (durationNanos >= config.slowCallDurationNanos() ? Phase.SLOW : 0);
+        if (admittedIn.state == State.CLOSED) {
+            int calls = admittedIn.record(outcome);
+            if (calls >= config.minimumNumberOfCalls() && exceedsThresholds(calls, admittedIn.failures.get(), admittedIn.slowCalls.get())) {
+                phase.compareAndSet(admittedIn, Phase.open(clock.getAsLong() + config.waitDurationInOpenStateNanos()));
+            }
+            return;
+        }
+        if (admittedIn.state == State.HALF_OPEN) {
+            if ((outcome & Phase.FAILED) != 0) {
+                admittedIn.failures.incrementAndGet();
+            }
+            if ((outcome & Phase.SLOW) != 0) {
+                admittedIn.slowCalls.incrementAndGet();
+            }
+            int calls = admittedIn.completedTrials.incrementAndGet();
+            if (calls == config.permittedCallsInHalfOpenState()) {
+                Phase next = exceedsThresholds(calls, admittedIn.failures.get(), admittedIn.slowCalls.get())
+                        ? Phase.open(clock.getAsLong() + config.waitDurationInOpenStateNanos())
+                        : Phase.closed(config.slidingWindowSize());
+                phase.compareAndSet(admittedIn, next);
+            }
+        }
+    }
+
+    private boolean exceedsThresholds(int calls, int failures, int slowCalls) {
+        return failures * 100L >= (long) config.failureRateThreshold() * calls
+                || slowCalls * 100L >= (long) config.slowCallRateThreshold() * calls;
+    }
+
+    /**
+     * One state of the breaker together with the data it collects. A new instance is created on every transition.
+     */
+    static final class Phase {
+        static final int FAILED = 1;
+        static final int SLOW = 2;
+        private static final int RECORDED = 4;
+
+        final State state;
+        // Open: when trial calls may start. Half-open: when unreported trials are given up.
+        final long untilNanos;
+        final AtomicInteger failures = new AtomicInteger();
+        final AtomicInteger slowCalls = new AtomicInteger();
+
+        // Closed: ring buffer of the last outcomes.
+        private final AtomicIntegerArray window;
+        private final AtomicLong cursor = new AtomicLong();
+        private final AtomicInteger recordedCalls = new AtomicInteger();
+
+        // Half-open: trial call accounting.
+        final AtomicInteger trialPermits;
+        final AtomicInteger completedTrials = new AtomicInteger();
+
+        private Phase(State state, long untilNanos, int windowSize, int trialPermits) {
+            this.state = state;
+            this.untilNanos = untilNanos;
+            this.window = windowSize > 0 ? new AtomicIntegerArray(windowSize) : null;
+            this.trialPermits = new AtomicInteger(trialPermits);
+        }
+
+        static Phase closed(int windowSize) {
+            return new Phase(State.CLOSED, 0, windowSize, 0);
+        }
+
+        static Phase open(long openUntilNanos) {
+            return new Phase(State.OPEN, openUntilNanos, 0, 0);
+        }
+
+        static Phase halfOpen(int trialCalls, long trialsUntilNanos) {
+            return new Phase(State.HALF_OPEN, trialsUntilNanos, 0, trialCalls);
+        }
+
+        /**
+         * Stores an outcome in the window, evicting the oldest one once it is full.
+         *
+         * @return The number of calls in the window.
+         */
+        int record(int outcome) {
+            int slot = (int) (cursor.getAndIncrement() % window.length());
+            int evicted = window.getAndSet(slot, outcome | RECORDED);
+            int calls = (evicted & RECORDED) == 0 ? recordedCalls.incrementAndGet() : recordedCalls.get();
+            adjust(evicted, -1);
+            adjust(outcome, 1);
+            return calls;
+        }
+
+        private void adjust(int outcome, int delta) {
+            if ((outcome & FAILED) != 0) {
+                failures.addAndGet(delta);
+            }
+            if ((outcome & SLOW) != 0) {
+                slowCalls.addAndGet(delta);
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package kr.higu.resilience;
+
+import kr.higu.exceptions.OAuthValidationException;
+
+import java.time.Duration;
+
+/**
+ * Thresholds of a {@link CircuitBreaker}. Instances are immutable and thread-safe.
+ *
+ * <pre>{@code
+ * CircuitBreakerConfig config = CircuitBreakerConfig.builder()
+ *         .failureRateThreshold(50)
+ *         .slowCallRateThreshold(80, Duration.ofSeconds(3))
+ *         .slidingWindow(50, 10)
+ *         .waitDurationInOpenState(Duration.ofSeconds(10))
+ *         .permittedCallsInHalfOpenState(3)
+ *         .build();
+ * }</pre>
+ *
+ * @author higukang
+ */
+public final class CircuitBreakerConfig {
+    private final int failureRateThreshold;
+    private final int slowCallRateThreshold;
+    private final long slowCallDurationNanos;
+    private final int slidingWindowSize;
+    private final int minimumNumberOfCalls;
+    private final long waitDurationInOpenStateNanos;
+    private final int permittedCallsInHalfOpenState;
+
+    private CircuitBreakerConfig(Builder builder) {
+        this.failureRateThreshold = builder.failureRateThreshold;
+        this.slowCallRateThreshold = builder.slowCallRateThreshold;
+        this.slowCallDurationNanos = builder.slowCallDuration.toNanos();
+        this.slidingWindowSize = builder.slidingWindowSize;
+        this.minimumNumberOfCalls = builder.minimumNumberOfCalls;
+        this.waitDurationInOpenStateNanos = builder.waitDurationInOpenState.toNanos();
+        this.permittedCallsInHalfOpenState = builder.permittedCallsInHalfOpenState;
+    }
+
+    /**
+     * @return A builder initialized with the default settings.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return A configuration with the default settings.
+     */
+    public static CircuitBreakerConfig ofDefaults() {
+        return new Builder().build();
+    }
+
+    /**
+     * Builder for {@link CircuitBreakerConfig}.
+     * <p>
+     * Defaults: the circuit opens when at least 50% of the last 50 calls failed, or at least 80% took 3 seconds or more,
+     * once 10 calls have been recorded. It stays open for 10 seconds, then lets 3 trial calls through.
+     * </p>
+     */
+    public static final class Builder {
+        private int failureRateThreshold = 50;
+        private int slowCallRateThreshold = 80;
+        private Duration slowCallDuration = Duration.ofSeconds(3);
+        private int slidingWindowSize = 50;
+        private int minimumNumberOfCalls = 10;
+        private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+        private int permittedCallsInHalfOpenState = 3;
+
+        private Builder() {
+        }
+
+        /**
+         * @param percentage The failure rate (1-100) at or above which the circuit opens.
+         * @return This builder instance.
+         */
+        public Builder failureRateThreshold(int percentage) {
+            this.failureRateThreshold = requirePercentage(percentage);
+            return this;
+        }
+
+        /**
+         * @param percentage The slow call rate (1-100) at or above which the circuit opens.
+         * @param duration   The duration from which a call counts as slow.
+         * @return This builder instance.
+         */
+        public Builder slowCallRateThreshold(int percentage, Duration duration) {
+            if (duration == null || duration.isNegative() || duration.isZero()) {
+                throw new OAuthValidationException("[K-OAuth] Slow call duration must be positive.");
+            }
+            this.slowCallRateThreshold = requirePercentage(percentage);
+            this.slowCallDuration = duration;
+            return this;
+        }
+
+        /**
+         * @param size                 The number of most recent calls the rates are computed over.
+         * @param minimumNumberOfCalls The number of calls to record before the rates are evaluated.
+         * @return This builder instance.
+         */
+        public Builder slidingWindow(int size, int minimumNumberOfCalls) {
+            if (size < 1 || minimumNumberOfCalls < 1 || minimumNumberOfCalls > size) {
+                throw new OAuthValidationException("[K-OAuth] Sliding window requires 1 <= minimumNumberOfCalls <= size.");
+            }
+            this.slidingWindowSize = size;
+            this.minimumNumberOfCalls = minimumNumberOfCalls;
+            return this;
+        }
+
+        /**
+         * @param duration How long the circuit rejects calls before letting trial calls through.
+         * @return This builder instance.
+         */
+        public Builder waitDurationInOpenState(Duration duration) {
+            if (duration == null || duration.isNegative()) {
+                throw new OAuthValidationException("[K-OAuth] Open state duration must not be negative.");
+            }
+            this.waitDurationInOpenState = duration;
+            return this;
+        }
+
+        /**
+         * @param calls The number of trial calls whose outcome decides whether the circuit closes again.
+         * @return This builder instance.
+         */
+        public Builder permittedCallsInHalfOpenState(int calls) {
+            if (calls < 1) {
+                throw new OAuthValidationException("[K-OAuth] permittedCallsInHalfOpenState must be at least 1.");
+            }
+            this.permittedCallsInHalfOpenState = calls;
+            return this;
+        }
+
+        /**
+         * @return A new {@link CircuitBreakerConfig}.
+         */
+        public CircuitBreakerConfig build() {
+            return new CircuitBreakerConfig(this);
+        }
+
+        private static int requirePercentage(int percentage) {
+            if (percentage < 1 || percentage > 100) {
+                throw new OAuthValidationException("[K-OAuth] Rate threshold must be between 1 and 100.");
+            }
+            return percentage;
+        }
+    }
+
+    int failureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    int slowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    long slowCallDurationNanos() {
+        return slowCallDurationNanos;
+    }
+
+    int slidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    int minimumNumberOfCalls() {
+        return minimumNumberOfCalls;
+    }
+
+    long waitDurationInOpenStateNanos() {
+        return waitDurationInOpenStateNanos;
+    }
+
+    int permittedCallsInHalfOpenState() {
+        return permittedCallsInHalfOpenState;
+    }
+}
@@ -0,0 +1,172 @@
+package kr.higu.resilience;
+
+import kr.higu.ForwardingHttpManager;
+import kr.higu.IHttpManager;
+import kr.higu.ResponseBodyDecoder;
+import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.exceptions.detailed.OAuthCircuitOpenException;
+import kr.higu.exceptions.detailed.OAuthNetworkException;
+import kr.higu.exceptions.detailed.OAuthResponseException;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * An {@link IHttpManager} decorator that guards every provider host with its own {@link CircuitBreaker}.
+ * <p>
+ * Requests to {@code kauth.kakao.com}, {@code kapi.kakao.com}, {@code nid.naver.com} and {@code openapi.naver.com}
+ * are tracked separately, so an outage of one endpoint does not affect the others.
+ * While a host's circuit is open, requests to it fail immediately with {@link OAuthCircuitOpenException}
+ * instead of waiting for the connection timeout.
+ * </p>
+ * <p>
+ * Network errors and HTTP 5xx responses count as failures. Other error responses (e.g. an expired token)
+ * show that the provider is healthy and count as successes.
+ * </p>
+ *
+ * <pre>{@code
+ * IHttpManager httpManager = new CircuitBreakingHttpManager(OAuthHttpManager.getInstance(), CircuitBreakerConfig.ofDefaults());
+ * }</pre>
+ *
+ * @author higukang
+ */
+public class CircuitBreakingHttpManager extends ForwardingHttpManager {
+    private final CircuitBreakerConfig config;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate The manager sending the requests.
+     * @param config   The thresholds applied to each host.
+     * @throws OAuthValidationException If an argument is null.
+     */
+    public CircuitBreakingHttpManager(IHttpManager delegate, CircuitBreakerConfig config) {
+        this(delegate, config, System::nanoTime);
+    }
+
+    CircuitBreakingHttpManager(IHttpManager delegate, CircuitBreakerConfig config, LongSupplier clock) {
+        super(delegate);
+        if (config == null) {
+            throw new OAuthValidationException("[K-OAuth] CircuitBreakerConfig must not be null.");
+        }
+        this.config = config;
+        this.clock = clock;
+    }
+
+    /**
+     * @param host The provider host (e.g., "kapi.kakao.com").
+     * @return The state of the host's circuit. {@link CircuitBreaker.State#CLOSED} if no request has been sent to it yet.
+     */
+    public CircuitBreaker.State state(String host) {
+        CircuitBreaker breaker = breakers.get(host);
+        return breaker == null ? CircuitBreaker.State.CLOSED : breaker.state();
+    }
+
+    @Override
+    public String get(URI uri, Map<String, String> headers) throws OAuthException {
+        return guarded(uri, () -> super.get(uri, headers));
+    }
+
+    @Override
+    public String post(URI uri, Map<String, String> headers, String body) throws OAuthException {
+        return guarded(uri, () -> super.post(uri, headers, body));
+    }
+
+    @Override
+    public <R> R get(URI uri, Map<String, String> headers, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        return guarded(uri, () -> super.get(uri, headers, decoder));
+    }
+
+    @Override
+    public <R> R post(URI uri, Map<String, String> headers, String body, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        return guarded(uri, () -> super.post(uri, headers, body, decoder));
+    }
+
+    @Override
+    public <R> R post(URI uri, Map<String, String> headers, byte[] body, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        return guarded(uri, () -> super.post(uri, headers, body, decoder));
+    }
+
+    @Override
+    public CompletableFuture<String> getAsync(URI uri, Map<String, String> headers) {
+        return guardedAsync(uri, () -> super.getAsync(uri, headers));
+    }
+
+    @Override
+    public CompletableFuture<String> postAsync(URI uri, Map<String, String> headers, String body) {
+        return guardedAsync(uri, () -> super.postAsync(uri, headers, body));
+    }
+
+    /**
+     * A single blocking call.
+     */
+    @FunctionalInterface
+    private interface Call<R> {
+        R run() throws OAuthException;
+    }
+
+    private <R> R guarded(URI uri, Call<R> call) throws OAuthException {
+        CircuitBreaker breaker = breakerFor(uri);
+        CircuitBreaker.Phase permit = breaker.tryAcquirePermission();
+        if (permit == null) {
+            throw rejected(uri, breaker);
+        }
+        long start = clock.getAsLong();
+        boolean failed = false;
+        try {
+            return call.run();
+        } catch (OAuthException e) {
+            failed = isFailure(e);
+            throw e;
+        } finally {
+            breaker.onResult(permit, clock.getAsLong() - start, failed);
+        }
+    }
+
+    private <R> CompletableFuture<R> guardedAsync(URI uri, Supplier<CompletableFuture<R>> call) {
+        CircuitBreaker breaker = breakerFor(uri);
+        CircuitBreaker.Phase permit = breaker.tryAcquirePermission();
+        if (permit == null) {
+            return CompletableFuture.failedFuture(rejected(uri, breaker));
+        }
+        long start = clock.getAsLong();
+        CompletableFuture<R> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            breaker.onResult(permit, clock.getAsLong() - start, false);
+            throw e;
+        }
+        return future.whenComplete((result, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            breaker.onResult(permit, clock.getAsLong() - start, cause != null && isFailure(cause));
+        });
+    }
+
+    private CircuitBreaker breakerFor(URI uri) {
+        String host = uri.getHost() == null ? "" : uri.getHost();
+        CircuitBreaker breaker = breakers.get(host);
+        if (breaker == null) {
+            breaker = breakers.computeIfAbsent(host, ignored -> new CircuitBreaker(config, clock));
+        }
+        return breaker;
+    }
+
+    private static OAuthCircuitOpenException rejected(URI uri, CircuitBreaker breaker) {
+        return new OAuthCircuitOpenException(uri.getHost(), Duration.ofNanos(breaker.remainingOpenNanos()));
+    }
+
+    private static boolean isFailure(Throwable failure) {
+        if (failure instanceof OAuthNetworkException) {
+            return true;
+        }
+        return failure instanceof OAuthResponseException responseException && responseException.getStatusCode() >= 500;
+    }
+}
@@ -0,0 +1,163 @@
+package kr.higu.resilience;
+
+import kr.higu.exceptions.OAuthValidationException;
+
+import java.time.Duration;
+
+/**
+ * Settings of an {@link AdaptiveConcurrencyLimiter}. Instances are immutable and thread-safe.
+ *
+ * <pre>{@code
+ * ConcurrencyLimitConfig config = ConcurrencyLimitConfig.builder()
+ *         .limits(20, 1, 200)
+ *         .latencyThreshold(Duration.ofSeconds(1))
+ *         .maxWait(Duration.ofMillis(100), 50)
+ *         .build();
+ * }</pre>
+ *
+ * @author higukang
+ */
+public final class ConcurrencyLimitConfig {
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final long maxWaitNanos;
+    private final int maxQueueSize;
+
+    private ConcurrencyLimitConfig(Builder builder) {
+        this.initialLimit = builder.initialLimit;
+        this.minLimit = builder.minLimit;
+        this.maxLimit = builder.maxLimit;
+        this.backoffRatio = builder.backoffRatio;
+        this.latencyThresholdNanos = builder.latencyThreshold.toNanos();
+        this.maxWaitNanos = builder.maxWait.toNanos();
+        this.maxQueueSize = builder.maxQueueSize;
+    }
+
+    /**
+     * @return A builder initialized with the default settings.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return A configuration with the default settings.
+     */
+    public static ConcurrencyLimitConfig ofDefaults() {
+        return new Builder().build();
+    }
+
+    /**
+     * Builder for {@link ConcurrencyLimitConfig}.
+     * <p>
+     * Defaults: a limit starting at 20 and kept between 1 and 200, cut by 10% whenever a call takes 1 second or more
+     * or fails with a network error, HTTP 429 or 5xx, and callers over the limit rejected immediately.
+     * </p>
+     */
+    public static final class Builder {
+        private int initialLimit = 20;
+        private int minLimit = 1;
+        private int maxLimit = 200;
+        private double backoffRatio = 0.9;
+        private Duration latencyThreshold = Duration.ofSeconds(1);
+        private Duration maxWait = Duration.ZERO;
+        private int maxQueueSize;
+
+        private Builder() {
+        }
+
+        /**
+         * @param initialLimit The limit of a host before any call completes.
+         * @param minLimit     The lowest limit.
+         * @param maxLimit     The highest limit.
+         * @return This builder instance.
+         */
+        public Builder limits(int initialLimit, int minLimit, int maxLimit) {
+            if (minLimit < 1 || initialLimit < minLimit || maxLimit < initialLimit) {
+                throw new OAuthValidationException("[K-OAuth] Limits require 1 <= minLimit <= initialLimit <= maxLimit.");
+            }
+            this.initialLimit = initialLimit;
+            this.minLimit = minLimit;
+            this.maxLimit = maxLimit;
+            return this;
+        }
+
+        /**
+         * @param ratio The factor the limit is multiplied by when the provider shows overload, between 0.5 and 1 exclusive.
+         * @return This builder instance.
+         */
+        public Builder backoffRatio(double ratio) {
+            if (!(ratio >= 0.5 && ratio < 1)) {
+                throw new OAuthValidationException("[K-OAuth] Backoff ratio must be in [0.5, 1).");
+            }
+            this.backoffRatio = ratio;
+            return this;
+        }
+
+        /**
+         * @param threshold The round-trip time from which a call is treated as a sign of overload.
+         * @return This builder instance.
+         */
+        public Builder latencyThreshold(Duration threshold) {
+            if (threshold == null || threshold.isNegative() || threshold.isZero()) {
+                throw new OAuthValidationException("[K-OAuth] Latency threshold must be positive.");
+            }
+            this.latencyThreshold = threshold;
+            return this;
+        }
+
+        /**
+         * Lets blocking callers over the limit wait for a free slot instead of being rejected immediately.
+         *
+         * @param maxWait      How long a caller may wait. Zero rejects immediately.
+         * @param maxQueueSize How many callers may wait at the same time per host.
+         * @return This builder instance.
+         */
+        public Builder maxWait(Duration maxWait, int maxQueueSize) {
+            if (maxWait == null || maxWait.isNegative() || maxQueueSize < 0) {
+                throw new OAuthValidationException("[K-OAuth] maxWait and maxQueueSize must not be negative.");
+            }
+            this.maxWait = maxWait;
+            this.maxQueueSize = maxQueueSize;
+            return this;
+        }
+
+        /**
+         * @return A new {@link ConcurrencyLimitConfig}.
+         */
+        public ConcurrencyLimitConfig build() {
+            return new ConcurrencyLimitConfig(this);
+        }
+    }
+
+    int initialLimit() {
+        return initialLimit;
+    }
+
+    int minLimit() {
+        return minLimit;
+    }
+
+    int maxLimit() {
+        return maxLimit;
+    }
+
+    double backoffRatio() {
+        return backoffRatio;
+    }
+
+    long latencyThresholdNanos() {
+        return latencyThresholdNanos;
+    }
+
+    long maxWaitNanos() {
+        return maxWaitNanos;
+    }
+
+    int maxQueueSize() {
+        return maxQueueSize;
+    }
+}
@@ -0,0 +1,180 @@
+package kr.higu.resilience;
+
+import kr.higu.ForwardingHttpManager;
+import kr.higu.IHttpManager;
+import kr.higu.ResponseBodyDecoder;
+import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.exceptions.detailed.OAuthInterruptedException;
+import kr.higu.exceptions.detailed.OAuthNetworkException;
+import kr.higu.exceptions.detailed.OAuthRejectedException;
+import kr.higu.exceptions.detailed.OAuthResponseException;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * An {@link IHttpManager} decorator that bounds the number of concurrent requests per provider host
+ * with an {@link AdaptiveConcurrencyLimiter}.
+ * <p>
+ * Requests over a host's limit fail with {@link OAuthRejectedException} instead of piling up while the provider is slow.
+ * Blocking requests may first wait for a free slot, up to the configured maximum wait and queue size;
+ * async requests are never blocked and are rejected immediately.
+ * </p>
+ * <p>
+ * Network errors, HTTP 429 and HTTP 5xx responses, and calls slower than the latency threshold lower the limit.
+ * </p>
+ *
+ * <pre>{@code
+ * ConcurrencyLimitingHttpManager httpManager = new ConcurrencyLimitingHttpManager(OAuthHttpManager.getInstance(),
+ *         ConcurrencyLimitConfig.ofDefaults());
+ * int limit = httpManager.limiter("kapi.kakao.com").limit();
+ * }</pre>
+ *
+ * @author higukang
+ */
+public class ConcurrencyLimitingHttpManager extends ForwardingHttpManager {
+    private final ConcurrencyLimitConfig config;
+    private final ConcurrentHashMap<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate The manager sending the requests.
+     * @param config   The settings applied to each host.
+     * @throws OAuthValidationException If an argument is null.
+     */
+    public ConcurrencyLimitingHttpManager(IHttpManager delegate, ConcurrencyLimitConfig config) {
+        super(delegate);
+        if (config == null) {
+            throw new OAuthValidationException("[K-OAuth] ConcurrencyLimitConfig must not be null.");
+        }
+        this.config = config;
+    }
+
+    /**
+     * Returns the limiter of a host, to observe its current limit, in-flight calls and queue depth.
+     *
+     * @param host The provider host (e.g., "kapi.kakao.com").
+     * @return The limiter of the host, created with the initial limit if no request has been sent to it yet.
+     */
+    public AdaptiveConcurrencyLimiter limiter(String host) {
+        AdaptiveConcurrencyLimiter limiter = limiters.get(host);
+        if (limiter == null) {
+            limiter = limiters.computeIfAbsent(host, ignored -> new AdaptiveConcurrencyLimiter(config));
+        }
+        return limiter;
+    }
+
+    @Override
+    public String get(URI uri, Map<String, String> headers) throws OAuthException {
+        return limited(uri, () -> super.get(uri, headers));
+    }
+
+    @Override
+    public String post(URI uri, Map<String, String> headers, String body) throws OAuthException {
+        return limited(uri, () -> super.post(uri, headers, body));
+    }
+
+    @Override
+    public <R> R get(URI uri, Map<String, String> headers, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        return limited(uri, () -> super.get(uri, headers, decoder));
+    }
+
+    @Override
+    public <R> R post(URI uri, Map<String, String> headers, String body, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        return limited(uri, () -> super.post(uri, headers, body, decoder));
+    }
+
+    @Override
+    public <R> R post(URI uri, Map<String, String> headers, byte[] body, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        return limited(uri, () -> super.post(uri, headers, body, decoder));
+    }
+
+    @Override
+    public CompletableFuture<String> getAsync(URI uri, Map<String, String> headers) {
+        return limitedAsync(uri, () -> super.getAsync(uri, headers));
+    }
+
+    @Override
+    public CompletableFuture<String> postAsync(URI uri, Map<String, String> headers, String body) {
+        return limitedAsync(uri, () -> super.postAsync(uri, headers, body));
+    }
+
+    /**
+     * A single blocking call.
+     */
+    @FunctionalInterface
+    private interface Call<R> {
+        R run() throws OAuthException;
+    }
+
+    private <R> R limited(URI uri, Call<R> call) throws OAuthException {
+        String host = hostOf(uri);
+        AdaptiveConcurrencyLimiter limiter = limiter(host);
+        try {
+            if (!limiter.acquire()) {
+                throw new OAuthRejectedException(host, limiter.limit());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OAuthInterruptedException("Waiting for a concurrency slot was interrupted." + e.getMessage(), e);
+        }
+        long start = System.nanoTime();
+        Throwable failure = null;
+        try {
+            return call.run();
+        } catch (OAuthException | RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            release(limiter, start, failure);
+        }
+    }
+
+    private <R> CompletableFuture<R> limitedAsync(URI uri, Supplier<CompletableFuture<R>> call) {
+        String host = hostOf(uri);
+        AdaptiveConcurrencyLimiter limiter = limiter(host);
+        if (!limiter.tryAcquire()) {
+            return CompletableFuture.failedFuture(new OAuthRejectedException(host, limiter.limit()));
+        }
+        long start = System.nanoTime();
+        CompletableFuture<R> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            limiter.releaseIgnored();
+            throw e;
+        }
+        return future.whenComplete((result, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            release(limiter, start, cause);
+        });
+    }
+
+    private static void release(AdaptiveConcurrencyLimiter limiter, long startNanos, Throwable failure) {
+        if (failure instanceof OAuthInterruptedException || failure instanceof CancellationException) {
+            limiter.releaseIgnored();
+            return;
+        }
+        limiter.release(System.nanoTime() - startNanos, isOverload(failure));
+    }
+
+    private static boolean isOverload(Throwable failure) {
+        if (failure instanceof OAuthNetworkException) {
+            return true;
+        }
+        if (failure instanceof OAuthResponseException responseException) {
+            int status = responseException.getStatusCode();
+            return status == 429 || status >= 500;
+        }
+        return false;
+    }
+
+    private static String hostOf(URI uri) {
+        return uri.getHost() == null ? "" : uri.getHost();
+    }
+}
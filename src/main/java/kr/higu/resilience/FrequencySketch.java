@@ -0,0 +1,99 @@
+package kr.higu.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A count-min sketch of 4-bit counters estimating how often each key has been seen recently,
+ * used by {@link CachingHttpManager} to admit only entries more popular than the ones they would evict (TinyLFU).
+ * <p>
+ * Each key maps to four counters, one per hash function, and its frequency is the smallest of them.
+ * Once the number of increments reaches ten times the cache size, every counter is halved,
+ * so keys that were popular long ago fade out. Counters are updated with compare-and-set,
+ * so readers record accesses without taking a lock.
+ * </p>
+ *
+ * @author higukang
+ */
+final class FrequencySketch {
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777_7777_7777_7777L;
+    private static final int MAX_COUNT = 15;
+
+    private final AtomicLongArray table;
+    private final int tableMask;
+    private final int sampleSize;
+    private final AtomicInteger additions = new AtomicInteger();
+
+    /**
+     * @param maximumSize The number of entries of the cache; the sketch is sized to track about that many keys.
+     */
+    FrequencySketch(long maximumSize) {
+        int length = Integer.highestOneBit((int) Math.min(Math.max(maximumSize, 16), 1 << 29) - 1) << 1;
+        this.table = new AtomicLongArray(length);
+        this.tableMask = length - 1;
+        this.sampleSize = (int) Math.min(10 * maximumSize, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param hash The hash code of the key.
+     * @return The estimated number of recent occurrences of the key, up to 15.
+     */
+    int frequency(int hash) {
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long spread = spread(hash, i);
+            int shift = (int) (spread >>> 60) << 2;
+            frequency = Math.min(frequency, (int) ((table.get(index(spread)) >>> shift) & 0xF));
+        }
+        return frequency;
+    }
+
+    /**
+     * Records one occurrence of the key, halving every counter once the sample size is reached.
+     *
+     * @param hash The hash code of the key.
+     */
+    void increment(int hash) {
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long spread = spread(hash, i);
+            added |= incrementAt(index(spread), (int) (spread >>> 60) << 2);
+        }
+        if (added && additions.incrementAndGet() == sampleSize) {
+            reset();
+        }
+    }
+
+    private boolean incrementAt(int index, int shift) {
+        while (true) {
+            long current = table.get(index);
+            if (((current >>> shift) & 0xF) == MAX_COUNT) {
+                return false;
+            }
+            if (table.compareAndSet(index, current, current + (1L << shift))) {
+                return true;
+            }
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length(); i++) {
+            long current;
+            do {
+                current = table.get(i);
+            } while (!table.compareAndSet(i, current, (current >>> 1) & RESET_MASK));
+        }
+        additions.addAndGet(-sampleSize / 2);
+    }
+
+    private static long spread(int hash, int depth) {
+        long spread = (hash + SEEDS[depth]) * SEEDS[depth];
+        return spread ^ (spread >>> 29);
+    }
+
+    private int index(long spread) {
+        return (int) spread & tableMask;
+    }
+}
@@ -0,0 +1,214 @@
+package kr.higu.resilience;
+
+import kr.higu.ForwardingHttpManager;
+import kr.higu.IHttpManager;
+import kr.higu.ResponseBodyDecoder;
+import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.exceptions.detailed.OAuthInterruptedException;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * An {@link IHttpManager} decorator that hedges slow GET requests (user information) to cut tail latency.
+ * <p>
+ * If the first attempt has not completed within the {@link HedgingPolicy} delay, a second identical request is sent.
+ * The first successful response wins and the other attempt is cancelled: the async attempt's future is cancelled,
+ * and a blocking attempt's thread is interrupted. A request fails only when every attempt sent for it has failed.
+ * POST requests are never hedged, because a token exchange must not be sent twice.
+ * </p>
+ *
+ * <pre>{@code
+ * IHttpManager httpManager = new HedgingHttpManager(OAuthHttpManager.getInstance(),
+ *         HedgingPolicy.builder().percentileDelay(0.95, Duration.ofMillis(50)).build());
+ * }</pre>
+ *
+ * @author higukang
+ */
+public class HedgingHttpManager extends ForwardingHttpManager {
+    private final HedgingPolicy policy;
+    private final ConcurrentHashMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate The manager sending the requests.
+     * @param policy   The hedging policy.
+     * @throws OAuthValidationException If an argument is null.
+     */
+    public HedgingHttpManager(IHttpManager delegate, HedgingPolicy policy) {
+        super(delegate);
+        if (policy == null) {
+            throw new OAuthValidationException("[K-OAuth] HedgingPolicy must not be null.");
+        }
+        this.policy = policy;
+    }
+
+    @Override
+    public String get(URI uri, Map<String, String> headers) throws OAuthException {
+        return await(hedged(uri, () -> onExecutor(() -> super.get(uri, headers))));
+    }
+
+    @Override
+    public <R> R get(URI uri, Map<String, String> headers, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        return await(hedged(uri, () -> onExecutor(() -> super.get(uri, headers, decoder))));
+    }
+
+    @Override
+    public CompletableFuture<String> getAsync(URI uri, Map<String, String> headers) {
+        return hedged(uri, () -> super.getAsync(uri, headers));
+    }
+
+    /**
+     * A single blocking attempt.
+     */
+    @FunctionalInterface
+    private interface Attempt<R> {
+        R run() throws OAuthException;
+    }
+
+    private <R> CompletableFuture<R> hedged(URI uri, Supplier<CompletableFuture<R>> attempt) {
+        RetryBudget budget = policy.budget();
+        budget.onRequest();
+        LatencyHistogram histogram = histogramFor(uri);
+        Race<R> race = new Race<>();
+
+        race.launch(attempt, histogram);
+        CompletableFuture.delayedExecutor(policy.delayNanos(histogram), TimeUnit.NANOSECONDS).execute(() -> {
+            if (race.result.isDone() || !race.reserve()) {
+                return;
+            }
+            if (budget.tryAcquireRetry()) {
+                race.launch(attempt, histogram);
+            } else {
+                race.release(null);
+            }
+        });
+        return race.result;
+    }
+
+    /**
+     * The attempts sent for one request.
+     */
+    private static final class Race<R> {
+        final CompletableFuture<R> result = new CompletableFuture<>();
+        // Attempts that have been sent, or reserved, and have not failed yet.
+        private final AtomicInteger pending = new AtomicInteger(1);
+        private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+
+        void launch(Supplier<CompletableFuture<R>> attempt, LatencyHistogram histogram) {
+            long start = System.nanoTime();
+            CompletableFuture<R> future;
+            try {
+                future = attempt.get();
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            CompletableFuture<R> sent = future;
+            result.whenComplete((value, error) -> sent.cancel(true));
+            sent.whenComplete((value, error) -> {
+                if (error == null) {
+                    if (histogram != null) {
+                        histogram.record(System.nanoTime() - start);
+                    }
+                    result.complete(value);
+                } else {
+                    release(error);
+                }
+            });
+        }
+
+        /**
+         * Counts a hedge as pending, unless every attempt has already failed.
+         */
+        boolean reserve() {
+            int current;
+            do {
+                current = pending.get();
+                if (current == 0) {
+                    return false;
+                }
+            } while (!pending.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        /**
+         * Marks an attempt as failed, or a reserved hedge as not sent.
+         * The request fails with the first failure once nothing is pending anymore.
+         */
+        void release(Throwable failure) {
+            if (failure != null) {
+                firstFailure.compareAndSet(null, failure);
+            }
+            if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(firstFailure.get());
+            }
+        }
+    }
+
+    private <R> CompletableFuture<R> onExecutor(Attempt<R> attempt) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        FutureTask<Void> task = new FutureTask<>(() -> {
+            try {
+                future.complete(attempt.run());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }, null);
+        future.whenComplete((value, error) -> {
+            if (future.isCancelled()) {
+                task.cancel(true);
+            }
+        });
+        policy.executor().execute(task);
+        return future;
+    }
+
+    private LatencyHistogram histogramFor(URI uri) {
+        LatencyHistogram histogram = histograms.get(hostOf(uri));
+        if (histogram == null) {
+            histogram = policy.newHistogram();
+            if (histogram != null) {
+                LatencyHistogram existing = histograms.putIfAbsent(hostOf(uri), histogram);
+                histogram = existing != null ? existing : histogram;
+            }
+        }
+        return histogram;
+    }
+
+    private static String hostOf(URI uri) {
+        return uri.getHost() == null ? "" : uri.getHost();
+    }
+
+    private static <R> R await(CompletableFuture<R> result) throws OAuthException {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new OAuthInterruptedException("Hedged request was interrupted." + e.getMessage(), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof CompletionException && e.getCause().getCause() != null
+                    ? e.getCause().getCause()
+                    : e.getCause();
+            if (cause instanceof OAuthException oauthException) {
+                throw oauthException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new OAuthException("[K-OAuth] Request failed unexpectedly: " + cause, cause);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package kr.higu.resilience;
+
+import kr.higu.VirtualThreads;
+import kr.higu.exceptions.OAuthValidationException;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Decides when a hedge (a second, identical request) is sent for a slow GET request.
+ * <p>
+ * The hedge delay is either fixed, or derived from the observed latency percentile of each host
+ * (e.g. the 95th), never below the configured minimum. Until enough latencies have been observed,
+ * the fixed delay is used. Hedges are capped by a {@link RetryBudget}, since a hedge is a speculative retry:
+ * with the default budget, at most 5% of the requests are hedged, so hedging cannot double the load during an incident.
+ * </p>
+ * Instances are immutable and thread-safe.
+ *
+ * <pre>{@code
+ * HedgingPolicy policy = HedgingPolicy.builder()
+ *         .delay(Duration.ofMillis(200))
+ *         .percentileDelay(0.95, Duration.ofMillis(50))
+ *         .budget(RetryBudget.of(0.05, 5))
+ *         .build();
+ * }</pre>
+ *
+ * @author higukang
+ */
+public final class HedgingPolicy {
+    private static final int REFRESH_INTERVAL = 256;
+
+    private final long delayNanos;
+    private final double percentile;
+    private final long minDelayNanos;
+    private final RetryBudget budget;
+    private final Executor executor;
+
+    private HedgingPolicy(Builder builder) {
+        this.delayNanos = builder.delay.toNanos();
+        this.percentile = builder.percentile;
+        this.minDelayNanos = builder.minDelay.toNanos();
+        this.budget = builder.budget;
+        this.executor = builder.executor;
+    }
+
+    /**
+     * @return A builder initialized with the default settings.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for {@link HedgingPolicy}.
+     * <p>
+     * Defaults: a fixed delay of 200ms, a budget of 5% of the requests with a burst of 5, and
+     * blocking attempts run on virtual threads when available, or on a shared daemon thread pool otherwise.
+     * </p>
+     */
+    public static final class Builder {
+        private Duration delay = Duration.ofMillis(200);
+        private double percentile;
+        private Duration minDelay = Duration.ZERO;
+        private RetryBudget budget;
+        private Executor executor;
+
+        private Builder() {
+        }
+
+        /**
+         * @param delay How long the first attempt may run before the hedge is sent.
+         *              Also used with {@link #percentileDelay} until enough latencies have been observed.
+         * @return This builder instance.
+         */
+        public Builder delay(Duration delay) {
+            if (delay == null || delay.isNegative()) {
+                throw new OAuthValidationException("[K-OAuth] Hedge delay must not be negative.");
+            }
+            this.delay = delay;
+            return this;
+        }
+
+        /**
+         * Derives the hedge delay from the observed latencies of each host.
+         *
+         * @param percentile The latency percentile after which the hedge is sent, between 0 and 1 exclusive (e.g. 0.95).
+         * @param minDelay   The lower bound of the derived delay.
+         * @return This builder instance.
+         */
+        public Builder percentileDelay(double percentile, Duration minDelay) {
+            if (!(percentile > 0 && percentile < 1)) {
+                throw new OAuthValidationException("[K-OAuth] Hedge percentile must be between 0 and 1.");
+            }
+            if (minDelay == null || minDelay.isNegative()) {
+                throw new OAuthValidationException("[K-OAuth] Hedge minimum delay must not be negative.");
+            }
+            this.percentile = percentile;
+            this.minDelay = minDelay;
+            return this;
+        }
+
+        /**
+         * @param budget The budget hedges are drawn from.
+         * @return This builder instance.
+         */
+        public Builder budget(RetryBudget budget) {
+            if (budget == null) {
+                throw new OAuthValidationException("[K-OAuth] Hedge budget must not be null.");
+            }
+            this.budget = budget;
+            return this;
+        }
+
+        /**
+         * @param executor The executor running blocking attempts. Cancelled attempts are interrupted,
+         *                 so it should run each task on its own thread.
+         * @return This builder instance.
+         */
+        public Builder executor(Executor executor) {
+            if (executor == null) {
+                throw new OAuthValidationException("[K-OAuth] Hedge executor must not be null.");
+            }
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * @return A new {@link HedgingPolicy}.
+         */
+        public HedgingPolicy build() {
+            if (budget == null) {
+                budget = RetryBudget.of(0.05, 5);
+            }
+            if (executor == null) {
+                executor = DefaultExecutor.INSTANCE;
+            }
+            return new HedgingPolicy(this);
+        }
+    }
+
+    RetryBudget budget() {
+        return budget;
+    }
+
+    Executor executor() {
+        return executor;
+    }
+
+    /**
+     * @return A histogram tracking the latencies of one host, or null if the delay is fixed.
+     */
+    LatencyHistogram newHistogram() {
+        return percentile > 0 ? new LatencyHistogram(percentile, REFRESH_INTERVAL) : null;
+    }
+
+    /**
+     * @param histogram The latencies of the target host, or null.
+     * @return The delay before the hedge is sent, in nanoseconds.
+     */
+    long delayNanos(LatencyHistogram histogram) {
+        long observedMicros = histogram == null ? -1 : histogram.percentileMicros();
+        if (observedMicros < 0) {
+            return delayNanos;
+        }
+        return Math.max(minDelayNanos, observedMicros * 1_000);
+    }
+
+    private static final class DefaultExecutor {
+        static final ExecutorService INSTANCE = VirtualThreads.isSupported()
+                ? VirtualThreads.newVirtualThreadPerTaskExecutor()
+                : Executors.newCachedThreadPool(task -> {
+                    Thread thread = new Thread(task, "k-oauth-hedge");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
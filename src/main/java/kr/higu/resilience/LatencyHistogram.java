@@ -0,0 +1,87 @@
+package kr.higu.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear latency histogram used to derive the hedge delay from observed latencies.
+ * <p>
+ * Latencies are stored in microseconds, in buckets of about 12.5% relative width.
+ * Every {@code refreshInterval} samples, the percentile is recomputed and all counts are halved,
+ * so the estimate follows recent traffic. Readers only see the cached value.
+ * </p>
+ *
+ * @author higukang
+ */
+final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = 64 * SUB_BUCKETS;
+
+    private final double percentile;
+    private final int refreshInterval;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong samples = new AtomicLong();
+    private volatile long percentileMicros = -1;
+
+    LatencyHistogram(double percentile, int refreshInterval) {
+        this.percentile = percentile;
+        this.refreshInterval = refreshInterval;
+    }
+
+    void record(long nanos) {
+        counts.incrementAndGet(bucketOf(Math.max(1, nanos / 1_000)));
+        if (samples.incrementAndGet() % refreshInterval == 0) {
+            refresh();
+        }
+    }
+
+    /**
+     * @return The cached percentile in microseconds, or -1 before the first {@code refreshInterval} samples.
+     */
+    long percentileMicros() {
+        return percentileMicros;
+    }
+
+    private void refresh() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        long rank = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        int bucket = BUCKETS - 1;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                bucket = i;
+                break;
+            }
+        }
+        percentileMicros = upperBoundOf(bucket);
+        for (int i = 0; i < BUCKETS; i++) {
+            long count;
+            do {
+                count = counts.get(i);
+            } while (count > 0 && !counts.compareAndSet(i, count, count >>> 1));
+        }
+    }
+
+    static int bucketOf(long micros) {
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent < SUB_BUCKET_BITS) {
+            return (int) micros;
+        }
+        int shift = exponent - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) | (int) ((micros >>> shift) & (SUB_BUCKETS - 1));
+    }
+
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket >>> SUB_BUCKET_BITS) - 1;
+        long lowerBound = (long) (SUB_BUCKETS | (bucket & (SUB_BUCKETS - 1))) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,183 @@
+package kr.higu.resilience;
+
+import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.OAuthValidationException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link QuotaCoordinator} backed by a memory-mapped file, shared by every JVM on the machine that opens the same path.
+ * <p>
+ * The file holds a fixed table of quota slots. Each slot stores a 64-bit hash of the quota key and a single 64-bit
+ * word packing the current window index (high 32 bits) and the permits leased in it (low 32 bits).
+ * Leasing is a compare-and-set on that word directly in the shared mapping, so concurrent leases from
+ * several JVMs never exceed the limit, and a new window resets the count in the same atomic step.
+ * </p>
+ * <p>
+ * This is meant for tests and single-host deployments; clusters spanning several machines need a coordinator
+ * backed by a shared store.
+ * </p>
+ *
+ * <pre>{@code
+ * MappedFileQuotaCoordinator coordinator = MappedFileQuotaCoordinator.open(Path.of("/dev/shm/k-oauth-quota"));
+ * }</pre>
+ *
+ * @author higukang
+ */
+public final class MappedFileQuotaCoordinator implements QuotaCoordinator, Closeable {
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final long MAGIC = 0x4B4F_4155_5451_5631L; // "KOAUTQV1"
+    private static final int HEADER_BYTES = 64;
+    private static final int SLOT_BYTES = 16;
+    private static final int DEFAULT_SLOTS = 1024;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int slots;
+    private final LongSupplier clock;
+
+    private MappedFileQuotaCoordinator(FileChannel channel, MappedByteBuffer buffer, int slots, LongSupplier clock) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.slots = slots;
+        this.clock = clock;
+    }
+
+    /**
+     * Opens or creates the shared quota file with room for 1024 quotas.
+     *
+     * @param path The file shared by the JVMs.
+     * @return The coordinator.
+     * @throws UncheckedIOException If the file cannot be created or mapped.
+     */
+    public static MappedFileQuotaCoordinator open(Path path) {
+        return open(path, DEFAULT_SLOTS, System::currentTimeMillis);
+    }
+
+    static MappedFileQuotaCoordinator open(Path path, int slots, LongSupplier clock) {
+        if (path == null) {
+            throw new OAuthValidationException("[K-OAuth] Quota file path must not be null.");
+        }
+        long size = HEADER_BYTES + (long) slots * SLOT_BYTES;
+        FileChannel channel = null;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer;
+            // Initialize the header under a file lock, so concurrent JVMs agree on the layout.
+            FileLock lock = channel.lock();
+            try {
+                if (channel.size() < size) {
+                    channel.write(ByteBuffer.wrap(new byte[]{0}), size - 1);
+                }
+                buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                long magic = (long) LONGS.getVolatile(buffer, 0);
+                if (magic == 0) {
+                    LONGS.setVolatile(buffer, 8, (long) slots);
+                    LONGS.setVolatile(buffer, 0, MAGIC);
+                } else if (magic != MAGIC || (long) LONGS.getVolatile(buffer, 8) != slots) {
+                    throw new OAuthValidationException("[K-OAuth] " + path + " is not a quota file with " + slots + " slots.");
+                }
+            } finally {
+                lock.release();
+            }
+            return new MappedFileQuotaCoordinator(channel, buffer, slots, clock);
+        } catch (IOException e) {
+            closeQuietly(channel);
+            throw new UncheckedIOException("[K-OAuth] Failed to map quota file " + path, e);
+        } catch (RuntimeException e) {
+            closeQuietly(channel);
+            throw e;
+        }
+    }
+
+    @Override
+    public int lease(Quota quota, int permits) throws OAuthException {
+        if (permits <= 0) {
+            return 0;
+        }
+        int offset = slotOffset(quota.key());
+        long window = quota.windowAt(clock.getAsLong()) & 0xFFFF_FFFFL;
+        while (true) {
+            long state = (long) LONGS.getVolatile(buffer, offset + 8);
+            long used = (state >>> 32) == window ? state & 0xFFFF_FFFFL : 0;
+            long granted = Math.min(permits, quota.limit() - used);
+            if (granted <= 0) {
+                return 0;
+            }
+            if (LONGS.compareAndSet(buffer, offset + 8, state, (window << 32) | (used + granted))) {
+                return (int) granted;
+            }
+        }
+    }
+
+    /**
+     * @param quota The quota.
+     * @return The permits leased by all JVMs in the current window.
+     */
+    public long leased(Quota quota) {
+        int offset = slotOffset(quota.key());
+        long state = (long) LONGS.getVolatile(buffer, offset + 8);
+        long window = quota.windowAt(clock.getAsLong()) & 0xFFFF_FFFFL;
+        return (state >>> 32) == window ? state & 0xFFFF_FFFFL : 0;
+    }
+
+    /**
+     * Finds or claims the slot of a key with linear probing.
+     */
+    private int slotOffset(String key) {
+        long hash = hash(key);
+        int start = (int) Long.remainderUnsigned(hash, slots);
+        for (int i = 0; i < slots; i++) {
+            int offset = HEADER_BYTES + ((start + i) % slots) * SLOT_BYTES;
+            long owner = (long) LONGS.getVolatile(buffer, offset);
+            if (owner == hash || (owner == 0 && (LONGS.compareAndSet(buffer, offset, 0L, hash)
+                    || (long) LONGS.getVolatile(buffer, offset) == hash))) {
+                return offset;
+            }
+        }
+        throw new IllegalStateException("[K-OAuth] Quota file is full (" + slots + " quotas).");
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the UTF-8 key. Zero marks a free slot, so it is never returned.
+     */
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash == 0 ? 1 : hash;
+    }
+
+    /**
+     * Closes the file channel. The mapping stays valid until it is garbage collected.
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+                // Already failing; keep the original exception.
+            }
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package kr.higu.resilience;
+
+import kr.higu.ForwardingHttpManager;
+import kr.higu.IHttpManager;
+import kr.higu.OAuthEndpoint;
+import kr.higu.ResponseBodyDecoder;
+import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.exceptions.detailed.OAuthResponseException;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * An {@link IHttpManager} decorator that remembers access tokens the provider rejected as invalid,
+ * so requests repeating them fail locally instead of making another round trip.
+ * <p>
+ * Only requests to the API servers ({@code kapi.kakao.com}, {@code openapi.naver.com}) carrying an
+ * {@code Authorization} header are tracked. A response is cached when it has HTTP status 401,
+ * or a 4xx status with Kakao code {@code -401} or Naver code {@code 024}; server errors and network failures
+ * never are. Within the TTL, the same token on the same host fails with an {@link OAuthResponseException}
+ * carrying the cached status, error code, raw body and headers, so requests report the same error code
+ * as the original response.
+ * </p>
+ * <p>
+ * Tokens are stored as SHA-256 hashes in a fixed-size, direct-mapped table, so memory stays bounded
+ * by {@code maximumSize} entries: a token whose slot is taken by another simply replaces it.
+ * </p>
+ *
+ * <pre>{@code
+ * IHttpManager httpManager = new NegativeCachingHttpManager(OAuthHttpManager.getInstance(), Duration.ofMinutes(1), 10_000);
+ * }</pre>
+ *
+ * @author higukang
+ */
+public class NegativeCachingHttpManager extends ForwardingHttpManager {
+    private static final Set<String> INVALID_TOKEN_CODES = Set.of("-401", "024");
+
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final AtomicReferenceArray<Rejection> table;
+
+    /**
+     * @param delegate    The manager sending the requests.
+     * @param ttl         How long a rejected token keeps failing locally.
+     * @param maximumSize The number of rejected tokens remembered at most.
+     * @throws OAuthValidationException If an argument is null, the TTL is not positive or the size is less than 1.
+     */
+    public NegativeCachingHttpManager(IHttpManager delegate, Duration ttl, int maximumSize) {
+        this(delegate, ttl, maximumSize, System::nanoTime);
+    }
+
+    NegativeCachingHttpManager(IHttpManager delegate, Duration ttl, int maximumSize, LongSupplier clock) {
+        super(delegate);
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new OAuthValidationException("[K-OAuth] Negative cache TTL must be positive.");
+        }
+        if (maximumSize < 1) {
+            throw new OAuthValidationException("[K-OAuth] Negative cache maximum size must be at least 1.");
+        }
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+        this.table = new AtomicReferenceArray<>(maximumSize);
+    }
+
+    @Override
+    public String get(URI uri, Map<String, String> headers) throws OAuthException {
+        return guarded(uri, headers, () -> super.get(uri, headers));
+    }
+
+    @Override
+    public String post(URI uri, Map<String, String> headers, String body) throws OAuthException {
+        return guarded(uri, headers, () -> super.post(uri, headers, body));
+    }
+
+    @Override
+    public <R> R get(URI uri, Map<String, String> headers, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        return guarded(uri, headers, () -> super.get(uri, headers, decoder));
+    }
+
+    @Override
+    public <R> R post(URI uri, Map<String, String> headers, String body, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        return guarded(uri, headers, () -> super.post(uri, headers, body, decoder));
+    }
+
+    @Override
+    public <R> R post(URI uri, Map<String, String> headers, byte[] body, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        return guarded(uri, headers, () -> super.post(uri, headers, body, decoder));
+    }
+
+    @Override
+    public CompletableFuture<String> getAsync(URI uri, Map<String, String> headers) {
+        return guardedAsync(uri, headers, () -> super.getAsync(uri, headers));
+    }
+
+    @Override
+    public CompletableFuture<String> postAsync(URI uri, Map<String, String> headers, String body) {
+        return guardedAsync(uri, headers, () -> super.postAsync(uri, headers, body));
+    }
+
+    /**
+     * A single blocking call.
+     */
+    @FunctionalInterface
+    private interface Call<R> {
+        R run() throws OAuthException;
+    }
+
+    /**
+     * A rejected token and the response that rejected it.
+     */
+    private record Rejection(String key, int statusCode, String errorCode, String rawBody,
+                             Map<String, List<String>> headers, long expiresAt) {
+    }
+
+    private <R> R guarded(URI uri, Map<String, String> headers, Call<R> call) throws OAuthException {
+        String key = key(uri, headers);
+        if (key == null) {
+            return call.run();
+        }
+        OAuthResponseException cached = cached(key);
+        if (cached != null) {
+            throw cached;
+        }
+        try {
+            return call.run();
+        } catch (OAuthResponseException e) {
+            remember(key, e);
+            throw e;
+        }
+    }
+
+    private <R> CompletableFuture<R> guardedAsync(URI uri, Map<String, String> headers, Supplier<CompletableFuture<R>> call) {
+        String key = key(uri, headers);
+        if (key == null) {
+            return call.get();
+        }
+        OAuthResponseException cached = cached(key);
+        if (cached != null) {
+            return CompletableFuture.failedFuture(cached);
+        }
+        return call.get().whenComplete((result, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof OAuthResponseException responseException) {
+                remember(key, responseException);
+            }
+        });
+    }
+
+    /**
+     * @return The exception to fail with if the token was rejected within the TTL, or null.
+     */
+    private OAuthResponseException cached(String key) {
+        Rejection rejection = table.get(slot(key));
+        if (rejection == null || !rejection.key.equals(key) || clock.getAsLong() - rejection.expiresAt >= 0) {
+            return null;
+        }
+        return new OAuthResponseException(rejection.statusCode, rejection.errorCode, rejection.rawBody,
+                "The provider rejected this access token recently.", rejection.headers);
+    }
+
+    private void remember(String key, OAuthResponseException e) {
+        if (isInvalidToken(e)) {
+            table.set(slot(key), new Rejection(key, e.getStatusCode(), e.getErrorCode(), e.getRawBody(), e.getHeaders(),
+                    clock.getAsLong() + ttlNanos));
+        }
+    }
+
+    private int slot(String key) {
+        return Math.floorMod(key.hashCode(), table.length());
+    }
+
+    private static boolean isInvalidToken(OAuthResponseException e) {
+        int status = e.getStatusCode();
+        if (status < 400 || status >= 500) {
+            return false;
+        }
+        if (status == 401) {
+            return true;
+        }
+        String errorCode = RetryPolicy.errorCode(e);
+        return errorCode != null && INVALID_TOKEN_CODES.contains(errorCode);
+    }
+
+    /**
+     * @return The host and a hash of the Authorization header, or null if the request is not tracked.
+     */
+    private static String key(URI uri, Map<String, String> headers) {
+        OAuthEndpoint endpoint = OAuthEndpoint.fromHost(uri.getHost());
+        if (endpoint != OAuthEndpoint.KAKAO_API && endpoint != OAuthEndpoint.NAVER_API || headers == null) {
+            return null;
+        }
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if ("Authorization".equalsIgnoreCase(header.getKey()) && header.getValue() != null) {
+                return RequestDigest.of(endpoint.getHost(), header.getValue());
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,54 @@
+package kr.higu.resilience;
+
+import kr.higu.exceptions.OAuthValidationException;
+
+import java.time.Duration;
+
+/**
+ * A provider quota shared by every node using the same app key: at most {@code limit} requests per {@code window}.
+ * <p>
+ * Windows are aligned to the epoch (e.g. a one-day window starts at midnight UTC), so every node agrees on them
+ * without coordination.
+ * </p>
+ *
+ * @param key    The quota identifier shared by the nodes (e.g. "kakao:APP_KEY:user-info").
+ * @param limit  The number of requests allowed per window, at most {@value #MAX_LIMIT}.
+ * @param window The length of a window, at least one second.
+ * @author higukang
+ */
+public record Quota(String key, long limit, Duration window) {
+    /** The largest supported limit per window. */
+    public static final long MAX_LIMIT = 0xFFFF_FFFFL;
+
+    /**
+     * @throws OAuthValidationException If an argument is null or out of range.
+     */
+    public Quota {
+        if (key == null || key.isBlank()) {
+            throw new OAuthValidationException("[K-OAuth] Quota key must not be blank.");
+        }
+        if (limit < 0 || limit > MAX_LIMIT) {
+            throw new OAuthValidationException("[K-OAuth] Quota limit must be between 0 and " + MAX_LIMIT + ".");
+        }
+        if (window == null || window.compareTo(Duration.ofSeconds(1)) < 0) {
+            throw new OAuthValidationException("[K-OAuth] Quota window must be at least one second.");
+        }
+    }
+
+    /**
+     * @param epochMillis A wall-clock time.
+     * @return The index of the window containing that time.
+     */
+    long windowAt(long epochMillis) {
+        return epochMillis / window.toMillis();
+    }
+
+    /**
+     * @param epochMillis A wall-clock time.
+     * @return The time left in milliseconds until the window containing that time ends.
+     */
+    long millisUntilNextWindow(long epochMillis) {
+        long windowMillis = window.toMillis();
+        return windowMillis - epochMillis % windowMillis;
+    }
+}
@@ -0,0 +1,31 @@
+package kr.higu.resilience;
+
+import kr.higu.exceptions.OAuthException;
+
+/**
+ * SPI for sharing provider quotas between the nodes of a cluster.
+ * <p>
+ * Nodes lease permits in chunks and spend them locally, so the coordinator is consulted once per chunk
+ * instead of once per request. Implementations must never grant more than {@link Quota#limit()} permits
+ * in a window across all nodes. Permits left unused when a window ends are lost, which keeps the cluster
+ * under the quota at the cost of a few unused requests.
+ * </p>
+ * <p>
+ * {@link MappedFileQuotaCoordinator} is a reference implementation for nodes on the same machine.
+ * Implementations backed by a shared store (e.g. Redis or a database) can be plugged in the same way.
+ * </p>
+ *
+ * @author higukang
+ * @see QuotaLimitingHttpManager
+ */
+public interface QuotaCoordinator {
+    /**
+     * Leases permits of the current window of a quota.
+     *
+     * @param quota   The quota.
+     * @param permits The number of permits wanted.
+     * @return The number of permits granted, between 0 (quota exhausted) and {@code permits}.
+     * @throws OAuthException If the coordinator cannot be reached.
+     */
+    int lease(Quota quota, int permits) throws OAuthException;
+}
@@ -0,0 +1,200 @@
+package kr.higu.resilience;
+
+import kr.higu.ForwardingHttpManager;
+import kr.higu.IHttpManager;
+import kr.higu.OAuthEndpoint;
+import kr.higu.ResponseBodyDecoder;
+import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.exceptions.detailed.OAuthRateLimitedException;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * An {@link IHttpManager} decorator that keeps a cluster of nodes sharing one app key under the provider quotas,
+ * using a {@link QuotaCoordinator}.
+ * <p>
+ * Each node leases permits in chunks of {@code chunkSize} and spends them locally, one per request,
+ * so the coordinator is only consulted once per chunk. When the coordinator grants nothing, the quota of the
+ * current window is exhausted cluster-wide: the node remembers that, and requests fail locally with
+ * {@link OAuthRateLimitedException} until the next window, without asking the coordinator again.
+ * Requests to endpoints without a quota are not counted.
+ * </p>
+ *
+ * <pre>{@code
+ * IHttpManager httpManager = new QuotaLimitingHttpManager(OAuthHttpManager.getInstance(), coordinator,
+ *         Map.of(OAuthEndpoint.KAKAO_API, new Quota("kakao:APP_KEY:user", 1_000_000, Duration.ofDays(1))), 100);
+ * }</pre>
+ *
+ * @author higukang
+ */
+public class QuotaLimitingHttpManager extends ForwardingHttpManager {
+    private final QuotaCoordinator coordinator;
+    private final int chunkSize;
+    private final LongSupplier clock;
+    private final Map<OAuthEndpoint, LocalPermits> permits = new EnumMap<>(OAuthEndpoint.class);
+
+    /**
+     * @param delegate    The manager sending the requests.
+     * @param coordinator The coordinator shared by the nodes.
+     * @param quotas      The quota each endpoint draws from. Several endpoints may share one quota.
+     * @param chunkSize   The number of permits leased at a time.
+     * @throws OAuthValidationException If an argument is null or {@code chunkSize} is not positive.
+     */
+    public QuotaLimitingHttpManager(IHttpManager delegate, QuotaCoordinator coordinator,
+                                    Map<OAuthEndpoint, Quota> quotas, int chunkSize) {
+        this(delegate, coordinator, quotas, chunkSize, System::currentTimeMillis);
+    }
+
+    QuotaLimitingHttpManager(IHttpManager delegate, QuotaCoordinator coordinator,
+                             Map<OAuthEndpoint, Quota> quotas, int chunkSize, LongSupplier clock) {
+        super(delegate);
+        if (coordinator == null || quotas == null) {
+            throw new OAuthValidationException("[K-OAuth] QuotaCoordinator and quotas must not be null.");
+        }
+        if (chunkSize < 1) {
+            throw new OAuthValidationException("[K-OAuth] Quota chunk size must be at least 1.");
+        }
+        this.coordinator = coordinator;
+        this.chunkSize = chunkSize;
+        this.clock = clock;
+        Map<Quota, LocalPermits> shared = new HashMap<>();
+        for (Map.Entry<OAuthEndpoint, Quota> entry : quotas.entrySet()) {
+            permits.put(entry.getKey(), shared.computeIfAbsent(entry.getValue(), LocalPermits::new));
+        }
+    }
+
+    @Override
+    public String get(URI uri, Map<String, String> headers) throws OAuthException {
+        acquire(uri);
+        return super.get(uri, headers);
+    }
+
+    @Override
+    public String post(URI uri, Map<String, String> headers, String body) throws OAuthException {
+        acquire(uri);
+        return super.post(uri, headers, body);
+    }
+
+    @Override
+    public <R> R get(URI uri, Map<String, String> headers, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        acquire(uri);
+        return super.get(uri, headers, decoder);
+    }
+
+    @Override
+    public <R> R post(URI uri, Map<String, String> headers, String body, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        acquire(uri);
+        return super.post(uri, headers, body, decoder);
+    }
+
+    @Override
+    public <R> R post(URI uri, Map<String, String> headers, byte[] body, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        acquire(uri);
+        return super.post(uri, headers, body, decoder);
+    }
+
+    @Override
+    public CompletableFuture<String> getAsync(URI uri, Map<String, String> headers) {
+        try {
+            acquire(uri);
+        } catch (OAuthException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return super.getAsync(uri, headers);
+    }
+
+    @Override
+    public CompletableFuture<String> postAsync(URI uri, Map<String, String> headers, String body) {
+        try {
+            acquire(uri);
+        } catch (OAuthException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return super.postAsync(uri, headers, body);
+    }
+
+    private void acquire(URI uri) throws OAuthException {
+        OAuthEndpoint endpoint = OAuthEndpoint.fromHost(uri.getHost());
+        LocalPermits local = endpoint == null ? null : permits.get(endpoint);
+        if (local != null && !local.tryAcquire()) {
+            throw new OAuthRateLimitedException(uri.getHost(),
+                    Duration.ofMillis(local.quota.millisUntilNextWindow(clock.getAsLong())));
+        }
+    }
+
+    /**
+     * The permits this node has leased for the current window of one quota.
+     * The state packs the window index (high 32 bits), an exhausted flag (bit 31) and the remaining permits
+     * (low 31 bits), so permits and the exhausted mark of an old window are discarded in the same atomic step.
+     */
+    private final class LocalPermits {
+        private static final long EXHAUSTED = 1L << 31;
+        private static final long COUNT_MASK = EXHAUSTED - 1;
+
+        private final Quota quota;
+        private final AtomicLong state = new AtomicLong(-1);
+        private final ReentrantLock refillLock = new ReentrantLock();
+
+        LocalPermits(Quota quota) {
+            this.quota = quota;
+        }
+
+        boolean tryAcquire() throws OAuthException {
+            while (true) {
+                long window = quota.windowAt(clock.getAsLong()) & 0xFFFF_FFFFL;
+                long current = state.get();
+                if (current >>> 32 == window) {
+                    if ((current & EXHAUSTED) != 0) {
+                        return false;
+                    }
+                    if ((current & COUNT_MASK) > 0) {
+                        if (state.compareAndSet(current, current - 1)) {
+                            return true;
+                        }
+                        continue;
+                    }
+                }
+                if (!refill(window)) {
+                    return false;
+                }
+            }
+        }
+
+        /**
+         * Leases a new chunk. Serialized per quota, so a burst of requests leases one chunk instead of one each.
+         * If nothing is granted, the window is marked exhausted so later requests fail without a lease.
+         */
+        private boolean refill(long window) throws OAuthException {
+            refillLock.lock();
+            try {
+                long current = state.get();
+                if (current >>> 32 == window) {
+                    if ((current & EXHAUSTED) != 0) {
+                        return false;
+                    }
+                    if ((current & COUNT_MASK) > 0) {
+                        return true;
+                    }
+                }
+                int granted = coordinator.lease(quota, chunkSize);
+                if (granted <= 0) {
+                    state.set((window << 32) | EXHAUSTED);
+                    return false;
+                }
+                state.set((window << 32) | granted);
+                return true;
+            } finally {
+                refillLock.unlock();
+            }
+        }
+    }
+}
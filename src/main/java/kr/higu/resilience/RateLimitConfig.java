@@ -0,0 +1,173 @@
+package kr.higu.resilience;
+
+import kr.higu.OAuthEndpoint;
+import kr.higu.exceptions.OAuthValidationException;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Client-side rate limits of a {@link RateLimitingHttpManager}. Instances are immutable and thread-safe.
+ * <p>
+ * Provider quotas apply per app key, so every app gets its own buckets: a limit set with
+ * {@link Builder#limit(OAuthEndpoint, double, int)} applies to each app separately, and
+ * {@link Builder#limit(String, OAuthEndpoint, double, int)} overrides it for one app.
+ * </p>
+ *
+ * <pre>{@code
+ * RateLimitConfig config = RateLimitConfig.builder()
+ *         .limit(OAuthEndpoint.KAKAO_AUTH, 20, 10)
+ *         .limit(OAuthEndpoint.KAKAO_API, 100, 50)
+ *         .limit("BIG_APP_REST_API_KEY", OAuthEndpoint.KAKAO_AUTH, 50, 20)
+ *         .maxWait(Duration.ofMillis(500))
+ *         .build();
+ * }</pre>
+ *
+ * @author higukang
+ */
+public final class RateLimitConfig {
+    private final Map<OAuthEndpoint, Limit> limits;
+    private final Map<String, Map<OAuthEndpoint, Limit>> appLimits;
+    private final long maxWaitNanos;
+    private final boolean honorRetryAfter;
+    private final long maxRetryAfterNanos;
+
+    private RateLimitConfig(Builder builder) {
+        this.limits = Collections.unmodifiableMap(new EnumMap<>(builder.limits));
+        Map<String, Map<OAuthEndpoint, Limit>> appLimits = new HashMap<>();
+        builder.appLimits.forEach((appKey, limits) -> appLimits.put(appKey, Collections.unmodifiableMap(new EnumMap<>(limits))));
+        this.appLimits = Collections.unmodifiableMap(appLimits);
+        this.maxWaitNanos = builder.maxWait.toNanos();
+        this.honorRetryAfter = builder.honorRetryAfter;
+        this.maxRetryAfterNanos = builder.maxRetryAfter.toNanos();
+    }
+
+    /**
+     * @return A builder initialized with the default settings.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * The sustained rate and burst size of one endpoint.
+     */
+    record Limit(double permitsPerSecond, int burst) {
+    }
+
+    /**
+     * Builder for {@link RateLimitConfig}.
+     * <p>
+     * Defaults: no rate limit on any endpoint, callers over a limit wait up to 500ms,
+     * and {@code Retry-After} on HTTP 429 and 503 pauses the endpoint for at most 60 seconds.
+     * </p>
+     */
+    public static final class Builder {
+        private final Map<OAuthEndpoint, Limit> limits = new EnumMap<>(OAuthEndpoint.class);
+        private final Map<String, Map<OAuthEndpoint, Limit>> appLimits = new HashMap<>();
+        private Duration maxWait = Duration.ofMillis(500);
+        private boolean honorRetryAfter = true;
+        private Duration maxRetryAfter = Duration.ofSeconds(60);
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the token bucket of an endpoint. Each app key gets its own bucket with this rate and burst.
+         *
+         * @param endpoint         The endpoint (e.g., {@link OAuthEndpoint#KAKAO_AUTH} for token requests).
+         * @param permitsPerSecond The sustained number of requests per second.
+         * @param burst            The number of requests that may be sent at once after an idle period.
+         * @return This builder instance.
+         */
+        public Builder limit(OAuthEndpoint endpoint, double permitsPerSecond, int burst) {
+            limits.put(endpoint, newLimit(endpoint, permitsPerSecond, burst));
+            return this;
+        }
+
+        /**
+         * Sets the token bucket of an endpoint for one app, overriding {@link #limit(OAuthEndpoint, double, int)}.
+         *
+         * @param appKey           The app key: the {@code client_id} of the app's requests.
+         * @param endpoint         The endpoint.
+         * @param permitsPerSecond The sustained number of requests per second.
+         * @param burst            The number of requests that may be sent at once after an idle period.
+         * @return This builder instance.
+         */
+        public Builder limit(String appKey, OAuthEndpoint endpoint, double permitsPerSecond, int burst) {
+            if (appKey == null || appKey.isBlank()) {
+                throw new OAuthValidationException("[K-OAuth] Rate limit app key must not be blank.");
+            }
+            Limit limit = newLimit(endpoint, permitsPerSecond, burst);
+            appLimits.computeIfAbsent(appKey, ignored -> new EnumMap<>(OAuthEndpoint.class)).put(endpoint, limit);
+            return this;
+        }
+
+        /**
+         * @param maxWait How long a request over the limit may be delayed before it is rejected. Zero rejects immediately.
+         * @return This builder instance.
+         */
+        public Builder maxWait(Duration maxWait) {
+            if (maxWait == null || maxWait.isNegative()) {
+                throw new OAuthValidationException("[K-OAuth] maxWait must not be negative.");
+            }
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        /**
+         * @param honor         Whether a {@code Retry-After} header on HTTP 429 or 503 pauses the endpoint.
+         * @param maxRetryAfter The longest pause accepted from a provider.
+         * @return This builder instance.
+         */
+        public Builder retryAfter(boolean honor, Duration maxRetryAfter) {
+            if (maxRetryAfter == null || maxRetryAfter.isNegative()) {
+                throw new OAuthValidationException("[K-OAuth] maxRetryAfter must not be negative.");
+            }
+            this.honorRetryAfter = honor;
+            this.maxRetryAfter = maxRetryAfter;
+            return this;
+        }
+
+        private static Limit newLimit(OAuthEndpoint endpoint, double permitsPerSecond, int burst) {
+            if (endpoint == null) {
+                throw new OAuthValidationException("[K-OAuth] Rate limit endpoint must not be null.");
+            }
+            if (!(permitsPerSecond > 0) || burst < 1) {
+                throw new OAuthValidationException("[K-OAuth] Rate limit requires permitsPerSecond > 0 and burst >= 1.");
+            }
+            return new Limit(permitsPerSecond, burst);
+        }
+
+        /**
+         * @return A new {@link RateLimitConfig}.
+         */
+        public RateLimitConfig build() {
+            return new RateLimitConfig(this);
+        }
+    }
+
+    /**
+     * @return The limit of the app on the endpoint, the endpoint's default limit, or null if the endpoint is not limited.
+     */
+    Limit limit(String appKey, OAuthEndpoint endpoint) {
+        Map<OAuthEndpoint, Limit> overrides = appLimits.get(appKey);
+        Limit limit = overrides == null ? null : overrides.get(endpoint);
+        return limit != null ? limit : limits.get(endpoint);
+    }
+
+    long maxWaitNanos() {
+        return maxWaitNanos;
+    }
+
+    boolean honorRetryAfter() {
+        return honorRetryAfter;
+    }
+
+    long maxRetryAfterNanos() {
+        return maxRetryAfterNanos;
+    }
+}
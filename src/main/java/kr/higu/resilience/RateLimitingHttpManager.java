@@ -0,0 +1,294 @@
+package kr.higu.resilience;
+
+import kr.higu.ForwardingHttpManager;
+import kr.higu.IHttpManager;
+import kr.higu.OAuthEndpoint;
+import kr.higu.ResponseBodyDecoder;
+import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.exceptions.detailed.OAuthInterruptedException;
+import kr.higu.exceptions.detailed.OAuthRateLimitedException;
+import kr.higu.exceptions.detailed.OAuthResponseException;
+
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * An {@link IHttpManager} decorator that applies client-side rate limits per app key and {@link OAuthEndpoint},
+ * so bursts are smoothed before they reach the provider's quota.
+ * <p>
+ * Provider quotas are counted per app, so each app gets its own bucket on each endpoint. The app of a request is
+ * its {@code client_id} parameter (query string or form body), or else its {@code Authorization} header unless that
+ * carries a user's {@code Bearer} token. Requests that do not identify their app, such as user info requests,
+ * share one bucket per endpoint.
+ * </p>
+ * <p>
+ * A request over the limit is delayed until its slot comes, if that is within the configured maximum wait,
+ * and fails with {@link OAuthRateLimitedException} otherwise. Async requests are delayed without blocking.
+ * When the provider answers HTTP 429 or 503 with a {@code Retry-After} header, the bucket of the request is paused
+ * for that long, and requests to it are delayed or rejected the same way. Requests to other hosts are not limited.
+ * </p>
+ *
+ * <pre>{@code
+ * IHttpManager httpManager = new RateLimitingHttpManager(OAuthHttpManager.getInstance(), RateLimitConfig.builder()
+ *         .limit(OAuthEndpoint.KAKAO_API, 100, 50)
+ *         .build());
+ * }</pre>
+ *
+ * @author higukang
+ */
+public class RateLimitingHttpManager extends ForwardingHttpManager {
+    private final RateLimitConfig config;
+    private final LongSupplier clock;
+    private final Map<BucketKey, TokenBucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate The manager sending the requests.
+     * @param config   The rate limits.
+     * @throws OAuthValidationException If an argument is null.
+     */
+    public RateLimitingHttpManager(IHttpManager delegate, RateLimitConfig config) {
+        this(delegate, config, System::nanoTime);
+    }
+
+    RateLimitingHttpManager(IHttpManager delegate, RateLimitConfig config, LongSupplier clock) {
+        super(delegate);
+        if (config == null) {
+            throw new OAuthValidationException("[K-OAuth] RateLimitConfig must not be null.");
+        }
+        this.config = config;
+        this.clock = clock;
+    }
+
+    /**
+     * @param endpoint The endpoint.
+     * @return The longest remaining pause of any app on the endpoint requested by the provider through
+     *         {@code Retry-After}, or {@link Duration#ZERO}.
+     */
+    public Duration pausedFor(OAuthEndpoint endpoint) {
+        long now = clock.getAsLong();
+        long pause = 0;
+        for (Map.Entry<BucketKey, TokenBucket> entry : buckets.entrySet()) {
+            if (entry.getKey().endpoint() == endpoint) {
+                pause = Math.max(pause, entry.getValue().remainingPause(now));
+            }
+        }
+        return Duration.ofNanos(pause);
+    }
+
+    /**
+     * @param appKey   The app key ({@code client_id}).
+     * @param endpoint The endpoint.
+     * @return The remaining pause of the app on the endpoint requested by the provider through {@code Retry-After},
+     *         or {@link Duration#ZERO}.
+     */
+    public Duration pausedFor(String appKey, OAuthEndpoint endpoint) {
+        TokenBucket bucket = buckets.get(new BucketKey(appKey == null ? "" : appKey, endpoint));
+        return bucket == null ? Duration.ZERO : Duration.ofNanos(bucket.remainingPause(clock.getAsLong()));
+    }
+
+    @Override
+    public String get(URI uri, Map<String, String> headers) throws OAuthException {
+        return limited(bucketFor(uri, headers, null), uri, () -> super.get(uri, headers));
+    }
+
+    @Override
+    public String post(URI uri, Map<String, String> headers, String body) throws OAuthException {
+        return limited(bucketFor(uri, headers, body), uri, () -> super.post(uri, headers, body));
+    }
+
+    @Override
+    public <R> R get(URI uri, Map<String, String> headers, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        return limited(bucketFor(uri, headers, null), uri, () -> super.get(uri, headers, decoder));
+    }
+
+    @Override
+    public <R> R post(URI uri, Map<String, String> headers, String body, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        return limited(bucketFor(uri, headers, body), uri, () -> super.post(uri, headers, body, decoder));
+    }
+
+    @Override
+    public <R> R post(URI uri, Map<String, String> headers, byte[] body, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        String form = body == null ? null : new String(body, StandardCharsets.ISO_8859_1);
+        return limited(bucketFor(uri, headers, form), uri, () -> super.post(uri, headers, body, decoder));
+    }
+
+    @Override
+    public CompletableFuture<String> getAsync(URI uri, Map<String, String> headers) {
+        return limitedAsync(bucketFor(uri, headers, null), uri, () -> super.getAsync(uri, headers));
+    }
+
+    @Override
+    public CompletableFuture<String> postAsync(URI uri, Map<String, String> headers, String body) {
+        return limitedAsync(bucketFor(uri, headers, body), uri, () -> super.postAsync(uri, headers, body));
+    }
+
+    /**
+     * Identifies a bucket: the app, or "" for requests that do not identify their app, and the endpoint.
+     */
+    private record BucketKey(String appKey, OAuthEndpoint endpoint) {
+    }
+
+    /**
+     * A single blocking call.
+     */
+    @FunctionalInterface
+    private interface Call<R> {
+        R run() throws OAuthException;
+    }
+
+    private <R> R limited(TokenBucket bucket, URI uri, Call<R> call) throws OAuthException {
+        if (bucket == null) {
+            return call.run();
+        }
+        long delay = bucket.reserve(clock.getAsLong(), config.maxWaitNanos());
+        if (delay < 0) {
+            throw new OAuthRateLimitedException(uri.getHost(), Duration.ofNanos(-delay));
+        }
+        if (delay > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new OAuthInterruptedException("Waiting for the rate limit was interrupted." + e.getMessage(), e);
+            }
+        }
+        try {
+            return call.run();
+        } catch (OAuthResponseException e) {
+            onError(bucket, e);
+            throw e;
+        }
+    }
+
+    private <R> CompletableFuture<R> limitedAsync(TokenBucket bucket, URI uri, Supplier<CompletableFuture<R>> call) {
+        if (bucket == null) {
+            return call.get();
+        }
+        long delay = bucket.reserve(clock.getAsLong(), config.maxWaitNanos());
+        if (delay < 0) {
+            return CompletableFuture.failedFuture(new OAuthRateLimitedException(uri.getHost(), Duration.ofNanos(-delay)));
+        }
+        CompletableFuture<R> future = delay == 0
+                ? call.get()
+                : CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS))
+                        .thenCompose(ignored -> call.get());
+        return future.whenComplete((result, error) -> {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (cause instanceof OAuthResponseException responseException) {
+                onError(bucket, responseException);
+            }
+        });
+    }
+
+    /**
+     * @param form The form body of a POST, or null.
+     * @return The bucket of the request's app on its endpoint, or null if the host is not a provider endpoint.
+     */
+    private TokenBucket bucketFor(URI uri, Map<String, String> headers, String form) {
+        OAuthEndpoint endpoint = OAuthEndpoint.fromHost(uri.getHost());
+        if (endpoint == null) {
+            return null;
+        }
+        String appKey = appKey(uri.getRawQuery(), headers, form);
+        return buckets.computeIfAbsent(new BucketKey(appKey, endpoint),
+                key -> new TokenBucket(config.limit(key.appKey(), key.endpoint()), clock.getAsLong()));
+    }
+
+    /**
+     * Resolves the app of a request: its {@code client_id} parameter, else a non-{@code Bearer}
+     * {@code Authorization} header (an app credential such as an admin key). A {@code Bearer} token belongs to
+     * a user and does not tell which app issued it, so such requests resolve to "".
+     *
+     * @return The app key, or "" if the request does not identify its app.
+     */
+    static String appKey(String rawQuery, Map<String, String> headers, String form) {
+        String clientId = param(rawQuery, "client_id");
+        if (clientId == null) {
+            clientId = param(form, "client_id");
+        }
+        if (clientId != null) {
+            try {
+                return URLDecoder.decode(clientId, StandardCharsets.UTF_8);
+            } catch (IllegalArgumentException e) {
+                return clientId;
+            }
+        }
+        String authorization = headers == null ? null : headers.get("Authorization");
+        if (authorization != null && !authorization.regionMatches(true, 0, "Bearer ", 0, 7)) {
+            return authorization;
+        }
+        return "";
+    }
+
+    /**
+     * @return The raw value of the first {@code name} parameter of a form-encoded string, or null.
+     */
+    private static String param(String form, String name) {
+        if (form == null) {
+            return null;
+        }
+        int start = 0;
+        while (start <= form.length()) {
+            int end = form.indexOf('&', start);
+            if (end < 0) {
+                end = form.length();
+            }
+            if (end - start > name.length() && form.charAt(start + name.length()) == '='
+                    && form.startsWith(name, start)) {
+                return form.substring(start + name.length() + 1, end);
+            }
+            start = end + 1;
+        }
+        return null;
+    }
+
+    private void onError(TokenBucket bucket, OAuthResponseException e) {
+        int status = e.getStatusCode();
+        if (!config.honorRetryAfter() || (status != 429 && status != 503)) {
+            return;
+        }
+        long now = clock.getAsLong();
+        long pause = parseRetryAfterNanos(e.getHeader("Retry-After"), ZonedDateTime.now());
+        if (pause > 0) {
+            bucket.pauseUntil(now + Math.min(pause, config.maxRetryAfterNanos()));
+        }
+    }
+
+    /**
+     * Parses a {@code Retry-After} value, given either in seconds or as an HTTP date.
+     *
+     * @param value The header value, or null.
+     * @param now   The current wall-clock time, to resolve HTTP dates.
+     * @return The delay in nanoseconds, or 0 if the value is absent or invalid.
+     */
+    static long parseRetryAfterNanos(String value, ZonedDateTime now) {
+        if (value == null || value.isBlank()) {
+            return 0;
+        }
+        String trimmed = value.trim();
+        try {
+            return TimeUnit.SECONDS.toNanos(Math.max(0, Long.parseLong(trimmed)));
+        } catch (NumberFormatException ignored) {
+            // Not delay-seconds; try an HTTP date.
+        }
+        try {
+            ZonedDateTime retryAt = ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Math.max(0, Duration.between(now, retryAt).toNanos());
+        } catch (DateTimeParseException | ArithmeticException ignored) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package kr.higu.resilience;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Builds keys identifying a request by a SHA-256 hash of its URI, headers and body,
+ * so decorators can match requests without keeping the authorization code or access token they carry.
+ *
+ * @author higukang
+ */
+final class RequestDigest {
+    private static final HexFormat HEX = HexFormat.of();
+
+    private RequestDigest() {
+    }
+
+    /**
+     * @param prefix  Text put in front of the hash, e.g. the HTTP method.
+     * @param uri     The request URI.
+     * @param headers The request headers, in any order. Can be null.
+     * @param body    The request body. Can be null.
+     * @return {@code prefix + ' ' + hex(SHA-256)}.
+     */
+    static String of(String prefix, URI uri, Map<String, String> headers, byte[] body) {
+        MessageDigest digest = sha256();
+        update(digest, uri.toString());
+        if (headers != null) {
+            for (Map.Entry<String, String> header : new TreeMap<>(headers).entrySet()) {
+                update(digest, header.getKey());
+                update(digest, header.getValue());
+            }
+        }
+        if (body != null) {
+            digest.update(body);
+        }
+        return prefix + ' ' + HEX.formatHex(digest.digest());
+    }
+
+    /**
+     * @param prefix Text put in front of the hash, e.g. the provider host.
+     * @param value  The value to identify without keeping it, e.g. an Authorization header.
+     * @return {@code prefix + ' ' + hex(SHA-256)}.
+     */
+    static String of(String prefix, String value) {
+        MessageDigest digest = sha256();
+        update(digest, value);
+        return prefix + ' ' + HEX.formatHex(digest.digest());
+    }
+
+    /**
+     * Adds a value followed by a NUL separator, so adjacent values cannot run into each other.
+     */
+    private static void update(MessageDigest digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required by every Java platform.", e);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package kr.higu.resilience;
+
+import kr.higu.exceptions.OAuthValidationException;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket that caps retries to a share of the traffic.
+ * <p>
+ * Every original request deposits {@code retryRatio} tokens and every retry withdraws one,
+ * so over time retries cannot exceed {@code retryRatio} of the requests (e.g. 10%).
+ * The bucket holds at most {@code maxTokens} tokens and starts full, which allows a small burst of retries
+ * while traffic is low. When the bucket is empty, failures are passed to the caller without retrying,
+ * so retries stop amplifying load during a provider outage.
+ * </p>
+ * A budget is thread-safe and is meant to be shared by all managers talking to the same provider.
+ *
+ * @author higukang
+ */
+public final class RetryBudget {
+    private static final long SCALE = 1_000;
+
+    private final long deposit;
+    private final long capacity;
+    private final AtomicLong tokens;
+
+    private RetryBudget(double retryRatio, int maxTokens) {
+        this.deposit = Math.round(retryRatio * SCALE);
+        this.capacity = maxTokens * SCALE;
+        this.tokens = new AtomicLong(capacity);
+    }
+
+    /**
+     * Creates a budget.
+     *
+     * @param retryRatio The maximum ratio of retries to requests, between 0 and 1 (e.g. 0.1 for 10%).
+     * @param maxTokens  The maximum number of retries that can be saved up. Must not be negative.
+     * @return A new budget, initially full.
+     * @throws OAuthValidationException If an argument is out of range.
+     */
+    public static RetryBudget of(double retryRatio, int maxTokens) {
+        if (!(retryRatio >= 0 && retryRatio <= 1)) {
+            throw new OAuthValidationException("[K-OAuth] Retry ratio must be between 0 and 1.");
+        }
+        if (maxTokens < 0) {
+            throw new OAuthValidationException("[K-OAuth] Retry budget size must not be negative.");
+        }
+        return new RetryBudget(retryRatio, maxTokens);
+    }
+
+    /**
+     * Records an original (non-retry) request.
+     */
+    void onRequest() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current >= capacity) {
+                return;
+            }
+        } while (!tokens.compareAndSet(current, Math.min(capacity, current + deposit)));
+    }
+
+    /**
+     * Takes one token for a retry.
+     *
+     * @return Whether the retry may be sent.
+     */
+    boolean tryAcquireRetry() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!tokens.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    /** @return The number of whole retries currently available. */
+    public long availableRetries() {
+        return tokens.get() / SCALE;
+    }
+}
@@ -0,0 +1,238 @@
+package kr.higu.resilience;
+
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.exceptions.detailed.OAuthNetworkException;
+import kr.higu.exceptions.detailed.OAuthResponseException;
+import kr.higu.json.JsonCodec;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides whether and when a failed request is retried: how many attempts are made,
+ * how long to wait between them (exponential backoff with full jitter), and which failures are transient.
+ * <p>
+ * A failure is retryable if it is an {@link OAuthNetworkException}, or an {@link OAuthResponseException}
+ * whose provider error code is known to be transient, or whose HTTP status is transient and whose
+ * provider error code is not known to be permanent. The provider error code is read from the exception,
+ * or from the {@code code}, {@code error_code}, {@code error} or {@code resultcode} member of the raw body
+ * if the manager did not set it.
+ * </p>
+ * Instances are immutable and thread-safe.
+ *
+ * <pre>{@code
+ * RetryPolicy policy = RetryPolicy.builder()
+ *         .maxAttempts(3)
+ *         .backoff(Duration.ofMillis(100), Duration.ofSeconds(2))
+ *         .budget(RetryBudget.of(0.1, 10))
+ *         .build();
+ * }</pre>
+ *
+ * @author higukang
+ */
+public final class RetryPolicy {
+    private static final String[] ERROR_CODE_MEMBERS = {"code", "error_code", "error", "resultcode"};
+
+    private final int maxAttempts;
+    private final long baseDelayNanos;
+    private final long maxDelayNanos;
+    private final RetryBudget budget;
+    private final Set<Integer> retryableStatusCodes;
+    private final Set<String> retryableErrorCodes;
+    private final Set<String> nonRetryableErrorCodes;
+
+    private RetryPolicy(Builder builder) {
+        this.maxAttempts = builder.maxAttempts;
+        this.baseDelayNanos = builder.baseDelay.toNanos();
+        this.maxDelayNanos = builder.maxDelay.toNanos();
+        this.budget = builder.budget;
+        this.retryableStatusCodes = Set.copyOf(builder.retryableStatusCodes);
+        this.retryableErrorCodes = Set.copyOf(builder.retryableErrorCodes);
+        this.nonRetryableErrorCodes = Set.copyOf(builder.nonRetryableErrorCodes);
+    }
+
+    /**
+     * @return A builder initialized with the default settings.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for {@link RetryPolicy}.
+     * <p>
+     * Defaults: 3 attempts, backoff from 100ms up to 2s, a budget of 10% of the traffic with a burst of 10,
+     * HTTP 408, 429, 500, 502, 503 and 504 as transient statuses,
+     * Kakao {@code -1} (internal error) and {@code -603} (timeout) as transient provider codes,
+     * and the token and grant rejections Kakao {@code -401}, Naver {@code 024} and {@code invalid_grant}/{@code invalid_request}
+     * as permanent provider codes. Other codes, such as Kakao {@code -7} (maintenance or internal error),
+     * follow the HTTP status.
+     * </p>
+     */
+    public static final class Builder {
+        private int maxAttempts = 3;
+        private Duration baseDelay = Duration.ofMillis(100);
+        private Duration maxDelay = Duration.ofSeconds(2);
+        private RetryBudget budget;
+        private Set<Integer> retryableStatusCodes = Set.of(408, 429, 500, 502, 503, 504);
+        private Set<String> retryableErrorCodes = Set.of("-1", "-603");
+        private Set<String> nonRetryableErrorCodes = Set.of("-401", "024", "invalid_grant", "invalid_request");
+
+        private Builder() {
+        }
+
+        /**
+         * @param maxAttempts The maximum number of attempts including the first one. 1 disables retries.
+         * @return This builder instance.
+         */
+        public Builder maxAttempts(int maxAttempts) {
+            if (maxAttempts < 1) {
+                throw new OAuthValidationException("[K-OAuth] maxAttempts must be at least 1.");
+            }
+            this.maxAttempts = maxAttempts;
+            return this;
+        }
+
+        /**
+         * Sets the exponential backoff. Before the n-th retry, a random delay between 0 and
+         * {@code min(maxDelay, baseDelay * 2^(n-1))} is waited.
+         *
+         * @param baseDelay The delay cap before the first retry.
+         * @param maxDelay  The upper bound of any delay.
+         * @return This builder instance.
+         */
+        public Builder backoff(Duration baseDelay, Duration maxDelay) {
+            if (baseDelay == null || maxDelay == null || baseDelay.isNegative() || maxDelay.compareTo(baseDelay) < 0) {
+                throw new OAuthValidationException("[K-OAuth] Backoff delays must be non-negative and maxDelay >= baseDelay.");
+            }
+            this.baseDelay = baseDelay;
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Sets the retry budget. Share one budget between policies to cap retries across all of them.
+         *
+         * @param budget The budget.
+         * @return This builder instance.
+         */
+        public Builder budget(RetryBudget budget) {
+            if (budget == null) {
+                throw new OAuthValidationException("[K-OAuth] RetryBudget must not be null.");
+            }
+            this.budget = budget;
+            return this;
+        }
+
+        /**
+         * @param statusCodes The HTTP status codes treated as transient.
+         * @return This builder instance.
+         */
+        public Builder retryableStatusCodes(Integer... statusCodes) {
+            this.retryableStatusCodes = Set.copyOf(Arrays.asList(statusCodes));
+            return this;
+        }
+
+        /**
+         * @param errorCodes Provider error codes that are retried regardless of the HTTP status.
+         * @return This builder instance.
+         */
+        public Builder retryableErrorCodes(String... errorCodes) {
+            this.retryableErrorCodes = Set.copyOf(Arrays.asList(errorCodes));
+            return this;
+        }
+
+        /**
+         * @param errorCodes Provider error codes that are never retried, even with a transient HTTP status.
+         * @return This builder instance.
+         */
+        public Builder nonRetryableErrorCodes(String... errorCodes) {
+            this.nonRetryableErrorCodes = Set.copyOf(Arrays.asList(errorCodes));
+            return this;
+        }
+
+        /**
+         * @return A new {@link RetryPolicy}.
+         */
+        public RetryPolicy build() {
+            if (budget == null) {
+                budget = RetryBudget.of(0.1, 10);
+            }
+            return new RetryPolicy(this);
+        }
+    }
+
+    /** @return The maximum number of attempts including the first one. */
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /** @return The retry budget shared by the requests using this policy. */
+    public RetryBudget budget() {
+        return budget;
+    }
+
+    /**
+     * Classifies a failure.
+     *
+     * @param failure The failure of an attempt.
+     * @return Whether the failure is transient and the request may be retried.
+     */
+    public boolean isRetryable(Throwable failure) {
+        if (failure instanceof OAuthNetworkException) {
+            return true;
+        }
+        if (!(failure instanceof OAuthResponseException responseException)) {
+            return false;
+        }
+        String errorCode = errorCode(responseException);
+        if (errorCode != null) {
+            if (nonRetryableErrorCodes.contains(errorCode)) {
+                return false;
+            }
+            if (retryableErrorCodes.contains(errorCode)) {
+                return true;
+            }
+        }
+        return retryableStatusCodes.contains(responseException.getStatusCode());
+    }
+
+    /**
+     * Returns the delay before the given retry, using full jitter.
+     *
+     * @param retry The retry number, starting at 1.
+     * @return The delay in nanoseconds.
+     */
+    long delayNanos(int retry) {
+        long cap = baseDelayNanos << Math.min(retry - 1, 30);
+        if (cap <= 0 || cap > maxDelayNanos) {
+            cap = maxDelayNanos;
+        }
+        return cap == 0 ? 0 : ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    /**
+     * @return The provider error code of the failure, read from the raw body if the manager did not set it, or null.
+     */
+    static String errorCode(OAuthResponseException e) {
+        if (e.getErrorCode() != null) {
+            return e.getErrorCode();
+        }
+        String body = e.getRawBody();
+        if (body == null || body.isBlank()) {
+            return null;
+        }
+        try {
+            for (String value : JsonCodec.getDefault().readScalars(body, ERROR_CODE_MEMBERS)) {
+                if (value != null) {
+                    return value;
+                }
+            }
+        } catch (RuntimeException ignored) {
+            // Not a JSON object; classify by status only.
+        }
+        return null;
+    }
+}
@@ -0,0 +1,123 @@
+package kr.higu.resilience;
+
+import kr.higu.ForwardingHttpManager;
+import kr.higu.IHttpManager;
+import kr.higu.ResponseBodyDecoder;
+import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.exceptions.detailed.OAuthInterruptedException;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * An {@link IHttpManager} decorator that retries failed idempotent requests according to a {@link RetryPolicy}.
+ * <p>
+ * Only GET requests (user information) are retried. POST requests are sent exactly once:
+ * an authorization code can be redeemed only once, so replaying a token exchange whose response was lost
+ * would fail with {@code invalid_grant} at best and is never done blindly.
+ * </p>
+ * <p>
+ * A retry is sent only if the failure is transient according to the policy, attempts are left,
+ * and the policy's {@link RetryBudget} has a token. Otherwise the last failure is passed to the caller as is.
+ * Blocking calls wait on the calling thread; {@link #getAsync(URI, Map)} schedules retries without blocking.
+ * </p>
+ *
+ * <pre>{@code
+ * IHttpManager httpManager = new RetryingHttpManager(OAuthHttpManager.getInstance(), RetryPolicy.builder().build());
+ * KakaoClient kakaoClient = KakaoClient.create(httpManager);
+ * }</pre>
+ *
+ * @author higukang
+ */
+public class RetryingHttpManager extends ForwardingHttpManager {
+    private final RetryPolicy policy;
+
+    /**
+     * @param delegate The manager sending the requests.
+     * @param policy   The retry policy.
+     * @throws OAuthValidationException If an argument is null.
+     */
+    public RetryingHttpManager(IHttpManager delegate, RetryPolicy policy) {
+        super(delegate);
+        if (policy == null) {
+            throw new OAuthValidationException("[K-OAuth] RetryPolicy must not be null.");
+        }
+        this.policy = policy;
+    }
+
+    @Override
+    public String get(URI uri, Map<String, String> headers) throws OAuthException {
+        return withRetries(() -> super.get(uri, headers));
+    }
+
+    @Override
+    public <R> R get(URI uri, Map<String, String> headers, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        return withRetries(() -> super.get(uri, headers, decoder));
+    }
+
+    @Override
+    public CompletableFuture<String> getAsync(URI uri, Map<String, String> headers) {
+        policy.budget().onRequest();
+        return attemptAsync(1, () -> super.getAsync(uri, headers));
+    }
+
+    /**
+     * A single attempt of a blocking call.
+     */
+    @FunctionalInterface
+    private interface Attempt<R> {
+        R run() throws OAuthException;
+    }
+
+    private <R> R withRetries(Attempt<R> attempt) throws OAuthException {
+        policy.budget().onRequest();
+        for (int attemptNumber = 1; ; attemptNumber++) {
+            try {
+                return attempt.run();
+            } catch (OAuthException e) {
+                if (!shouldRetry(e, attemptNumber)) {
+                    throw e;
+                }
+                sleep(policy.delayNanos(attemptNumber));
+            }
+        }
+    }
+
+    private <R> CompletableFuture<R> attemptAsync(int attemptNumber, Supplier<CompletableFuture<R>> attempt) {
+        return attempt.get().handle((result, error) -> {
+            if (error == null) {
+                return CompletableFuture.completedFuture(result);
+            }
+            Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (!shouldRetry(cause, attemptNumber)) {
+                return CompletableFuture.<R>failedFuture(error);
+            }
+            long delay = policy.delayNanos(attemptNumber);
+            return CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS))
+                    .thenCompose(ignored -> attemptAsync(attemptNumber + 1, attempt));
+        }).thenCompose(future -> future);
+    }
+
+    private boolean shouldRetry(Throwable failure, int attemptNumber) {
+        return attemptNumber < policy.maxAttempts()
+                && policy.isRetryable(failure)
+                && policy.budget().tryAcquireRetry();
+    }
+
+    private static void sleep(long nanos) throws OAuthInterruptedException {
+        if (nanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OAuthInterruptedException("Retry backoff was interrupted." + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package kr.higu.resilience;
+
+import kr.higu.ForwardingHttpManager;
+import kr.higu.IHttpManager;
+import kr.higu.ResponseBodyDecoder;
+import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.exceptions.detailed.OAuthInterruptedException;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * An {@link IHttpManager} decorator that coalesces identical concurrent requests into a single HTTP exchange.
+ * <p>
+ * Two requests are identical when they have the same method, URI, headers and body, so the same
+ * authorization code or access token sent twice at once (double clicks, several tabs, client retries)
+ * produces one call to the provider, and every caller receives its response or exception.
+ * Requests are keyed by a SHA-256 hash, so codes and tokens are never held as map keys.
+ * Callers share one exchange whether they ask for a String, a future or a {@link ResponseBodyDecoder};
+ * the shared body is converted to each caller's type, and decoder callers decode it with their own decoder.
+ * </p>
+ * <p>
+ * A successful response can optionally be retained for a short time after it completes,
+ * so duplicates arriving just after the first request finished get the same response.
+ * Failures are never retained.
+ * </p>
+ *
+ * <pre>{@code
+ * IHttpManager httpManager = new SingleFlightHttpManager(OAuthHttpManager.getInstance(), Duration.ofSeconds(1));
+ * }</pre>
+ *
+ * @author higukang
+ */
+public class SingleFlightHttpManager extends ForwardingHttpManager {
+    private final long retentionNanos;
+    private final LongSupplier clock;
+    private final ConcurrentHashMap<String, Flight> flights = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a manager that only coalesces requests while they are in flight.
+     *
+     * @param delegate The manager sending the requests.
+     * @throws OAuthValidationException If the delegate is null.
+     */
+    public SingleFlightHttpManager(IHttpManager delegate) {
+        this(delegate, Duration.ZERO);
+    }
+
+    /**
+     * @param delegate  The manager sending the requests.
+     * @param retention How long a successful response is reused after it completes. {@link Duration#ZERO} disables it.
+     * @throws OAuthValidationException If an argument is null or the retention is negative.
+     */
+    public SingleFlightHttpManager(IHttpManager delegate, Duration retention) {
+        this(delegate, retention, System::nanoTime);
+    }
+
+    SingleFlightHttpManager(IHttpManager delegate, Duration retention, LongSupplier clock) {
+        super(delegate);
+        if (retention == null || retention.isNegative()) {
+            throw new OAuthValidationException("[K-OAuth] Single-flight retention must not be null or negative.");
+        }
+        this.retentionNanos = retention.toNanos();
+        this.clock = clock;
+    }
+
+    /**
+     * @return The number of distinct requests in flight or retained.
+     */
+    public int inFlight() {
+        return flights.size();
+    }
+
+    @Override
+    public String get(URI uri, Map<String, String> headers) throws OAuthException {
+        return text(coalesce(RequestDigest.of("GET", uri, headers, null), () -> super.get(uri, headers)));
+    }
+
+    @Override
+    public String post(URI uri, Map<String, String> headers, String body) throws OAuthException {
+        return text(coalesce(RequestDigest.of("POST", uri, headers, utf8(body)), () -> super.post(uri, headers, body)));
+    }
+
+    @Override
+    public <R> R get(URI uri, Map<String, String> headers, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        Object response = coalesce(RequestDigest.of("GET", uri, headers, null),
+                () -> super.get(uri, headers, BytesDecoder.INSTANCE));
+        return BytesDecoder.decode(bytes(response), decoder);
+    }
+
+    @Override
+    public <R> R post(URI uri, Map<String, String> headers, String body, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        Object response = coalesce(RequestDigest.of("POST", uri, headers, utf8(body)),
+                () -> super.post(uri, headers, body, BytesDecoder.INSTANCE));
+        return BytesDecoder.decode(bytes(response), decoder);
+    }
+
+    @Override
+    public <R> R post(URI uri, Map<String, String> headers, byte[] body, ResponseBodyDecoder<R> decoder) throws OAuthException {
+        Object response = coalesce(RequestDigest.of("POST", uri, headers, body),
+                () -> super.post(uri, headers, body, BytesDecoder.INSTANCE));
+        return BytesDecoder.decode(bytes(response), decoder);
+    }
+
+    @Override
+    public CompletableFuture<String> getAsync(URI uri, Map<String, String> headers) {
+        return coalesceAsync(RequestDigest.of("GET", uri, headers, null), () -> super.getAsync(uri, headers))
+                .thenApply(SingleFlightHttpManager::text);
+    }
+
+    @Override
+    public CompletableFuture<String> postAsync(URI uri, Map<String, String> headers, String body) {
+        return coalesceAsync(RequestDigest.of("POST", uri, headers, utf8(body)), () -> super.postAsync(uri, headers, body))
+                .thenApply(SingleFlightHttpManager::text);
+    }
+
+    /**
+     * A single blocking call.
+     */
+    @FunctionalInterface
+    private interface Call<R> {
+        R run() throws OAuthException;
+    }
+
+    /**
+     * One shared exchange. The result is the response body as the first caller received it, a String or a byte array;
+     * each caller converts it to its own type. {@code completedAt} is set once the result is known, for the retention window.
+     */
+    private static final class Flight {
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        volatile long completedAt;
+    }
+
+    private Object coalesce(String key, Call<?> call) throws OAuthException {
+        Flight flight = new Flight();
+        Flight shared = join(key, flight);
+        if (shared != flight) {
+            return await(shared);
+        }
+        try {
+            Object response = call.run();
+            complete(key, flight, response, null);
+            return response;
+        } catch (OAuthException | RuntimeException | Error e) {
+            complete(key, flight, null, e);
+            throw e;
+        }
+    }
+
+    private CompletableFuture<Object> coalesceAsync(String key, Supplier<? extends CompletableFuture<?>> call) {
+        Flight flight = new Flight();
+        Flight shared = join(key, flight);
+        if (shared == flight) {
+            CompletableFuture<?> response;
+            try {
+                response = call.get();
+            } catch (RuntimeException e) {
+                response = CompletableFuture.failedFuture(e);
+            }
+            response.whenComplete((result, error) -> complete(key, flight, result, unwrap(error)));
+        }
+        // A copy, so one caller cancelling its future does not cancel the exchange for the others.
+        return shared.result.copy();
+    }
+
+    /**
+     * Registers the flight under the key, or returns the flight already in progress or retained.
+     */
+    private Flight join(String key, Flight flight) {
+        while (true) {
+            Flight existing = flights.putIfAbsent(key, flight);
+            if (existing == null) {
+                return flight;
+            }
+            if (!existing.result.isDone() || (!existing.result.isCompletedExceptionally()
+                    && clock.getAsLong() - existing.completedAt < retentionNanos)) {
+                return existing;
+            }
+            flights.remove(key, existing);
+        }
+    }
+
+    private void complete(String key, Flight flight, Object response, Throwable error) {
+        flight.completedAt = clock.getAsLong();
+        if (error == null) {
+            flight.result.complete(response);
+        } else {
+            flight.result.completeExceptionally(error);
+        }
+        if (error != null || retentionNanos == 0) {
+            flights.remove(key, flight);
+        } else {
+            CompletableFuture.delayedExecutor(retentionNanos, TimeUnit.NANOSECONDS)
+                    .execute(() -> flights.remove(key, flight));
+        }
+    }
+
+    private static Object await(Flight flight) throws OAuthException {
+        try {
+            return flight.result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OAuthInterruptedException("Waiting for an identical in-flight request was interrupted." + e.getMessage(), e);
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e.getCause());
+            if (cause instanceof OAuthException oauthException) {
+                throw oauthException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new CompletionException(cause);
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private static byte[] utf8(String body) {
+        return body == null ? null : body.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(Object response) {
+        return response instanceof byte[] body ? new String(body, StandardCharsets.UTF_8) : (String) response;
+    }
+
+    private static byte[] bytes(Object response) {
+        if (response instanceof byte[] body) {
+            return body;
+        }
+        return response == null ? new byte[0] : utf8((String) response);
+    }
+}
@@ -0,0 +1,73 @@
+package kr.higu.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket of one endpoint, implemented as a generic cell rate algorithm:
+ * instead of counting tokens, it keeps the theoretical arrival time of the next request,
+ * so a reservation is a single compare-and-set.
+ * <p>
+ * The bucket can also be paused until a point in time, after the provider asked to back off with {@code Retry-After}.
+ * A bucket without a rate only applies pauses.
+ * </p>
+ *
+ * @author higukang
+ */
+final class TokenBucket {
+    private final long intervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrival;
+    private final AtomicLong pausedUntil;
+
+    /**
+     * @param limit The rate and burst, or null for a bucket that only applies pauses.
+     * @param now   The current time in nanoseconds.
+     */
+    TokenBucket(RateLimitConfig.Limit limit, long now) {
+        this.intervalNanos = limit == null ? 0 : Math.max(1, (long) (1_000_000_000L / limit.permitsPerSecond()));
+        this.toleranceNanos = limit == null ? 0 : intervalNanos * (limit.burst() - 1);
+        this.theoreticalArrival = new AtomicLong(now);
+        this.pausedUntil = new AtomicLong(now);
+    }
+
+    /**
+     * Reserves a slot for a request if it can be sent within {@code maxWaitNanos}.
+     *
+     * @return The delay in nanoseconds before the request may be sent (0 if immediately),
+     *         or a negative value {@code -(delay)} if the delay exceeds {@code maxWaitNanos} and nothing was reserved.
+     */
+    long reserve(long now, long maxWaitNanos) {
+        long pauseDelay = Math.max(0, pausedUntil.get() - now);
+        if (pauseDelay > maxWaitNanos) {
+            return -pauseDelay;
+        }
+        if (intervalNanos == 0) {
+            return pauseDelay;
+        }
+        while (true) {
+            long current = theoreticalArrival.get();
+            long arrival = Math.max(current, now);
+            long delay = Math.max(pauseDelay, arrival - toleranceNanos - now);
+            if (delay > maxWaitNanos) {
+                return -delay;
+            }
+            if (theoreticalArrival.compareAndSet(current, arrival + intervalNanos)) {
+                return delay;
+            }
+        }
+    }
+
+    /**
+     * Pauses the bucket until the given time, unless it is already paused longer.
+     */
+    void pauseUntil(long until) {
+        pausedUntil.accumulateAndGet(until, Math::max);
+    }
+
+    /**
+     * @return The remaining pause in nanoseconds, or 0.
+     */
+    long remainingPause(long now) {
+        return Math.max(0, pausedUntil.get() - now);
+    }
+}
@@ -0,0 +1,255 @@
+package kr.higu.token;
+
+import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.exceptions.detailed.OAuthInterruptedException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.FileLockInterruptionException;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link RefreshCoordinator} backed by {@link FileLock}s on a directory shared by every JVM that opens it.
+ * <p>
+ * Each refresh token has a lease file named after its SHA-256 hash. A refresh takes an exclusive lock on that file,
+ * which makes the other JVMs wait, and writes the new token into it before releasing the lock. A JVM that gets
+ * the lock afterwards reads the token back instead of refreshing again. File locks are held per JVM, so threads
+ * of the same JVM are serialized by striped in-process locks first. The stripes are shared by every coordinator
+ * opened on the same directory in this JVM, e.g. by one {@link TokenManager} per provider.
+ * </p>
+ * <p>
+ * The lease files hold tokens in plain text: the directory must only be accessible to the service.
+ * On POSIX file systems, files are created readable by their owner only. Files not written for longer than
+ * the retention are deleted during later refreshes.
+ * </p>
+ * <p>
+ * This is meant for tests and for nodes sharing a local or network file system with working locks;
+ * clusters without one need a coordinator backed by a shared store.
+ * </p>
+ *
+ * <pre>{@code
+ * RefreshCoordinator coordinator = FileLockRefreshCoordinator.open(Path.of("/var/lib/my-service/refresh-leases"));
+ * }</pre>
+ *
+ * @author higukang
+ */
+public final class FileLockRefreshCoordinator implements RefreshCoordinator {
+    private static final String SUFFIX = ".lease";
+    private static final int STRIPES = 64;
+    private static final Duration DEFAULT_RETENTION = Duration.ofDays(1);
+    /**
+     * Stripes per lease directory, keyed by its real path. A JVM can only hold one lock on a file,
+     * so coordinators on the same directory must share them.
+     */
+    private static final ConcurrentHashMap<Path, ReentrantLock[]> STRIPES_BY_DIRECTORY = new ConcurrentHashMap<>();
+
+    private final Path directory;
+    private final long retentionMillis;
+    private final LongSupplier clock;
+    private final FileAttribute<?>[] attributes;
+    private final ReentrantLock[] stripes;
+    private final AtomicLong nextPurge;
+
+    private FileLockRefreshCoordinator(Path directory, Duration retention, LongSupplier clock) {
+        this.directory = directory;
+        this.retentionMillis = retention.toMillis();
+        this.clock = clock;
+        this.attributes = FileSystems.getDefault().supportedFileAttributeViews().contains("posix")
+                ? new FileAttribute<?>[]{PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------"))}
+                : new FileAttribute<?>[0];
+        this.stripes = STRIPES_BY_DIRECTORY.computeIfAbsent(directory, key -> {
+            ReentrantLock[] locks = new ReentrantLock[STRIPES];
+            for (int i = 0; i < STRIPES; i++) {
+                locks[i] = new ReentrantLock();
+            }
+            return locks;
+        });
+        this.nextPurge = new AtomicLong(clock.getAsLong() + retentionMillis);
+    }
+
+    /**
+     * Opens the lease directory, creating it if needed. Lease files are kept for one day.
+     *
+     * @param directory The directory shared by the JVMs.
+     * @return The coordinator.
+     * @throws UncheckedIOException If the directory cannot be created.
+     */
+    public static FileLockRefreshCoordinator open(Path directory) {
+        return open(directory, DEFAULT_RETENTION);
+    }
+
+    /**
+     * Opens the lease directory, creating it if needed.
+     *
+     * @param directory The directory shared by the JVMs.
+     * @param retention How long a lease file is kept after it was last written. Should exceed the access token lifetime.
+     * @return The coordinator.
+     * @throws UncheckedIOException If the directory cannot be created.
+     */
+    public static FileLockRefreshCoordinator open(Path directory, Duration retention) {
+        return open(directory, retention, System::currentTimeMillis);
+    }
+
+    static FileLockRefreshCoordinator open(Path directory, Duration retention, LongSupplier clock) {
+        if (directory == null) {
+            throw new OAuthValidationException("[K-OAuth] Lease directory must not be null.");
+        }
+        if (retention == null || retention.isNegative() || retention.isZero()) {
+            throw new OAuthValidationException("[K-OAuth] Lease retention must be positive.");
+        }
+        Path realDirectory;
+        try {
+            Files.createDirectories(directory);
+            realDirectory = directory.toRealPath();
+        } catch (IOException e) {
+            throw new UncheckedIOException("[K-OAuth] Failed to create lease directory " + directory, e);
+        }
+        return new FileLockRefreshCoordinator(realDirectory, retention, clock);
+    }
+
+    @Override
+    public OAuthToken refresh(OAuthToken token, TokenRefresher refresher) throws OAuthException {
+        if (token.refreshToken() == null) {
+            // Nothing to share; let the refresher report the missing refresh token.
+            return refresher.refresh(token);
+        }
+        purgeIfDue();
+        String name = TokenDigest.sha256(token.refreshToken()) + SUFFIX;
+        ReentrantLock stripe = stripe(name);
+        try {
+            stripe.lockInterruptibly();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OAuthInterruptedException("[K-OAuth] Interrupted while waiting for a refresh lease.", e);
+        }
+        try (FileChannel channel = FileChannel.open(directory.resolve(name), Set.of(
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE), attributes)) {
+            FileLock lock = channel.lock();
+            try {
+                OAuthToken published = read(channel);
+                if (published != null && published.expiresAt().isAfter(token.expiresAt())
+                        && !published.isExpired(Instant.ofEpochMilli(clock.getAsLong()))) {
+                    return published;
+                }
+                OAuthToken refreshed = refresher.refresh(token);
+                write(channel, refreshed);
+                return refreshed;
+            } finally {
+                lock.release();
+            }
+        } catch (FileLockInterruptionException e) {
+            Thread.currentThread().interrupt();
+            throw new OAuthInterruptedException("[K-OAuth] Interrupted while waiting for a refresh lease.", e);
+        } catch (IOException e) {
+            throw new OAuthException("[K-OAuth] Failed to use refresh lease file " + name, e);
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    /**
+     * Deletes the lease files not written within the retention, at most once per retention period.
+     * A file is only deleted while this JVM can lock it, so a refresh in progress keeps its file.
+     * A file another part of this JVM has locked outside the coordinators is skipped as well.
+     */
+    private void purgeIfDue() {
+        long now = clock.getAsLong();
+        long due = nextPurge.get();
+        if (now < due || !nextPurge.compareAndSet(due, now + retentionMillis)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SUFFIX)) {
+            for (Path file : files) {
+                if (Files.getLastModifiedTime(file).toMillis() < now - retentionMillis) {
+                    deleteIfUnlocked(file);
+                }
+            }
+        } catch (IOException ignored) {
+            // Purging is best effort; the next period tries again.
+        }
+    }
+
+    private void deleteIfUnlocked(Path file) throws IOException {
+        ReentrantLock stripe = stripe(file.getFileName().toString());
+        if (!stripe.tryLock()) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE);
+             FileLock lock = channel.tryLock()) {
+            if (lock != null) {
+                Files.deleteIfExists(file);
+            }
+        } catch (OverlappingFileLockException ignored) {
+            // Locked elsewhere in this JVM; the next period tries again.
+        } finally {
+            stripe.unlock();
+        }
+    }
+
+    private ReentrantLock stripe(String name) {
+        return stripes[Math.floorMod(name.hashCode(), STRIPES)];
+    }
+
+    /**
+     * Reads the published token: four lines holding the access token, the refresh token (empty if not rotated),
+     * and both expiry times in epoch milliseconds (-1 if unknown).
+     *
+     * @return The token, or null if the file is empty or not readable.
+     */
+    private static OAuthToken read(FileChannel channel) throws IOException {
+        long size = channel.size();
+        if (size == 0 || size > 64 * 1024) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                break;
+            }
+        }
+        String[] lines = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8).split("\n", -1);
+        if (lines.length < 4) {
+            return null;
+        }
+        try {
+            long refreshTokenExpiresAt = Long.parseLong(lines[3]);
+            return new OAuthToken(lines[0], lines[1].isEmpty() ? null : lines[1],
+                    Instant.ofEpochMilli(Long.parseLong(lines[2])),
+                    refreshTokenExpiresAt < 0 ? null : Instant.ofEpochMilli(refreshTokenExpiresAt));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void write(FileChannel channel, OAuthToken token) throws IOException {
+        String content = token.accessToken() + "\n"
+                + (token.refreshToken() == null ? "" : token.refreshToken()) + "\n"
+                + token.expiresAt().toEpochMilli() + "\n"
+                + (token.refreshTokenExpiresAt() == null ? -1 : token.refreshTokenExpiresAt().toEpochMilli());
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+        channel.truncate(0);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer, buffer.position());
+        }
+        channel.force(false);
+    }
+}
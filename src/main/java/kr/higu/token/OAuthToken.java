@@ -0,0 +1,103 @@
+package kr.higu.token;
+
+import kr.higu.dto.kakao.KakaoTokenResponse;
+import kr.higu.dto.naver.NaverTokenResponse;
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.exceptions.detailed.OAuthParsingException;
+
+import java.time.Instant;
+
+/**
+ * A provider-independent access token with absolute expiry times.
+ * <p>
+ * Kakao reports {@code expires_in} as a number and Naver as a string; both are turned into an {@link Instant}
+ * relative to the time the token was issued.
+ * </p>
+ *
+ * <pre>{@code
+ * OAuthToken token = OAuthToken.of(kakaoTokenResponse, Instant.now());
+ * }</pre>
+ *
+ * @param accessToken           The access token.
+ * @param refreshToken          The refresh token, or null if none was issued.
+ * @param expiresAt             When the access token expires.
+ * @param refreshTokenExpiresAt When the refresh token expires, or null if the provider does not report it (Naver).
+ * @author higukang
+ */
+public record OAuthToken(String accessToken, String refreshToken, Instant expiresAt, Instant refreshTokenExpiresAt) {
+
+    /**
+     * @throws OAuthValidationException If the access token or its expiry is missing.
+     */
+    public OAuthToken {
+        if (accessToken == null || accessToken.isBlank() || expiresAt == null) {
+            throw new OAuthValidationException("[K-OAuth] An access token and its expiry are required.");
+        }
+    }
+
+    /**
+     * @param response The Kakao token or refresh response.
+     * @param issuedAt When the request was sent.
+     * @return The normalized token.
+     * @throws OAuthParsingException If the response has no access token or {@code expires_in}.
+     */
+    public static OAuthToken of(KakaoTokenResponse response, Instant issuedAt) throws OAuthParsingException {
+        if (response.accessToken() == null || response.expiresIn() == null) {
+            throw new OAuthParsingException("[K-OAuth] Kakao token response has no access_token or expires_in.", null);
+        }
+        Instant refreshTokenExpiresAt = response.refreshTokenExpiresIn() == null
+                ? null
+                : issuedAt.plusSeconds(response.refreshTokenExpiresIn());
+        return new OAuthToken(response.accessToken(), response.refreshToken(),
+                issuedAt.plusSeconds(response.expiresIn()), refreshTokenExpiresAt);
+    }
+
+    /**
+     * @param response The Naver token or refresh response.
+     * @param issuedAt When the request was sent.
+     * @return The normalized token.
+     * @throws OAuthParsingException If the response has no access token, or {@code expires_in} is missing or not a number.
+     */
+    public static OAuthToken of(NaverTokenResponse response, Instant issuedAt) throws OAuthParsingException {
+        if (response.accessToken() == null || response.expiresIn() == null) {
+            throw new OAuthParsingException("[K-OAuth] Naver token response has no access_token or expires_in.", null);
+        }
+        long expiresIn;
+        try {
+            expiresIn = Long.parseLong(response.expiresIn().trim());
+        } catch (NumberFormatException e) {
+            throw new OAuthParsingException("[K-OAuth] Naver expires_in is not a number: " + response.expiresIn(), e);
+        }
+        return new OAuthToken(response.accessToken(), response.refreshToken(), issuedAt.plusSeconds(expiresIn), null);
+    }
+
+    /**
+     * Combines this token with the result of refreshing it. Providers only return a refresh token when they
+     * rotate it, so the current refresh token and its expiry are kept when the refreshed token has none.
+     *
+     * @param refreshed The token returned by the refresh request.
+     * @return The token to use from now on.
+     */
+    public OAuthToken renewedBy(OAuthToken refreshed) {
+        if (refreshed.refreshToken != null) {
+            return refreshed;
+        }
+        return new OAuthToken(refreshed.accessToken, refreshToken, refreshed.expiresAt, refreshTokenExpiresAt);
+    }
+
+    /**
+     * @param now The current time.
+     * @return Whether the access token has expired.
+     */
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    /**
+     * Hides the token values, so tokens do not end up in logs.
+     */
+    @Override
+    public String toString() {
+        return "OAuthToken[expiresAt=" + expiresAt + ", refreshTokenExpiresAt=" + refreshTokenExpiresAt + "]";
+    }
+}
@@ -0,0 +1,41 @@
+package kr.higu.token;
+
+import kr.higu.exceptions.OAuthException;
+
+/**
+ * SPI for making sure only one node of a cluster refreshes a given refresh token at a time.
+ * <p>
+ * When a session is live on several nodes, each node's {@link TokenManager} schedules its own refresh.
+ * Without coordination they all send the same refresh token at about the same moment, and a provider that
+ * rotates refresh tokens invalidates the tokens the other nodes just received. An implementation takes a lease
+ * keyed by the refresh token, and the node holding it runs the refresher and publishes the result. Nodes that
+ * waited for the lease get the published token instead of refreshing again.
+ * </p>
+ * <p>
+ * {@link FileLockRefreshCoordinator} is a reference implementation for nodes sharing a directory.
+ * Implementations backed by a shared store (e.g. Redis or a database) can be plugged in the same way.
+ * </p>
+ *
+ * @author higukang
+ * @see TokenManager.Builder#coordinator(RefreshCoordinator)
+ */
+public interface RefreshCoordinator {
+    /**
+     * Refreshes a token, or returns the token another node got by refreshing the same refresh token.
+     * A published token is only reused if it expires later than {@code token}, so a provider that keeps
+     * the refresh token across refreshes still gets a new request once the published token is due itself.
+     *
+     * @param token     The token to renew.
+     * @param refresher Sends the refresh request, if this node holds the lease and no newer token is published.
+     * @return The renewed token. Its refresh token may be null if the provider did not rotate it.
+     * @throws OAuthException If the refresh fails, or the lease cannot be taken.
+     */
+    OAuthToken refresh(OAuthToken token, TokenRefresher refresher) throws OAuthException;
+
+    /**
+     * @return A coordinator that refreshes right away, for sessions that live on a single node.
+     */
+    static RefreshCoordinator local() {
+        return (token, refresher) -> refresher.refresh(token);
+    }
+}
@@ -0,0 +1,191 @@
+package kr.higu.token;
+
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timing wheel: four levels of 64 slots, each level covering 64 times the span of the one below.
+ * <p>
+ * Scheduling and cancelling are O(1) whatever the number of entries, and advancing the clock by one tick
+ * touches one slot per level, so millions of deadlines cost no more than a few per tick. Entries far in the
+ * future sit in a coarse slot and move down a level each time the level below completes a turn.
+ * Deadlines beyond the range of the top level (64<sup>4</sup> ticks) are clamped to it, so the owner has to
+ * check the real deadline of an entry it receives and schedule it again if it is not due yet.
+ * </p>
+ * <p>
+ * Not thread-safe: callers hold their own lock.
+ * </p>
+ *
+ * @param <T> The type of the scheduled values.
+ * @author higukang
+ */
+final class TimingWheel<T> {
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    static final long RANGE = 1L << (BITS * LEVELS);
+
+    /**
+     * A scheduled value, linked into the list of its slot.
+     */
+    static final class Node<T> {
+        final T value;
+        private final long deadline;
+        private int index = -1;
+        private Node<T> prev;
+        private Node<T> next;
+
+        private Node(T value, long deadline) {
+            this.value = value;
+            this.deadline = deadline;
+        }
+
+        boolean isScheduled() {
+            return index >= 0;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final Node<T>[] heads = new Node[LEVELS * SLOTS];
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param startTick The tick the wheel starts at. Deadlines are in the same unit.
+     */
+    TimingWheel(long startTick) {
+        this.currentTick = startTick;
+    }
+
+    /**
+     * @param value    The value to schedule.
+     * @param deadline The tick at which {@link #advance} hands the value out. Deadlines not after the current tick
+     *                 are due on the next tick.
+     * @return The node, to {@link #cancel} it.
+     */
+    Node<T> schedule(T value, long deadline) {
+        Node<T> node = new Node<>(value, clamp(deadline));
+        link(node);
+        size++;
+        return node;
+    }
+
+    /**
+     * Removes a node. Does nothing if it already fired or was cancelled.
+     */
+    void cancel(Node<T> node) {
+        if (node.isScheduled()) {
+            unlink(node);
+            size--;
+        }
+    }
+
+    /**
+     * Moves the wheel forward to {@code now}, handing every value whose deadline has passed to {@code expired},
+     * one tick after another. The consumer may schedule new values.
+     *
+     * @param now     The current tick. Ticks already passed are ignored.
+     * @param expired Receives the due values.
+     */
+    void advance(long now, Consumer<? super T> expired) {
+        while (currentTick < now) {
+            if (size == 0) {
+                currentTick = now;
+                return;
+            }
+            long tick = ++currentTick;
+            for (int level = LEVELS - 1; level > 0; level--) {
+                if ((tick & ((1L << (BITS * level)) - 1)) == 0) {
+                    cascade(level * SLOTS + (int) ((tick >>> (BITS * level)) & MASK));
+                }
+            }
+            Node<T> node = detach((int) (tick & MASK));
+            while (node != null) {
+                Node<T> next = node.next;
+                node.next = null;
+                size--;
+                expired.accept(node.value);
+                node = next;
+            }
+        }
+    }
+
+    /**
+     * @return The number of scheduled values.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @return The last tick the wheel advanced to.
+     */
+    long currentTick() {
+        return currentTick;
+    }
+
+    private long clamp(long deadline) {
+        return Math.min(Math.max(deadline, currentTick + 1), currentTick + RANGE - 1);
+    }
+
+    /**
+     * Re-links every node of a slot relative to the current tick, which moves it at least one level down.
+     */
+    private void cascade(int index) {
+        Node<T> node = detach(index);
+        while (node != null) {
+            Node<T> next = node.next;
+            node.next = null;
+            link(node);
+            node = next;
+        }
+    }
+
+    /**
+     * Puts a node in the lowest level whose span covers its distance from the current tick.
+     * Level {@code L} holds distances below 64<sup>L+1</sup>, in the slot of its deadline's digit at that level.
+     */
+    private void link(Node<T> node) {
+        long delta = node.deadline - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= (1L << (BITS * (level + 1)))) {
+            level++;
+        }
+        int index = level * SLOTS + (int) ((node.deadline >>> (BITS * level)) & MASK);
+        Node<T> head = heads[index];
+        node.index = index;
+        node.prev = null;
+        node.next = head;
+        if (head != null) {
+            head.prev = node;
+        }
+        heads[index] = node;
+    }
+
+    private void unlink(Node<T> node) {
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else {
+            heads[node.index] = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+        node.index = -1;
+    }
+
+    /**
+     * Empties a slot and returns its former list, with every node marked as no longer scheduled.
+     */
+    private Node<T> detach(int index) {
+        Node<T> head = heads[index];
+        heads[index] = null;
+        for (Node<T> node = head; node != null; node = node.next) {
+            node.index = -1;
+            node.prev = null;
+        }
+        return head;
+    }
+}
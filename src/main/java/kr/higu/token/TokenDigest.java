@@ -0,0 +1,30 @@
+package kr.higu.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Hashes tokens, so they can be used as keys without being kept.
+ *
+ * @author higukang
+ */
+final class TokenDigest {
+    private static final HexFormat HEX = HexFormat.of();
+
+    private TokenDigest() {
+    }
+
+    /**
+     * @param token The token.
+     * @return The lowercase hex SHA-256 of the token's UTF-8 bytes.
+     */
+    static String sha256(String token) {
+        try {
+            return HEX.formatHex(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is required by every Java platform.", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package kr.higu.token;
+
+/**
+ * Receives the results of the refreshes done by a {@link TokenManager}.
+ * <p>
+ * Methods are called on the thread that ran the refresh. Exceptions they throw are ignored.
+ * </p>
+ *
+ * @author higukang
+ */
+public interface TokenListener {
+
+    /**
+     * Called after a session's token was renewed, e.g. to persist the new token.
+     *
+     * @param sessionId The session.
+     * @param token     The new token.
+     */
+    default void onRefreshed(String sessionId, OAuthToken token) {
+    }
+
+    /**
+     * Called when a session is dropped because its token can no longer be refreshed:
+     * the provider rejected the refresh token, or the refresh token has expired.
+     * Failures that may pass, such as network errors, are retried instead.
+     *
+     * @param sessionId The session, already removed from the manager.
+     * @param cause     The last failure.
+     */
+    default void onRefreshFailed(String sessionId, Exception cause) {
+    }
+}
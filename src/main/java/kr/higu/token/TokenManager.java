@@ -0,0 +1,503 @@
+package kr.higu.token;
+
+import kr.higu.VirtualThreads;
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.exceptions.detailed.OAuthResponseException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Keeps the access tokens of many sessions valid by refreshing each one shortly before it expires.
+ * <p>
+ * Every session is scheduled at {@code expiresAt - refreshAhead - random(0, jitter)} in a hierarchical
+ * timing wheel, so adding, replacing and removing sessions costs O(1) however many there are, and
+ * sessions issued at the same moment do not all refresh at the same moment. A background thread advances
+ * the wheel once per tick and hands due sessions to the executor, with at most
+ * {@code maxConcurrentRefreshes} refreshes running at once.
+ * </p>
+ * <p>
+ * When a refresh fails with a 4xx response other than 429, the refresh token is no longer usable:
+ * the session is removed and {@link TokenListener#onRefreshFailed} is called. The same happens once the
+ * refresh token itself has expired. Other failures, such as network errors, are retried after {@code retryDelay}.
+ * </p>
+ * <p>
+ * When the same session is live on several nodes, give every node's manager a shared {@link RefreshCoordinator},
+ * so one node refreshes and the others pick up its token.
+ * </p>
+ *
+ * <pre>{@code
+ * TokenManager tokens = TokenManager.builder(TokenRefresher.kakao(kakaoClient.refreshToken()
+ *                 .clientId("YOUR_REST_API_KEY")
+ *                 .prepare()))
+ *         .listener(new TokenListener() {
+ *             @Override
+ *             public void onRefreshed(String sessionId, OAuthToken token) {
+ *                 sessionStore.save(sessionId, token);
+ *             }
+ *         })
+ *         .build();
+ *
+ * tokens.put(sessionId, OAuthToken.of(kakaoTokenResponse, issuedAt));
+ * String accessToken = tokens.get(sessionId).accessToken();
+ * }</pre>
+ *
+ * @author higukang
+ */
+public final class TokenManager implements AutoCloseable {
+    private final TokenRefresher refresher;
+    private final RefreshCoordinator coordinator;
+    private final TokenListener listener;
+    private final long refreshAheadMillis;
+    private final long jitterMillis;
+    private final long retryDelayMillis;
+    private final long tickMillis;
+    private final int maxConcurrentRefreshes;
+    private final Executor executor;
+    private final ExecutorService ownedExecutor;
+    private final LongSupplier clock;
+
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+    private final ReentrantLock wheelLock = new ReentrantLock();
+    private final TimingWheel<Session> wheel;
+    private final ConcurrentLinkedQueue<Session> ready = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger activeRefreshes = new AtomicInteger();
+    private final Thread ticker;
+    private volatile boolean closed;
+
+    private TokenManager(Builder builder) {
+        this(builder, System::currentTimeMillis, true);
+    }
+
+    TokenManager(Builder builder, LongSupplier clock, boolean startTicker) {
+        this.refresher = builder.refresher;
+        this.coordinator = builder.coordinator;
+        this.listener = builder.listener;
+        this.refreshAheadMillis = builder.refreshAhead.toMillis();
+        this.jitterMillis = builder.jitter.toMillis();
+        this.retryDelayMillis = builder.retryDelay.toMillis();
+        this.tickMillis = builder.tick.toMillis();
+        this.maxConcurrentRefreshes = builder.maxConcurrentRefreshes;
+        this.ownedExecutor = builder.executor == null ? newExecutor() : null;
+        this.executor = builder.executor == null ? ownedExecutor : builder.executor;
+        this.clock = clock;
+        this.wheel = new TimingWheel<>(clock.getAsLong() / tickMillis);
+        if (startTicker) {
+            this.ticker = new Thread(this::runTicker, "k-oauth-token-manager");
+            this.ticker.setDaemon(true);
+            this.ticker.start();
+        } else {
+            this.ticker = null;
+        }
+    }
+
+    /**
+     * @param refresher Sends the refresh requests, e.g. {@link TokenRefresher#kakao}.
+     * @return A builder initialized with the default settings.
+     * @throws OAuthValidationException If the refresher is null.
+     */
+    public static Builder builder(TokenRefresher refresher) {
+        if (refresher == null) {
+            throw new OAuthValidationException("[K-OAuth] Token refresher must not be null.");
+        }
+        return new Builder(refresher);
+    }
+
+    /**
+     * Adds a session, or replaces its token, and schedules the next refresh.
+     * A token already inside the refresh window is refreshed on the next tick.
+     *
+     * @param sessionId The session.
+     * @param token     The session's current token.
+     * @throws OAuthValidationException If an argument is null.
+     * @throws IllegalStateException If the manager is closed.
+     */
+    public void put(String sessionId, OAuthToken token) {
+        if (sessionId == null || token == null) {
+            throw new OAuthValidationException("[K-OAuth] Session id and token must not be null.");
+        }
+        if (closed) {
+            throw new IllegalStateException("[K-OAuth] TokenManager is closed.");
+        }
+        Session session = new Session(sessionId, token);
+        Session previous = sessions.put(sessionId, session);
+        if (previous != null) {
+            unschedule(previous);
+        }
+        schedule(session, refreshAt(token));
+    }
+
+    /**
+     * @param sessionId The session.
+     * @return The session's current token, or null if the session is unknown or was dropped.
+     */
+    public OAuthToken get(String sessionId) {
+        Session session = sessions.get(sessionId);
+        return session == null ? null : session.token;
+    }
+
+    /**
+     * Stops refreshing a session, e.g. on logout.
+     *
+     * @param sessionId The session.
+     * @return The session's last token, or null if the session was unknown.
+     */
+    public OAuthToken remove(String sessionId) {
+        Session session = sessions.remove(sessionId);
+        if (session == null) {
+            return null;
+        }
+        unschedule(session);
+        return session.token;
+    }
+
+    /**
+     * @return The number of sessions.
+     */
+    public int size() {
+        return sessions.size();
+    }
+
+    /**
+     * Stops the background thread and the executor created by the manager. Refreshes already running finish;
+     * an executor supplied to the builder is left running.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        if (ticker != null) {
+            ticker.interrupt();
+        }
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Advances the wheel to the current time and starts the refreshes that became due.
+     */
+    void tick() {
+        long now = clock.getAsLong();
+        long nowTick = now / tickMillis;
+        List<Session> early = new ArrayList<>();
+        wheelLock.lock();
+        try {
+            wheel.advance(nowTick, session -> {
+                session.node = null;
+                if (session.dueMillis / tickMillis > nowTick) {
+                    early.add(session);
+                } else {
+                    ready.add(session);
+                }
+            });
+            for (Session session : early) {
+                session.node = wheel.schedule(session, session.dueMillis / tickMillis);
+            }
+        } finally {
+            wheelLock.unlock();
+        }
+        dispatch();
+    }
+
+    private void runTicker() {
+        while (!closed) {
+            try {
+                Thread.sleep(tickMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+            tick();
+        }
+    }
+
+    /**
+     * Starts drainers until the ready queue is empty or the concurrency limit is reached.
+     */
+    private void dispatch() {
+        while (!closed && !ready.isEmpty()) {
+            int active = activeRefreshes.get();
+            if (active >= maxConcurrentRefreshes) {
+                return;
+            }
+            if (activeRefreshes.compareAndSet(active, active + 1)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    activeRefreshes.decrementAndGet();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            Session session;
+            while (!closed && (session = ready.poll()) != null) {
+                refresh(session);
+            }
+        } finally {
+            activeRefreshes.decrementAndGet();
+        }
+        // A session queued after the last poll, but before the decrement, found no free drainer.
+        dispatch();
+    }
+
+    private void refresh(Session session) {
+        if (sessions.get(session.id) != session) {
+            return;
+        }
+        OAuthToken current = session.token;
+        OAuthToken renewed;
+        try {
+            renewed = current.renewedBy(coordinator.refresh(current, refresher));
+        } catch (Exception e) {
+            if (isPermanent(e) || isRefreshTokenExpired(current)) {
+                if (sessions.remove(session.id, session)) {
+                    notifyFailed(session.id, e);
+                }
+            } else if (sessions.get(session.id) == session) {
+                schedule(session, clock.getAsLong() + retryDelayMillis);
+            }
+            return;
+        }
+        session.token = renewed;
+        if (sessions.get(session.id) == session) {
+            schedule(session, refreshAt(renewed));
+            notifyRefreshed(session.id, renewed);
+        }
+    }
+
+    private long refreshAt(OAuthToken token) {
+        long jitter = jitterMillis == 0 ? 0 : ThreadLocalRandom.current().nextLong(jitterMillis + 1);
+        return token.expiresAt().toEpochMilli() - refreshAheadMillis - jitter;
+    }
+
+    private void schedule(Session session, long dueMillis) {
+        wheelLock.lock();
+        try {
+            if (session.node != null) {
+                wheel.cancel(session.node);
+            }
+            session.dueMillis = dueMillis;
+            session.node = wheel.schedule(session, dueMillis / tickMillis);
+        } finally {
+            wheelLock.unlock();
+        }
+    }
+
+    private void unschedule(Session session) {
+        wheelLock.lock();
+        try {
+            if (session.node != null) {
+                wheel.cancel(session.node);
+                session.node = null;
+            }
+        } finally {
+            wheelLock.unlock();
+        }
+    }
+
+    private boolean isRefreshTokenExpired(OAuthToken token) {
+        return token.refreshTokenExpiresAt() != null
+                && !Instant.ofEpochMilli(clock.getAsLong()).isBefore(token.refreshTokenExpiresAt());
+    }
+
+    /**
+     * A rejected refresh token stays rejected: Naver reports it with HTTP 200 and an {@code error} field,
+     * Kakao with a 4xx. A missing refresh token fails validation before any request is sent.
+     */
+    private static boolean isPermanent(Exception e) {
+        if (e instanceof OAuthValidationException) {
+            return true;
+        }
+        if (e instanceof OAuthResponseException responseException) {
+            int status = responseException.getStatusCode();
+            return status < 500 && status != 429;
+        }
+        return false;
+    }
+
+    private void notifyRefreshed(String sessionId, OAuthToken token) {
+        try {
+            listener.onRefreshed(sessionId, token);
+        } catch (RuntimeException ignored) {
+            // A failing listener must not stop the refreshes of other sessions.
+        }
+    }
+
+    private void notifyFailed(String sessionId, Exception cause) {
+        try {
+            listener.onRefreshFailed(sessionId, cause);
+        } catch (RuntimeException ignored) {
+            // A failing listener must not stop the refreshes of other sessions.
+        }
+    }
+
+    private static ExecutorService newExecutor() {
+        if (VirtualThreads.isSupported()) {
+            return VirtualThreads.newVirtualThreadPerTaskExecutor();
+        }
+        return Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "k-oauth-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * A session and its place in the wheel. {@code node} and {@code dueMillis} are guarded by the wheel lock.
+     */
+    private static final class Session {
+        final String id;
+        volatile OAuthToken token;
+        TimingWheel.Node<Session> node;
+        long dueMillis;
+
+        Session(String id, OAuthToken token) {
+            this.id = id;
+            this.token = token;
+        }
+    }
+
+    /**
+     * Builder for {@link TokenManager}.
+     * <p>
+     * Defaults: refresh 5 minutes before expiry, spread over a further 30 seconds; at most 8 refreshes at once;
+     * retry failed refreshes after 30 seconds; a 1 second tick; refreshes run on virtual threads when available,
+     * without coordination with other nodes.
+     * </p>
+     */
+    public static final class Builder {
+        private final TokenRefresher refresher;
+        private RefreshCoordinator coordinator = RefreshCoordinator.local();
+        private TokenListener listener = new TokenListener() {
+        };
+        private Duration refreshAhead = Duration.ofMinutes(5);
+        private Duration jitter = Duration.ofSeconds(30);
+        private Duration retryDelay = Duration.ofSeconds(30);
+        private Duration tick = Duration.ofSeconds(1);
+        private int maxConcurrentRefreshes = 8;
+        private Executor executor;
+
+        private Builder(TokenRefresher refresher) {
+            this.refresher = refresher;
+        }
+
+        /**
+         * @param refreshAhead How long before expiry a token is refreshed.
+         * @return This builder instance.
+         */
+        public Builder refreshAhead(Duration refreshAhead) {
+            if (refreshAhead == null || refreshAhead.isNegative()) {
+                throw new OAuthValidationException("[K-OAuth] Refresh-ahead duration must not be negative.");
+            }
+            this.refreshAhead = refreshAhead;
+            return this;
+        }
+
+        /**
+         * @param jitter The largest random amount by which a refresh is moved earlier. Zero disables it.
+         * @return This builder instance.
+         */
+        public Builder jitter(Duration jitter) {
+            if (jitter == null || jitter.isNegative()) {
+                throw new OAuthValidationException("[K-OAuth] Refresh jitter must not be negative.");
+            }
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * @param retryDelay How long to wait before retrying a refresh that failed with a network or server error.
+         * @return This builder instance.
+         */
+        public Builder retryDelay(Duration retryDelay) {
+            if (retryDelay == null || retryDelay.isNegative() || retryDelay.isZero()) {
+                throw new OAuthValidationException("[K-OAuth] Refresh retry delay must be positive.");
+            }
+            this.retryDelay = retryDelay;
+            return this;
+        }
+
+        /**
+         * @param tick The resolution of the schedule. Refreshes run up to one tick late.
+         * @return This builder instance.
+         */
+        public Builder tick(Duration tick) {
+            if (tick == null || tick.toMillis() < 1) {
+                throw new OAuthValidationException("[K-OAuth] Tick must be at least 1 millisecond.");
+            }
+            this.tick = tick;
+            return this;
+        }
+
+        /**
+         * @param maxConcurrentRefreshes The number of refreshes running at once at most.
+         * @return This builder instance.
+         */
+        public Builder maxConcurrentRefreshes(int maxConcurrentRefreshes) {
+            if (maxConcurrentRefreshes < 1) {
+                throw new OAuthValidationException("[K-OAuth] Max concurrent refreshes must be at least 1.");
+            }
+            this.maxConcurrentRefreshes = maxConcurrentRefreshes;
+            return this;
+        }
+
+        /**
+         * @param executor Runs the refreshes. The manager does not shut it down.
+         * @return This builder instance.
+         */
+        public Builder executor(Executor executor) {
+            if (executor == null) {
+                throw new OAuthValidationException("[K-OAuth] Executor must not be null.");
+            }
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * @param coordinator Makes sure only one node refreshes a refresh token, e.g. {@link FileLockRefreshCoordinator}.
+         * @return This builder instance.
+         */
+        public Builder coordinator(RefreshCoordinator coordinator) {
+            if (coordinator == null) {
+                throw new OAuthValidationException("[K-OAuth] Refresh coordinator must not be null.");
+            }
+            this.coordinator = coordinator;
+            return this;
+        }
+
+        /**
+         * @param listener Receives the refresh results.
+         * @return This builder instance.
+         */
+        public Builder listener(TokenListener listener) {
+            if (listener == null) {
+                throw new OAuthValidationException("[K-OAuth] Token listener must not be null.");
+            }
+            this.listener = listener;
+            return this;
+        }
+
+        /**
+         * @return A new {@link TokenManager}, with its background thread started.
+         */
+        public TokenManager build() {
+            return new TokenManager(this);
+        }
+    }
+}
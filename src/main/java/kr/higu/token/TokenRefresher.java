@@ -0,0 +1,52 @@
+package kr.higu.token;
+
+import kr.higu.dto.kakao.KakaoTokenResponse;
+import kr.higu.dto.naver.NaverTokenResponse;
+import kr.higu.exceptions.OAuthException;
+import kr.higu.request.PreparedRequest;
+
+import java.time.Instant;
+
+/**
+ * Exchanges a token's refresh token for a new access token. Used by {@link TokenManager}.
+ *
+ * <pre>{@code
+ * TokenRefresher refresher = TokenRefresher.kakao(kakaoClient.refreshToken()
+ *         .clientId("YOUR_REST_API_KEY")
+ *         .prepare());
+ * }</pre>
+ *
+ * @author higukang
+ */
+@FunctionalInterface
+public interface TokenRefresher {
+
+    /**
+     * @param token The token to renew.
+     * @return The token returned by the provider. Its refresh token may be null if the provider did not rotate it.
+     * @throws OAuthException If the request fails.
+     */
+    OAuthToken refresh(OAuthToken token) throws OAuthException;
+
+    /**
+     * @param request A prepared {@code KakaoRefreshTokenRequest} binding the refresh token.
+     * @return A refresher sending the Kakao refresh_token grant.
+     */
+    static TokenRefresher kakao(PreparedRequest<KakaoTokenResponse> request) {
+        return token -> {
+            Instant issuedAt = Instant.now();
+            return OAuthToken.of(request.execute(token.refreshToken()), issuedAt);
+        };
+    }
+
+    /**
+     * @param request A prepared {@code NaverRefreshTokenRequest} binding the refresh token.
+     * @return A refresher sending the Naver refresh_token grant.
+     */
+    static TokenRefresher naver(PreparedRequest<NaverTokenResponse> request) {
+        return token -> {
+            Instant issuedAt = Instant.now();
+            return OAuthToken.of(request.execute(token.refreshToken()), issuedAt);
+        };
+    }
+}
@@ -0,0 +1,162 @@
+package kr.higu.token;
+
+import kr.higu.dto.kakao.KakaoTokenInfoResponse;
+import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.request.PreparedRequest;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Validates Kakao access tokens with the token info endpoint and remembers the results,
+ * so authorizing a request is a local lookup instead of a round trip to Kakao.
+ * <p>
+ * A result is kept until the expiry Kakao reported for the token, but never longer than {@code maxTtl}.
+ * The cap bounds how long a token revoked before its expiry (logout, unlinking the app) is still accepted.
+ * Cached results carry the remaining lifetime in {@link KakaoTokenInfoResponse#expiresIn()}.
+ * Failures, including invalid tokens, are not cached; combine with
+ * {@link kr.higu.resilience.NegativeCachingHttpManager} to also answer rejected tokens locally.
+ * </p>
+ * <p>
+ * Tokens are kept as SHA-256 hashes. Once {@code maximumSize} live results are cached,
+ * new results are returned without being cached until older ones expire.
+ * </p>
+ *
+ * <pre>{@code
+ * TokenValidationCache validator = new TokenValidationCache(
+ *         kakaoClient.getTokenInfo().prepare(), Duration.ofMinutes(5), 100_000);
+ *
+ * String userId = validator.validate(accessToken).id();
+ * }</pre>
+ *
+ * @author higukang
+ */
+public final class TokenValidationCache {
+    private final PreparedRequest<KakaoTokenInfoResponse> request;
+    private final long maxTtlNanos;
+    private final int maximumSize;
+    private final LongSupplier clock;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile long nextSweep;
+
+    /**
+     * @param request     A prepared {@code KakaoTokenInfoRequest} binding the access token.
+     * @param maxTtl      How long a result is kept at most, even if the token lives longer.
+     * @param maximumSize The number of results cached at most.
+     * @throws OAuthValidationException If the request is null, the TTL is not positive or the size is less than 1.
+     */
+    public TokenValidationCache(PreparedRequest<KakaoTokenInfoResponse> request, Duration maxTtl, int maximumSize) {
+        this(request, maxTtl, maximumSize, System::nanoTime);
+    }
+
+    TokenValidationCache(PreparedRequest<KakaoTokenInfoResponse> request, Duration maxTtl, int maximumSize, LongSupplier clock) {
+        if (request == null) {
+            throw new OAuthValidationException("[K-OAuth] Token info request must not be null.");
+        }
+        if (maxTtl == null || maxTtl.isNegative() || maxTtl.isZero()) {
+            throw new OAuthValidationException("[K-OAuth] Validation cache TTL must be positive.");
+        }
+        if (maximumSize < 1) {
+            throw new OAuthValidationException("[K-OAuth] Validation cache maximum size must be at least 1.");
+        }
+        this.request = request;
+        this.maxTtlNanos = maxTtl.toNanos();
+        this.maximumSize = maximumSize;
+        this.clock = clock;
+        this.nextSweep = clock.getAsLong();
+    }
+
+    /**
+     * @param accessToken The access token to check.
+     * @return The token information, from the cache while the last result is fresh.
+     * @throws OAuthValidationException If the access token is null or blank.
+     * @throws OAuthException If the token is invalid or expired ({@code OAuthResponseException} with code {@code -401}),
+     *                        or the request fails.
+     */
+    public KakaoTokenInfoResponse validate(String accessToken) throws OAuthException {
+        if (accessToken == null || accessToken.isBlank()) {
+            throw new OAuthValidationException("[K-OAuth] Access token must not be blank.");
+        }
+        String key = TokenDigest.sha256(accessToken);
+        long now = clock.getAsLong();
+        Entry entry = entries.get(key);
+        if (entry != null) {
+            if (entry.expiresAt - now > 0) {
+                return entry.withRemaining(entry.tokenExpiresAt - now);
+            }
+            entries.remove(key, entry);
+        }
+        KakaoTokenInfoResponse response = request.execute(accessToken);
+        remember(key, response, now);
+        return response;
+    }
+
+    /**
+     * Forgets the result for a token, e.g. after the user logged out.
+     *
+     * @param accessToken The access token.
+     */
+    public void invalidate(String accessToken) {
+        if (accessToken != null) {
+            entries.remove(TokenDigest.sha256(accessToken));
+        }
+    }
+
+    /**
+     * @return The number of cached results, including expired ones not yet removed.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    private void remember(String key, KakaoTokenInfoResponse response, long fetchedAt) {
+        if (response.expiresIn() == null || response.expiresIn() <= 0) {
+            return;
+        }
+        long tokenExpiresAt = fetchedAt + TimeUnit.SECONDS.toNanos(response.expiresIn());
+        long expiresAt = Math.min(tokenExpiresAt, fetchedAt + maxTtlNanos);
+        if (entries.size() >= maximumSize && !sweep(fetchedAt)) {
+            return;
+        }
+        entries.put(key, new Entry(response, expiresAt, tokenExpiresAt));
+    }
+
+    /**
+     * Removes the expired results. While the cache is full of live results, the scan is skipped
+     * until the earliest of them has expired, so a full cache does not cost a scan per request.
+     *
+     * @return Whether there is room for a new result.
+     */
+    private boolean sweep(long now) {
+        if (now - nextSweep < 0) {
+            return false;
+        }
+        long earliest = now + maxTtlNanos;
+        for (Iterator<Entry> iterator = entries.values().iterator(); iterator.hasNext(); ) {
+            Entry entry = iterator.next();
+            if (entry.expiresAt - now <= 0) {
+                iterator.remove();
+            } else if (entry.expiresAt - earliest < 0) {
+                earliest = entry.expiresAt;
+            }
+        }
+        nextSweep = earliest;
+        return entries.size() < maximumSize;
+    }
+
+    /**
+     * A cached result, valid until {@code expiresAt}, for a token that expires at {@code tokenExpiresAt}.
+     */
+    private record Entry(KakaoTokenInfoResponse response, long expiresAt, long tokenExpiresAt) {
+
+        KakaoTokenInfoResponse withRemaining(long remainingNanos) {
+            int seconds = (int) TimeUnit.NANOSECONDS.toSeconds(remainingNanos);
+            return new KakaoTokenInfoResponse(response.id(), seconds, response.appId());
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package kr.higu;
 
+import kr.higu.exceptions.OAuthValidationException;
 import kr.higu.exceptions.detailed.OAuthNetworkException;
 import kr.higu.exceptions.detailed.OAuthResponseException;
 import com.sun.net.httpserver.HttpServer;
@@ -8,10 +9,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.net.InetSocketAddress;
 import java.net.URI;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletionException;
 
 import static org.assertj.core.api.Assertions.*;
 
@@ -120,4 +126,183 @@ class OAuthHttpManagerTest {
             server.stop(0);
         }
     }
+
+    @Test
+    @DisplayName("비동기 GET - 2xx 응답 바디 반환, 에러는 CompletionException으로 감싸서 전달")
+    void getAsync_LocalServer() throws Exception {
+        // given
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        try {
+            server.createContext("/ok", exchange -> {
+                byte[] body = "{\"id\":1}".getBytes();
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(body);
+                }
+            });
+            server.createContext("/unauthorized", exchange -> {
+                byte[] body = "{\"code\":-401}".getBytes();
+                exchange.sendResponseHeaders(401, body.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(body);
+                }
+            });
+            server.start();
+
+            int port = server.getAddress().getPort();
+
+            // when
+            String response = httpManager.getAsync(URI.create("http://127.0.0.1:" + port + "/ok"), null).join();
+
+            // then
+            assertThat(response).isEqualTo("{\"id\":1}");
+            assertThatThrownBy(() -> httpManager.getAsync(URI.create("http://127.0.0.1:" + port + "/unauthorized"), null).join())
+                    .isInstanceOf(CompletionException.class)
+                    .cause()
+                    .isInstanceOf(OAuthResponseException.class)
+                    .satisfies(e -> {
+                        OAuthResponseException ex = (OAuthResponseException) e;
+                        assertThat(ex.getStatusCode()).isEqualTo(401);
+                        assertThat(ex.getRawBody()).isEqualTo("{\"code\":-401}");
+                    });
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("빌더 - 요청 타임아웃 초과 시 OAuthNetworkException")
+    void builder_RequestTimeout() throws Exception {
+        // given
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        try {
+            server.createContext("/slow", exchange -> {
+                try {
+                    Thread.sleep(2_000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                exchange.sendResponseHeaders(200, -1);
+                exchange.close();
+            });
+            server.start();
+
+            OAuthHttpManager tunedManager = OAuthHttpManager.builder()
+                    .httpVersion(java.net.http.HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(1))
+                    .requestTimeout(Duration.ofMillis(200))
+                    .build();
+            URI uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/slow");
+
+            // when, then
+            assertThatThrownBy(() -> tunedManager.get(uri, null))
+                    .isInstanceOf(OAuthNetworkException.class);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("비동기 실패 변환 - I/O 오류만 OAuthNetworkException, 그 외 예외는 그대로 전달")
+    void asyncFailure_OnlyIoErrorsBecomeNetworkExceptions() {
+        // given
+        IOException reset = new IOException("connection reset");
+        HttpTimeoutException timeout = new HttpTimeoutException("request timed out");
+        IllegalArgumentException invalid = new IllegalArgumentException("invalid header");
+        CompletionException wrapped = new CompletionException(invalid);
+        OutOfMemoryError error = new OutOfMemoryError();
+
+        // when, then
+        assertThat(OAuthHttpManager.asyncFailure(new CompletionException(reset)).getCause())
+                .isInstanceOf(OAuthNetworkException.class)
+                .hasCause(reset);
+        assertThat(OAuthHttpManager.asyncFailure(timeout).getCause())
+                .isInstanceOf(OAuthNetworkException.class)
+                .hasCause(timeout);
+        assertThat(OAuthHttpManager.asyncFailure(invalid).getCause()).isSameAs(invalid);
+        assertThat(OAuthHttpManager.asyncFailure(wrapped)).isSameAs(wrapped);
+        assertThat(OAuthHttpManager.asyncFailure(error).getCause()).isSameAs(error);
+    }
+
+    @Test
+    @DisplayName("빌더 - 0 이하의 타임아웃은 OAuthValidationException")
+    void builder_InvalidTimeout() {
+        assertThatThrownBy(() -> OAuthHttpManager.builder().connectTimeout(Duration.ZERO))
+                .isInstanceOf(OAuthValidationException.class);
+        assertThatThrownBy(() -> OAuthHttpManager.builder().requestTimeout(OAuthEndpoint.KAKAO_API, Duration.ofSeconds(-1)))
+                .isInstanceOf(OAuthValidationException.class);
+    }
+
+    @Test
+    @DisplayName("스트리밍 GET - 2xx는 디코더로 전달, 에러 바디는 rawBody로 보존")
+    void get_LocalServer_Streaming() throws Exception {
+        // given
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        try {
+            server.createContext("/ok", exchange -> {
+                byte[] body = "{\"nickname\":\"강희구\"}".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(body);
+                }
+            });
+            server.createContext("/error", exchange -> {
+                byte[] body = "{\"msg\":\"에러\"}".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(400, body.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(body);
+                }
+            });
+            server.start();
+            int port = server.getAddress().getPort();
+
+            // when
+            String decoded = httpManager.get(URI.create("http://127.0.0.1:" + port + "/ok"), null,
+                    body -> new String(body.readAllBytes(), StandardCharsets.UTF_8));
+
+            // then
+            assertThat(decoded).isEqualTo("{\"nickname\":\"강희구\"}");
+            assertThatThrownBy(() -> httpManager.get(URI.create("http://127.0.0.1:" + port + "/error"), null,
+                    body -> "unreachable"))
+                    .isInstanceOf(OAuthResponseException.class)
+                    .satisfies(e -> assertThat(((OAuthResponseException) e).getRawBody()).isEqualTo("{\"msg\":\"에러\"}"));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("429 응답의 헤더(Retry-After)를 OAuthResponseException으로 전달")
+    void get_LocalServer_429HeadersSurfaced() throws Exception {
+        // given
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        try {
+            server.createContext("/quota", exchange -> {
+                byte[] body = "{\"msg\":\"API limit has been exceeded.\",\"code\":-10}".getBytes();
+                exchange.getResponseHeaders().add("Retry-After", "5");
+                exchange.sendResponseHeaders(429, body.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(body);
+                }
+            });
+            server.start();
+
+            int port = server.getAddress().getPort();
+            URI uri = URI.create("http://127.0.0.1:" + port + "/quota");
+
+            // when, then
+            assertThatThrownBy(() -> httpManager.get(uri, null))
+                    .isInstanceOf(OAuthResponseException.class)
+                    .satisfies(e -> {
+                        OAuthResponseException ex = (OAuthResponseException) e;
+                        assertThat(ex.getStatusCode()).isEqualTo(429);
+                        assertThat(ex.getHeader("retry-after")).isEqualTo("5");
+                    });
+            assertThatThrownBy(() -> httpManager.get(uri, null, body -> body.readAllBytes().length))
+                    .isInstanceOf(OAuthResponseException.class)
+                    .satisfies(e -> assertThat(((OAuthResponseException) e).getHeader("Retry-After")).isEqualTo("5"));
+        } finally {
+            server.stop(0);
+        }
+    }
 }
@@ -0,0 +1,103 @@
+package kr.higu;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseBufferTest {
+
+    private static List<ByteBuffer> chunks(String... parts) {
+        return Arrays.stream(parts)
+                .map(part -> ByteBuffer.wrap(part.getBytes(StandardCharsets.UTF_8)))
+                .toList();
+    }
+
+    @Test
+    @DisplayName("반납한 버퍼는 다음 응답에서 재사용되어 응답마다 byte[]를 만들지 않음")
+    void load_ReusesReleasedBuffer() {
+        // given
+        BlockingQueue<ResponseBuffer> pool = new ArrayBlockingQueue<>(2);
+        ResponseBuffer buffer = ResponseBuffer.acquire(pool);
+        buffer.load(chunks("{\"id\":", "1}"));
+        byte[] first = buffer.bytes();
+        buffer.release();
+
+        // when
+        ResponseBuffer next = ResponseBuffer.acquire(pool).load(chunks("{\"id\":2}"));
+
+        // then
+        assertThat(next).isSameAs(buffer);
+        assertThat(next.bytes()).isSameAs(first);
+        assertThat(next.asString()).isEqualTo("{\"id\":2}");
+        next.release();
+    }
+
+    @Test
+    @DisplayName("풀은 스레드 간 공유 - 다른 스레드(가상 스레드 포함)가 반납한 버퍼도 재사용")
+    void acquire_SharedAcrossThreads() {
+        // given
+        BlockingQueue<ResponseBuffer> pool = new ArrayBlockingQueue<>(2);
+        ResponseBuffer released = CompletableFuture.supplyAsync(() -> {
+            ResponseBuffer buffer = ResponseBuffer.acquire(pool).load(chunks("other thread"));
+            buffer.release();
+            return buffer;
+        }).join();
+
+        // when
+        ResponseBuffer mine = ResponseBuffer.acquire(pool);
+
+        // then
+        assertThat(mine).isSameAs(released);
+        assertThat(mine.length()).isZero();
+        mine.release();
+    }
+
+    @Test
+    @DisplayName("동시에 사용 중인 버퍼는 서로 다르고, 풀이 가득 차면 반납된 버퍼는 버려짐")
+    void release_BoundedPool() {
+        // given
+        BlockingQueue<ResponseBuffer> pool = new ArrayBlockingQueue<>(2);
+        ResponseBuffer first = ResponseBuffer.acquire(pool);
+        ResponseBuffer second = ResponseBuffer.acquire(pool);
+        ResponseBuffer third = ResponseBuffer.acquire(pool);
+
+        // when
+        first.release();
+        second.release();
+        third.release();
+
+        // then
+        assertThat(first).isNotSameAs(second).isNotSameAs(third);
+        assertThat(pool).containsExactly(first, second);
+    }
+
+    @Test
+    @DisplayName("큰 응답으로 늘어난 배열은 사용 후 해제하고, 보관 한도 안의 배열은 유지")
+    void release_DropsOversizedArray() {
+        // given
+        BlockingQueue<ResponseBuffer> pool = new ArrayBlockingQueue<>(1);
+        ResponseBuffer buffer = ResponseBuffer.acquire(pool);
+        buffer.load(chunks("a".repeat(32 * 1024)));
+        byte[] retained = buffer.bytes();
+        buffer.release();
+        assertThat(ResponseBuffer.acquire(pool).bytes()).isSameAs(retained);
+
+        // when
+        buffer.load(chunks("b".repeat(128 * 1024)));
+        assertThat(buffer.length()).isEqualTo(128 * 1024);
+        buffer.release();
+
+        // then
+        assertThat(buffer.bytes().length).isLessThan(128 * 1024);
+        assertThat(buffer.length()).isZero();
+    }
+}
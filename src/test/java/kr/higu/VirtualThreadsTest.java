@@ -0,0 +1,164 @@
+package kr.higu;
+
+import com.sun.net.httpserver.HttpServer;
+import kr.higu.exceptions.detailed.OAuthResponseException;
+import kr.higu.request.AbstractRequest;
+import kr.higu.request.ErrorDetail;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadsTest {
+
+    static class EchoRequest extends AbstractRequest<String> {
+        private final URI uri;
+
+        EchoRequest(EchoBuilder builder) {
+            super(builder);
+            this.uri = builder.uri;
+        }
+
+        @Override protected String getMethod() { return "GET"; }
+        @Override protected URI getUri() { return uri; }
+        @Override protected ErrorDetail parseError(String errorBody) { return new ErrorDetail("ERROR", errorBody); }
+    }
+
+    static class EchoBuilder extends AbstractRequest.Builder<String, EchoBuilder> {
+        URI uri;
+        EchoBuilder(IHttpManager hm, URI uri) {
+            super(hm, String.class);
+            this.uri = uri;
+        }
+        EchoBuilder n(String value) { return addParam("n", value); }
+        @Override protected EchoBuilder self() { return this; }
+        @Override public EchoRequest build() { return new EchoRequest(this); }
+    }
+
+    @BeforeEach
+    void requireVirtualThreads() {
+        assumeTrue(VirtualThreads.isSupported(), "Java 21+ 런타임에서만 실행");
+    }
+
+    @Test
+    @DisplayName("executeAll - 요청 순서대로 결과 반환")
+    void executeAll_PreservesOrder() throws Exception {
+        HttpServer server = startServer(0);
+        try {
+            OAuthHttpManager manager = OAuthHttpManager.withVirtualThreads();
+            List<EchoRequest> requests = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                requests.add(new EchoBuilder(manager, baseUri(server, "/echo")).n(String.valueOf(i)).build());
+            }
+
+            // when
+            List<String> results = VirtualThreads.executeAll(requests);
+
+            // then
+            assertThat(results).hasSize(20);
+            for (int i = 0; i < 20; i++) {
+                assertThat(results.get(i)).isEqualTo("n=" + i);
+            }
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("executeAll - 실패한 요청이 있으면 첫 번째 예외를 던짐")
+    void executeAll_ThrowsFirstFailure() throws Exception {
+        HttpServer server = startServer(0);
+        try {
+            OAuthHttpManager manager = OAuthHttpManager.withVirtualThreads();
+            List<EchoRequest> requests = List.of(
+                    new EchoBuilder(manager, baseUri(server, "/echo")).n("1").build(),
+                    new EchoBuilder(manager, baseUri(server, "/fail")).build()
+            );
+
+            // when, then
+            assertThatThrownBy(() -> VirtualThreads.executeAll(requests))
+                    .isInstanceOf(OAuthResponseException.class)
+                    .satisfies(e -> assertThat(((OAuthResponseException) e).getStatusCode()).isEqualTo(503));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    @DisplayName("executeAll - 지연된 요청들을 스레드 풀 크기 제한 없이 동시에 실행")
+    void executeAll_RunsSlowRequestsConcurrently() throws Exception {
+        AtomicInteger peak = new AtomicInteger();
+        HttpServer server = startServer(200, peak);
+        try {
+            OAuthHttpManager manager = OAuthHttpManager.withVirtualThreads();
+            List<EchoRequest> requests = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                requests.add(new EchoBuilder(manager, baseUri(server, "/echo")).n(String.valueOf(i)).build());
+            }
+
+            // when
+            long start = System.nanoTime();
+            List<String> results = VirtualThreads.executeAll(requests);
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            // then: run one after another, 100 requests would take 20 seconds
+            assertThat(results).hasSize(100);
+            assertThat(peak.get()).isGreaterThanOrEqualTo(20);
+            assertThat(elapsedMillis).isLessThan(5_000);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private static HttpServer startServer(long delayMillis) throws Exception {
+        return startServer(delayMillis, new AtomicInteger());
+    }
+
+    /**
+     * @param peak Receives the highest number of /echo requests handled at the same time.
+     */
+    private static HttpServer startServer(long delayMillis, AtomicInteger peak) throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        HttpServer server = HttpServer.create(new InetSocketAddress(0), 4096);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/echo", exchange -> {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            byte[] body = ("\"" + exchange.getRequestURI().getQuery() + "\"").getBytes();
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.createContext("/fail", exchange -> {
+            byte[] body = "{}".getBytes();
+            exchange.sendResponseHeaders(503, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private static URI baseUri(HttpServer server, String path) {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + path);
+    }
+}
@@ -0,0 +1,115 @@
+package kr.higu.dto;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSyntaxException;
+import kr.higu.dto.kakao.KakaoJwksResponse;
+import kr.higu.dto.kakao.KakaoTokenInfoResponse;
+import kr.higu.dto.kakao.KakaoTokenResponse;
+import kr.higu.dto.kakao.KakaoUserResponse;
+import kr.higu.dto.naver.NaverTokenResponse;
+import kr.higu.dto.naver.NaverUserResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that the adapters generated by the processor module behave like Gson's reflective adapters.
+ */
+class GeneratedTypeAdapterFactoryTest {
+
+    private static final Gson REFLECTIVE = new Gson();
+    private static final Gson GENERATED = new GsonBuilder()
+            .registerTypeAdapterFactory(new GeneratedTypeAdapterFactory())
+            .create();
+
+    private static final String KAKAO_TOKEN = """
+            {"token_type":"bearer","access_token":"access","id_token":"id.token.sig","expires_in":21599,
+            "refresh_token":"refresh","refresh_token_expires_in":"5183999","scope":"profile_nickname openid"}
+            """;
+
+    private static final String KAKAO_USER = """
+            {"id":12345678,"has_signed_up":"true","connected_at":"2026-01-29T08:56:41Z",
+            "properties":{"nickname":"강희구","custom":{"nested":[1,2,3]}},
+            "kakao_account":{"profile_nickname_needs_agreement":false,
+            "profile":{"nickname":"강희구","is_default_image":true,"unknown":{"a":[null]}},
+            "has_email":true,"email":"higu@example.com","gender":"male","is_leap_month":null},
+            "partner":{"uuid":"partner-uuid"},"for_partner":{"uuid":"ignored"}}
+            """;
+
+    private static final String KAKAO_TOKEN_INFO = """
+            {"id":12345678,"expires_in":7199,"app_id":1234}
+            """;
+
+    private static final String KAKAO_JWKS = """
+            {"keys":[{"kid":"3f96980381e451efad0d2ddd30e3d3","kty":"RSA","alg":"RS256","use":"sig","n":"q8zZ0b","e":"AQAB"},
+            {"kid":"9f252dadd5f233f93d2fa528d12fea","kty":"RSA","alg":"RS256","use":"sig","n":"qGWf6R","e":"AQAB","x5t":"ignored"}]}
+            """;
+
+    private static final String NAVER_TOKEN = """
+            {"access_token":"access","refresh_token":"refresh","token_type":"bearer","expires_in":3600}
+            """;
+
+    private static final String NAVER_USER = """
+            {"resultcode":"00","message":"success","response":{"id":"32742776","nickname":"higu",
+            "email":"higu@example.com","gender":"M","age":"20-29","mobile":"010-0000-0000","mobile_e164":"+821000000000"}}
+            """;
+
+    @Test
+    @DisplayName("생성된 어댑터가 등록되어 리플렉션 어댑터를 대체")
+    void factory_ProvidesGeneratedAdapters() {
+        assertThat(GENERATED.getAdapter(KakaoTokenResponse.class))
+                .isInstanceOf(kr.higu.dto.kakao.KakaoTokenResponseTypeAdapter.class);
+        assertThat(GENERATED.getAdapter(KakaoUserResponse.KakaoAccount.Profile.class))
+                .isInstanceOf(kr.higu.dto.kakao.KakaoUserResponse_KakaoAccount_ProfileTypeAdapter.class);
+        assertThat(GENERATED.getAdapter(NaverUserResponse.Response.class))
+                .isInstanceOf(kr.higu.dto.naver.NaverUserResponse_ResponseTypeAdapter.class);
+        assertThat(GENERATED.getAdapter(String.class)).isSameAs(REFLECTIVE.getAdapter(String.class));
+    }
+
+    @Test
+    @DisplayName("역직렬화 결과가 리플렉션 기반 Gson과 동일 - 타입 변환, 중첩, 알 수 없는 필드 포함")
+    void read_MatchesReflectiveGson() {
+        assertSameRead(KAKAO_TOKEN, KakaoTokenResponse.class);
+        assertSameRead(KAKAO_USER, KakaoUserResponse.class);
+        assertSameRead(NAVER_TOKEN, NaverTokenResponse.class);
+        assertSameRead(NAVER_USER, NaverUserResponse.class);
+        assertSameRead(KAKAO_TOKEN_INFO, KakaoTokenInfoResponse.class);
+        assertSameRead(KAKAO_JWKS, KakaoJwksResponse.class);
+        assertSameRead("null", KakaoUserResponse.class);
+        assertSameRead("{}", NaverUserResponse.class);
+
+        KakaoUserResponse user = GENERATED.fromJson(KAKAO_USER, KakaoUserResponse.class);
+        assertThat(user.id()).isEqualTo("12345678");
+        assertThat(user.hasSignedUp()).isTrue();
+        assertThat(user.kakaoAccount().profile().isDefaultImage()).isTrue();
+        assertThat(user.properties().getAsJsonObject("custom").getAsJsonArray("nested")).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("직렬화 결과가 리플렉션 기반 Gson과 동일 - null 필드는 생략")
+    void write_MatchesReflectiveGson() {
+        assertSameWrite(GENERATED.fromJson(KAKAO_TOKEN, KakaoTokenResponse.class));
+        assertSameWrite(GENERATED.fromJson(KAKAO_USER, KakaoUserResponse.class));
+        assertSameWrite(GENERATED.fromJson(NAVER_TOKEN, NaverTokenResponse.class));
+        assertSameWrite(GENERATED.fromJson(NAVER_USER, NaverUserResponse.class));
+        assertSameWrite(new NaverTokenResponse(null, null, null, null, "invalid_request", "no code"));
+    }
+
+    @Test
+    @DisplayName("숫자 필드 형식 오류 - JsonSyntaxException")
+    void read_InvalidNumber() {
+        assertThatThrownBy(() -> GENERATED.fromJson("{\"expires_in\":\"soon\"}", KakaoTokenResponse.class))
+                .isInstanceOf(JsonSyntaxException.class);
+    }
+
+    private static <T> void assertSameRead(String json, Class<T> type) {
+        assertThat(GENERATED.fromJson(json, type)).isEqualTo(REFLECTIVE.fromJson(json, type));
+    }
+
+    private static void assertSameWrite(Object value) {
+        assertThat(GENERATED.toJson(value)).isEqualTo(REFLECTIVE.toJson(value));
+    }
+}
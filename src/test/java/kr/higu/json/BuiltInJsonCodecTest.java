@@ -0,0 +1,142 @@
+package kr.higu.json;
+
+import kr.higu.dto.kakao.KakaoJwksResponse;
+import kr.higu.dto.kakao.KakaoTokenResponse;
+import kr.higu.dto.kakao.KakaoUserResponse;
+import kr.higu.dto.naver.NaverTokenResponse;
+import kr.higu.dto.naver.NaverUserResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BuiltInJsonCodecTest {
+
+    private final JsonCodec builtIn = BuiltInJsonCodec.getInstance();
+    private final JsonCodec gson = GsonJsonCodec.getInstance();
+
+    private static final String KAKAO_TOKEN = """
+            {"token_type":"bearer","access_token":"access","id_token":"id.token.sig","expires_in":21599,
+            "refresh_token":"refresh","refresh_token_expires_in":"5183999","scope":"profile_nickname openid"}
+            """;
+
+    private static final String KAKAO_USER = """
+            {"id":12345678,"has_signed_up":"true","connected_at":"2026-01-29T08:56:41Z",
+            "properties":{"nickname":"강희구","custom":{"nested":[1,2.50,-3e2,true,null,"x"]}},
+            "kakao_account":{"profile_nickname_needs_agreement":false,
+            "profile":{"nickname":"강희구 \\"higu\\" \\uD83D\\uDE00","is_default_image":true,"unknown":{"a":[null, "]}"]}},
+            "has_email":true,"email":"higu@example.com","gender":"male","is_leap_month":null},
+            "partner":{"uuid":"partner-uuid"},"for_partner":{"uuid":"ignored"}}
+            """;
+
+    private static final String NAVER_TOKEN = """
+            {"access_token":"access","refresh_token":"refresh","token_type":"bearer","expires_in":3600}
+            """;
+
+    private static final String NAVER_USER = """
+            {"resultcode":"00","message":"success","response":{"id":"32742776","nickname":"higu",
+            "email":"higu@example.com","gender":"M","age":"20-29","mobile":"010-0000-0000","mobile_e164":"+821000000000"}}
+            """;
+
+    private static final String KAKAO_JWKS = """
+            {"keys":[{"kid":"3f96980381e451efad0d2ddd30e3d3","kty":"RSA","alg":"RS256","use":"sig","n":"q8zZ0b","e":"AQAB"},
+            {"kid":"9f252dadd5f233f93d2fa528d12fea","kty":"RSA","alg":"RS256","use":"sig","n":"qGWf6R","e":"AQAB","x5t":"ignored"}]}
+            """;
+
+    @Test
+    @DisplayName("디코딩 결과가 Gson 코덱과 동일 - String/byte[] 입력 모두")
+    void decode_MatchesGson() throws Exception {
+        assertSameDecode(KAKAO_TOKEN, KakaoTokenResponse.class);
+        assertSameDecode(KAKAO_USER, KakaoUserResponse.class);
+        assertSameDecode(NAVER_TOKEN, NaverTokenResponse.class);
+        assertSameDecode(NAVER_USER, NaverUserResponse.class);
+        assertSameDecode(KAKAO_JWKS, KakaoJwksResponse.class);
+
+        KakaoUserResponse user = builtIn.decode(KAKAO_USER, KakaoUserResponse.class);
+        assertThat(user.id()).isEqualTo("12345678");
+        assertThat(user.kakaoAccount().profile().nickname()).isEqualTo("강희구 \"higu\" 😀");
+        assertThat(user.properties().getAsJsonObject("custom").getAsJsonArray("nested")).hasSize(6);
+        assertThat(user.properties().getAsJsonObject("custom").getAsJsonArray("nested").get(1).getAsString())
+                .isEqualTo("2.50");
+        assertThat(user.properties().getAsJsonObject("custom").getAsJsonArray("nested").get(2).getAsInt())
+                .isEqualTo(-300);
+
+        KakaoJwksResponse jwks = builtIn.decode(KAKAO_JWKS, KakaoJwksResponse.class);
+        assertThat(jwks.keys()).extracting(KakaoJwksResponse.Key::kid)
+                .containsExactly("3f96980381e451efad0d2ddd30e3d3", "9f252dadd5f233f93d2fa528d12fea");
+    }
+
+    @Test
+    @DisplayName("빈 본문과 null은 null로 디코딩")
+    void decode_EmptyBody() {
+        assertThat(builtIn.decode("", NaverTokenResponse.class)).isNull();
+        assertThat(builtIn.decode("  \n", NaverTokenResponse.class)).isNull();
+        assertThat(builtIn.decode("null", NaverTokenResponse.class)).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 JSON - JsonCodecException")
+    void decode_Malformed() {
+        assertThatThrownBy(() -> builtIn.decode("<html>Bad Gateway</html>", NaverTokenResponse.class))
+                .isInstanceOf(JsonCodecException.class);
+        assertThatThrownBy(() -> builtIn.decode("{\"access_token\":\"abc\"", NaverTokenResponse.class))
+                .isInstanceOf(JsonCodecException.class);
+        assertThatThrownBy(() -> builtIn.decode("{\"access_token\":\"abc\",}", NaverTokenResponse.class))
+                .isInstanceOf(JsonCodecException.class);
+        assertThatThrownBy(() -> builtIn.decode("{\"expires_in\":\"soon\"}", KakaoTokenResponse.class))
+                .isInstanceOf(JsonCodecException.class);
+        assertThatThrownBy(() -> builtIn.decode("{} {}", NaverTokenResponse.class))
+                .isInstanceOf(JsonCodecException.class);
+    }
+
+    @Test
+    @DisplayName("레코드가 아닌 타입 - JsonCodecException")
+    void decode_NotARecord() {
+        assertThatThrownBy(() -> builtIn.decode("{}", Object.class))
+                .isInstanceOf(JsonCodecException.class)
+                .hasMessageContaining("only supports records");
+    }
+
+    @Test
+    @DisplayName("인코딩 결과를 다시 디코딩하면 원본과 동일")
+    void encode_RoundTrip() {
+        KakaoUserResponse user = gson.decode(KAKAO_USER, KakaoUserResponse.class);
+        assertThat(builtIn.decode(builtIn.encode(user), KakaoUserResponse.class)).isEqualTo(user);
+
+        NaverTokenResponse error = new NaverTokenResponse(null, null, null, null, "invalid_request", "line\nbreak");
+        assertThat(builtIn.encode(error)).isEqualTo("{\"error\":\"invalid_request\",\"error_description\":\"line\\nbreak\"}");
+    }
+
+    @Test
+    @DisplayName("문자열 배열 인코딩이 Gson 코덱과 동일")
+    void encodeStringArray_MatchesGson() {
+        String[] keys = {"kakao_account.email", "properties.nickname"};
+
+        assertThat(builtIn.encodeStringArray(keys)).isEqualTo(gson.encodeStringArray(keys));
+        assertThat(builtIn.encodeStringArray()).isEqualTo("[]");
+    }
+
+    @Test
+    @DisplayName("최상위 스칼라 필드 추출이 Gson 코덱과 동일")
+    void readScalars_MatchesGson() {
+        String body = """
+                {"meta":{"code":"nested"},"code":-401,"msg":"this access token does not exist","flag":true,"empty":null}
+                """;
+        String[] names = {"code", "msg", "flag", "empty", "meta", "missing"};
+
+        assertThat(builtIn.readScalars(body, names))
+                .containsExactly(gson.readScalars(body, names))
+                .containsExactly("-401", "this access token does not exist", "true", null, null, null);
+    }
+
+    private <T> void assertSameDecode(String json, Class<T> type) throws Exception {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        T expected = gson.decode(json, type);
+
+        assertThat(builtIn.decode(json, type)).isEqualTo(expected);
+        assertThat(builtIn.decode(bytes, 0, bytes.length, type)).isEqualTo(expected);
+    }
+}
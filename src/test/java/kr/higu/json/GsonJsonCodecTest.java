@@ -0,0 +1,46 @@
+package kr.higu.json;
+
+import kr.higu.dto.naver.NaverTokenResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GsonJsonCodecTest {
+
+    private final JsonCodec codec = GsonJsonCodec.getInstance();
+
+    @Test
+    @DisplayName("값 뒤에 남은 내용 - String/byte[]/스트림 입력 모두 JsonCodecException")
+    void decode_RejectsTrailingContent() {
+        for (String json : new String[]{
+                "{\"access_token\":\"abc\"}garbage",
+                "{\"access_token\":\"abc\"} {}",
+                "{\"access_token\":\"abc\"}]"}) {
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+            assertThatThrownBy(() -> codec.decode(json, NaverTokenResponse.class))
+                    .isInstanceOf(JsonCodecException.class);
+            assertThatThrownBy(() -> codec.decode(bytes, 0, bytes.length, NaverTokenResponse.class))
+                    .isInstanceOf(JsonCodecException.class);
+            assertThatThrownBy(() -> codec.decode(new ByteArrayInputStream(bytes), NaverTokenResponse.class))
+                    .isInstanceOf(JsonCodecException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("byte[]/스트림 디코딩 결과가 String 디코딩과 동일 - 뒤쪽 공백, 빈 본문, null 포함")
+    void decode_StreamMatchesString() throws Exception {
+        for (String json : new String[]{"{\"access_token\":\"abc\",\"expires_in\":\"3600\"}  \n", "", "null"}) {
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            NaverTokenResponse expected = codec.decode(json, NaverTokenResponse.class);
+
+            assertThat(codec.decode(bytes, 0, bytes.length, NaverTokenResponse.class)).isEqualTo(expected);
+            assertThat(codec.decode(new ByteArrayInputStream(bytes), NaverTokenResponse.class)).isEqualTo(expected);
+        }
+    }
+}
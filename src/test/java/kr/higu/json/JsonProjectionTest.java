@@ -0,0 +1,106 @@
+package kr.higu.json;
+
+import kr.higu.dto.kakao.KakaoUserResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JsonProjectionTest {
+
+    private static final String KAKAO_USER = """
+            {"id":12345678,"connected_at":"2026-01-29T08:56:41Z",
+            "properties":{"nickname":"강희구","custom":{"nested":[1,2.50,{"a":"]}"}]}},
+            "kakao_account":{"profile_nickname_needs_agreement":false,
+            "profile":{"nickname":"강희구 \\"higu\\"","is_default_image":true},
+            "name":"강희구","email_needs_agreement":false,"email":"higu@example.com","gender":"male"},
+            "partner":{"uuid":"partner-uuid"}}
+            """;
+
+    private static final JsonProjection EMAIL_AND_PROFILE = JsonProjection.of(
+            "id", "connected_at", "kakao_account.email", "kakao_account.email_needs_agreement", "kakao_account.profile");
+
+    @Test
+    @DisplayName("프로젝션에 포함된 멤버만 디코딩 - 내장 코덱과 Gson 코덱 결과 동일")
+    void decode_OnlySelectedMembers() throws Exception {
+        // given
+        byte[] bytes = KAKAO_USER.getBytes(StandardCharsets.UTF_8);
+
+        for (JsonCodec codec : new JsonCodec[]{BuiltInJsonCodec.getInstance(), GsonJsonCodec.getInstance()}) {
+            // when
+            KakaoUserResponse user = codec.decode(bytes, 0, bytes.length, KakaoUserResponse.class, EMAIL_AND_PROFILE);
+
+            // then
+            assertThat(user.id()).isEqualTo("12345678");
+            assertThat(user.connectedAt()).isEqualTo("2026-01-29T08:56:41Z");
+            assertThat(user.properties()).isNull();
+            assertThat(user.partner()).isNull();
+            assertThat(user.kakaoAccount().email()).isEqualTo("higu@example.com");
+            assertThat(user.kakaoAccount().emailNeedsAgreement()).isFalse();
+            assertThat(user.kakaoAccount().profile().nickname()).isEqualTo("강희구 \"higu\"");
+            assertThat(user.kakaoAccount().profile().isDefaultImage()).isTrue();
+            assertThat(user.kakaoAccount().name()).isNull();
+            assertThat(user.kakaoAccount().gender()).isNull();
+            assertThat(user.kakaoAccount().profileNicknameNeedsAgreement()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("상위 경로가 선택되면 하위 경로보다 우선 - 전체 값 디코딩")
+    void of_ParentPathWins() {
+        // given
+        JsonProjection projection = JsonProjection.of("kakao_account.email", "kakao_account", "id");
+
+        // when
+        KakaoUserResponse user = BuiltInJsonCodec.getInstance().decode(KAKAO_USER, KakaoUserResponse.class, projection);
+
+        // then
+        assertThat(user.kakaoAccount().name()).isEqualTo("강희구");
+        assertThat(user.kakaoAccount().gender()).isEqualTo("male");
+        assertThat(user.properties()).isNull();
+    }
+
+    @Test
+    @DisplayName("null 프로젝션은 전체 디코딩과 동일")
+    void decode_NullProjection() {
+        // given
+        JsonCodec codec = BuiltInJsonCodec.getInstance();
+
+        // when
+        KakaoUserResponse projected = codec.decode(KAKAO_USER, KakaoUserResponse.class, null);
+
+        // then
+        assertThat(projected).isEqualTo(codec.decode(KAKAO_USER, KakaoUserResponse.class));
+    }
+
+    @Test
+    @DisplayName("선택된 멤버를 원본 바이트 그대로 복사해 작은 문서 생성")
+    void filter_CopiesSelectedBytes() {
+        // given
+        byte[] bytes = KAKAO_USER.getBytes(StandardCharsets.UTF_8);
+
+        // when
+        JsonProjection.Filtered filtered = EMAIL_AND_PROFILE.filter(bytes, 0, bytes.length);
+
+        // then
+        assertThat(new String(filtered.bytes(), 0, filtered.length(), StandardCharsets.UTF_8)).isEqualTo(
+                "{\"id\":12345678,\"connected_at\":\"2026-01-29T08:56:41Z\",\"kakao_account\":{"
+                        + "\"profile\":{\"nickname\":\"강희구 \\\"higu\\\"\",\"is_default_image\":true},"
+                        + "\"email_needs_agreement\":false,\"email\":\"higu@example.com\"}}");
+    }
+
+    @Test
+    @DisplayName("건너뛴 멤버가 닫히지 않은 경우 JsonCodecException 발생")
+    void decode_UnterminatedSkippedMember() {
+        // given
+        String malformed = "{\"id\":1,\"properties\":{\"nickname\":[\"x\"}";
+
+        // when & then
+        assertThatThrownBy(() -> BuiltInJsonCodec.getInstance()
+                .decode(malformed, KakaoUserResponse.class, JsonProjection.of("id")))
+                .isInstanceOf(JsonCodecException.class);
+    }
+}
@@ -0,0 +1,55 @@
+package kr.higu.json;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Utf8ReaderTest {
+
+    @Test
+    @DisplayName("UTF-8 디코딩 - 한글, 이모지(서로게이트 쌍) 포함")
+    void read_DecodesKoreanAndSupplementaryCharacters() {
+        // given
+        String text = "{\"nickname\":\"강희구\",\"emoji\":\"😀\",\"ascii\":\"higu\"}";
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+
+        // when: 서로게이트 쌍이 두 번의 read에 걸쳐 나뉘도록 작은 버퍼 사용
+        String decoded = readAll(new Utf8Reader(bytes, 0, bytes.length), 3);
+
+        // then
+        assertThat(decoded).isEqualTo(text);
+    }
+
+    @Test
+    @DisplayName("UTF-8 디코딩 - 배열의 일부 구간만 읽음")
+    void read_RespectsOffsetAndLength() {
+        byte[] bytes = "xx강희구yy".getBytes(StandardCharsets.UTF_8);
+
+        String decoded = readAll(new Utf8Reader(bytes, 2, bytes.length - 4), 16);
+
+        assertThat(decoded).isEqualTo("강희구");
+    }
+
+    @Test
+    @DisplayName("잘못된 UTF-8 시퀀스는 U+FFFD로 대체")
+    void read_ReplacesMalformedInput() {
+        byte[] bytes = {'a', (byte) 0xC3, 'b', (byte) 0xFF, (byte) 0xE2, (byte) 0x82};
+
+        String decoded = readAll(new Utf8Reader(bytes, 0, bytes.length), 16);
+
+        assertThat(decoded).isEqualTo("a\uFFFDb\uFFFD\uFFFD");
+    }
+
+    private static String readAll(Utf8Reader reader, int chunkSize) {
+        StringBuilder result = new StringBuilder();
+        char[] buffer = new char[chunkSize];
+        int read;
+        while ((read = reader.read(buffer, 0, chunkSize)) != -1) {
+            result.append(buffer, 0, read);
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,232 @@
+package kr.higu.oidc;
+
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.exceptions.detailed.OAuthIdTokenException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdTokenVerifierTest {
+
+    private static final String APP_KEY = "rest-api-key";
+    private static final long NOW = 1_780_000_000L;
+
+    private static KeyPair signing;
+    private static KeyPair other;
+
+    private IdTokenVerifier verifier;
+
+    @BeforeAll
+    static void generateKeys() throws Exception {
+        signing = TestKeys.rsa();
+        other = TestKeys.rsa();
+    }
+
+    @BeforeEach
+    void setUp() {
+        JwksKeyCache keys = JwksKeyCache.builder(() -> TestKeys.jwks(TestKeys.jwk("kid-1", signing)))
+                .refreshInterval(Duration.ZERO)
+                .build();
+        verifier = IdTokenVerifier.builder(keys, APP_KEY).build(() -> NOW * 1000);
+    }
+
+    private static String payload(String issuer, String audience, long expiresAt, String nonce) {
+        return "{\"iss\":\"" + issuer + "\",\"aud\":\"" + audience + "\",\"sub\":\"12345678\","
+                + "\"iat\":" + (NOW - 60) + ",\"exp\":" + expiresAt + ",\"auth_time\":" + (NOW - 60) + ","
+                + (nonce == null ? "" : "\"nonce\":\"" + nonce + "\",")
+                + "\"nickname\":\"강희구\",\"email\":\"higu@example.com\"}";
+    }
+
+    private static String validPayload() {
+        return payload("https://kauth.kakao.com", APP_KEY, NOW + 3600, "nonce-1");
+    }
+
+    @Test
+    @DisplayName("ID 토큰 검증 성공 - 클레임 반환")
+    void verify_Success() throws Exception {
+        // given
+        String idToken = TestKeys.sign("kid-1", signing.getPrivate(), validPayload());
+
+        // when
+        IdTokenClaims claims = verifier.verify(idToken, "nonce-1");
+
+        // then
+        assertThat(claims.issuer()).isEqualTo("https://kauth.kakao.com");
+        assertThat(claims.audience()).isEqualTo(APP_KEY);
+        assertThat(claims.subject()).isEqualTo("12345678");
+        assertThat(claims.issuedAt()).isEqualTo(Instant.ofEpochSecond(NOW - 60));
+        assertThat(claims.expiresAt()).isEqualTo(Instant.ofEpochSecond(NOW + 3600));
+        assertThat(claims.authTime()).isEqualTo(Instant.ofEpochSecond(NOW - 60));
+        assertThat(claims.nonce()).isEqualTo("nonce-1");
+        assertThat(claims.nickname()).isEqualTo("강희구");
+        assertThat(claims.email()).isEqualTo("higu@example.com");
+        assertThat(claims.picture()).isNull();
+    }
+
+    @Test
+    @DisplayName("nonce를 넘기지 않으면 nonce 검사 생략")
+    void verify_WithoutNonce() throws Exception {
+        // given
+        String idToken = TestKeys.sign("kid-1", signing.getPrivate(), validPayload());
+
+        // when, then
+        assertThat(verifier.verify(idToken).subject()).isEqualTo("12345678");
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명되었거나 변조된 토큰 - OAuthIdTokenException")
+    void verify_InvalidSignature() throws Exception {
+        // given
+        String forged = TestKeys.sign("kid-1", other.getPrivate(), validPayload());
+        String valid = TestKeys.sign("kid-1", signing.getPrivate(), validPayload());
+        String[] parts = valid.split("\\.");
+        String tampered = parts[0] + "." + TestKeys.encode(validPayload().replace("12345678", "87654321")) + "." + parts[2];
+
+        // when, then
+        assertThatThrownBy(() -> verifier.verify(forged))
+                .isInstanceOf(OAuthIdTokenException.class)
+                .hasMessageContaining("signature");
+        assertThatThrownBy(() -> verifier.verify(tampered))
+                .isInstanceOf(OAuthIdTokenException.class)
+                .hasMessageContaining("signature");
+    }
+
+    @Test
+    @DisplayName("여러 스레드 동시 검증 - 스레드별 Signature 재사용, 공개키는 한 번만 조회")
+    void verify_Concurrent_SharesKeysAndSignatures() throws Exception {
+        // given
+        AtomicInteger fetches = new AtomicInteger();
+        JwksKeyCache keys = JwksKeyCache.builder(() -> {
+                    fetches.incrementAndGet();
+                    return TestKeys.jwks(TestKeys.jwk("kid-1", signing));
+                })
+                .refreshInterval(Duration.ZERO)
+                .build();
+        IdTokenVerifier shared = IdTokenVerifier.builder(keys, APP_KEY).build(() -> NOW * 1000);
+        String valid = TestKeys.sign("kid-1", signing.getPrivate(), validPayload());
+        String forged = TestKeys.sign("kid-1", other.getPrivate(), validPayload());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            // when
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 400; i++) {
+                boolean expectValid = i % 2 == 0;
+                String idToken = expectValid ? valid : forged;
+                results.add(executor.submit(() -> {
+                    try {
+                        return "12345678".equals(shared.verify(idToken, "nonce-1").subject()) == expectValid;
+                    } catch (OAuthIdTokenException e) {
+                        return !expectValid;
+                    }
+                }));
+            }
+
+            // then
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+            assertThat(fetches.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("공개키 목록에 없는 kid - OAuthIdTokenException")
+    void verify_UnknownKey() throws Exception {
+        // given
+        String idToken = TestKeys.sign("kid-2", other.getPrivate(), validPayload());
+
+        // when, then
+        assertThatThrownBy(() -> verifier.verify(idToken))
+                .isInstanceOf(OAuthIdTokenException.class)
+                .hasMessageContaining("unknown key");
+    }
+
+    @Test
+    @DisplayName("RS256이 아닌 알고리즘 - OAuthIdTokenException")
+    void verify_UnsupportedAlgorithm() {
+        // given
+        String idToken = TestKeys.encode("{\"alg\":\"none\",\"kid\":\"kid-1\"}") + "."
+                + TestKeys.encode(validPayload()) + ".c2ln";
+
+        // when, then
+        assertThatThrownBy(() -> verifier.verify(idToken))
+                .isInstanceOf(OAuthIdTokenException.class)
+                .hasMessageContaining("algorithm");
+    }
+
+    @Test
+    @DisplayName("iss, aud, nonce 불일치 - OAuthIdTokenException")
+    void verify_ClaimMismatch() throws Exception {
+        // given
+        String wrongIssuer = TestKeys.sign("kid-1", signing.getPrivate(),
+                payload("https://accounts.example.com", APP_KEY, NOW + 3600, "nonce-1"));
+        String wrongAudience = TestKeys.sign("kid-1", signing.getPrivate(),
+                payload("https://kauth.kakao.com", "other-app", NOW + 3600, "nonce-1"));
+        String idToken = TestKeys.sign("kid-1", signing.getPrivate(), validPayload());
+
+        // when, then
+        assertThatThrownBy(() -> verifier.verify(wrongIssuer))
+                .isInstanceOf(OAuthIdTokenException.class)
+                .hasMessageContaining("issuer");
+        assertThatThrownBy(() -> verifier.verify(wrongAudience))
+                .isInstanceOf(OAuthIdTokenException.class)
+                .hasMessageContaining("audience");
+        assertThatThrownBy(() -> verifier.verify(idToken, "nonce-2"))
+                .isInstanceOf(OAuthIdTokenException.class)
+                .hasMessageContaining("nonce");
+    }
+
+    @Test
+    @DisplayName("만료 - 허용 오차 이내는 통과, 이후는 OAuthIdTokenException")
+    void verify_Expiry() throws Exception {
+        // given
+        String withinSkew = TestKeys.sign("kid-1", signing.getPrivate(),
+                payload("https://kauth.kakao.com", APP_KEY, NOW - 59, null));
+        String expired = TestKeys.sign("kid-1", signing.getPrivate(),
+                payload("https://kauth.kakao.com", APP_KEY, NOW - 60, null));
+
+        // when, then
+        assertThat(verifier.verify(withinSkew).subject()).isEqualTo("12345678");
+        assertThatThrownBy(() -> verifier.verify(expired))
+                .isInstanceOf(OAuthIdTokenException.class)
+                .hasMessageContaining("expired");
+    }
+
+    @Test
+    @DisplayName("JWT 형식이 아닌 토큰 - OAuthIdTokenException")
+    void verify_Malformed() {
+        assertThatThrownBy(() -> verifier.verify(null)).isInstanceOf(OAuthIdTokenException.class);
+        assertThatThrownBy(() -> verifier.verify("header.payload")).isInstanceOf(OAuthIdTokenException.class);
+        assertThatThrownBy(() -> verifier.verify("a.b.c.d")).isInstanceOf(OAuthIdTokenException.class);
+        assertThatThrownBy(() -> verifier.verify("!!.b.c")).isInstanceOf(OAuthIdTokenException.class);
+        assertThatThrownBy(() -> verifier.verify(TestKeys.encode("[1]") + ".b.c"))
+                .isInstanceOf(OAuthIdTokenException.class);
+    }
+
+    @Test
+    @DisplayName("audience 누락 시 빌드 에러")
+    void builder_Error_When_Audience_Is_Blank() {
+        JwksKeyCache keys = JwksKeyCache.builder(() -> TestKeys.jwks()).refreshInterval(Duration.ZERO).build();
+
+        assertThatThrownBy(() -> IdTokenVerifier.builder(keys, " "))
+                .isInstanceOf(OAuthValidationException.class)
+                .hasMessageContaining("audience");
+    }
+}
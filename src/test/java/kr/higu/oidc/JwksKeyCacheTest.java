@@ -0,0 +1,235 @@
+package kr.higu.oidc;
+
+import kr.higu.dto.kakao.KakaoJwksResponse;
+import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.detailed.OAuthNetworkException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwksKeyCacheTest {
+
+    private static KeyPair first;
+    private static KeyPair second;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger fetches = new AtomicInteger();
+    private final AtomicReference<KakaoJwksResponse> published = new AtomicReference<>();
+
+    @BeforeAll
+    static void generateKeys() throws Exception {
+        first = TestKeys.rsa();
+        second = TestKeys.rsa();
+    }
+
+    private JwksKeyCache cache() {
+        return JwksKeyCache.builder(() -> {
+                    fetches.incrementAndGet();
+                    return published.get();
+                })
+                .refreshInterval(Duration.ZERO)
+                .minRefetchInterval(Duration.ofSeconds(30))
+                .build(nanos::get);
+    }
+
+    @Test
+    @DisplayName("처음 조회 시 한 번 가져온 뒤 캐시에서 반환")
+    void key_FetchesOnceThenCaches() throws Exception {
+        // given
+        published.set(TestKeys.jwks(TestKeys.jwk("k1", first)));
+        JwksKeyCache cache = cache();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            assertThat(cache.key("k1")).isEqualTo(first.getPublic());
+        }
+
+        // then
+        assertThat(fetches).hasValue(1);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 kid - 키 교체 후 한 번 다시 가져옴")
+    void key_RefetchesOnRotation() throws Exception {
+        // given
+        published.set(TestKeys.jwks(TestKeys.jwk("k1", first)));
+        JwksKeyCache cache = cache();
+        cache.key("k1");
+        published.set(TestKeys.jwks(TestKeys.jwk("k1", first), TestKeys.jwk("k2", second)));
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+
+        // when
+        PublicKey rotated = cache.key("k2");
+
+        // then
+        assertThat(rotated).isEqualTo(second.getPublic());
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 kid 재조회는 최소 간격 안에서 한 번만")
+    void key_UnknownKidIsRateLimited() throws Exception {
+        // given
+        published.set(TestKeys.jwks(TestKeys.jwk("k1", first)));
+        JwksKeyCache cache = cache();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            assertThat(cache.key("forged-" + i)).isNull();
+        }
+        nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        assertThat(cache.key("forged")).isNull();
+
+        // then
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("동시에 알 수 없는 kid를 조회해도 한 번만 가져옴")
+    void key_ConcurrentMissesFetchOnce() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        JwksKeyCache cache = JwksKeyCache.builder(() -> {
+                    fetches.incrementAndGet();
+                    while (release.getCount() > 0) {
+                        Thread.onSpinWait();
+                    }
+                    return TestKeys.jwks(TestKeys.jwk("k1", first));
+                })
+                .refreshInterval(Duration.ZERO)
+                .minRefetchInterval(Duration.ZERO)
+                .build(nanos::get);
+        List<Thread> threads = new ArrayList<>();
+        AtomicInteger found = new AtomicInteger();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    if (cache.key("k1") != null) {
+                        found.incrementAndGet();
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        // when
+        Thread.sleep(100);
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // then
+        assertThat(found).hasValue(8);
+        assertThat(fetches).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("RSA 서명 키가 아니거나 잘못된 키는 건너뜀")
+    void refresh_SkipsUnusableKeys() throws Exception {
+        // given
+        published.set(TestKeys.jwks(
+                TestKeys.jwk("k1", first),
+                new KakaoJwksResponse.Key("ec", "EC", "ES256", "sig", null, null),
+                new KakaoJwksResponse.Key("enc", "RSA", "RSA-OAEP", "enc", "q8zZ0b", "AQAB"),
+                new KakaoJwksResponse.Key("broken", "RSA", "RS256", "sig", "not base64!", "AQAB")));
+        JwksKeyCache cache = cache();
+
+        // when
+        cache.refresh();
+
+        // then
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.key("k1")).isEqualTo(first.getPublic());
+    }
+
+    @Test
+    @DisplayName("가져오기 실패 - 예외를 전파하고 기존 키 유지")
+    void refresh_FailureKeepsKeys() throws Exception {
+        // given
+        AtomicReference<OAuthException> failure = new AtomicReference<>();
+        published.set(TestKeys.jwks(TestKeys.jwk("k1", first)));
+        JwksKeyCache cache = JwksKeyCache.builder(() -> {
+                    if (failure.get() != null) {
+                        throw failure.get();
+                    }
+                    return published.get();
+                })
+                .refreshInterval(Duration.ZERO)
+                .build(nanos::get);
+        cache.refresh();
+        failure.set(new OAuthNetworkException("connection refused", null));
+
+        // when, then
+        assertThatThrownBy(cache::refresh).isSameAs(failure.get());
+        assertThat(cache.key("k1")).isEqualTo(first.getPublic());
+    }
+
+    @Test
+    @DisplayName("시작 시 가져오기에 실패해 키가 없으면 최소 간격을 기다리지 않고 다시 가져옴")
+    void key_NoKeysAfterFailedFetch_RefetchesImmediately() throws Exception {
+        // given
+        AtomicReference<OAuthException> failure = new AtomicReference<>(new OAuthNetworkException("connection refused", null));
+        JwksKeyCache cache = JwksKeyCache.builder(() -> {
+                    fetches.incrementAndGet();
+                    if (failure.get() != null) {
+                        throw failure.get();
+                    }
+                    return published.get();
+                })
+                .refreshInterval(Duration.ZERO)
+                .minRefetchInterval(Duration.ofSeconds(30))
+                .build(nanos::get);
+        published.set(TestKeys.jwks(TestKeys.jwk("k1", first)));
+        assertThatThrownBy(() -> cache.key("k1")).isSameAs(failure.get());
+
+        // when
+        failure.set(null);
+        PublicKey key = cache.key("k1");
+
+        // then
+        assertThat(key).isEqualTo(first.getPublic());
+        assertThat(fetches).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("생성 시 백그라운드에서 키를 미리 가져옴")
+    void build_FetchesInBackground() throws Exception {
+        // given
+        CountDownLatch fetched = new CountDownLatch(1);
+        published.set(TestKeys.jwks(TestKeys.jwk("k1", first)));
+
+        // when
+        try (JwksKeyCache cache = JwksKeyCache.builder(() -> {
+            KakaoJwksResponse response = published.get();
+            fetched.countDown();
+            return response;
+        }).build()) {
+
+            // then
+            assertThat(fetched.await(5, TimeUnit.SECONDS)).isTrue();
+            for (int i = 0; i < 50 && cache.size() == 0; i++) {
+                Thread.sleep(10);
+            }
+            assertThat(cache.size()).isEqualTo(1);
+        }
+    }
+}
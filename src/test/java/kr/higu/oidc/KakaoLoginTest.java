@@ -0,0 +1,151 @@
+package kr.higu.oidc;
+
+import kr.higu.IHttpManager;
+import kr.higu.client.KakaoClient;
+import kr.higu.exceptions.detailed.OAuthIdTokenException;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URI;
+import java.security.KeyPair;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class KakaoLoginTest {
+
+    private static final URI TOKEN_URI = URI.create("https://kauth.kakao.com/oauth/token");
+    private static final String APP_KEY = "rest-api-key";
+    private static final String USER_JSON = """
+            {"id":12345678,"kakao_account":{"email":"higu@example.com",
+             "profile":{"nickname":"api-nickname","profile_image_url":"https://example.com/p.jpg"}}}
+            """;
+
+    private static KeyPair signing;
+
+    @Mock
+    private IHttpManager httpManager;
+
+    private IdTokenVerifier verifier;
+
+    @BeforeAll
+    static void generateKeys() throws Exception {
+        signing = TestKeys.rsa();
+    }
+
+    @BeforeEach
+    void setUp() {
+        JwksKeyCache keys = JwksKeyCache.builder(() -> TestKeys.jwks(TestKeys.jwk("kid-1", signing)))
+                .refreshInterval(Duration.ZERO)
+                .build();
+        verifier = IdTokenVerifier.builder(keys, APP_KEY).build();
+    }
+
+    private static String tokenJson(String claims) throws Exception {
+        String idToken = claims == null ? null : TestKeys.sign("kid-1", signing.getPrivate(), claims);
+        return "{\"token_type\":\"bearer\",\"access_token\":\"ACCESS\",\"expires_in\":21599"
+                + (idToken == null ? "" : ",\"id_token\":\"" + idToken + "\"") + "}";
+    }
+
+    private static String claims(String extra) {
+        long expiresAt = System.currentTimeMillis() / 1000 + 3600;
+        return "{\"iss\":\"https://kauth.kakao.com\",\"aud\":\"" + APP_KEY + "\",\"sub\":\"12345678\","
+                + "\"exp\":" + expiresAt + ",\"nonce\":\"nonce-1\"" + extra + "}";
+    }
+
+    private KakaoLogin.Builder login() {
+        return KakaoClient.create(httpManager).login(verifier)
+                .clientId(APP_KEY)
+                .redirectUri("https://example.com/callback")
+                .code("CODE")
+                .nonce("nonce-1");
+    }
+
+    @Test
+    @DisplayName("ID 토큰에 필요한 필드가 모두 있으면 사용자 정보 API를 호출하지 않음")
+    void execute_ProfileFromIdToken() throws Exception {
+        // given
+        given(httpManager.post(eq(TOKEN_URI), any(), any())).willReturn(tokenJson(claims(
+                ",\"nickname\":\"higu\",\"picture\":\"https://example.com/id.jpg\",\"email\":\"higu@example.com\"")));
+
+        // when
+        KakaoLoginResult result = login()
+                .require(KakaoLogin.Field.NICKNAME, KakaoLogin.Field.PROFILE_IMAGE, KakaoLogin.Field.EMAIL)
+                .build()
+                .execute();
+
+        // then
+        assertThat(result.token().accessToken()).isEqualTo("ACCESS");
+        assertThat(result.id()).isEqualTo("12345678");
+        assertThat(result.nickname()).isEqualTo("higu");
+        assertThat(result.profileImageUrl()).isEqualTo("https://example.com/id.jpg");
+        assertThat(result.email()).isEqualTo("higu@example.com");
+        assertThat(result.userInfoFetched()).isFalse();
+        verify(httpManager, never()).get(any(), any());
+    }
+
+    @Test
+    @DisplayName("필요한 필드가 ID 토큰에 없으면 해당 필드만 사용자 정보 API로 조회")
+    void execute_FetchesMissingFields() throws Exception {
+        // given
+        given(httpManager.post(eq(TOKEN_URI), any(), any())).willReturn(tokenJson(claims(",\"nickname\":\"higu\"")));
+        given(httpManager.get(any(URI.class), any())).willReturn(USER_JSON);
+
+        // when
+        KakaoLoginResult result = login()
+                .require(KakaoLogin.Field.NICKNAME, KakaoLogin.Field.EMAIL)
+                .build()
+                .execute();
+
+        // then
+        assertThat(result.nickname()).isEqualTo("higu");
+        assertThat(result.email()).isEqualTo("higu@example.com");
+        assertThat(result.userInfoFetched()).isTrue();
+        verify(httpManager).get(
+                eq(URI.create("https://kapi.kakao.com/v2/user/me?property_keys=%5B%22kakao_account.email%22%5D")),
+                any());
+    }
+
+    @Test
+    @DisplayName("ID 토큰이 없으면 사용자 정보 API로 프로필 조회")
+    void execute_WithoutIdToken() throws Exception {
+        // given
+        given(httpManager.post(eq(TOKEN_URI), any(), any())).willReturn(tokenJson(null));
+        given(httpManager.get(any(URI.class), any())).willReturn(USER_JSON);
+
+        // when
+        KakaoLoginResult result = login().build().execute();
+
+        // then
+        assertThat(result.id()).isEqualTo("12345678");
+        assertThat(result.nickname()).isEqualTo("api-nickname");
+        assertThat(result.profileImageUrl()).isEqualTo("https://example.com/p.jpg");
+        assertThat(result.email()).isEqualTo("higu@example.com");
+        assertThat(result.userInfoFetched()).isTrue();
+    }
+
+    @Test
+    @DisplayName("ID 토큰 검증 실패 시 사용자 정보 API로 대체하지 않고 실패")
+    void execute_InvalidIdToken() throws Exception {
+        // given
+        given(httpManager.post(eq(TOKEN_URI), any(), any())).willReturn(tokenJson(claims(",\"nickname\":\"higu\"")));
+
+        // when, then
+        assertThatThrownBy(() -> login().nonce("replayed").build().execute())
+                .isInstanceOf(OAuthIdTokenException.class)
+                .hasMessageContaining("nonce");
+        verify(httpManager, never()).get(any(), any());
+    }
+}
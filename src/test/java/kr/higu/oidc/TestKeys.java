@@ -0,0 +1,58 @@
+package kr.higu.oidc;
+
+import kr.higu.dto.kakao.KakaoJwksResponse;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Generates RSA keys and signs ID tokens locally, the way the provider does.
+ */
+final class TestKeys {
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private TestKeys() {
+    }
+
+    static KeyPair rsa() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        return generator.generateKeyPair();
+    }
+
+    static KakaoJwksResponse.Key jwk(String kid, KeyPair keyPair) {
+        RSAPublicKey key = (RSAPublicKey) keyPair.getPublic();
+        return new KakaoJwksResponse.Key(kid, "RSA", "RS256", "sig",
+                unsigned(key.getModulus()), unsigned(key.getPublicExponent()));
+    }
+
+    static KakaoJwksResponse jwks(KakaoJwksResponse.Key... keys) {
+        return new KakaoJwksResponse(List.of(keys));
+    }
+
+    static String sign(String kid, PrivateKey key, String payload) throws Exception {
+        String header = encode("{\"alg\":\"RS256\",\"kid\":\"" + kid + "\",\"typ\":\"JWT\"}");
+        String signed = header + "." + encode(payload);
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initSign(key);
+        signature.update(signed.getBytes(StandardCharsets.US_ASCII));
+        return signed + "." + ENCODER.encodeToString(signature.sign());
+    }
+
+    static String encode(String json) {
+        return ENCODER.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        return ENCODER.encodeToString(bytes[0] == 0 ? Arrays.copyOfRange(bytes, 1, bytes.length) : bytes);
+    }
+}
@@ -1,6 +1,17 @@
 package kr.higu.request;
 
+import kr.higu.IByteBodyHttpManager;
 import kr.higu.IHttpManager;
+import kr.higu.IStreamingHttpManager;
+import kr.higu.ResponseBodyDecoder;
+import kr.higu.dto.naver.NaverTokenResponse;
+import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.detailed.OAuthParsingException;
+import kr.higu.exceptions.detailed.OAuthResponseException;
+import kr.higu.json.GsonJsonCodec;
+import kr.higu.json.JsonCodec;
+import kr.higu.request.kakao.KakaoUserRequest;
+import kr.higu.request.naver.NaverTokenRequest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -8,15 +19,26 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.delegatesTo;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class AbstractRequestTest {
@@ -26,23 +48,41 @@ class AbstractRequestTest {
 
     static class TestRequest extends AbstractRequest<String> {
         private final URI baseUri;
+        private final String method;
 
         TestRequest(TestBuilder builder) {
             super(builder);
             this.baseUri = builder.uri;
+            this.method = builder.method;
         }
 
-        @Override protected String getMethod() { return "GET"; }
+        @Override protected String getMethod() { return method; }
         @Override protected URI getUri() { return baseUri; }
         @Override protected ErrorDetail parseError(String errorBody) { return null; }
     }
 
+    static class LegacyValidatingRequest extends TestRequest {
+        LegacyValidatingRequest(TestBuilder builder) {
+            super(builder);
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        protected void validateSuccessResponse(String responseBody) throws OAuthException {
+            if (responseBody.contains("error")) {
+                throw new OAuthResponseException(200, "legacy", responseBody, "rejected by legacy hook");
+            }
+        }
+    }
+
     static class TestBuilder extends AbstractRequest.Builder<String, TestBuilder> {
         URI uri;
+        String method = "GET";
         TestBuilder(IHttpManager hm, String url) {
             super(hm, String.class);
             this.uri = URI.create(url);
         }
+        TestBuilder method(String method) { this.method = method; return this; }
         @Override protected TestBuilder self() { return this; }
         @Override public AbstractRequest<String> build() { return new TestRequest(this); }
     }
@@ -106,4 +146,166 @@ class AbstractRequestTest {
         verify(httpManager, atLeastOnce()).get(uriCaptor2.capture(), any());
         assertThat(uriCaptor2.getValue().toString()).isEqualTo("https://api.com?base=true&p=1");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("스트리밍 매니저 - 응답 스트림에서 바로 디코딩")
+    void execute_StreamingManager_DecodesFromStream() throws Exception {
+        // given
+        IStreamingHttpManager streamingManager = mock(IStreamingHttpManager.class);
+        given(streamingManager.get(any(URI.class), any(), any())).willAnswer(invocation -> {
+            ResponseBodyDecoder<?> decoder = invocation.getArgument(2);
+            return decoder.decode(new ByteArrayInputStream("\"강희구\"".getBytes(StandardCharsets.UTF_8)));
+        });
+
+        AbstractRequest<String> request = new TestBuilder(streamingManager, "https://api.com")
+                .addParam("p", "1")
+                .build();
+
+        // when
+        String response = request.execute();
+
+        // then
+        assertThat(response).isEqualTo("강희구");
+        verify(streamingManager, never()).get(any(URI.class), any());
+    }
+
+    @Test
+    @DisplayName("바이트 본문 매니저 - POST 본문을 URLEncoder와 동일하게 인코딩한 바이트로 전달")
+    void execute_ByteBodyManager_SendsEncodedBytes() throws Exception {
+        // given
+        IByteBodyHttpManager byteBodyManager = mock(IByteBodyHttpManager.class);
+        given(byteBodyManager.post(any(URI.class), any(), any(byte[].class), any())).willAnswer(invocation -> {
+            ResponseBodyDecoder<?> decoder = invocation.getArgument(3);
+            byte[] body = "\"ok\"".getBytes(StandardCharsets.UTF_8);
+            return decoder.decode(body, 0, body.length);
+        });
+
+        AbstractRequest<String> request = new TestBuilder(byteBodyManager, "https://api.com")
+                .method("POST")
+                .addParam("name", "강희구")
+                .addParam("param", "!@# +~")
+                .build();
+        ArgumentCaptor<byte[]> bodyCaptor = ArgumentCaptor.forClass(byte[].class);
+
+        // when
+        String response = request.execute();
+
+        // then
+        assertThat(response).isEqualTo("ok");
+        verify(byteBodyManager).post(any(URI.class), any(), bodyCaptor.capture(), any());
+        verify(byteBodyManager, never()).post(any(URI.class), any(), any(String.class), any());
+        assertThat(new String(bodyCaptor.getValue(), StandardCharsets.US_ASCII)).isIn(
+                "name=" + URLEncoder.encode("강희구", StandardCharsets.UTF_8)
+                        + "&param=" + URLEncoder.encode("!@# +~", StandardCharsets.UTF_8),
+                "param=" + URLEncoder.encode("!@# +~", StandardCharsets.UTF_8)
+                        + "&name=" + URLEncoder.encode("강희구", StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("스트리밍 경로의 200 OK 에러 - getRawBody()는 서버가 보낸 본문 그대로")
+    void execute_StreamingManager_KeepsRawBodyOfValidationError() throws Exception {
+        // given
+        String wireBody = "{ \"error\" : \"invalid_request\",\n  \"error_description\" : \"no valid data in session\", \"extra\": [1, 2] }";
+        byte[] pooled = new byte[256];
+        IByteBodyHttpManager byteBodyManager = mock(IByteBodyHttpManager.class);
+        given(byteBodyManager.post(any(URI.class), any(), any(byte[].class), any())).willAnswer(invocation -> {
+            ResponseBodyDecoder<?> decoder = invocation.getArgument(3);
+            byte[] body = wireBody.getBytes(StandardCharsets.UTF_8);
+            System.arraycopy(body, 0, pooled, 16, body.length);
+            try {
+                return decoder.decode(pooled, 16, body.length);
+            } finally {
+                // The manager reuses its buffer once the decoder returns.
+                Arrays.fill(pooled, (byte) 'x');
+            }
+        });
+
+        NaverTokenRequest request = new NaverTokenRequest.Builder(byteBodyManager)
+                .clientId("ID")
+                .clientSecret("SECRET")
+                .code("CODE")
+                .state("STATE")
+                .build();
+
+        // when, then
+        assertThatThrownBy(request::execute)
+                .isInstanceOf(OAuthResponseException.class)
+                .satisfies(e -> {
+                    OAuthResponseException ex = (OAuthResponseException) e;
+                    assertThat(ex.getStatusCode()).isEqualTo(200);
+                    assertThat(ex.getErrorCode()).isEqualTo("invalid_request");
+                    assertThat(ex.getRawBody()).isEqualTo(wireBody);
+                });
+    }
+
+    @Test
+    @DisplayName("기존 validateSuccessResponse(String)을 오버라이드한 요청 - 원본 본문으로 계속 호출됨")
+    void execute_LegacyValidationHook_StillCalled() throws Exception {
+        // given
+        given(httpManager.get(any(URI.class), any())).willReturn("\"error\"", "\"ok\"");
+        AbstractRequest<String> request = new LegacyValidatingRequest(new TestBuilder(httpManager, "https://api.com"));
+
+        // when, then
+        assertThatThrownBy(request::execute)
+                .isInstanceOf(OAuthResponseException.class)
+                .satisfies(e -> assertThat(((OAuthResponseException) e).getRawBody()).isEqualTo("\"error\""));
+        assertThat(request.execute()).isEqualTo("ok");
+    }
+
+    @Test
+    @DisplayName("스트리밍 경로 - 디코딩 실패만 OAuthParsingException, 그 외 런타임 예외는 그대로 전파")
+    void execute_StreamingManager_OnlyDecodingFailuresAreParsingErrors() throws Exception {
+        // given
+        IStreamingHttpManager malformed = mock(IStreamingHttpManager.class);
+        given(malformed.get(any(URI.class), any(), any())).willAnswer(invocation -> {
+            ResponseBodyDecoder<?> decoder = invocation.getArgument(2);
+            byte[] body = "{\"id\":".getBytes(StandardCharsets.UTF_8);
+            return decoder.decode(body, 0, body.length);
+        });
+        IStreamingHttpManager rejecting = mock(IStreamingHttpManager.class);
+        RejectedExecutionException rejected = new RejectedExecutionException("executor shut down");
+        given(rejecting.get(any(URI.class), any(), any())).willThrow(rejected);
+
+        // when, then
+        assertThatThrownBy(new TestBuilder(malformed, "https://api.com").build()::execute)
+                .isInstanceOf(OAuthParsingException.class);
+        assertThatThrownBy(new TestBuilder(rejecting, "https://api.com").build()::execute)
+                .isSameAs(rejected);
+    }
+
+    @Test
+    @DisplayName("응답 본문은 한 번만 파싱 - 200 OK 에러는 디코딩 한 번, 401 에러 본문은 스칼라 읽기 한 번")
+    void execute_ParsesEachBodyOnce() throws Exception {
+        // given
+        JsonCodec codec = mock(JsonCodec.class, delegatesTo(GsonJsonCodec.getInstance()));
+        given(httpManager.post(any(URI.class), any(), any())).willReturn(
+                "{\"error\":\"invalid_request\",\"error_description\":\"no valid data in session\"}");
+        NaverTokenRequest naverToken = new NaverTokenRequest.Builder(httpManager, codec)
+                .clientId("ID")
+                .clientSecret("SECRET")
+                .code("CODE")
+                .state("STATE")
+                .build();
+
+        // when, then
+        assertThatThrownBy(naverToken::execute)
+                .isInstanceOf(OAuthResponseException.class)
+                .satisfies(e -> assertThat(((OAuthResponseException) e).getErrorCode()).isEqualTo("invalid_request"));
+        verify(codec).decode(anyString(), eq(NaverTokenResponse.class), any());
+        verifyNoMoreInteractions(codec);
+
+        // given
+        clearInvocations(codec);
+        IHttpManager unauthorized = mock(IHttpManager.class);
+        given(unauthorized.get(any(URI.class), any())).willThrow(new OAuthResponseException(
+                401, null, "{\"msg\":\"this access token does not exist\",\"code\":-401}", "OAuth server returned an error."));
+        KakaoUserRequest kakaoUser = new KakaoUserRequest.Builder(unauthorized, codec).accessToken("TOKEN").build();
+
+        // when, then
+        assertThatThrownBy(kakaoUser::execute)
+                .isInstanceOf(OAuthResponseException.class)
+                .satisfies(e -> assertThat(((OAuthResponseException) e).getErrorCode()).isEqualTo("-401"));
+        verify(codec).readScalars(anyString(), any(String[].class));
+        verifyNoMoreInteractions(codec);
+    }
+}
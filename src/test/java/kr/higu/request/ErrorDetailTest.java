@@ -0,0 +1,64 @@
+package kr.higu.request;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ErrorDetailTest {
+
+    private static final String[] CODE_FIELDS = {"resultcode", "errorCode"};
+    private static final String[] MESSAGE_FIELDS = {"message", "errorMessage"};
+
+    @Test
+    @DisplayName("한 번의 스캔으로 에러 코드/메시지 추출 - 중첩 값은 건너뜀")
+    void fromJson_SkipsNestedValues() throws Exception {
+        // given
+        String body = """
+                {
+                    "meta": {"message": "nested", "list": [1, 2, {"errorCode": "X"}]},
+                    "errorMessage": "fallback message",
+                    "errorCode": "024"
+                }
+                """;
+
+        // when
+        ErrorDetail detail = ErrorDetail.fromJson(body, CODE_FIELDS, "DEFAULT", MESSAGE_FIELDS, "DEFAULT_MESSAGE");
+
+        // then
+        assertThat(detail.errorCode()).isEqualTo("024");
+        assertThat(detail.message()).isEqualTo("fallback message");
+    }
+
+    @Test
+    @DisplayName("필드 우선순위 - 앞선 필드가 있으면 필드 순서와 무관하게 우선")
+    void fromJson_RespectsFieldPreference() throws Exception {
+        String body = """
+                {"errorCode": "second", "resultcode": "first", "message": "msg"}
+                """;
+
+        ErrorDetail detail = ErrorDetail.fromJson(body, CODE_FIELDS, "DEFAULT", MESSAGE_FIELDS, "DEFAULT_MESSAGE");
+
+        assertThat(detail.errorCode()).isEqualTo("first");
+        assertThat(detail.message()).isEqualTo("msg");
+    }
+
+    @Test
+    @DisplayName("숫자 코드는 문자열로, 누락된 필드는 기본값으로")
+    void fromJson_NumberCodeAndDefaults() throws Exception {
+        ErrorDetail detail = ErrorDetail.fromJson("{\"code\": -401}",
+                new String[]{"code"}, "DEFAULT", new String[]{"msg"}, "DEFAULT_MESSAGE");
+
+        assertThat(detail.errorCode()).isEqualTo("-401");
+        assertThat(detail.message()).isEqualTo("DEFAULT_MESSAGE");
+    }
+
+    @Test
+    @DisplayName("JSON 객체가 아니면 예외")
+    void fromJson_NotAnObject() {
+        assertThatThrownBy(() -> ErrorDetail.fromJson("<html>Bad Gateway</html>",
+                CODE_FIELDS, "DEFAULT", MESSAGE_FIELDS, "DEFAULT_MESSAGE"))
+                .isInstanceOf(Exception.class);
+    }
+}
@@ -0,0 +1,125 @@
+package kr.higu.request;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FormEncoderTest {
+
+    @Test
+    @DisplayName("한글, 특수문자, 이모지, 공백 인코딩이 URLEncoder와 동일")
+    void params_MatchesUrlEncoder() {
+        // given
+        Map<String, String> params = new LinkedHashMap<>();
+        params.put("name", "강희구");
+        params.put("param", "!@#$%^&*()_+-=[]{}|;':\",./<>?`~");
+        params.put("emoji", "😀 a b");
+        params.put("safe", "azAZ09.-*_");
+        params.put("", "");
+
+        // when
+        String encoded = FormEncoder.forCurrentThread().params(params).asString();
+
+        // then
+        assertThat(encoded).isEqualTo(urlEncode(params));
+    }
+
+    @Test
+    @DisplayName("짝이 없는 서로게이트는 URLEncoder와 같이 '?'로 인코딩")
+    void params_UnpairedSurrogate() {
+        // given
+        Map<String, String> params = Map.of("s", "a\uD83Db\uDE00c\uD83D");
+
+        // when
+        String encoded = FormEncoder.forCurrentThread().params(params).asString();
+
+        // then
+        assertThat(encoded).isEqualTo(urlEncode(params));
+    }
+
+    @Test
+    @DisplayName("무작위 문자열 인코딩이 URLEncoder와 동일")
+    void params_RandomStrings_MatchUrlEncoder() {
+        Random random = new Random(7);
+        for (int i = 0; i < 2_000; i++) {
+            // given
+            Map<String, String> params = new LinkedHashMap<>();
+            params.put(randomString(random), randomString(random));
+            params.put(randomString(random), randomString(random));
+
+            // when
+            byte[] encoded = FormEncoder.forCurrentThread().params(params).toByteArray();
+
+            // then
+            assertThat(new String(encoded, StandardCharsets.US_ASCII)).isEqualTo(urlEncode(params));
+        }
+    }
+
+    @Test
+    @DisplayName("URI와 파라미터를 한 번에 조립하고, 사용 후 버퍼는 비워짐")
+    void raw_AppendsUriAsIs() {
+        // given
+        FormEncoder encoder = FormEncoder.forCurrentThread();
+
+        // when
+        String uri = encoder.raw("https://api.com/path?base=true").raw('&').params(Map.of("p", "a b")).asString();
+
+        // then
+        assertThat(uri).isEqualTo("https://api.com/path?base=true&p=a+b");
+        assertThat(encoder.length()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 스레드는 인코더를 재사용하고, 큰 본문을 인코딩한 뒤에도 다음 인코딩이 올바름")
+    void forCurrentThread_ReusedAcrossRequests() {
+        // given
+        FormEncoder encoder = FormEncoder.forCurrentThread();
+        String large = "가".repeat(8 * 1024);
+        byte[] first = encoder.params(Map.of("code", large)).toByteArray();
+
+        // when
+        FormEncoder next = FormEncoder.forCurrentThread();
+        byte[] second = next.params(Map.of("code", "ABC")).toByteArray();
+
+        // then
+        assertThat(next).isSameAs(encoder);
+        assertThat(new String(first, StandardCharsets.US_ASCII)).isEqualTo(urlEncode(Map.of("code", large)));
+        assertThat(new String(second, StandardCharsets.US_ASCII)).isEqualTo("code=ABC");
+        assertThat(next.length()).isZero();
+    }
+
+    private static String urlEncode(Map<String, String> params) {
+        StringBuilder expected = new StringBuilder();
+        for (Map.Entry<String, String> entry : params.entrySet()) {
+            if (!expected.isEmpty()) {
+                expected.append('&');
+            }
+            expected.append(URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8))
+                    .append('=')
+                    .append(URLEncoder.encode(entry.getValue(), StandardCharsets.UTF_8));
+        }
+        return expected.toString();
+    }
+
+    private static String randomString(Random random) {
+        StringBuilder value = new StringBuilder();
+        int length = random.nextInt(20);
+        for (int i = 0; i < length; i++) {
+            switch (random.nextInt(5)) {
+                case 0 -> value.append((char) random.nextInt(0x80));
+                case 1 -> value.append((char) (0x80 + random.nextInt(0x780)));
+                case 2 -> value.append((char) (0xAC00 + random.nextInt(11172)));
+                case 3 -> value.appendCodePoint(0x1F600 + random.nextInt(80));
+                default -> value.append((char) (0xD800 + random.nextInt(0x800)));
+            }
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,220 @@
+package kr.higu.request;
+
+import kr.higu.IHttpManager;
+import kr.higu.dto.kakao.KakaoTokenResponse;
+import kr.higu.dto.kakao.KakaoUserResponse;
+import kr.higu.dto.naver.NaverTokenResponse;
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.json.JsonCodec;
+import kr.higu.request.kakao.KakaoPropertyKey;
+import kr.higu.request.kakao.KakaoTokenRequest;
+import kr.higu.request.kakao.KakaoUserRequest;
+import kr.higu.request.naver.NaverTokenRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PreparedRequestTest {
+
+    @Mock
+    private IHttpManager httpManager;
+
+    @Test
+    @DisplayName("카카오 토큰 템플릿 - 고정 파라미터에 인가 코드만 바인딩")
+    void kakaoToken_BindsCode() throws Exception {
+        // given
+        given(httpManager.post(any(URI.class), any(), any())).willReturn("{\"access_token\":\"ACCESS\"}");
+        PreparedRequest<KakaoTokenResponse> prepared = new KakaoTokenRequest.Builder(httpManager)
+                .clientId("CLIENT_ID")
+                .redirectUri("http://localhost/callback")
+                .prepare();
+        ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+
+        // when
+        KakaoTokenResponse response = prepared.execute("코드 1");
+
+        // then
+        assertThat(response.accessToken()).isEqualTo("ACCESS");
+        verify(httpManager).post(any(URI.class), any(), bodyCaptor.capture());
+        assertThat(decode(bodyCaptor.getValue())).isEqualTo(Map.of(
+                "grant_type", "authorization_code",
+                "client_id", "CLIENT_ID",
+                "redirect_uri", "http://localhost/callback",
+                "code", "코드 1"));
+    }
+
+    @Test
+    @DisplayName("네이버 토큰 템플릿 - code, state 순서로 바인딩")
+    void naverToken_BindsCodeAndState() throws Exception {
+        // given
+        given(httpManager.post(any(URI.class), any(), any())).willReturn("{\"access_token\":\"ACCESS\"}");
+        PreparedRequest<NaverTokenResponse> prepared = new NaverTokenRequest.Builder(httpManager)
+                .clientId("CLIENT_ID")
+                .clientSecret("SECRET")
+                .prepare();
+        ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+
+        // when
+        prepared.execute("CODE", "STATE");
+
+        // then
+        verify(httpManager).post(any(URI.class), any(), bodyCaptor.capture());
+        assertThat(decode(bodyCaptor.getValue()))
+                .containsEntry("code", "CODE")
+                .containsEntry("state", "STATE")
+                .containsEntry("client_secret", "SECRET");
+    }
+
+    @Test
+    @DisplayName("카카오 사용자 템플릿 - 고정 쿼리에 액세스 토큰 헤더만 바인딩")
+    void kakaoUser_BindsAccessToken() throws Exception {
+        // given
+        given(httpManager.get(any(URI.class), any())).willReturn("{\"id\":1}");
+        PreparedRequest<KakaoUserResponse> prepared = new KakaoUserRequest.Builder(httpManager)
+                .secureResource(true)
+                .propertyKeys(KakaoPropertyKey.EMAIL)
+                .prepare();
+        ArgumentCaptor<URI> uriCaptor = ArgumentCaptor.forClass(URI.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, String>> headersCaptor = ArgumentCaptor.forClass(Map.class);
+
+        // when
+        KakaoUserResponse response = prepared.execute("TOKEN");
+
+        // then
+        assertThat(response.id()).isEqualTo("1");
+        verify(httpManager).get(uriCaptor.capture(), headersCaptor.capture());
+        assertThat(uriCaptor.getValue().getPath()).isEqualTo("/v2/user/me");
+        assertThat(decode(uriCaptor.getValue().getRawQuery())).isEqualTo(Map.of(
+                "secure_resource", "true",
+                "property_keys", "[\"kakao_account.email\"]"));
+        assertThat(new HashMap<>(headersCaptor.getValue())).isEqualTo(Map.of(
+                "Content-Type", "application/x-www-form-urlencoded;charset=utf-8",
+                "Authorization", "Bearer TOKEN"));
+    }
+
+    @Test
+    @DisplayName("카카오 사용자 템플릿 - 고정 쿼리는 생성 시 한 번만 인코딩하고 실행마다 같은 URI를 재사용")
+    void kakaoUser_EncodesStaticPartsOnce() throws Exception {
+        // given
+        JsonCodec codec = mock(JsonCodec.class, delegatesTo(JsonCodec.getDefault()));
+        given(httpManager.get(any(URI.class), any())).willReturn("{\"id\":1}");
+        PreparedRequest<KakaoUserResponse> prepared = new KakaoUserRequest.Builder(httpManager, codec)
+                .propertyKeys(KakaoPropertyKey.EMAIL, KakaoPropertyKey.PROFILE)
+                .prepare();
+        ArgumentCaptor<URI> uriCaptor = ArgumentCaptor.forClass(URI.class);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            prepared.execute("TOKEN" + i);
+        }
+
+        // then
+        verify(httpManager, times(3)).get(uriCaptor.capture(), any());
+        List<URI> uris = uriCaptor.getAllValues();
+        assertThat(uris.get(1)).isSameAs(uris.get(0));
+        assertThat(uris.get(2)).isSameAs(uris.get(0));
+        verify(codec, times(1)).encodeStringArray(any(String[].class));
+    }
+
+    @Test
+    @DisplayName("템플릿 생성 실패 - 고정 파라미터 누락 시 ValidationException 발생")
+    void prepare_Error_When_StaticParam_Is_Missing() {
+        assertThatThrownBy(() -> new KakaoTokenRequest.Builder(httpManager)
+                .redirectUri("http://localhost")
+                .prepare())
+                .isInstanceOf(OAuthValidationException.class)
+                .hasMessageContaining("client_id");
+    }
+
+    @Test
+    @DisplayName("템플릿 실행 실패 - 바인딩 값 누락 또는 개수 불일치 시 ValidationException 발생")
+    void execute_Error_When_Value_Is_Missing() {
+        // given
+        PreparedRequest<NaverTokenResponse> prepared = new NaverTokenRequest.Builder(httpManager)
+                .clientId("CLIENT_ID")
+                .clientSecret("SECRET")
+                .prepare();
+
+        // when, then
+        assertThatThrownBy(() -> prepared.execute("CODE"))
+                .isInstanceOf(OAuthValidationException.class);
+        assertThatThrownBy(() -> prepared.execute("CODE", " "))
+                .isInstanceOf(OAuthValidationException.class)
+                .hasMessageContaining("state");
+    }
+
+    @Test
+    @DisplayName("템플릿 공유 - 여러 스레드에서 동시에 실행해도 각 호출의 값이 섞이지 않음")
+    void execute_ConcurrentCalls() throws Exception {
+        // given
+        IHttpManager echoManager = new IHttpManager() {
+            @Override
+            public String get(URI uri, Map<String, String> headers) {
+                return "{\"id\":\"" + headers.get("Authorization").substring("Bearer ".length()) + "\"}";
+            }
+
+            @Override
+            public String post(URI uri, Map<String, String> headers, String body) {
+                return "{\"access_token\":\"" + decode(body).get("code") + "\"}";
+            }
+        };
+        PreparedRequest<KakaoTokenResponse> token = new KakaoTokenRequest.Builder(echoManager)
+                .clientId("CLIENT_ID")
+                .redirectUri("http://localhost")
+                .prepare();
+        PreparedRequest<KakaoUserResponse> user = new KakaoUserRequest.Builder(echoManager).prepare();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            // when
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                String value = "VALUE" + i;
+                results.add(executor.submit(() -> value.equals(token.execute(value).accessToken())
+                        && value.equals(user.execute(value).id())));
+            }
+
+            // then
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Map<String, String> decode(String form) {
+        Map<String, String> params = new HashMap<>();
+        for (String pair : form.split("&")) {
+            int separator = pair.indexOf('=');
+            params.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+}
@@ -0,0 +1,75 @@
+package kr.higu.request.kakao;
+
+import kr.higu.IHttpManager;
+import kr.higu.dto.kakao.KakaoJwksResponse;
+import kr.higu.exceptions.detailed.OAuthResponseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URI;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class KakaoJwksRequestTest {
+
+    private static final URI JWKS_URI = URI.create("https://kauth.kakao.com/.well-known/jwks.json");
+
+    @Mock
+    private IHttpManager httpManager;
+
+    @Test
+    @DisplayName("카카오 공개키 목록 요청 성공")
+    void execute_Success() throws Exception {
+        // given
+        given(httpManager.get(eq(JWKS_URI), any())).willReturn("""
+                {"keys":[{"kid":"3f96980381e451efad0d2ddd30e3d3","kty":"RSA","alg":"RS256","use":"sig","n":"q8zZ0b","e":"AQAB"}]}
+                """);
+
+        KakaoJwksRequest request = new KakaoJwksRequest.Builder(httpManager).build();
+
+        // when
+        KakaoJwksResponse response = request.execute();
+
+        // then
+        assertThat(response.keys()).hasSize(1);
+        KakaoJwksResponse.Key key = response.keys().get(0);
+        assertThat(key.kid()).isEqualTo("3f96980381e451efad0d2ddd30e3d3");
+        assertThat(key.kty()).isEqualTo("RSA");
+        assertThat(key.alg()).isEqualTo("RS256");
+        assertThat(key.n()).isEqualTo("q8zZ0b");
+        assertThat(key.e()).isEqualTo("AQAB");
+        verify(httpManager).get(JWKS_URI, Map.of());
+    }
+
+    @Test
+    @DisplayName("서버 에러 응답 시 OAuthResponseException")
+    void execute_ServerError() throws Exception {
+        // given
+        String errorJson = """
+                {"error": "server_error", "error_description": "temporarily unavailable"}
+                """;
+        given(httpManager.get(any(URI.class), any()))
+                .willThrow(new OAuthResponseException(503, null, errorJson, "OAuth server returned an error."));
+
+        KakaoJwksRequest request = new KakaoJwksRequest.Builder(httpManager).build();
+
+        // when, then
+        assertThatThrownBy(request::execute)
+                .isInstanceOf(OAuthResponseException.class)
+                .satisfies(e -> {
+                    OAuthResponseException ex = (OAuthResponseException) e;
+                    assertThat(ex.getStatusCode()).isEqualTo(503);
+                    assertThat(ex.getErrorCode()).isEqualTo("server_error");
+                });
+    }
+}
@@ -0,0 +1,121 @@
+package kr.higu.request.kakao;
+
+import kr.higu.IHttpManager;
+import kr.higu.dto.kakao.KakaoTokenResponse;
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.exceptions.detailed.OAuthResponseException;
+import kr.higu.request.PreparedRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class KakaoRefreshTokenRequestTest {
+
+    @Mock
+    private IHttpManager httpManager;
+
+    @Test
+    @DisplayName("카카오 토큰 갱신 성공 - refresh_token grant로 요청")
+    void execute_Success() throws Exception {
+        // given
+        given(httpManager.post(any(URI.class), any(), any())).willReturn("""
+                {
+                    "token_type": "bearer",
+                    "access_token": "NEW_ACCESS",
+                    "expires_in": 43199
+                }
+                """);
+        ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+
+        KakaoRefreshTokenRequest request = new KakaoRefreshTokenRequest.Builder(httpManager)
+                .clientId("TEST_ID")
+                .refreshToken("REFRESH")
+                .build();
+
+        // when
+        KakaoTokenResponse response = request.execute();
+
+        // then
+        assertThat(response.accessToken()).isEqualTo("NEW_ACCESS");
+        assertThat(response.refreshToken()).isNull();
+        verify(httpManager).post(any(URI.class), any(), bodyCaptor.capture());
+        assertThat(bodyCaptor.getValue())
+                .contains("grant_type=refresh_token")
+                .contains("refresh_token=REFRESH")
+                .doesNotContain("client_secret");
+    }
+
+    @Test
+    @DisplayName("카카오 토큰 갱신 실패 - 만료된 refresh token")
+    void execute_InvalidGrant() throws Exception {
+        // given
+        String errorJson = """
+                {
+                    "error": "invalid_grant",
+                    "error_description": "expired_or_invalid_refresh_token",
+                    "error_code": "KOE322"
+                }
+                """;
+        given(httpManager.post(any(URI.class), any(), any()))
+                .willThrow(new OAuthResponseException(400, null, errorJson, "Server Error"));
+
+        KakaoRefreshTokenRequest request = new KakaoRefreshTokenRequest.Builder(httpManager)
+                .clientId("TEST_ID")
+                .refreshToken("EXPIRED")
+                .build();
+
+        // when, then
+        assertThatThrownBy(request::execute)
+                .isInstanceOf(OAuthResponseException.class)
+                .satisfies(e -> {
+                    OAuthResponseException ex = (OAuthResponseException) e;
+                    assertThat(ex.getStatusCode()).isEqualTo(400);
+                    assertThat(ex.getErrorCode()).isEqualTo("KOE322");
+                });
+    }
+
+    @Test
+    @DisplayName("refresh_token 누락 시 빌드 에러")
+    void build_Error_When_RefreshToken_Is_Missing() {
+        // given
+        KakaoRefreshTokenRequest.Builder builder = new KakaoRefreshTokenRequest.Builder(httpManager)
+                .clientId("TEST_ID");
+
+        // when, then
+        assertThatThrownBy(builder::build)
+                .isInstanceOf(OAuthValidationException.class)
+                .hasMessageContaining("refresh_token");
+    }
+
+    @Test
+    @DisplayName("prepare - 호출마다 refresh token을 바인딩")
+    void prepare_BindsRefreshToken() throws Exception {
+        // given
+        given(httpManager.post(any(URI.class), any(), any())).willReturn("""
+                {"access_token": "NEW_ACCESS", "expires_in": 43199}
+                """);
+        ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+        PreparedRequest<KakaoTokenResponse> prepared = new KakaoRefreshTokenRequest.Builder(httpManager)
+                .clientId("TEST_ID")
+                .prepare();
+
+        // when
+        prepared.execute("REFRESH_1");
+
+        // then
+        verify(httpManager).post(any(URI.class), any(), bodyCaptor.capture());
+        assertThat(bodyCaptor.getValue()).contains("refresh_token=REFRESH_1");
+    }
+}
@@ -0,0 +1,89 @@
+package kr.higu.request.kakao;
+
+import kr.higu.IHttpManager;
+import kr.higu.dto.kakao.KakaoTokenInfoResponse;
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.exceptions.detailed.OAuthResponseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URI;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class KakaoTokenInfoRequestTest {
+
+    private static final URI TOKEN_INFO_URI = URI.create("https://kapi.kakao.com/v1/user/access_token_info");
+
+    @Mock
+    private IHttpManager httpManager;
+
+    @Test
+    @DisplayName("카카오 토큰 정보 요청 성공")
+    void execute_Success() throws Exception {
+        // given
+        given(httpManager.get(eq(TOKEN_INFO_URI), any())).willReturn("""
+                {"id": 12345678, "expires_in": 7199, "app_id": 1234}
+                """);
+
+        KakaoTokenInfoRequest request = new KakaoTokenInfoRequest.Builder(httpManager)
+                .accessToken("ACCESS")
+                .build();
+
+        // when
+        KakaoTokenInfoResponse response = request.execute();
+
+        // then
+        assertThat(response.id()).isEqualTo("12345678");
+        assertThat(response.expiresIn()).isEqualTo(7199);
+        assertThat(response.appId()).isEqualTo(1234);
+        verify(httpManager).get(TOKEN_INFO_URI, Map.of("Authorization", "Bearer ACCESS"));
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰 - code -401")
+    void execute_InvalidToken() throws Exception {
+        // given
+        String errorJson = """
+                {"msg": "this access token does not exist", "code": -401}
+                """;
+        given(httpManager.get(any(URI.class), any()))
+                .willThrow(new OAuthResponseException(401, null, errorJson, "OAuth server returned an error."));
+
+        KakaoTokenInfoRequest request = new KakaoTokenInfoRequest.Builder(httpManager)
+                .accessToken("DEAD")
+                .build();
+
+        // when, then
+        assertThatThrownBy(request::execute)
+                .isInstanceOf(OAuthResponseException.class)
+                .satisfies(e -> {
+                    OAuthResponseException ex = (OAuthResponseException) e;
+                    assertThat(ex.getStatusCode()).isEqualTo(401);
+                    assertThat(ex.getErrorCode()).isEqualTo("-401");
+                    assertThat(ex.getMessage()).contains("this access token does not exist");
+                });
+    }
+
+    @Test
+    @DisplayName("액세스 토큰 누락 시 빌드 에러")
+    void build_Error_When_AccessToken_Is_Missing() {
+        // given
+        KakaoTokenInfoRequest.Builder builder = new KakaoTokenInfoRequest.Builder(httpManager);
+
+        // when, then
+        assertThatThrownBy(builder::build)
+                .isInstanceOf(OAuthValidationException.class)
+                .hasMessageContaining("access token");
+    }
+}
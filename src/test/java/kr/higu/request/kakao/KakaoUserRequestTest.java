@@ -11,6 +11,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -120,4 +122,108 @@ class KakaoUserRequestTest {
                     assertThat(ex.getMessage()).contains("no authentication key!");
                 });
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("프로젝션 디코딩 - 요청한 프로퍼티 키의 필드만 디코딩")
+    void execute_ProjectedDecoding() throws Exception {
+        // given
+        String successJson = """
+                {
+                    "id": 12345678,
+                    "connected_at": "2026-01-29T08:56:41Z",
+                    "properties": {
+                        "nickname": "강희구"
+                    },
+                    "kakao_account": {
+                        "profile_nickname_needs_agreement": false,
+                        "profile": {
+                            "nickname": "강희구"
+                        },
+                        "name": "강희구",
+                        "email_needs_agreement": false,
+                        "email": "higu@example.com",
+                        "gender": "male"
+                    }
+                }
+                """;
+        given(httpManager.get(any(URI.class), any())).willReturn(successJson);
+
+        KakaoUserRequest request = new KakaoUserRequest.Builder(httpManager)
+                .accessToken("VALID_TOKEN")
+                .propertyKeys(KakaoPropertyKey.EMAIL, KakaoPropertyKey.PROFILE)
+                .projectedDecoding(true)
+                .build();
+
+        // when
+        KakaoUserResponse response = request.execute();
+
+        // then
+        assertThat(response.id()).isEqualTo("12345678");
+        assertThat(response.connectedAt()).isEqualTo("2026-01-29T08:56:41Z");
+        assertThat(response.kakaoAccount().email()).isEqualTo("higu@example.com");
+        assertThat(response.kakaoAccount().emailNeedsAgreement()).isFalse();
+        assertThat(response.kakaoAccount().profile().nickname()).isEqualTo("강희구");
+        assertThat(response.kakaoAccount().profileNicknameNeedsAgreement()).isFalse();
+        assertThat(response.kakaoAccount().name()).isNull();
+        assertThat(response.kakaoAccount().gender()).isNull();
+        assertThat(response.properties()).isNull();
+    }
+
+    @Test
+    @DisplayName("카카오 사용자 정보 비동기 요청 성공")
+    void executeAsync_Success() throws Exception {
+        // given
+        String successJson = """
+                {
+                    "id": 12345678,
+                    "kakao_account": {
+                        "email": "higu@example.com"
+                    }
+                }
+                """;
+        given(httpManager.getAsync(any(URI.class), any()))
+                .willReturn(CompletableFuture.completedFuture(successJson));
+
+        KakaoUserRequest request = new KakaoUserRequest.Builder(httpManager)
+                .accessToken("VALID_TOKEN")
+                .build();
+
+        // when
+        KakaoUserResponse response = request.executeAsync().join();
+
+        // then
+        assertThat(response.id()).isEqualTo("12345678");
+        assertThat(response.kakaoAccount().email()).isEqualTo("higu@example.com");
+    }
+
+    @Test
+    @DisplayName("카카오 사용자 정보 비동기 요청 에러 - 동기 요청과 동일한 에러 파싱")
+    void executeAsync_Kapi_Error() throws Exception {
+        // given
+        String errorJson = """
+                {
+                    "msg": "no authentication key!",
+                    "code": -401
+                }
+                """;
+        given(httpManager.getAsync(any(URI.class), any()))
+                .willReturn(CompletableFuture.failedFuture(
+                        new CompletionException(new OAuthResponseException(401, null, errorJson, "Unauthorized"))));
+
+        KakaoUserRequest request = new KakaoUserRequest.Builder(httpManager)
+                .accessToken("EXPIRED_TOKEN")
+                .build();
+
+        // when, then
+        assertThatThrownBy(() -> request.executeAsync().join())
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOf(OAuthResponseException.class)
+                .satisfies(e -> {
+                    OAuthResponseException ex = (OAuthResponseException) e;
+                    assertThat(ex.getStatusCode()).isEqualTo(401);
+                    assertThat(ex.getErrorCode()).isEqualTo("-401");
+                    assertThat(ex.getMessage()).contains("no authentication key!");
+                });
+    }
+}
@@ -0,0 +1,99 @@
+package kr.higu.request.naver;
+
+import kr.higu.IHttpManager;
+import kr.higu.dto.naver.NaverTokenResponse;
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.exceptions.detailed.OAuthResponseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NaverRefreshTokenRequestTest {
+
+    @Mock
+    private IHttpManager httpManager;
+
+    @Test
+    @DisplayName("네이버 토큰 갱신 성공 - refresh_token grant로 요청")
+    void execute_Success() throws Exception {
+        // given
+        given(httpManager.post(any(URI.class), any(), any())).willReturn("""
+                {
+                    "access_token": "NEW_ACCESS",
+                    "token_type": "bearer",
+                    "expires_in": "3600"
+                }
+                """);
+        ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+
+        NaverRefreshTokenRequest request = new NaverRefreshTokenRequest.Builder(httpManager)
+                .clientId("ID")
+                .clientSecret("SECRET")
+                .refreshToken("REFRESH")
+                .build();
+
+        // when
+        NaverTokenResponse response = request.execute();
+
+        // then
+        assertThat(response.accessToken()).isEqualTo("NEW_ACCESS");
+        assertThat(response.expiresIn()).isEqualTo("3600");
+        verify(httpManager).post(any(URI.class), any(), bodyCaptor.capture());
+        assertThat(bodyCaptor.getValue())
+                .contains("grant_type=refresh_token")
+                .contains("refresh_token=REFRESH");
+    }
+
+    @Test
+    @DisplayName("200 OK인데 바디에 에러가 있는 경우")
+    void execute_Error_With_200_Ok() throws Exception {
+        // given
+        given(httpManager.post(any(URI.class), any(), any())).willReturn("""
+                {
+                    "error": "invalid_request",
+                    "error_description": "invalid refresh_token"
+                }
+                """);
+
+        NaverRefreshTokenRequest request = new NaverRefreshTokenRequest.Builder(httpManager)
+                .clientId("ID")
+                .clientSecret("SECRET")
+                .refreshToken("EXPIRED")
+                .build();
+
+        // when, then
+        assertThatThrownBy(request::execute)
+                .isInstanceOf(OAuthResponseException.class)
+                .satisfies(e -> {
+                    OAuthResponseException ex = (OAuthResponseException) e;
+                    assertThat(ex.getStatusCode()).isEqualTo(200);
+                    assertThat(ex.getErrorCode()).isEqualTo("invalid_request");
+                });
+    }
+
+    @Test
+    @DisplayName("client_secret 누락 시 빌드 에러")
+    void build_Error_When_ClientSecret_Is_Missing() {
+        // given
+        NaverRefreshTokenRequest.Builder builder = new NaverRefreshTokenRequest.Builder(httpManager)
+                .clientId("ID")
+                .refreshToken("REFRESH");
+
+        // when, then
+        assertThatThrownBy(builder::build)
+                .isInstanceOf(OAuthValidationException.class)
+                .hasMessageContaining("client_secret");
+    }
+}
@@ -1,6 +1,8 @@
 package kr.higu.request.naver;
 
 import kr.higu.IHttpManager;
+import kr.higu.IStreamingHttpManager;
+import kr.higu.ResponseBodyDecoder;
 import kr.higu.dto.naver.NaverTokenResponse;
 import kr.higu.exceptions.OAuthValidationException;
 import kr.higu.exceptions.detailed.OAuthParsingException;
@@ -11,12 +13,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayInputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
 @ExtendWith(MockitoExtension.class)
 class NaverTokenRequestTest {
@@ -119,4 +124,39 @@ class NaverTokenRequestTest {
                 .isInstanceOf(OAuthParsingException.class)
                 .hasMessageContaining("Failed to parse NaverTokenResponse response");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("스트리밍 매니저 - 200 OK인데 바디에 에러가 있는 경우")
+    void execute_Error_With_200_Ok_Streaming() throws Exception {
+        // given
+        String errorJson = """
+                {
+                    "error": "invalid_request",
+                    "error_description": "no valid data in session"
+                }
+                """;
+        IStreamingHttpManager streamingManager = mock(IStreamingHttpManager.class);
+        given(streamingManager.post(any(URI.class), any(), any(), any())).willAnswer(invocation -> {
+            ResponseBodyDecoder<?> decoder = invocation.getArgument(3);
+            return decoder.decode(new ByteArrayInputStream(errorJson.getBytes(StandardCharsets.UTF_8)));
+        });
+
+        NaverTokenRequest request = new NaverTokenRequest.Builder(streamingManager)
+                .clientId("ID")
+                .clientSecret("SECRET")
+                .code("CODE")
+                .state("STATE")
+                .build();
+
+        // when, then
+        assertThatThrownBy(request::execute)
+                .isInstanceOf(OAuthResponseException.class)
+                .satisfies(e -> {
+                    OAuthResponseException ex = (OAuthResponseException) e;
+                    assertThat(ex.getStatusCode()).isEqualTo(200);
+                    assertThat(ex.getErrorCode()).isEqualTo("invalid_request");
+                    assertThat(ex.getMessage()).contains("no valid data in session");
+                    assertThat(ex.getRawBody()).contains("invalid_request");
+                });
+    }
+}
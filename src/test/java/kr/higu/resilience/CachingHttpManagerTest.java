@@ -0,0 +1,257 @@
+package kr.higu.resilience;
+
+import kr.higu.IHttpManager;
+import kr.higu.exceptions.detailed.OAuthCircuitOpenException;
+import kr.higu.exceptions.detailed.OAuthResponseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CachingHttpManagerTest {
+
+    private static final URI KAKAO_USER_URI = URI.create("https://kapi.kakao.com/v2/user/me");
+    private static final URI NAVER_USER_URI = URI.create("https://openapi.naver.com/v1/nid/me");
+    private static final URI TOKEN_URI = URI.create("https://kauth.kakao.com/oauth/token");
+
+    @Mock
+    private IHttpManager httpManager;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private CachingHttpManager newManager(CacheConfig config) {
+        return new CachingHttpManager(httpManager, config, clock::get);
+    }
+
+    private static Map<String, String> bearer(String token) {
+        return Map.of("Authorization", "Bearer " + token);
+    }
+
+    @Test
+    @DisplayName("같은 토큰의 사용자 정보는 TTL 동안 캐시에서 응답하고, 만료되면 다시 요청")
+    void get_SameToken_ServedFromCacheUntilTtl() throws Exception {
+        // given
+        given(httpManager.get(eq(KAKAO_USER_URI), any())).willReturn("{\"id\":1}", "{\"id\":1,\"v\":2}");
+        CachingHttpManager manager = newManager(CacheConfig.builder().ttl(Duration.ofMinutes(5)).build());
+
+        // when
+        String first = manager.get(KAKAO_USER_URI, bearer("TOKEN_A"));
+        clock.addAndGet(Duration.ofMinutes(5).minusNanos(1).toNanos());
+        String cached = manager.get(KAKAO_USER_URI, bearer("TOKEN_A"));
+        clock.addAndGet(1);
+        String refreshed = manager.get(KAKAO_USER_URI, bearer("TOKEN_A"));
+
+        // then
+        assertThat(first).isEqualTo("{\"id\":1}");
+        assertThat(cached).isEqualTo("{\"id\":1}");
+        assertThat(refreshed).isEqualTo("{\"id\":1,\"v\":2}");
+        verify(httpManager, times(2)).get(eq(KAKAO_USER_URI), any());
+        assertThat(manager.stats().hits()).isEqualTo(1);
+        assertThat(manager.stats().misses()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("토큰이 다르면 다른 항목으로 캐시하고, 토큰 발급 요청은 캐시하지 않음")
+    void get_DifferentTokensAndOtherRequests_NotShared() throws Exception {
+        // given
+        given(httpManager.get(eq(NAVER_USER_URI), eq(bearer("TOKEN_A")))).willReturn("{\"resultcode\":\"00\",\"response\":{\"id\":\"a\"}}");
+        given(httpManager.get(eq(NAVER_USER_URI), eq(bearer("TOKEN_B")))).willReturn("{\"resultcode\":\"00\",\"response\":{\"id\":\"b\"}}");
+        given(httpManager.get(eq(TOKEN_URI), any())).willReturn("{}");
+        CachingHttpManager manager = newManager(CacheConfig.ofDefaults());
+
+        // when
+        String a = manager.get(NAVER_USER_URI, bearer("TOKEN_A"));
+        String b = manager.get(NAVER_USER_URI, bearer("TOKEN_B"));
+        manager.get(TOKEN_URI, Map.of());
+        manager.get(TOKEN_URI, Map.of());
+
+        // then
+        assertThat(a).contains("\"a\"");
+        assertThat(b).contains("\"b\"");
+        assertThat(manager.size()).isEqualTo(2);
+        verify(httpManager, times(2)).get(eq(TOKEN_URI), any());
+    }
+
+    @Test
+    @DisplayName("제공자 장애 시 만료된 응답을 대신 제공하지만, 토큰 오류는 그대로 전달")
+    void get_ProviderFailure_ServesStale() throws Exception {
+        // given
+        given(httpManager.get(eq(KAKAO_USER_URI), any()))
+                .willReturn("{\"id\":1}")
+                .willThrow(new OAuthResponseException(503, null, "", "Service Unavailable"))
+                .willThrow(new OAuthResponseException(401, "-401", "{\"code\":-401}", "Unauthorized"));
+        CachingHttpManager manager = newManager(CacheConfig.builder()
+                .ttl(Duration.ofMinutes(5))
+                .staleIfError(Duration.ofHours(1))
+                .build());
+        manager.get(KAKAO_USER_URI, bearer("TOKEN_A"));
+        clock.addAndGet(Duration.ofMinutes(30).toNanos());
+
+        // when & then
+        assertThat(manager.get(KAKAO_USER_URI, bearer("TOKEN_A"))).isEqualTo("{\"id\":1}");
+        assertThat(manager.stats().staleHits()).isEqualTo(1);
+        assertThatThrownBy(() -> manager.get(KAKAO_USER_URI, bearer("TOKEN_A")))
+                .isInstanceOf(OAuthResponseException.class);
+    }
+
+    @Test
+    @DisplayName("회로가 열려 있으면 비동기 요청에도 만료된 응답을 제공")
+    void getAsync_CircuitOpen_ServesStale() {
+        // given
+        given(httpManager.getAsync(eq(KAKAO_USER_URI), any()))
+                .willReturn(CompletableFuture.completedFuture("{\"id\":1}"))
+                .willReturn(CompletableFuture.failedFuture(new OAuthCircuitOpenException("kapi.kakao.com", Duration.ofSeconds(10))));
+        CachingHttpManager manager = newManager(CacheConfig.builder()
+                .ttl(Duration.ofMinutes(5))
+                .staleIfError(Duration.ofMinutes(10))
+                .build());
+        manager.getAsync(KAKAO_USER_URI, bearer("TOKEN_A")).join();
+        clock.addAndGet(Duration.ofMinutes(6).toNanos());
+
+        // when
+        String response = manager.getAsync(KAKAO_USER_URI, bearer("TOKEN_A")).join();
+
+        // then
+        assertThat(response).isEqualTo("{\"id\":1}");
+        assertThat(manager.stats().staleHits()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시가 가득 차면 자주 요청된 항목을 밀어내는 일회성 토큰은 캐시하지 않음")
+    void get_Full_RejectsLessFrequentCandidates() throws Exception {
+        // given
+        given(httpManager.get(eq(KAKAO_USER_URI), any())).willReturn("{\"id\":1}");
+        CachingHttpManager manager = newManager(CacheConfig.builder().maximumSize(2).build());
+        for (int i = 0; i < 5; i++) {
+            manager.get(KAKAO_USER_URI, bearer("HOT_1"));
+            manager.get(KAKAO_USER_URI, bearer("HOT_2"));
+        }
+
+        // when
+        manager.get(KAKAO_USER_URI, bearer("ONE_OFF"));
+        manager.get(KAKAO_USER_URI, bearer("HOT_1"));
+        manager.get(KAKAO_USER_URI, bearer("HOT_2"));
+
+        // then
+        assertThat(manager.size()).isEqualTo(2);
+        assertThat(manager.stats().rejections()).isEqualTo(1);
+        assertThat(manager.stats().evictions()).isZero();
+        verify(httpManager, times(3)).get(eq(KAKAO_USER_URI), any());
+    }
+
+    @Test
+    @DisplayName("가득 찬 캐시의 교체 대상은 가장 오래 전에 사용된 항목 - 먼저 저장됐어도 최근에 읽힌 항목은 유지")
+    void get_Full_VictimIsLeastRecentlyUsed() throws Exception {
+        // given
+        given(httpManager.get(eq(KAKAO_USER_URI), any())).willReturn("{\"id\":1}");
+        CachingHttpManager manager = newManager(CacheConfig.builder().maximumSize(2).build());
+        for (int i = 0; i < 3; i++) {
+            manager.get(KAKAO_USER_URI, bearer("TOKEN_A"));
+        }
+        manager.get(KAKAO_USER_URI, bearer("TOKEN_B"));
+        manager.get(KAKAO_USER_URI, bearer("TOKEN_A"));
+
+        // when: TOKEN_C becomes more frequent than TOKEN_B, the least recently used entry
+        manager.get(KAKAO_USER_URI, bearer("TOKEN_C"));
+        manager.get(KAKAO_USER_URI, bearer("TOKEN_C"));
+        manager.get(KAKAO_USER_URI, bearer("TOKEN_C"));
+        manager.get(KAKAO_USER_URI, bearer("TOKEN_A"));
+
+        // then
+        assertThat(manager.stats().rejections()).isEqualTo(1);
+        assertThat(manager.stats().evictions()).isEqualTo(1);
+        assertThat(manager.stats().hits()).isEqualTo(5);
+        verify(httpManager, times(4)).get(eq(KAKAO_USER_URI), any());
+    }
+
+    @Test
+    @DisplayName("일회성 토큰이 대량으로 지나가도 자주 쓰는 토큰은 계속 캐시에서 응답 - 같은 크기의 LRU라면 모두 밀려남")
+    void get_OneOffScan_KeepsHotEntries() throws Exception {
+        // given
+        given(httpManager.get(eq(KAKAO_USER_URI), any())).willReturn("{\"id\":1}");
+        CachingHttpManager manager = newManager(CacheConfig.builder().maximumSize(10).build());
+        for (int round = 0; round < 3; round++) {
+            for (int hot = 0; hot < 5; hot++) {
+                manager.get(KAKAO_USER_URI, bearer("HOT_" + hot));
+            }
+        }
+        long hitsBefore = manager.stats().hits();
+
+        // when: each round, 20 new tokens pass through a cache of 10 before the 5 hot tokens come back
+        int oneOff = 0;
+        for (int round = 0; round < 50; round++) {
+            for (int i = 0; i < 20; i++) {
+                manager.get(KAKAO_USER_URI, bearer("ONE_OFF_" + oneOff++));
+            }
+            for (int hot = 0; hot < 5; hot++) {
+                manager.get(KAKAO_USER_URI, bearer("HOT_" + hot));
+            }
+        }
+
+        // then
+        assertThat(manager.stats().hits() - hitsBefore).isEqualTo(250);
+        assertThat(manager.size()).isEqualTo(10);
+        verify(httpManager, times(5 + 1_000)).get(eq(KAKAO_USER_URI), any());
+    }
+
+    @Test
+    @DisplayName("가득 찬 캐시에서 한 항목만 갱신된 뒤 나머지가 만료되면 그 자리를 새 항목에 내줌")
+    void get_RenewedEntry_DoesNotPinExpiredOnes() throws Exception {
+        // given
+        given(httpManager.get(eq(KAKAO_USER_URI), any())).willReturn("{\"id\":1}");
+        CachingHttpManager manager = newManager(CacheConfig.builder()
+                .ttl(Duration.ofMinutes(5))
+                .maximumSize(3)
+                .build());
+        manager.get(KAKAO_USER_URI, bearer("TOKEN_A"));
+        manager.get(KAKAO_USER_URI, bearer("TOKEN_B"));
+        manager.get(KAKAO_USER_URI, bearer("TOKEN_C"));
+        clock.addAndGet(Duration.ofMinutes(5).toNanos());
+        manager.get(KAKAO_USER_URI, bearer("TOKEN_A"));
+
+        // when
+        manager.get(KAKAO_USER_URI, bearer("TOKEN_D"));
+        manager.get(KAKAO_USER_URI, bearer("TOKEN_E"));
+        manager.get(KAKAO_USER_URI, bearer("TOKEN_D"));
+        manager.get(KAKAO_USER_URI, bearer("TOKEN_E"));
+        manager.get(KAKAO_USER_URI, bearer("TOKEN_A"));
+
+        // then
+        assertThat(manager.size()).isEqualTo(3);
+        assertThat(manager.stats().evictions()).isEqualTo(2);
+        assertThat(manager.stats().rejections()).isZero();
+        assertThat(manager.stats().hits()).isEqualTo(3);
+        verify(httpManager, times(6)).get(eq(KAKAO_USER_URI), any());
+    }
+
+    @Test
+    @DisplayName("디코더를 쓰는 호출도 캐시된 응답 바이트로 디코딩")
+    void get_Decoder_DecodesCachedBytes() throws Exception {
+        // given
+        given(httpManager.get(eq(KAKAO_USER_URI), any())).willReturn("{\"id\":1}");
+        CachingHttpManager manager = newManager(CacheConfig.ofDefaults());
+        manager.get(KAKAO_USER_URI, bearer("TOKEN_A"));
+
+        // when
+        Integer length = manager.get(KAKAO_USER_URI, bearer("TOKEN_A"), body -> body.readAllBytes().length);
+
+        // then
+        assertThat(length).isEqualTo("{\"id\":1}".length());
+        verify(httpManager, times(1)).get(eq(KAKAO_USER_URI), any());
+    }
+}
@@ -0,0 +1,108 @@
+package kr.higu.resilience;
+
+import kr.higu.IHttpManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the hit rate of {@link CachingHttpManager} under a Zipfian access-token workload
+ * with the hit rate an LRU cache of the same size achieves on the same sequence.
+ */
+@Tag("benchmark")
+class CachingHttpManagerZipfTest {
+
+    private static final URI USER_URI = URI.create("https://kapi.kakao.com/v2/user/me");
+    private static final int TOKENS = 10_000;
+    private static final double SKEW = 0.99;
+    private static final int WARMUP = 20_000;
+    private static final int LOOKUPS = 100_000;
+
+    @Test
+    @DisplayName("Zipf 분포 토큰에서 TinyLFU 적중률이 같은 크기의 LRU 이상")
+    void get_ZipfianTokens_HitRateAtLeastLru() throws Exception {
+        // given
+        @SuppressWarnings("unchecked")
+        Map<String, String>[] headers = new Map[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            headers[i] = Map.of("Authorization", "Bearer token-" + i);
+        }
+        int[] sequence = zipf(WARMUP + LOOKUPS, new SplittableRandom(42));
+
+        for (int size : new int[]{100, 1_000}) {
+            // when
+            double hitRate = hitRate(sequence, headers, size);
+
+            // then
+            assertThat(hitRate).as("hit rate at size %d", size).isGreaterThanOrEqualTo(lruHitRate(sequence, size));
+        }
+    }
+
+    private static double hitRate(int[] sequence, Map<String, String>[] headers, int size) throws Exception {
+        IHttpManager provider = new IHttpManager() {
+            @Override
+            public String get(URI uri, Map<String, String> ignored) {
+                return "{\"id\":1}";
+            }
+
+            @Override
+            public String post(URI uri, Map<String, String> ignored, String body) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        CachingHttpManager manager = new CachingHttpManager(provider, CacheConfig.builder().maximumSize(size).build());
+        for (int i = 0; i < WARMUP; i++) {
+            manager.get(USER_URI, headers[sequence[i]]);
+        }
+        long hitsBefore = manager.stats().hits();
+        for (int i = WARMUP; i < sequence.length; i++) {
+            manager.get(USER_URI, headers[sequence[i]]);
+        }
+        return (double) (manager.stats().hits() - hitsBefore) / LOOKUPS;
+    }
+
+    /**
+     * Draws token indexes following a Zipf distribution by inverting its cumulative distribution.
+     */
+    private static int[] zipf(int count, SplittableRandom random) {
+        double[] cumulative = new double[TOKENS];
+        double sum = 0;
+        for (int i = 0; i < TOKENS; i++) {
+            sum += 1 / Math.pow(i + 1, SKEW);
+            cumulative[i] = sum;
+        }
+        int[] sequence = new int[count];
+        for (int i = 0; i < count; i++) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            sequence[i] = index < 0 ? -index - 1 : index;
+        }
+        return sequence;
+    }
+
+    private static double lruHitRate(int[] sequence, int size) {
+        Map<Integer, Boolean> lru = new LinkedHashMap<>(size * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Boolean> eldest) {
+                return size() > size;
+            }
+        };
+        long hits = 0;
+        for (int i = 0; i < sequence.length; i++) {
+            boolean hit = lru.get(sequence[i]) != null;
+            if (!hit) {
+                lru.put(sequence[i], Boolean.TRUE);
+            } else if (i >= WARMUP) {
+                hits++;
+            }
+        }
+        return (double) hits / LOOKUPS;
+    }
+}
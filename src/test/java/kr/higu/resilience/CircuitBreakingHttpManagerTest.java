@@ -0,0 +1,188 @@
+package kr.higu.resilience;
+
+import kr.higu.IHttpManager;
+import kr.higu.exceptions.detailed.OAuthCircuitOpenException;
+import kr.higu.exceptions.detailed.OAuthNetworkException;
+import kr.higu.exceptions.detailed.OAuthResponseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CircuitBreakingHttpManagerTest {
+
+    private static final URI KAKAO_USER_URI = URI.create("https://kapi.kakao.com/v2/user/me");
+    private static final URI NAVER_USER_URI = URI.create("https://openapi.naver.com/v1/nid/me");
+
+    @Mock
+    private IHttpManager httpManager;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private final CircuitBreakerConfig config = CircuitBreakerConfig.builder()
+            .failureRateThreshold(50)
+            .slowCallRateThreshold(50, Duration.ofSeconds(1))
+            .slidingWindow(4, 4)
+            .waitDurationInOpenState(Duration.ofSeconds(10))
+            .permittedCallsInHalfOpenState(2)
+            .build();
+
+    private CircuitBreakingHttpManager newManager() {
+        return new CircuitBreakingHttpManager(httpManager, config, clock::get);
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 회로가 열리고 요청을 보내지 않고 즉시 실패")
+    void get_FailureRateExceeded_OpensCircuit() throws Exception {
+        // given
+        given(httpManager.get(eq(KAKAO_USER_URI), any()))
+                .willReturn("{}")
+                .willThrow(new OAuthNetworkException("Failed to connect to the OAuth server.", null))
+                .willReturn("{}")
+                .willThrow(new OAuthResponseException(503, null, "", "Service Unavailable"));
+        CircuitBreakingHttpManager manager = newManager();
+        for (int i = 0; i < 4; i++) {
+            try {
+                manager.get(KAKAO_USER_URI, Map.of());
+            } catch (OAuthNetworkException | OAuthResponseException ignored) {
+            }
+        }
+
+        // when & then
+        assertThat(manager.state("kapi.kakao.com")).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> manager.get(KAKAO_USER_URI, Map.of()))
+                .isInstanceOf(OAuthCircuitOpenException.class)
+                .satisfies(e -> {
+                    OAuthCircuitOpenException open = (OAuthCircuitOpenException) e;
+                    assertThat(open.getHost()).isEqualTo("kapi.kakao.com");
+                    assertThat(open.getRetryAfter()).isEqualTo(Duration.ofSeconds(10));
+                });
+        verify(httpManager, times(4)).get(eq(KAKAO_USER_URI), any());
+    }
+
+    @Test
+    @DisplayName("카카오 회로가 열려도 네이버 요청은 영향받지 않음")
+    void get_OpenCircuit_IsolatedPerHost() throws Exception {
+        // given
+        given(httpManager.get(eq(KAKAO_USER_URI), any()))
+                .willThrow(new OAuthNetworkException("Failed to connect to the OAuth server.", null));
+        given(httpManager.get(eq(NAVER_USER_URI), any())).willReturn("{\"resultcode\":\"00\"}");
+        CircuitBreakingHttpManager manager = newManager();
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> manager.get(KAKAO_USER_URI, Map.of())).isInstanceOf(OAuthNetworkException.class);
+        }
+
+        // when
+        String response = manager.get(NAVER_USER_URI, Map.of());
+
+        // then
+        assertThat(manager.state("kapi.kakao.com")).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(manager.state("openapi.naver.com")).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(response).isEqualTo("{\"resultcode\":\"00\"}");
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나면 시험 요청이 성공한 뒤 회로가 닫힘")
+    void get_AfterWaitDuration_HalfOpenTrialsCloseCircuit() throws Exception {
+        // given
+        given(httpManager.get(eq(KAKAO_USER_URI), any()))
+                .willThrow(new OAuthNetworkException("Failed to connect to the OAuth server.", null))
+                .willThrow(new OAuthNetworkException("Failed to connect to the OAuth server.", null))
+                .willThrow(new OAuthNetworkException("Failed to connect to the OAuth server.", null))
+                .willThrow(new OAuthNetworkException("Failed to connect to the OAuth server.", null))
+                .willReturn("{}");
+        CircuitBreakingHttpManager manager = newManager();
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> manager.get(KAKAO_USER_URI, Map.of())).isInstanceOf(OAuthNetworkException.class);
+        }
+
+        // when
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        manager.get(KAKAO_USER_URI, Map.of());
+        assertThat(manager.state("kapi.kakao.com")).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        manager.get(KAKAO_USER_URI, Map.of());
+
+        // then
+        assertThat(manager.state("kapi.kakao.com")).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("시험 요청이 결과를 보고하지 않아도 대기 시간이 지나면 새 시험 요청을 허용")
+    void getAsync_UnreportedTrials_HalfOpenExpires() throws Exception {
+        // given
+        given(httpManager.get(eq(KAKAO_USER_URI), any()))
+                .willThrow(new OAuthNetworkException("Failed to connect to the OAuth server.", null));
+        given(httpManager.getAsync(eq(KAKAO_USER_URI), any())).willReturn(new CompletableFuture<>());
+        CircuitBreakingHttpManager manager = newManager();
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> manager.get(KAKAO_USER_URI, Map.of())).isInstanceOf(OAuthNetworkException.class);
+        }
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        manager.getAsync(KAKAO_USER_URI, Map.of());
+        manager.getAsync(KAKAO_USER_URI, Map.of());
+        assertThatThrownBy(() -> manager.getAsync(KAKAO_USER_URI, Map.of()).join())
+                .hasCauseInstanceOf(OAuthCircuitOpenException.class);
+
+        // when
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        CompletableFuture<String> trial = manager.getAsync(KAKAO_USER_URI, Map.of());
+
+        // then
+        assertThat(trial).isNotDone();
+        assertThat(manager.state("kapi.kakao.com")).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        verify(httpManager, times(3)).getAsync(eq(KAKAO_USER_URI), any());
+    }
+
+    @Test
+    @DisplayName("4xx 응답(토큰 만료 등)은 장애로 집계하지 않음")
+    void get_ClientErrors_DoNotOpenCircuit() throws Exception {
+        // given
+        given(httpManager.get(eq(KAKAO_USER_URI), any()))
+                .willThrow(new OAuthResponseException(401, null, "{\"code\":-401}", "Unauthorized"));
+        CircuitBreakingHttpManager manager = newManager();
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            assertThatThrownBy(() -> manager.get(KAKAO_USER_URI, Map.of())).isInstanceOf(OAuthResponseException.class);
+        }
+
+        // then
+        assertThat(manager.state("kapi.kakao.com")).isEqualTo(CircuitBreaker.State.CLOSED);
+        verify(httpManager, times(8)).get(eq(KAKAO_USER_URI), any());
+    }
+
+    @Test
+    @DisplayName("느린 호출 비율이 임계치를 넘으면 회로가 열림")
+    void get_SlowCallRateExceeded_OpensCircuit() throws Exception {
+        // given
+        willAnswer(invocation -> {
+            clock.addAndGet(Duration.ofSeconds(2).toNanos());
+            return "{}";
+        }).given(httpManager).get(eq(KAKAO_USER_URI), any());
+        CircuitBreakingHttpManager manager = newManager();
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            manager.get(KAKAO_USER_URI, Map.of());
+        }
+
+        // then
+        assertThat(manager.state("kapi.kakao.com")).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+}
@@ -0,0 +1,208 @@
+package kr.higu.resilience;
+
+import kr.higu.IHttpManager;
+import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.detailed.OAuthNetworkException;
+import kr.higu.exceptions.detailed.OAuthRejectedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ConcurrencyLimitingHttpManagerTest {
+
+    private static final URI KAKAO_USER_URI = URI.create("https://kapi.kakao.com/v2/user/me");
+    private static final URI NAVER_USER_URI = URI.create("https://openapi.naver.com/v1/nid/me");
+
+    /**
+     * Blocks GET requests to kapi.kakao.com until released; answers everything else immediately.
+     */
+    private static final class GatedManager implements IHttpManager {
+        final CountDownLatch entered;
+        final CountDownLatch gate = new CountDownLatch(1);
+
+        GatedManager(int expectedCalls) {
+            this.entered = new CountDownLatch(expectedCalls);
+        }
+
+        @Override
+        public String get(URI uri, Map<String, String> headers) throws OAuthException {
+            if (!"kapi.kakao.com".equals(uri.getHost())) {
+                return "{}";
+            }
+            entered.countDown();
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "{}";
+        }
+
+        @Override
+        public String post(URI uri, Map<String, String> headers, String body) throws OAuthException {
+            throw new OAuthNetworkException("Failed to connect to the OAuth server.", null);
+        }
+
+        @Override
+        public CompletableFuture<String> getAsync(URI uri, Map<String, String> headers) {
+            return CompletableFuture.completedFuture("{}");
+        }
+
+        @Override
+        public CompletableFuture<String> postAsync(URI uri, Map<String, String> headers, String body) {
+            return CompletableFuture.completedFuture("{}");
+        }
+    }
+
+    @Test
+    @DisplayName("호스트의 동시 요청 한도를 넘으면 즉시 거절하고 다른 호스트는 영향받지 않음")
+    void get_OverLimit_RejectedPerHost() throws Exception {
+        // given
+        GatedManager gated = new GatedManager(2);
+        ConcurrencyLimitingHttpManager manager = new ConcurrencyLimitingHttpManager(gated,
+                ConcurrencyLimitConfig.builder().limits(2, 1, 10).build());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> manager.get(KAKAO_USER_URI, Map.of()));
+            Future<String> second = executor.submit(() -> manager.get(KAKAO_USER_URI, Map.of()));
+            assertThat(gated.entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // when & then
+            assertThatThrownBy(() -> manager.get(KAKAO_USER_URI, Map.of()))
+                    .isInstanceOf(OAuthRejectedException.class)
+                    .hasMessageContaining("kapi.kakao.com");
+            assertThat(manager.get(NAVER_USER_URI, Map.of())).isEqualTo("{}");
+            assertThat(manager.limiter("kapi.kakao.com").inFlight()).isEqualTo(2);
+
+            gated.gate.countDown();
+            first.get(5, TimeUnit.SECONDS);
+            second.get(5, TimeUnit.SECONDS);
+            assertThat(manager.limiter("kapi.kakao.com").inFlight()).isZero();
+        } finally {
+            gated.gate.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("대기 시간이 설정되면 슬롯이 비워질 때까지 기다린 뒤 실행")
+    void get_BoundedWait_RunsWhenSlotFreed() throws Exception {
+        // given
+        GatedManager gated = new GatedManager(1);
+        ConcurrencyLimitingHttpManager manager = new ConcurrencyLimitingHttpManager(gated,
+                ConcurrencyLimitConfig.builder().limits(1, 1, 10).maxWait(Duration.ofSeconds(5), 1).build());
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<String> first = executor.submit(() -> manager.get(KAKAO_USER_URI, Map.of()));
+            assertThat(gated.entered.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> waiting = executor.submit(() -> manager.get(KAKAO_USER_URI, Map.of()));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (manager.limiter("kapi.kakao.com").queueDepth() == 0 && System.nanoTime() < deadline) {
+                Thread.onSpinWait();
+            }
+
+            // when
+            assertThat(manager.limiter("kapi.kakao.com").queueDepth()).isEqualTo(1);
+            gated.gate.countDown();
+
+            // then
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("{}");
+            assertThat(waiting.get(5, TimeUnit.SECONDS)).isEqualTo("{}");
+            assertThat(manager.limiter("kapi.kakao.com").queueDepth()).isZero();
+        } finally {
+            gated.gate.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("AIMD - 여유 있는 빠른 응답은 한도를 1씩 늘리고, 느린 응답이나 과부하 오류는 한도를 줄임")
+    void limiter_AdjustsLimitWithAimd() {
+        // given
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(ConcurrencyLimitConfig.builder()
+                .limits(10, 2, 12)
+                .latencyThreshold(Duration.ofSeconds(1))
+                .build(), clock::get);
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        // when
+        clock.addAndGet(Duration.ofMillis(50).toNanos());
+        limiter.release(Duration.ofMillis(50).toNanos(), false);
+        int increased = limiter.limit();
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        limiter.release(Duration.ofSeconds(2).toNanos(), false);
+        int afterSlowCall = limiter.limit();
+        clock.addAndGet(Duration.ofMillis(50).toNanos());
+        limiter.release(Duration.ofMillis(50).toNanos(), true);
+        int afterOverload = limiter.limit();
+
+        // then
+        assertThat(increased).isEqualTo(11);
+        assertThat(afterSlowCall).isEqualTo(9);
+        assertThat(afterOverload).isEqualTo(8);
+        assertThat(limiter.inFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("AIMD - 같은 왕복 시간 동안 몰린 느린 응답은 한도를 한 번만 줄임")
+    void limiter_DecreasesOncePerRoundTrip() {
+        // given
+        AtomicLong clock = new AtomicLong();
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(ConcurrencyLimitConfig.builder()
+                .limits(10, 2, 12)
+                .latencyThreshold(Duration.ofSeconds(1))
+                .build(), clock::get);
+        for (int i = 0; i < 6; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+        }
+
+        // when
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        for (int i = 0; i < 5; i++) {
+            limiter.release(Duration.ofSeconds(2).toNanos(), false);
+        }
+        int afterBurst = limiter.limit();
+        assertThat(limiter.tryAcquire()).isTrue();
+        clock.addAndGet(Duration.ofSeconds(2).toNanos());
+        limiter.release(Duration.ofSeconds(2).toNanos(), true);
+        limiter.release(Duration.ofSeconds(4).toNanos(), true);
+
+        // then
+        assertThat(afterBurst).isEqualTo(9);
+        assertThat(limiter.limit()).isEqualTo(8);
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("한도는 최소값 아래로 내려가지 않음")
+    void limiter_NeverBelowMinLimit() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(ConcurrencyLimitConfig.builder()
+                .limits(3, 2, 10)
+                .build());
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire()).isTrue();
+            limiter.release(0, true);
+        }
+
+        // then
+        assertThat(limiter.limit()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,211 @@
+package kr.higu.resilience;
+
+import kr.higu.IHttpManager;
+import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.detailed.OAuthInterruptedException;
+import kr.higu.exceptions.detailed.OAuthNetworkException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HedgingHttpManagerTest {
+
+    private static final URI USER_URI = URI.create("https://kapi.kakao.com/v2/user/me");
+
+    /**
+     * Returns pre-arranged futures for getAsync, in order, and records every POST.
+     */
+    private static class ScriptedManager implements IHttpManager {
+        final List<CompletableFuture<String>> responses = new CopyOnWriteArrayList<>();
+        final AtomicInteger gets = new AtomicInteger();
+        final AtomicInteger posts = new AtomicInteger();
+
+        @Override
+        public String get(URI uri, Map<String, String> headers) throws OAuthException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String post(URI uri, Map<String, String> headers, String body) throws OAuthException {
+            posts.incrementAndGet();
+            throw new OAuthNetworkException("Failed to connect to the OAuth server.", null);
+        }
+
+        @Override
+        public CompletableFuture<String> getAsync(URI uri, Map<String, String> headers) {
+            return responses.get(gets.getAndIncrement());
+        }
+
+        @Override
+        public CompletableFuture<String> postAsync(URI uri, Map<String, String> headers, String body) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private static HedgingPolicy policy(Duration delay, RetryBudget budget) {
+        return HedgingPolicy.builder().delay(delay).budget(budget).build();
+    }
+
+    @Test
+    @DisplayName("첫 요청이 지연되면 헤지 요청의 응답을 사용하고 첫 요청은 취소")
+    void getAsync_SlowPrimary_HedgeWinsAndPrimaryCancelled() {
+        // given
+        ScriptedManager manager = new ScriptedManager();
+        CompletableFuture<String> slow = new CompletableFuture<>();
+        manager.responses.add(slow);
+        manager.responses.add(CompletableFuture.completedFuture("{\"id\":2}"));
+        HedgingHttpManager hedging = new HedgingHttpManager(manager, policy(Duration.ofMillis(10), RetryBudget.of(0.1, 10)));
+
+        // when
+        String response = hedging.getAsync(USER_URI, Map.of()).join();
+
+        // then
+        assertThat(response).isEqualTo("{\"id\":2}");
+        assertThat(manager.gets.get()).isEqualTo(2);
+        assertThat(slow.isCancelled()).isTrue();
+    }
+
+    @Test
+    @DisplayName("첫 요청이 지연 시간 안에 응답하면 헤지 요청을 보내지 않음")
+    void getAsync_FastPrimary_NoHedge() throws Exception {
+        // given
+        ScriptedManager manager = new ScriptedManager();
+        manager.responses.add(CompletableFuture.completedFuture("{\"id\":1}"));
+        HedgingHttpManager hedging = new HedgingHttpManager(manager, policy(Duration.ofMillis(10), RetryBudget.of(0.1, 10)));
+
+        // when
+        String response = hedging.getAsync(USER_URI, Map.of()).join();
+        TimeUnit.MILLISECONDS.sleep(50);
+
+        // then
+        assertThat(response).isEqualTo("{\"id\":1}");
+        assertThat(manager.gets.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("모든 시도가 실패해야 요청이 실패")
+    void getAsync_BothAttemptsFail_FailsWithFirstFailure() {
+        // given
+        ScriptedManager manager = new ScriptedManager();
+        CompletableFuture<String> slowFailure = new CompletableFuture<>();
+        OAuthNetworkException hedgeFailure = new OAuthNetworkException("hedge", null);
+        manager.responses.add(slowFailure);
+        manager.responses.add(CompletableFuture.failedFuture(hedgeFailure));
+        HedgingHttpManager hedging = new HedgingHttpManager(manager, policy(Duration.ZERO, RetryBudget.of(0.1, 10)));
+
+        // when
+        CompletableFuture<String> result = hedging.getAsync(USER_URI, Map.of());
+        await(() -> manager.gets.get() == 2);
+
+        // then
+        assertThat(result).isNotDone();
+        slowFailure.completeExceptionally(new OAuthNetworkException("primary", null));
+        assertThatThrownBy(result::join).hasCause(hedgeFailure);
+    }
+
+    @Test
+    @DisplayName("헤지 예산이 없으면 헤지 요청을 보내지 않음")
+    void getAsync_NoBudget_NoHedge() throws Exception {
+        // given
+        ScriptedManager manager = new ScriptedManager();
+        CompletableFuture<String> slow = new CompletableFuture<>();
+        manager.responses.add(slow);
+        HedgingHttpManager hedging = new HedgingHttpManager(manager, policy(Duration.ZERO, RetryBudget.of(0.0, 0)));
+
+        // when
+        CompletableFuture<String> result = hedging.getAsync(USER_URI, Map.of());
+        TimeUnit.MILLISECONDS.sleep(50);
+        slow.complete("{\"id\":1}");
+
+        // then
+        assertThat(result.join()).isEqualTo("{\"id\":1}");
+        assertThat(manager.gets.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("블로킹 요청도 헤지되고 느린 요청의 스레드는 인터럽트됨")
+    void get_SlowBlockingPrimary_LoserInterrupted() throws Exception {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch loserInterrupted = new CountDownLatch(1);
+        IHttpManager blocking = new ScriptedManager() {
+            @Override
+            public String get(URI uri, Map<String, String> headers) throws OAuthException {
+                if (calls.incrementAndGet() == 1) {
+                    try {
+                        TimeUnit.SECONDS.sleep(10);
+                    } catch (InterruptedException e) {
+                        loserInterrupted.countDown();
+                        throw new OAuthInterruptedException("Request to the OAuth server was interrupted.", e);
+                    }
+                }
+                return "{\"id\":" + calls.get() + "}";
+            }
+        };
+        HedgingHttpManager hedging = new HedgingHttpManager(blocking, policy(Duration.ofMillis(10), RetryBudget.of(0.1, 10)));
+
+        // when
+        String response = hedging.get(USER_URI, Map.of());
+
+        // then
+        assertThat(response).isEqualTo("{\"id\":2}");
+        assertThat(loserInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("POST(토큰 발급)는 헤지하지 않음")
+    void post_NeverHedged() {
+        // given
+        ScriptedManager manager = new ScriptedManager();
+        HedgingHttpManager hedging = new HedgingHttpManager(manager, policy(Duration.ZERO, RetryBudget.of(0.1, 10)));
+
+        // when & then
+        assertThatThrownBy(() -> hedging.post(URI.create("https://kauth.kakao.com/oauth/token"), Map.of(), "code=CODE"))
+                .isInstanceOf(OAuthNetworkException.class);
+        assertThat(manager.posts.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("관측된 지연 시간의 백분위수로 헤지 지연 시간 계산")
+    void delayNanos_PercentileOfObservedLatencies() {
+        // given
+        HedgingPolicy policy = HedgingPolicy.builder()
+                .delay(Duration.ofMillis(200))
+                .percentileDelay(0.95, Duration.ofMillis(5))
+                .build();
+        LatencyHistogram histogram = policy.newHistogram();
+
+        // when
+        long initialDelay = policy.delayNanos(histogram);
+        for (int i = 1; i <= 256; i++) {
+            histogram.record(Duration.ofMillis(i % 100 + 1).toNanos());
+        }
+        long observedDelay = policy.delayNanos(histogram);
+
+        // then
+        assertThat(initialDelay).isEqualTo(Duration.ofMillis(200).toNanos());
+        assertThat(observedDelay).isBetween(Duration.ofMillis(90).toNanos(), Duration.ofMillis(110).toNanos());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                fail("Condition not met in time");
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
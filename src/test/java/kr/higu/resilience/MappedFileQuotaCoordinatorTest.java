@@ -0,0 +1,202 @@
+package kr.higu.resilience;
+
+import kr.higu.IHttpManager;
+import kr.higu.OAuthEndpoint;
+import kr.higu.exceptions.detailed.OAuthRateLimitedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.File;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class MappedFileQuotaCoordinatorTest {
+
+    private static final URI USER_URI = URI.create("https://kapi.kakao.com/v2/user/me");
+    private static final Quota USER_QUOTA = new Quota("kakao:APP_KEY:user", 1_000, Duration.ofDays(3650));
+
+    @TempDir
+    Path tempDir;
+
+    @Mock
+    private IHttpManager httpManager;
+
+    @Test
+    @DisplayName("같은 파일을 연 여러 코디네이터가 동시에 임대해도 한도를 넘지 않음")
+    void lease_ConcurrentMappings_NeverExceedLimit() throws Exception {
+        // given
+        Path file = tempDir.resolve("quota");
+        MappedFileQuotaCoordinator first = MappedFileQuotaCoordinator.open(file);
+        MappedFileQuotaCoordinator second = MappedFileQuotaCoordinator.open(file);
+        AtomicLong granted = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                MappedFileQuotaCoordinator coordinator = i % 2 == 0 ? first : second;
+                futures.add(executor.submit(() -> {
+                    int permits;
+                    do {
+                        permits = coordinator.lease(USER_QUOTA, 7);
+                        granted.addAndGet(permits);
+                    } while (permits > 0);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+            first.close();
+            second.close();
+        }
+
+        // then
+        assertThat(granted.get()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("새 윈도우가 시작되면 임대량이 초기화됨")
+    void lease_NewWindow_ResetsCount() throws Exception {
+        // given
+        AtomicLong clock = new AtomicLong(Duration.ofDays(365).toMillis());
+        Quota quota = new Quota("naver:APP_KEY:token", 10, Duration.ofSeconds(1));
+        try (MappedFileQuotaCoordinator coordinator = MappedFileQuotaCoordinator.open(tempDir.resolve("quota"), 16, clock::get)) {
+            // when
+            int firstWindow = coordinator.lease(quota, 25);
+            int exhausted = coordinator.lease(quota, 1);
+            clock.addAndGet(1_000);
+            int nextWindow = coordinator.lease(quota, 4);
+
+            // then
+            assertThat(firstWindow).isEqualTo(10);
+            assertThat(exhausted).isZero();
+            assertThat(nextWindow).isEqualTo(4);
+            assertThat(coordinator.leased(quota)).isEqualTo(4);
+        }
+    }
+
+    @Test
+    @DisplayName("요청마다가 아니라 청크 단위로 코디네이터에서 임대하고, 소진되면 다음 윈도우까지 거절")
+    void quotaLimitingHttpManager_LeasesInChunks() throws Exception {
+        // given
+        AtomicInteger leaseCalls = new AtomicInteger();
+        Quota quota = new Quota("kakao:APP_KEY:user", 25, Duration.ofDays(3650));
+        QuotaCoordinator counting;
+        try (MappedFileQuotaCoordinator coordinator = MappedFileQuotaCoordinator.open(tempDir.resolve("quota"))) {
+            counting = (q, permits) -> {
+                leaseCalls.incrementAndGet();
+                return coordinator.lease(q, permits);
+            };
+            given(httpManager.get(any(URI.class), any())).willReturn("{}");
+            QuotaLimitingHttpManager manager = new QuotaLimitingHttpManager(
+                    httpManager, counting, Map.of(OAuthEndpoint.KAKAO_API, quota), 10);
+
+            // when
+            for (int i = 0; i < 25; i++) {
+                manager.get(USER_URI, Map.of());
+            }
+
+            // then
+            assertThat(leaseCalls.get()).isEqualTo(3);
+            assertThatThrownBy(() -> manager.get(USER_URI, Map.of()))
+                    .isInstanceOf(OAuthRateLimitedException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("쿼터가 소진된 윈도우에서는 코디네이터에 다시 묻지 않고 거절하고, 다음 윈도우에 다시 임대")
+    void quotaLimitingHttpManager_Exhausted_FailsLocallyUntilNextWindow() throws Exception {
+        // given
+        AtomicInteger leaseCalls = new AtomicInteger();
+        AtomicLong clock = new AtomicLong(Duration.ofDays(365).toMillis());
+        Quota quota = new Quota("kakao:APP_KEY:user", 10, Duration.ofSeconds(1));
+        QuotaCoordinator exhausted = (q, permits) -> {
+            leaseCalls.incrementAndGet();
+            return 0;
+        };
+        QuotaLimitingHttpManager manager = new QuotaLimitingHttpManager(
+                httpManager, exhausted, Map.of(OAuthEndpoint.KAKAO_API, quota), 10, clock::get);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            assertThatThrownBy(() -> manager.get(USER_URI, Map.of()))
+                    .isInstanceOf(OAuthRateLimitedException.class);
+        }
+        int callsInFirstWindow = leaseCalls.get();
+        clock.addAndGet(1_000);
+        assertThatThrownBy(() -> manager.get(USER_URI, Map.of()))
+                .isInstanceOf(OAuthRateLimitedException.class);
+
+        // then
+        assertThat(callsInFirstWindow).isEqualTo(1);
+        assertThat(leaseCalls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @Tag("integration")
+    @DisplayName("여러 JVM 프로세스가 같은 파일로 쿼터를 나눠 써도 한도를 넘지 않음")
+    void lease_SeveralJvms_NeverExceedLimit() throws Exception {
+        // given
+        Path file = tempDir.resolve("quota");
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        List<Process> processes = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            processes.add(new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                    LeaseWorker.class.getName(), file.toString())
+                    .redirectErrorStream(true)
+                    .start());
+        }
+        long total = 0;
+        for (Process process : processes) {
+            assertThat(process.waitFor(30, TimeUnit.SECONDS)).isTrue();
+            total += Long.parseLong(new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim());
+        }
+
+        // then
+        assertThat(total).isEqualTo(USER_QUOTA.limit());
+    }
+
+    /**
+     * Leases until the quota is exhausted and prints the number of permits obtained.
+     */
+    static final class LeaseWorker {
+        public static void main(String[] args) throws Exception {
+            long granted = 0;
+            try (MappedFileQuotaCoordinator coordinator = MappedFileQuotaCoordinator.open(new File(args[0]).toPath())) {
+                int permits;
+                do {
+                    permits = coordinator.lease(USER_QUOTA, 3);
+                    granted += permits;
+                } while (permits > 0);
+            }
+            System.out.println(granted);
+        }
+    }
+}
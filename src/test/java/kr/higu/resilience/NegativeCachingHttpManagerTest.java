@@ -0,0 +1,120 @@
+package kr.higu.resilience;
+
+import kr.higu.IHttpManager;
+import kr.higu.exceptions.detailed.OAuthNetworkException;
+import kr.higu.exceptions.detailed.OAuthResponseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NegativeCachingHttpManagerTest {
+
+    private static final URI KAKAO_USER_URI = URI.create("https://kapi.kakao.com/v2/user/me");
+    private static final URI NAVER_USER_URI = URI.create("https://openapi.naver.com/v1/nid/me");
+    private static final String KAKAO_INVALID_TOKEN = "{\"msg\":\"this access token does not exist\",\"code\":-401}";
+    private static final String NAVER_INVALID_TOKEN = "{\"resultcode\":\"024\",\"message\":\"Authentication failed\"}";
+
+    @Mock
+    private IHttpManager httpManager;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private NegativeCachingHttpManager newManager() {
+        return new NegativeCachingHttpManager(httpManager, Duration.ofMinutes(1), 1_000, clock::get);
+    }
+
+    private static Map<String, String> bearer(String token) {
+        return Map.of("Authorization", "Bearer " + token);
+    }
+
+    @Test
+    @DisplayName("거절된 토큰은 TTL 동안 요청을 보내지 않고 같은 상태와 본문으로 실패")
+    void get_RejectedToken_FailsLocallyUntilTtl() throws Exception {
+        // given
+        given(httpManager.get(eq(KAKAO_USER_URI), any()))
+                .willThrow(new OAuthResponseException(401, null, KAKAO_INVALID_TOKEN, "OAuth server returned an error."));
+        NegativeCachingHttpManager manager = newManager();
+        assertThatThrownBy(() -> manager.get(KAKAO_USER_URI, bearer("DEAD"))).isInstanceOf(OAuthResponseException.class);
+
+        // when & then
+        assertThatThrownBy(() -> manager.get(KAKAO_USER_URI, bearer("DEAD")))
+                .isInstanceOf(OAuthResponseException.class)
+                .satisfies(e -> {
+                    OAuthResponseException cached = (OAuthResponseException) e;
+                    assertThat(cached.getStatusCode()).isEqualTo(401);
+                    assertThat(cached.getRawBody()).isEqualTo(KAKAO_INVALID_TOKEN);
+                });
+        verify(httpManager, times(1)).get(eq(KAKAO_USER_URI), any());
+
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+        assertThatThrownBy(() -> manager.get(KAKAO_USER_URI, bearer("DEAD"))).isInstanceOf(OAuthResponseException.class);
+        verify(httpManager, times(2)).get(eq(KAKAO_USER_URI), any());
+    }
+
+    @Test
+    @DisplayName("다른 토큰은 영향을 받지 않음")
+    void get_OtherToken_NotAffected() throws Exception {
+        // given
+        given(httpManager.get(eq(NAVER_USER_URI), eq(bearer("DEAD"))))
+                .willThrow(new OAuthResponseException(401, null, NAVER_INVALID_TOKEN, "OAuth server returned an error."));
+        given(httpManager.get(eq(NAVER_USER_URI), eq(bearer("ALIVE")))).willReturn("{\"resultcode\":\"00\"}");
+        NegativeCachingHttpManager manager = newManager();
+        assertThatThrownBy(() -> manager.get(NAVER_USER_URI, bearer("DEAD"))).isInstanceOf(OAuthResponseException.class);
+
+        // when & then
+        assertThat(manager.get(NAVER_USER_URI, bearer("ALIVE"))).isEqualTo("{\"resultcode\":\"00\"}");
+    }
+
+    @Test
+    @DisplayName("5xx 응답과 네트워크 오류는 캐시하지 않음")
+    void get_TransientFailures_NotCached() throws Exception {
+        // given
+        given(httpManager.get(eq(KAKAO_USER_URI), any()))
+                .willThrow(new OAuthResponseException(503, null, "", "Service Unavailable"))
+                .willThrow(new OAuthNetworkException("Failed to connect to the OAuth server.", null))
+                .willReturn("{\"id\":1}");
+        NegativeCachingHttpManager manager = newManager();
+
+        // when
+        assertThatThrownBy(() -> manager.get(KAKAO_USER_URI, bearer("TOKEN"))).isInstanceOf(OAuthResponseException.class);
+        assertThatThrownBy(() -> manager.get(KAKAO_USER_URI, bearer("TOKEN"))).isInstanceOf(OAuthNetworkException.class);
+        String response = manager.get(KAKAO_USER_URI, bearer("TOKEN"));
+
+        // then
+        assertThat(response).isEqualTo("{\"id\":1}");
+        verify(httpManager, times(3)).get(eq(KAKAO_USER_URI), any());
+    }
+
+    @Test
+    @DisplayName("비동기 요청에서 거절된 토큰도 이후 요청을 즉시 실패시킴")
+    void getAsync_RejectedToken_FailsLocally() {
+        // given
+        given(httpManager.getAsync(eq(KAKAO_USER_URI), any())).willReturn(CompletableFuture.failedFuture(
+                new CompletionException(new OAuthResponseException(401, null, KAKAO_INVALID_TOKEN, "OAuth server returned an error."))));
+        NegativeCachingHttpManager manager = newManager();
+        assertThatThrownBy(() -> manager.getAsync(KAKAO_USER_URI, bearer("DEAD")).join())
+                .hasCauseInstanceOf(OAuthResponseException.class);
+
+        // when & then
+        assertThatThrownBy(() -> manager.getAsync(KAKAO_USER_URI, bearer("DEAD")).join())
+                .hasCauseInstanceOf(OAuthResponseException.class);
+        verify(httpManager, times(1)).getAsync(eq(KAKAO_USER_URI), any());
+    }
+}
@@ -0,0 +1,188 @@
+package kr.higu.resilience;
+
+import kr.higu.IHttpManager;
+import kr.higu.OAuthEndpoint;
+import kr.higu.exceptions.detailed.OAuthRateLimitedException;
+import kr.higu.exceptions.detailed.OAuthResponseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URI;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RateLimitingHttpManagerTest {
+
+    private static final URI TOKEN_URI = URI.create("https://kauth.kakao.com/oauth/token");
+    private static final URI USER_URI = URI.create("https://kapi.kakao.com/v2/user/me");
+
+    @Mock
+    private IHttpManager httpManager;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private RateLimitingHttpManager newManager(RateLimitConfig config) {
+        return new RateLimitingHttpManager(httpManager, config, clock::get);
+    }
+
+    @Test
+    @DisplayName("버스트를 넘는 요청은 거절되고 시간이 지나면 다시 허용")
+    void post_OverBurst_RejectedUntilRefilled() throws Exception {
+        // given
+        given(httpManager.post(eq(TOKEN_URI), any(), any())).willReturn("{}");
+        RateLimitingHttpManager manager = newManager(RateLimitConfig.builder()
+                .limit(OAuthEndpoint.KAKAO_AUTH, 10, 2)
+                .maxWait(Duration.ZERO)
+                .build());
+        manager.post(TOKEN_URI, Map.of(), "code=A");
+        manager.post(TOKEN_URI, Map.of(), "code=B");
+
+        // when & then
+        assertThatThrownBy(() -> manager.post(TOKEN_URI, Map.of(), "code=C"))
+                .isInstanceOf(OAuthRateLimitedException.class)
+                .satisfies(e -> assertThat(((OAuthRateLimitedException) e).getRetryAfter()).isEqualTo(Duration.ofMillis(100)));
+
+        clock.addAndGet(Duration.ofMillis(100).toNanos());
+        assertThat(manager.post(TOKEN_URI, Map.of(), "code=C")).isEqualTo("{}");
+        verify(httpManager, times(3)).post(eq(TOKEN_URI), any(), any());
+    }
+
+    @Test
+    @DisplayName("토큰 엔드포인트의 한도는 사용자 정보 엔드포인트에 영향을 주지 않음")
+    void limits_IndependentPerEndpoint() throws Exception {
+        // given
+        given(httpManager.post(eq(TOKEN_URI), any(), any())).willReturn("{}");
+        given(httpManager.get(eq(USER_URI), any())).willReturn("{\"id\":1}");
+        RateLimitingHttpManager manager = newManager(RateLimitConfig.builder()
+                .limit(OAuthEndpoint.KAKAO_AUTH, 1, 1)
+                .maxWait(Duration.ZERO)
+                .build());
+        manager.post(TOKEN_URI, Map.of(), "code=A");
+
+        // when & then
+        assertThatThrownBy(() -> manager.post(TOKEN_URI, Map.of(), "code=B")).isInstanceOf(OAuthRateLimitedException.class);
+        for (int i = 0; i < 10; i++) {
+            assertThat(manager.get(USER_URI, Map.of())).isEqualTo("{\"id\":1}");
+        }
+    }
+
+    @Test
+    @DisplayName("앱 키(client_id)마다 독립된 버킷을 사용하고 앱별 한도를 덮어쓸 수 있음")
+    void post_DifferentClientIds_IndependentBuckets() throws Exception {
+        // given
+        given(httpManager.post(eq(TOKEN_URI), any(), any())).willReturn("{}");
+        RateLimitingHttpManager manager = newManager(RateLimitConfig.builder()
+                .limit(OAuthEndpoint.KAKAO_AUTH, 1, 1)
+                .limit("APP_B", OAuthEndpoint.KAKAO_AUTH, 1, 3)
+                .maxWait(Duration.ZERO)
+                .build());
+        manager.post(TOKEN_URI, Map.of(), "grant_type=authorization_code&client_id=APP_A&code=1");
+
+        // when & then
+        assertThatThrownBy(() -> manager.post(TOKEN_URI, Map.of(), "grant_type=authorization_code&client_id=APP_A&code=2"))
+                .isInstanceOf(OAuthRateLimitedException.class);
+        for (int i = 0; i < 3; i++) {
+            assertThat(manager.post(TOKEN_URI, Map.of(), "client_id=APP_B&code=" + i)).isEqualTo("{}");
+        }
+        assertThatThrownBy(() -> manager.post(TOKEN_URI, Map.of(), "client_id=APP_B&code=3"))
+                .isInstanceOf(OAuthRateLimitedException.class);
+        verify(httpManager, times(4)).post(eq(TOKEN_URI), any(), any());
+    }
+
+    @Test
+    @DisplayName("Retry-After는 응답을 받은 앱의 버킷만 일시 중지")
+    void post_RetryAfter_PausesOnlyThatApp() throws Exception {
+        // given
+        given(httpManager.post(eq(TOKEN_URI), any(), eq("client_id=APP_A"))).willThrow(new OAuthResponseException(
+                429, null, "{}", "Too Many Requests", Map.of("retry-after", List.of("5"))));
+        given(httpManager.post(eq(TOKEN_URI), any(), eq("client_id=APP_B"))).willReturn("{}");
+        RateLimitingHttpManager manager = newManager(RateLimitConfig.builder().maxWait(Duration.ZERO).build());
+
+        // when
+        assertThatThrownBy(() -> manager.post(TOKEN_URI, Map.of(), "client_id=APP_A")).isInstanceOf(OAuthResponseException.class);
+
+        // then
+        assertThat(manager.pausedFor("APP_A", OAuthEndpoint.KAKAO_AUTH)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(manager.pausedFor("APP_B", OAuthEndpoint.KAKAO_AUTH)).isZero();
+        assertThat(manager.pausedFor(OAuthEndpoint.KAKAO_AUTH)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(manager.post(TOKEN_URI, Map.of(), "client_id=APP_B")).isEqualTo("{}");
+    }
+
+    @Test
+    @DisplayName("앱 키는 client_id 파라미터, Bearer가 아닌 Authorization 헤더 순으로 결정")
+    void appKey_FromClientIdOrAppCredential() {
+        // when & then
+        assertThat(RateLimitingHttpManager.appKey("grant_type=x&client_id=ID%201", Map.of(), null)).isEqualTo("ID 1");
+        assertThat(RateLimitingHttpManager.appKey(null, Map.of(), "code=1&client_id=ID&x_client_id=Y")).isEqualTo("ID");
+        assertThat(RateLimitingHttpManager.appKey(null, Map.of(), "x_client_id=Y")).isEmpty();
+        assertThat(RateLimitingHttpManager.appKey(null, Map.of("Authorization", "KakaoAK ADMIN_KEY"), null))
+                .isEqualTo("KakaoAK ADMIN_KEY");
+        assertThat(RateLimitingHttpManager.appKey(null, Map.of("Authorization", "Bearer USER_TOKEN"), null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("429 응답의 Retry-After 동안 해당 엔드포인트 요청을 보내지 않음")
+    void get_RetryAfter_PausesEndpoint() throws Exception {
+        // given
+        given(httpManager.get(eq(USER_URI), any())).willThrow(new OAuthResponseException(
+                429, null, "{\"msg\":\"API limit has been exceeded.\",\"code\":-10}", "Too Many Requests",
+                Map.of("retry-after", List.of("5"))));
+        RateLimitingHttpManager manager = newManager(RateLimitConfig.builder().maxWait(Duration.ZERO).build());
+
+        // when
+        assertThatThrownBy(() -> manager.get(USER_URI, Map.of())).isInstanceOf(OAuthResponseException.class);
+
+        // then
+        assertThat(manager.pausedFor(OAuthEndpoint.KAKAO_API)).isEqualTo(Duration.ofSeconds(5));
+        assertThatThrownBy(() -> manager.get(USER_URI, Map.of()))
+                .isInstanceOf(OAuthRateLimitedException.class)
+                .satisfies(e -> assertThat(((OAuthRateLimitedException) e).getRetryAfter()).isEqualTo(Duration.ofSeconds(5)));
+        verify(httpManager, times(1)).get(eq(USER_URI), any());
+
+        clock.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertThat(manager.pausedFor(OAuthEndpoint.KAKAO_API)).isZero();
+    }
+
+    @Test
+    @DisplayName("Retry-After는 초 단위와 HTTP 날짜 형식을 모두 지원")
+    void parseRetryAfter_SecondsAndHttpDate() {
+        // given
+        ZonedDateTime now = ZonedDateTime.of(2026, 1, 29, 8, 0, 0, 0, ZoneOffset.UTC);
+
+        // when & then
+        assertThat(RateLimitingHttpManager.parseRetryAfterNanos("120", now)).isEqualTo(Duration.ofSeconds(120).toNanos());
+        assertThat(RateLimitingHttpManager.parseRetryAfterNanos("Thu, 29 Jan 2026 08:00:30 GMT", now))
+                .isEqualTo(Duration.ofSeconds(30).toNanos());
+        assertThat(RateLimitingHttpManager.parseRetryAfterNanos("soon", now)).isZero();
+        assertThat(RateLimitingHttpManager.parseRetryAfterNanos(null, now)).isZero();
+    }
+
+    @Test
+    @DisplayName("제공자가 아닌 호스트는 제한하지 않음")
+    void get_UnknownHost_NotLimited() throws Exception {
+        // given
+        URI other = URI.create("https://example.com/resource");
+        given(httpManager.get(eq(other), any())).willReturn("ok");
+        RateLimitingHttpManager manager = newManager(RateLimitConfig.builder().maxWait(Duration.ZERO).build());
+
+        // when & then
+        for (int i = 0; i < 5; i++) {
+            assertThat(manager.get(other, Map.of())).isEqualTo("ok");
+        }
+    }
+}
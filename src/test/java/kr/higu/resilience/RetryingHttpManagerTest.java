@@ -0,0 +1,178 @@
+package kr.higu.resilience;
+
+import kr.higu.IHttpManager;
+import kr.higu.exceptions.OAuthValidationException;
+import kr.higu.exceptions.detailed.OAuthNetworkException;
+import kr.higu.exceptions.detailed.OAuthResponseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RetryingHttpManagerTest {
+
+    private static final URI USER_URI = URI.create("https://kapi.kakao.com/v2/user/me");
+
+    @Mock
+    private IHttpManager httpManager;
+
+    private static RetryPolicy noDelayPolicy(RetryBudget budget) {
+        return RetryPolicy.builder()
+                .maxAttempts(3)
+                .backoff(Duration.ZERO, Duration.ZERO)
+                .budget(budget)
+                .build();
+    }
+
+    @Test
+    @DisplayName("503 응답 후 재시도하여 성공")
+    void get_TransientStatus_RetriedUntilSuccess() throws Exception {
+        // given
+        given(httpManager.get(any(URI.class), any()))
+                .willThrow(new OAuthResponseException(503, null, "", "Service Unavailable"))
+                .willReturn("{\"id\":1}");
+        RetryingHttpManager retrying = new RetryingHttpManager(httpManager, noDelayPolicy(RetryBudget.of(0.1, 10)));
+
+        // when
+        String response = retrying.get(USER_URI, Map.of());
+
+        // then
+        assertThat(response).isEqualTo("{\"id\":1}");
+        verify(httpManager, times(2)).get(any(URI.class), any());
+    }
+
+    @Test
+    @DisplayName("네트워크 오류는 maxAttempts까지만 재시도")
+    void get_NetworkFailure_StopsAtMaxAttempts() throws Exception {
+        // given
+        given(httpManager.get(any(URI.class), any()))
+                .willThrow(new OAuthNetworkException("Failed to connect to the OAuth server.", null));
+        RetryingHttpManager retrying = new RetryingHttpManager(httpManager, noDelayPolicy(RetryBudget.of(0.1, 10)));
+
+        // when & then
+        assertThatThrownBy(() -> retrying.get(USER_URI, Map.of()))
+                .isInstanceOf(OAuthNetworkException.class);
+        verify(httpManager, times(3)).get(any(URI.class), any());
+    }
+
+    @Test
+    @DisplayName("카카오 -7(점검/내부 오류)을 담은 503 응답은 재시도")
+    void get_MaintenanceCodeWithTransientStatus_Retried() throws Exception {
+        // given
+        given(httpManager.get(any(URI.class), any()))
+                .willThrow(new OAuthResponseException(503, null, "{\"msg\":\"service check\",\"code\":-7}", "Service Unavailable"))
+                .willReturn("{\"id\":1}");
+        RetryingHttpManager retrying = new RetryingHttpManager(httpManager, noDelayPolicy(RetryBudget.of(0.1, 10)));
+
+        // when
+        String response = retrying.get(USER_URI, Map.of());
+
+        // then
+        assertThat(response).isEqualTo("{\"id\":1}");
+        verify(httpManager, times(2)).get(any(URI.class), any());
+    }
+
+    @Test
+    @DisplayName("카카오 -401(토큰 만료) 응답은 재시도하지 않음")
+    void get_ExpiredToken_NotRetried() throws Exception {
+        // given
+        given(httpManager.get(any(URI.class), any()))
+                .willThrow(new OAuthResponseException(401, null, "{\"msg\":\"this access token does not exist\",\"code\":-401}", "Unauthorized"));
+        RetryingHttpManager retrying = new RetryingHttpManager(httpManager, noDelayPolicy(RetryBudget.of(0.1, 10)));
+
+        // when & then
+        assertThatThrownBy(() -> retrying.get(USER_URI, Map.of()))
+                .isInstanceOf(OAuthResponseException.class);
+        verify(httpManager, times(1)).get(any(URI.class), any());
+    }
+
+    @Test
+    @DisplayName("HTTP 상태가 일시적이어도 영구 오류 코드(invalid_grant)는 재시도하지 않음")
+    void isRetryable_PermanentErrorCode_OverridesStatus() {
+        // given
+        RetryPolicy policy = RetryPolicy.builder().build();
+        OAuthResponseException invalidGrant =
+                new OAuthResponseException(503, null, "{\"error\":\"invalid_grant\"}", "Service Unavailable");
+        OAuthResponseException kakaoTimeout =
+                new OAuthResponseException(400, null, "{\"msg\":\"timeout\",\"code\":-603}", "Bad Request");
+
+        // when & then
+        assertThat(policy.isRetryable(invalidGrant)).isFalse();
+        assertThat(policy.isRetryable(kakaoTimeout)).isTrue();
+        assertThat(policy.isRetryable(new OAuthValidationException("[K-OAuth] invalid"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("POST(토큰 발급)는 실패해도 재시도하지 않음")
+    void post_NeverRetried() throws Exception {
+        // given
+        given(httpManager.post(any(URI.class), any(), any()))
+                .willThrow(new OAuthNetworkException("Failed to connect to the OAuth server.", null));
+        RetryingHttpManager retrying = new RetryingHttpManager(httpManager, noDelayPolicy(RetryBudget.of(0.1, 10)));
+
+        // when & then
+        assertThatThrownBy(() -> retrying.post(URI.create("https://kauth.kakao.com/oauth/token"), Map.of(), "code=CODE"))
+                .isInstanceOf(OAuthNetworkException.class);
+        verify(httpManager, times(1)).post(any(URI.class), any(), any());
+    }
+
+    @Test
+    @DisplayName("재시도 예산이 소진되면 즉시 실패")
+    void get_BudgetExhausted_NotRetried() throws Exception {
+        // given
+        RetryBudget budget = RetryBudget.of(0.0, 1);
+        given(httpManager.get(any(URI.class), any()))
+                .willThrow(new OAuthResponseException(503, null, "", "Service Unavailable"));
+        RetryingHttpManager retrying = new RetryingHttpManager(httpManager, noDelayPolicy(budget));
+
+        // when
+        assertThatThrownBy(() -> retrying.get(USER_URI, Map.of())).isInstanceOf(OAuthResponseException.class);
+        assertThatThrownBy(() -> retrying.get(USER_URI, Map.of())).isInstanceOf(OAuthResponseException.class);
+
+        // then
+        // First call: 1 attempt + 1 retry from the initial token. Second call: no token left.
+        verify(httpManager, times(3)).get(any(URI.class), any());
+        assertThat(budget.availableRetries()).isZero();
+    }
+
+    @Test
+    @DisplayName("비동기 요청도 일시적 오류 후 재시도하여 성공")
+    void getAsync_TransientStatus_RetriedUntilSuccess() {
+        // given
+        given(httpManager.getAsync(any(URI.class), any()))
+                .willReturn(CompletableFuture.failedFuture(new OAuthResponseException(502, null, "", "Bad Gateway")))
+                .willReturn(CompletableFuture.completedFuture("{\"id\":1}"));
+        RetryingHttpManager retrying = new RetryingHttpManager(httpManager, noDelayPolicy(RetryBudget.of(0.1, 10)));
+
+        // when
+        String response = retrying.getAsync(USER_URI, Map.of()).join();
+
+        // then
+        assertThat(response).isEqualTo("{\"id\":1}");
+        verify(httpManager, times(2)).getAsync(any(URI.class), any());
+    }
+
+    @Test
+    @DisplayName("RetryPolicy 잘못된 설정 시 예외")
+    void builder_InvalidSettings_ThrowsException() {
+        assertThatThrownBy(() -> RetryPolicy.builder().maxAttempts(0))
+                .isInstanceOf(OAuthValidationException.class);
+        assertThatThrownBy(() -> RetryBudget.of(1.5, 10))
+                .isInstanceOf(OAuthValidationException.class);
+        assertThatThrownBy(() -> new RetryingHttpManager(httpManager, null))
+                .isInstanceOf(OAuthValidationException.class);
+    }
+}
@@ -0,0 +1,261 @@
+package kr.higu.resilience;
+
+import kr.higu.IHttpManager;
+import kr.higu.exceptions.OAuthException;
+import kr.higu.exceptions.detailed.OAuthResponseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SingleFlightHttpManagerTest {
+
+    private static final URI USER_URI = URI.create("https://kapi.kakao.com/v2/user/me");
+    private static final URI TOKEN_URI = URI.create("https://kauth.kakao.com/oauth/token");
+    private static final Map<String, String> AUTHORIZATION = Map.of("Authorization", "Bearer ACCESS_TOKEN");
+
+    /**
+     * Holds every call until released, and counts the calls that reached it.
+     */
+    private static class GatedManager implements IHttpManager {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        volatile OAuthException failure;
+
+        @Override
+        public String get(URI uri, Map<String, String> headers) throws OAuthException {
+            return respond(uri.toString());
+        }
+
+        @Override
+        public String post(URI uri, Map<String, String> headers, String body) throws OAuthException {
+            return respond(body);
+        }
+
+        @Override
+        public CompletableFuture<String> getAsync(URI uri, Map<String, String> headers) {
+            calls.incrementAndGet();
+            return CompletableFuture.supplyAsync(() -> {
+                await();
+                return "{\"id\":1}";
+            });
+        }
+
+        private String respond(String echo) throws OAuthException {
+            calls.incrementAndGet();
+            await();
+            if (failure != null) {
+                throw failure;
+            }
+            return "{\"echo\":\"" + echo + "\"}";
+        }
+
+        private void await() {
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static List<Future<String>> submit(ExecutorService executor, int count, Callable<String> call) {
+        List<Future<String>> futures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            futures.add(executor.submit(call));
+        }
+        return futures;
+    }
+
+    private static void awaitCalls(SingleFlightHttpManager manager, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (manager.inFlight() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 같은 요청은 한 번만 전송되고 모두 같은 응답을 받음")
+    void get_ConcurrentIdenticalRequests_OneExchange() throws Exception {
+        // given
+        GatedManager delegate = new GatedManager();
+        SingleFlightHttpManager manager = new SingleFlightHttpManager(delegate);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            // when
+            List<Future<String>> futures = submit(executor, 8, () -> manager.get(USER_URI, AUTHORIZATION));
+            awaitCalls(manager, 1);
+            Thread.sleep(50);
+            delegate.release.countDown();
+
+            // then
+            for (Future<String> future : futures) {
+                assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("{\"echo\":\"" + USER_URI + "\"}");
+            }
+            assertThat(delegate.calls.get()).isEqualTo(1);
+            assertThat(manager.inFlight()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("본문이나 Authorization 헤더가 다르면 따로 전송")
+    void post_DifferentParameters_NotCoalesced() throws Exception {
+        // given
+        GatedManager delegate = new GatedManager();
+        SingleFlightHttpManager manager = new SingleFlightHttpManager(delegate);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        try {
+            // when
+            Future<String> first = executor.submit(() -> manager.post(TOKEN_URI, Map.of(), "code=A"));
+            Future<String> second = executor.submit(() -> manager.post(TOKEN_URI, Map.of(), "code=B"));
+            Future<String> third = executor.submit(() -> manager.post(TOKEN_URI, AUTHORIZATION, "code=A"));
+            awaitCalls(manager, 3);
+            delegate.release.countDown();
+
+            // then
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("{\"echo\":\"code=A\"}");
+            assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("{\"echo\":\"code=B\"}");
+            assertThat(third.get(5, TimeUnit.SECONDS)).isEqualTo("{\"echo\":\"code=A\"}");
+            assertThat(delegate.calls.get()).isEqualTo(3);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("공유된 요청이 실패하면 모든 호출자가 같은 예외를 받고, 실패는 보관하지 않음")
+    void post_SharedFailure_PropagatedAndNotRetained() throws Exception {
+        // given
+        GatedManager delegate = new GatedManager();
+        delegate.failure = new OAuthResponseException(400, "KOE320", "{\"error\":\"invalid_grant\"}", "Bad Request");
+        SingleFlightHttpManager manager = new SingleFlightHttpManager(delegate, Duration.ofSeconds(10));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // when
+            List<Future<String>> futures = submit(executor, 4, () -> manager.post(TOKEN_URI, Map.of(), "code=A"));
+            awaitCalls(manager, 1);
+            Thread.sleep(50);
+            delegate.release.countDown();
+
+            // then
+            for (Future<String> future : futures) {
+                assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                        .hasCauseInstanceOf(OAuthResponseException.class);
+            }
+            assertThat(delegate.calls.get()).isEqualTo(1);
+            assertThatThrownBy(() -> manager.post(TOKEN_URI, Map.of(), "code=A")).isInstanceOf(OAuthResponseException.class);
+            assertThat(delegate.calls.get()).isEqualTo(2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("보관 시간 안에 들어온 같은 요청은 완료된 응답을 재사용")
+    void get_WithinRetention_ReusesResponse() throws Exception {
+        // given
+        GatedManager delegate = new GatedManager();
+        delegate.release.countDown();
+        AtomicLong clock = new AtomicLong();
+        SingleFlightHttpManager manager = new SingleFlightHttpManager(delegate, Duration.ofMillis(500), clock::get);
+
+        // when
+        manager.get(USER_URI, AUTHORIZATION);
+        clock.addAndGet(Duration.ofMillis(499).toNanos());
+        manager.get(USER_URI, AUTHORIZATION);
+        int withinRetention = delegate.calls.get();
+        clock.addAndGet(Duration.ofMillis(1).toNanos());
+        manager.get(USER_URI, AUTHORIZATION);
+
+        // then
+        assertThat(withinRetention).isEqualTo(1);
+        assertThat(delegate.calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("디코더를 쓰는 호출자는 응답 바이트를 공유하고 각자의 디코더로 해석")
+    void get_Decoders_ShareBytesAndDecodeSeparately() throws Exception {
+        // given
+        GatedManager delegate = new GatedManager();
+        delegate.release.countDown();
+        SingleFlightHttpManager manager = new SingleFlightHttpManager(delegate, Duration.ofSeconds(10));
+
+        // when
+        String text = manager.get(USER_URI, AUTHORIZATION, (InputStream body) -> new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        Integer length = manager.get(USER_URI, AUTHORIZATION, (InputStream body) -> body.readAllBytes().length);
+
+        // then
+        assertThat(text).isEqualTo("{\"echo\":\"" + USER_URI + "\"}");
+        assertThat(length).isEqualTo(text.length());
+        assertThat(delegate.calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("문자열, 디코더, 비동기 호출자가 같은 요청을 보내면 한 번만 전송하고 각자의 형식으로 받음")
+    void get_MixedCallerTypes_OneExchange() throws Exception {
+        // given
+        GatedManager delegate = new GatedManager();
+        SingleFlightHttpManager manager = new SingleFlightHttpManager(delegate);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // when
+            Future<String> text = executor.submit(() -> manager.get(USER_URI, AUTHORIZATION));
+            awaitCalls(manager, 1);
+            Future<Integer> length = executor.submit(
+                    () -> manager.get(USER_URI, AUTHORIZATION, (InputStream body) -> body.readAllBytes().length));
+            CompletableFuture<String> async = manager.getAsync(USER_URI, AUTHORIZATION);
+            Thread.sleep(50);
+            delegate.release.countDown();
+
+            // then
+            String expected = "{\"echo\":\"" + USER_URI + "\"}";
+            assertThat(text.get(5, TimeUnit.SECONDS)).isEqualTo(expected);
+            assertThat(length.get(5, TimeUnit.SECONDS)).isEqualTo(expected.length());
+            assertThat(async.get(5, TimeUnit.SECONDS)).isEqualTo(expected);
+            assertThat(delegate.calls.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("한 호출자가 비동기 요청을 취소해도 다른 호출자의 응답에는 영향이 없음")
+    void getAsync_OneCallerCancels_OthersStillComplete() {
+        // given
+        GatedManager delegate = new GatedManager();
+        SingleFlightHttpManager manager = new SingleFlightHttpManager(delegate);
+
+        // when
+        CompletableFuture<String> first = manager.getAsync(USER_URI, AUTHORIZATION);
+        CompletableFuture<String> second = manager.getAsync(USER_URI, AUTHORIZATION);
+        first.cancel(true);
+        delegate.release.countDown();
+
+        // then
+        assertThat(second.join()).isEqualTo("{\"id\":1}");
+        assertThat(delegate.calls.get()).isEqualTo(1);
+    }
+}
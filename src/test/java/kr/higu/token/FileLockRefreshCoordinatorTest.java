@@ -0,0 +1,254 @@
+package kr.higu.token;
+
+import kr.higu.exceptions.detailed.OAuthNetworkException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileLockRefreshCoordinatorTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    private final AtomicLong clock = new AtomicLong(START.toEpochMilli());
+
+    private FileLockRefreshCoordinator newCoordinator() {
+        return FileLockRefreshCoordinator.open(tempDir, Duration.ofDays(1), clock::get);
+    }
+
+    private static OAuthToken token(String accessToken, Instant expiresAt) {
+        return new OAuthToken(accessToken, "REFRESH", expiresAt, null);
+    }
+
+    /**
+     * Keeps the lease long enough for the other callers to queue up behind it.
+     */
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 refresh token은 한 번만 갱신하고 이후 요청은 게시된 토큰을 재사용")
+    void refresh_SameRefreshToken_ReusesPublishedToken() throws Exception {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        TokenRefresher refresher = token -> token("ACCESS_" + calls.incrementAndGet(), START.plus(Duration.ofHours(2)));
+        OAuthToken current = token("ACCESS_0", START.plus(Duration.ofHours(1)));
+
+        // when
+        OAuthToken first = newCoordinator().refresh(current, refresher);
+        OAuthToken second = newCoordinator().refresh(current, refresher);
+
+        // then
+        assertThat(calls).hasValue(1);
+        assertThat(second.accessToken()).isEqualTo(first.accessToken()).isEqualTo("ACCESS_1");
+        assertThat(second.expiresAt()).isEqualTo(first.expiresAt());
+    }
+
+    @Test
+    @DisplayName("게시된 토큰이 현재 토큰보다 새롭지 않으면 다시 갱신 - refresh token을 유지하는 제공자")
+    void refresh_PublishedTokenNotNewer_RefreshesAgain() throws Exception {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        TokenRefresher refresher = token -> token("ACCESS_" + calls.incrementAndGet(), token.expiresAt().plus(Duration.ofHours(1)));
+        FileLockRefreshCoordinator coordinator = newCoordinator();
+        OAuthToken first = coordinator.refresh(token("ACCESS_0", START.plus(Duration.ofHours(1))), refresher);
+
+        // when
+        OAuthToken second = coordinator.refresh(new OAuthToken(first.accessToken(), "REFRESH", first.expiresAt(), null), refresher);
+
+        // then
+        assertThat(calls).hasValue(2);
+        assertThat(second.accessToken()).isEqualTo("ACCESS_2");
+    }
+
+    @Test
+    @DisplayName("갱신이 실패하면 아무것도 게시하지 않음")
+    void refresh_Failure_PublishesNothing() throws Exception {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        TokenRefresher refresher = token -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new OAuthNetworkException("Failed to connect to the OAuth server.", null);
+            }
+            return token("ACCESS_NEW", START.plus(Duration.ofHours(2)));
+        };
+        FileLockRefreshCoordinator coordinator = newCoordinator();
+        OAuthToken current = token("ACCESS_0", START.plus(Duration.ofHours(1)));
+        assertThatThrownBy(() -> coordinator.refresh(current, refresher)).isInstanceOf(OAuthNetworkException.class);
+
+        // when
+        OAuthToken renewed = coordinator.refresh(current, refresher);
+
+        // then
+        assertThat(calls).hasValue(2);
+        assertThat(renewed.accessToken()).isEqualTo("ACCESS_NEW");
+    }
+
+    @Test
+    @DisplayName("같은 JVM의 여러 스레드가 동시에 갱신해도 요청은 한 번")
+    void refresh_ConcurrentThreads_RefreshOnce() throws Exception {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        TokenRefresher refresher = token -> {
+            calls.incrementAndGet();
+            pause(50);
+            return token("ACCESS_NEW", START.plus(Duration.ofHours(2)));
+        };
+        FileLockRefreshCoordinator coordinator = newCoordinator();
+        OAuthToken current = token("ACCESS_0", START.plus(Duration.ofHours(1)));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<OAuthToken>> results = new ArrayList<>();
+
+        // when
+        try {
+            Callable<OAuthToken> refresh = () -> coordinator.refresh(current, refresher);
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(refresh));
+            }
+            for (Future<OAuthToken> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS).accessToken()).isEqualTo("ACCESS_NEW");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("같은 JVM에서 같은 디렉터리를 연 두 코디네이터가 동시에 갱신해도 파일 락이 겹치지 않고 요청은 한 번")
+    void refresh_TwoCoordinatorsSameDirectory_RefreshOnce() throws Exception {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        TokenRefresher refresher = token -> {
+            calls.incrementAndGet();
+            pause(50);
+            return token("ACCESS_NEW", START.plus(Duration.ofHours(2)));
+        };
+        FileLockRefreshCoordinator kakao = newCoordinator();
+        FileLockRefreshCoordinator naver = FileLockRefreshCoordinator.open(tempDir.resolve("."), Duration.ofDays(1), clock::get);
+        OAuthToken current = token("ACCESS_0", START.plus(Duration.ofHours(1)));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<OAuthToken>> results = new ArrayList<>();
+
+        // when
+        try {
+            for (int i = 0; i < 8; i++) {
+                FileLockRefreshCoordinator coordinator = i % 2 == 0 ? kakao : naver;
+                results.add(executor.submit(() -> coordinator.refresh(current, refresher)));
+            }
+            for (Future<OAuthToken> result : results) {
+                assertThat(result.get(10, TimeUnit.SECONDS).accessToken()).isEqualTo("ACCESS_NEW");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("TokenManager - 두 노드가 같은 세션을 가져도 한 노드만 갱신")
+    void tokenManager_TwoNodes_OneRefresh() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        TokenRefresher refresher = token -> token("ACCESS_" + calls.incrementAndGet(), START.plus(Duration.ofHours(2)));
+        TokenManager nodeA = newNode(refresher);
+        TokenManager nodeB = newNode(refresher);
+        OAuthToken current = token("ACCESS_0", START.plus(Duration.ofMinutes(5)));
+        nodeA.put("session", current);
+        nodeB.put("session", current);
+
+        // when
+        clock.addAndGet(1_000);
+        nodeA.tick();
+        nodeB.tick();
+
+        // then
+        assertThat(calls).hasValue(1);
+        assertThat(nodeA.get("session").accessToken()).isEqualTo("ACCESS_1");
+        assertThat(nodeB.get("session").accessToken()).isEqualTo("ACCESS_1");
+    }
+
+    private TokenManager newNode(TokenRefresher refresher) {
+        TokenManager.Builder builder = TokenManager.builder(refresher)
+                .jitter(Duration.ZERO)
+                .executor(Runnable::run)
+                .coordinator(newCoordinator());
+        return new TokenManager(builder, clock::get, false);
+    }
+
+    @Test
+    @Tag("integration")
+    @DisplayName("여러 JVM 프로세스가 같은 refresh token을 갱신해도 요청은 한 번")
+    void refresh_SeveralJvms_RefreshOnce() throws Exception {
+        // given
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        List<Process> processes = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            processes.add(new ProcessBuilder(java, "-cp", System.getProperty("java.class.path"),
+                    RefreshWorker.class.getName(), tempDir.toString(), "node-" + i)
+                    .redirectErrorStream(true)
+                    .start());
+        }
+        List<String> outputs = new ArrayList<>();
+        for (Process process : processes) {
+            assertThat(process.waitFor(30, TimeUnit.SECONDS)).isTrue();
+            outputs.add(new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim());
+        }
+
+        // then
+        assertThat(outputs).filteredOn(output -> output.startsWith("REFRESHED")).hasSize(1);
+        assertThat(outputs.stream().map(output -> output.substring(output.indexOf(' ') + 1)).distinct()).hasSize(1);
+        try (var files = Files.list(tempDir)) {
+            assertThat(files.count()).isEqualTo(1);
+        }
+    }
+
+    /**
+     * Refreshes the same token as the other workers and prints whether it sent the request, and the token it got.
+     */
+    static final class RefreshWorker {
+        public static void main(String[] args) throws Exception {
+            FileLockRefreshCoordinator coordinator = FileLockRefreshCoordinator.open(Path.of(args[0]));
+            AtomicInteger calls = new AtomicInteger();
+            Instant expiresAt = Instant.now().plus(Duration.ofHours(1));
+            OAuthToken renewed = coordinator.refresh(token("ACCESS_0", expiresAt), token -> {
+                calls.incrementAndGet();
+                pause(200);
+                return token("ACCESS_" + args[1], expiresAt.plus(Duration.ofHours(1)));
+            });
+            System.out.println((calls.get() == 1 ? "REFRESHED " : "REUSED ") + renewed.accessToken());
+        }
+    }
+}
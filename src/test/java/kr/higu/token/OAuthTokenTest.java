@@ -0,0 +1,84 @@
+package kr.higu.token;
+
+import kr.higu.dto.kakao.KakaoTokenResponse;
+import kr.higu.dto.naver.NaverTokenResponse;
+import kr.higu.exceptions.detailed.OAuthParsingException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OAuthTokenTest {
+
+    private static final Instant ISSUED_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    @DisplayName("카카오 응답의 숫자 expires_in을 만료 시각으로 변환")
+    void of_Kakao_NormalizesExpiry() throws Exception {
+        // given
+        KakaoTokenResponse response = new KakaoTokenResponse("bearer", "ACCESS", null, 21599, "REFRESH", 5183999, null);
+
+        // when
+        OAuthToken token = OAuthToken.of(response, ISSUED_AT);
+
+        // then
+        assertThat(token.expiresAt()).isEqualTo(ISSUED_AT.plusSeconds(21599));
+        assertThat(token.refreshTokenExpiresAt()).isEqualTo(ISSUED_AT.plusSeconds(5183999));
+        assertThat(token.refreshToken()).isEqualTo("REFRESH");
+    }
+
+    @Test
+    @DisplayName("네이버 응답의 문자열 expires_in을 만료 시각으로 변환")
+    void of_Naver_NormalizesExpiry() throws Exception {
+        // given
+        NaverTokenResponse response = new NaverTokenResponse("ACCESS", "REFRESH", "bearer", "3600", null, null);
+
+        // when
+        OAuthToken token = OAuthToken.of(response, ISSUED_AT);
+
+        // then
+        assertThat(token.expiresAt()).isEqualTo(ISSUED_AT.plusSeconds(3600));
+        assertThat(token.refreshTokenExpiresAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("네이버 expires_in이 숫자가 아니면 OAuthParsingException")
+    void of_Naver_InvalidExpiry_Throws() {
+        // given
+        NaverTokenResponse response = new NaverTokenResponse("ACCESS", "REFRESH", "bearer", "soon", null, null);
+
+        // when, then
+        assertThatThrownBy(() -> OAuthToken.of(response, ISSUED_AT))
+                .isInstanceOf(OAuthParsingException.class)
+                .hasMessageContaining("expires_in");
+    }
+
+    @Test
+    @DisplayName("갱신 응답에 refresh token이 없으면 기존 refresh token 유지")
+    void renewedBy_KeepsRefreshTokenWhenNotRotated() {
+        // given
+        OAuthToken current = new OAuthToken("OLD", "REFRESH", ISSUED_AT, ISSUED_AT.plusSeconds(60));
+        OAuthToken refreshed = new OAuthToken("NEW", null, ISSUED_AT.plusSeconds(3600), null);
+
+        // when
+        OAuthToken renewed = current.renewedBy(refreshed);
+
+        // then
+        assertThat(renewed.accessToken()).isEqualTo("NEW");
+        assertThat(renewed.refreshToken()).isEqualTo("REFRESH");
+        assertThat(renewed.refreshTokenExpiresAt()).isEqualTo(ISSUED_AT.plusSeconds(60));
+    }
+
+    @Test
+    @DisplayName("toString은 토큰 값을 노출하지 않음")
+    void toString_HidesTokens() {
+        // given
+        OAuthToken token = new OAuthToken("SECRET_ACCESS", "SECRET_REFRESH", ISSUED_AT, null);
+
+        // when, then
+        assertThat(token.toString()).doesNotContain("SECRET");
+    }
+}
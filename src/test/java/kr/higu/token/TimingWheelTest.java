@@ -0,0 +1,83 @@
+package kr.higu.token;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("각 값은 마감 tick에 정확히 한 번 나옴 - 모든 레벨에 걸친 무작위 마감")
+    void advance_FiresEachValueAtItsDeadline() {
+        // given
+        TimingWheel<Long> wheel = new TimingWheel<>(1_000);
+        Random random = new Random(42);
+        List<Long> deadlines = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            long deadline = 1_001 + (long) (Math.pow(random.nextDouble(), 4) * 300_000);
+            deadlines.add(deadline);
+            wheel.schedule(deadline, deadline);
+        }
+        List<long[]> fired = new ArrayList<>();
+
+        // when
+        for (long tick = 1_001; tick <= 301_001; tick += 1 + random.nextInt(5)) {
+            long now = tick;
+            wheel.advance(now, deadline -> fired.add(new long[]{deadline, now}));
+        }
+        wheel.advance(301_001, deadline -> fired.add(new long[]{deadline, 301_001}));
+
+        // then
+        assertThat(fired).hasSize(deadlines.size());
+        assertThat(wheel.size()).isZero();
+        for (long[] entry : fired) {
+            // 한 번에 여러 tick을 전진해도 마감 전에는 나오지 않고, 전진한 범위 안에서 나옴
+            assertThat(entry[1]).isGreaterThanOrEqualTo(entry[0]);
+            assertThat(entry[1] - entry[0]).isLessThan(5);
+        }
+    }
+
+    @Test
+    @DisplayName("취소한 값은 나오지 않음")
+    void cancel_RemovesValue() {
+        // given
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+        TimingWheel.Node<String> kept = wheel.schedule("kept", 5_000);
+        TimingWheel.Node<String> cancelled = wheel.schedule("cancelled", 5_000);
+        List<String> fired = new ArrayList<>();
+
+        // when
+        wheel.cancel(cancelled);
+        wheel.cancel(cancelled);
+        wheel.advance(5_000, fired::add);
+
+        // then
+        assertThat(fired).containsExactly("kept");
+        assertThat(kept.isScheduled()).isFalse();
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("지난 마감은 다음 tick에, 범위를 넘는 마감은 최대 범위에서 나옴")
+    void schedule_ClampsDeadlines() {
+        // given
+        TimingWheel<String> wheel = new TimingWheel<>(100);
+        wheel.schedule("past", 10);
+        wheel.schedule("far", Long.MAX_VALUE);
+        List<String> fired = new ArrayList<>();
+
+        // when
+        wheel.advance(101, fired::add);
+        List<String> firstTick = new ArrayList<>(fired);
+        wheel.advance(100 + TimingWheel.RANGE - 1, fired::add);
+
+        // then
+        assertThat(firstTick).containsExactly("past");
+        assertThat(fired).containsExactly("past", "far");
+    }
+}
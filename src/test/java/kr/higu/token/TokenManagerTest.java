@@ -0,0 +1,172 @@
+package kr.higu.token;
+
+import kr.higu.exceptions.detailed.OAuthNetworkException;
+import kr.higu.exceptions.detailed.OAuthResponseException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenManagerTest {
+
+    private final AtomicLong clock = new AtomicLong(Instant.parse("2026-01-01T00:00:00Z").toEpochMilli());
+    private final List<String> refreshed = new ArrayList<>();
+    private final List<String> failed = new ArrayList<>();
+
+    private final TokenListener listener = new TokenListener() {
+        @Override
+        public void onRefreshed(String sessionId, OAuthToken token) {
+            refreshed.add(sessionId);
+        }
+
+        @Override
+        public void onRefreshFailed(String sessionId, Exception cause) {
+            failed.add(sessionId);
+        }
+    };
+
+    private TokenManager newManager(TokenRefresher refresher) {
+        TokenManager.Builder builder = TokenManager.builder(refresher)
+                .refreshAhead(Duration.ofMinutes(5))
+                .jitter(Duration.ZERO)
+                .retryDelay(Duration.ofSeconds(30))
+                .executor(Runnable::run)
+                .listener(listener);
+        return new TokenManager(builder, clock::get, false);
+    }
+
+    private Instant now() {
+        return Instant.ofEpochMilli(clock.get());
+    }
+
+    private void advance(Duration duration, TokenManager manager) {
+        clock.addAndGet(duration.toMillis());
+        manager.tick();
+    }
+
+    private OAuthToken token(String accessToken, Duration expiresIn) {
+        return new OAuthToken(accessToken, "REFRESH", now().plus(expiresIn), null);
+    }
+
+    @Test
+    @DisplayName("만료 refreshAhead 전에 갱신하고 다음 갱신을 다시 예약")
+    void tick_RefreshesBeforeExpiry() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        TokenManager manager = newManager(token -> token("ACCESS_" + calls.incrementAndGet(), Duration.ofHours(1)));
+        manager.put("session", token("ACCESS_0", Duration.ofHours(1)));
+
+        // when & then
+        advance(Duration.ofMinutes(54), manager);
+        assertThat(calls).hasValue(0);
+
+        advance(Duration.ofMinutes(1), manager);
+        assertThat(calls).hasValue(1);
+        assertThat(manager.get("session").accessToken()).isEqualTo("ACCESS_1");
+        assertThat(manager.get("session").refreshToken()).isEqualTo("REFRESH");
+        assertThat(refreshed).containsExactly("session");
+
+        advance(Duration.ofMinutes(55), manager);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("거절된 refresh token이면 세션을 제거하고 실패를 알림")
+    void tick_RejectedRefreshToken_DropsSession() {
+        // given
+        TokenManager manager = newManager(token -> {
+            throw new OAuthResponseException(400, "KOE322", "{}", "expired_or_invalid_refresh_token");
+        });
+        manager.put("session", token("ACCESS", Duration.ofMinutes(5)));
+
+        // when
+        advance(Duration.ofSeconds(1), manager);
+
+        // then
+        assertThat(manager.get("session")).isNull();
+        assertThat(manager.size()).isZero();
+        assertThat(failed).containsExactly("session");
+    }
+
+    @Test
+    @DisplayName("네트워크 오류는 retryDelay 후 다시 시도")
+    void tick_TransientFailure_Retries() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        TokenManager manager = newManager(token -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new OAuthNetworkException("Failed to connect to the OAuth server.", null);
+            }
+            return token("ACCESS_NEW", Duration.ofHours(1));
+        });
+        manager.put("session", token("ACCESS", Duration.ofMinutes(5)));
+
+        // when
+        advance(Duration.ofSeconds(1), manager);
+        advance(Duration.ofSeconds(29), manager);
+        int callsBeforeRetry = calls.get();
+        advance(Duration.ofSeconds(1), manager);
+
+        // then
+        assertThat(callsBeforeRetry).isEqualTo(1);
+        assertThat(calls).hasValue(2);
+        assertThat(manager.get("session").accessToken()).isEqualTo("ACCESS_NEW");
+        assertThat(failed).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제거한 세션은 갱신하지 않음")
+    void remove_CancelsRefresh() {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        TokenManager manager = newManager(token -> {
+            calls.incrementAndGet();
+            return token;
+        });
+        manager.put("session", token("ACCESS", Duration.ofMinutes(10)));
+
+        // when
+        manager.remove("session");
+        advance(Duration.ofMinutes(10), manager);
+
+        // then
+        assertThat(calls).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("동시에 실행되는 갱신 수는 maxConcurrentRefreshes를 넘지 않음")
+    void tick_BoundsConcurrentRefreshes() {
+        // given
+        ConcurrentLinkedQueue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        TokenManager.Builder builder = TokenManager.builder(token -> token("NEW", Duration.ofHours(1)))
+                .jitter(Duration.ZERO)
+                .maxConcurrentRefreshes(2)
+                .executor(tasks::add);
+        TokenManager manager = new TokenManager(builder, clock::get, false);
+        for (int i = 0; i < 100; i++) {
+            manager.put("session-" + i, token("ACCESS", Duration.ofMinutes(1)));
+        }
+
+        // when
+        advance(Duration.ofSeconds(1), manager);
+        int started = tasks.size();
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+
+        // then
+        assertThat(started).isEqualTo(2);
+        for (int i = 0; i < 100; i++) {
+            assertThat(manager.get("session-" + i).accessToken()).isEqualTo("NEW");
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package kr.higu.token;
+
+import kr.higu.IHttpManager;
+import kr.higu.dto.kakao.KakaoTokenInfoResponse;
+import kr.higu.exceptions.detailed.OAuthResponseException;
+import kr.higu.request.kakao.KakaoTokenInfoRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TokenValidationCacheTest {
+
+    private static final URI TOKEN_INFO_URI = URI.create("https://kapi.kakao.com/v1/user/access_token_info");
+    private static final String KAKAO_INVALID_TOKEN = "{\"msg\":\"this access token does not exist\",\"code\":-401}";
+
+    @Mock
+    private IHttpManager httpManager;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private TokenValidationCache newCache(Duration maxTtl, int maximumSize) {
+        return new TokenValidationCache(new KakaoTokenInfoRequest.Builder(httpManager).prepare(), maxTtl, maximumSize, clock::get);
+    }
+
+    private static Map<String, String> bearer(String token) {
+        return Map.of("Authorization", "Bearer " + token);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    @Test
+    @DisplayName("보고된 만료 시각까지 결과를 재사용하고 남은 expires_in을 반환")
+    void validate_CachesUntilReportedExpiry() throws Exception {
+        // given
+        given(httpManager.get(eq(TOKEN_INFO_URI), eq(bearer("ACCESS"))))
+                .willReturn("{\"id\":12345678,\"expires_in\":60,\"app_id\":1234}");
+        TokenValidationCache cache = newCache(Duration.ofMinutes(5), 100);
+        cache.validate("ACCESS");
+
+        // when
+        advance(Duration.ofSeconds(20));
+        KakaoTokenInfoResponse cached = cache.validate("ACCESS");
+
+        // then
+        assertThat(cached.id()).isEqualTo("12345678");
+        assertThat(cached.expiresIn()).isEqualTo(40);
+        verify(httpManager, times(1)).get(eq(TOKEN_INFO_URI), any());
+
+        advance(Duration.ofSeconds(40));
+        cache.validate("ACCESS");
+        verify(httpManager, times(2)).get(eq(TOKEN_INFO_URI), any());
+    }
+
+    @Test
+    @DisplayName("토큰 수명이 길어도 maxTtl이 지나면 다시 확인")
+    void validate_CapsByMaxTtl() throws Exception {
+        // given
+        given(httpManager.get(eq(TOKEN_INFO_URI), any()))
+                .willReturn("{\"id\":12345678,\"expires_in\":21599,\"app_id\":1234}");
+        TokenValidationCache cache = newCache(Duration.ofMinutes(5), 100);
+        cache.validate("ACCESS");
+
+        // when
+        advance(Duration.ofMinutes(4));
+        cache.validate("ACCESS");
+        advance(Duration.ofMinutes(1));
+        cache.validate("ACCESS");
+
+        // then
+        verify(httpManager, times(2)).get(eq(TOKEN_INFO_URI), any());
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰은 캐시하지 않음")
+    void validate_InvalidToken_NotCached() throws Exception {
+        // given
+        given(httpManager.get(eq(TOKEN_INFO_URI), any()))
+                .willThrow(new OAuthResponseException(401, null, KAKAO_INVALID_TOKEN, "OAuth server returned an error."));
+        TokenValidationCache cache = newCache(Duration.ofMinutes(5), 100);
+
+        // when
+        assertThatThrownBy(() -> cache.validate("DEAD")).isInstanceOf(OAuthResponseException.class);
+        assertThatThrownBy(() -> cache.validate("DEAD")).isInstanceOf(OAuthResponseException.class);
+
+        // then
+        verify(httpManager, times(2)).get(eq(TOKEN_INFO_URI), any());
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("invalidate 후에는 다시 확인")
+    void invalidate_ForcesNewCheck() throws Exception {
+        // given
+        given(httpManager.get(eq(TOKEN_INFO_URI), any()))
+                .willReturn("{\"id\":12345678,\"expires_in\":3600,\"app_id\":1234}");
+        TokenValidationCache cache = newCache(Duration.ofMinutes(5), 100);
+        cache.validate("ACCESS");
+
+        // when
+        cache.invalidate("ACCESS");
+        cache.validate("ACCESS");
+
+        // then
+        verify(httpManager, times(2)).get(eq(TOKEN_INFO_URI), any());
+    }
+
+    @Test
+    @DisplayName("가득 차면 만료된 결과를 정리하고, 살아있는 결과만 있으면 새 결과는 캐시하지 않음")
+    void validate_BoundedByMaximumSize() throws Exception {
+        // given
+        given(httpManager.get(eq(TOKEN_INFO_URI), any()))
+                .willReturn("{\"id\":12345678,\"expires_in\":60,\"app_id\":1234}");
+        TokenValidationCache cache = newCache(Duration.ofMinutes(5), 2);
+        cache.validate("A");
+        cache.validate("B");
+
+        // when & then
+        cache.validate("C");
+        assertThat(cache.size()).isEqualTo(2);
+
+        advance(Duration.ofSeconds(60));
+        cache.validate("C");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+}